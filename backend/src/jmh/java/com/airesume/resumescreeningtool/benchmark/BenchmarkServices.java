@@ -0,0 +1,124 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airesume.resumescreeningtool.extraction.DocxStreamingTextExtractor;
+import com.airesume.resumescreeningtool.extraction.ExtractionCache;
+import com.airesume.resumescreeningtool.extraction.ExtractionRunner;
+import com.airesume.resumescreeningtool.extraction.HwpfTextExtractor;
+import com.airesume.resumescreeningtool.extraction.PdfTextExtractor;
+import com.airesume.resumescreeningtool.extraction.PlainTextExtractor;
+import com.airesume.resumescreeningtool.extraction.TextExtractorRegistry;
+import com.airesume.resumescreeningtool.extraction.XwpfTextExtractor;
+import com.airesume.resumescreeningtool.parsing.ResumeSectionSegmenter;
+import com.airesume.resumescreeningtool.parsing.SkillDictionary;
+import com.airesume.resumescreeningtool.service.FileUploadService;
+import com.airesume.resumescreeningtool.service.ResumeService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The ingestion services wired by hand with the settings from application.properties,
+ * so the benchmarks measure the configured extraction path without a database or a
+ * Spring context
+ */
+final class BenchmarkServices implements AutoCloseable {
+
+    private final Path uploadDir;
+    private final TextExtractorRegistry textExtractorRegistry;
+    private final ExtractionRunner extractionRunner;
+    private final FileUploadService fileUploadService;
+    private final ResumeService resumeService;
+
+    BenchmarkServices(String sandboxMode) throws IOException {
+        Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        this.uploadDir = Files.createTempDirectory("resume-benchmark-");
+
+        long scratchMemoryBytes = longProperty(properties, "resume.extraction.pdf.scratch-memory-bytes");
+        int parallelPageThreshold = intProperty(properties, "resume.extraction.pdf.parallel-page-threshold");
+        int pagesPerChunk = intProperty(properties, "resume.extraction.pdf.pages-per-chunk");
+        int maxPages = intProperty(properties, "resume.extraction.pdf.max-pages");
+        int parallelism = intProperty(properties, "resume.extraction.pdf.parallelism");
+
+        this.textExtractorRegistry = new TextExtractorRegistry(List.of(
+                new PdfTextExtractor(scratchMemoryBytes, parallelPageThreshold, pagesPerChunk, maxPages, parallelism),
+                new DocxStreamingTextExtractor(),
+                new XwpfTextExtractor(),
+                new HwpfTextExtractor(),
+                new PlainTextExtractor()),
+                meterRegistry,
+                properties.getProperty("resume.extraction.preferred", ""),
+                properties.getProperty("resume.extraction.trials", ""));
+        this.extractionRunner = new ExtractionRunner(textExtractorRegistry, meterRegistry, sandboxMode,
+                longProperty(properties, "resume.extraction.sandbox.timeout-ms"),
+                intProperty(properties, "resume.extraction.sandbox.workers"),
+                intProperty(properties, "resume.extraction.sandbox.worker-heap-mb"),
+                intProperty(properties, "resume.extraction.sandbox.documents-per-worker"),
+                scratchMemoryBytes, parallelPageThreshold, pagesPerChunk, maxPages, parallelism);
+        ExtractionCache extractionCache = new ExtractionCache(uploadDir.toString(),
+                longProperty(properties, "resume.extraction.cache.memory-max-chars"), false,
+                longProperty(properties, "resume.extraction.cache.disk-max-bytes"), meterRegistry);
+
+        this.fileUploadService = new FileUploadService(extractionCache, extractionRunner, meterRegistry);
+        ReflectionTestUtils.setField(fileUploadService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileUploadService, "allowedTypes", properties.getProperty("file.upload.allowed-types"));
+        ReflectionTestUtils.setField(fileUploadService, "maxSize", longProperty(properties, "file.upload.max-size"));
+        ReflectionTestUtils.setField(fileUploadService, "supportedExtensions", properties.getProperty("file.upload.supported-extensions"));
+        ReflectionTestUtils.setField(fileUploadService, "mismatchAction", properties.getProperty("file.upload.sniffing.mismatch-action"));
+        ReflectionTestUtils.setField(fileUploadService, "pdfMaxPages", maxPages);
+        ReflectionTestUtils.setField(fileUploadService, "preferredExtractors", properties.getProperty("resume.extraction.preferred", ""));
+        ReflectionTestUtils.setField(fileUploadService, "extractorTrials", properties.getProperty("resume.extraction.trials", ""));
+
+        this.resumeService = new ResumeService();
+        ReflectionTestUtils.setField(resumeService, "resumeSectionSegmenter", new ResumeSectionSegmenter(
+                intProperty(properties, "resume.parsing.max-chars"), longProperty(properties, "resume.parsing.timeout-ms")));
+        ReflectionTestUtils.setField(resumeService, "skillDictionary", new SkillDictionary(new ClassPathResource(
+                properties.getProperty("resume.skills.dictionary").substring("classpath:".length()))));
+        ReflectionTestUtils.setField(resumeService, "meterRegistry", meterRegistry);
+    }
+
+    Path getUploadDir() {
+        return uploadDir;
+    }
+
+    TextExtractorRegistry getTextExtractorRegistry() {
+        return textExtractorRegistry;
+    }
+
+    FileUploadService getFileUploadService() {
+        return fileUploadService;
+    }
+
+    ResumeService getResumeService() {
+        return resumeService;
+    }
+
+    @Override
+    public void close() throws IOException {
+        extractionRunner.shutdown();
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static long longProperty(Properties properties, String key) {
+        return Long.parseLong(properties.getProperty(key).trim());
+    }
+
+    private static int intProperty(Properties properties, String key) {
+        return Integer.parseInt(properties.getProperty(key).trim());
+    }
+}
@@ -0,0 +1,70 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.airesume.resumescreeningtool.corpus.CorpusProfile;
+import com.airesume.resumescreeningtool.corpus.GeneratedResume;
+import com.airesume.resumescreeningtool.corpus.ResumeGenerator;
+import com.airesume.resumescreeningtool.search.TrigramIndex;
+
+/**
+ * Fuzzy candidate lookup over a million synthetic candidates: a misspelled name,
+ * a partial email and a surname alone, which matches the most candidates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CandidateLookupBenchmark {
+
+    @Param({"1000000"})
+    public int candidates;
+
+    @Param({"misspelled", "email", "surname"})
+    public String kind;
+
+    private TrigramIndex index;
+    private String query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ResumeGenerator generator = new ResumeGenerator(new CorpusProfile(), 20240611L);
+        index = new TrigramIndex();
+        GeneratedResume target = null;
+        for (int i = 0; i < candidates; i++) {
+            GeneratedResume resume = generator.generate(i);
+            index.add(i + 1, resume.candidateName(), resume.candidateEmail());
+            if (i == candidates / 2) {
+                target = resume;
+            }
+        }
+        String name = target.candidateName();
+        String email = target.candidateEmail();
+        query = switch (kind) {
+            case "misspelled" -> name.substring(0, 1) + name.substring(2);
+            case "email" -> email.substring(0, email.indexOf('@'));
+            default -> name.substring(name.indexOf(' ') + 1);
+        };
+    }
+
+    @Benchmark
+    public List<TrigramIndex.Match> lookup() {
+        return index.search(query, 0.6f, 10);
+    }
+}
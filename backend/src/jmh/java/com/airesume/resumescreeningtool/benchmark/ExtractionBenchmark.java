@@ -0,0 +1,70 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Text extraction of a stored file per format and size, bypassing the cache.
+ * <p>
+ * {@link #extract()} goes through
+ * {@link com.airesume.resumescreeningtool.service.FileUploadService#extractTextFromFile(Path, String)}
+ * and so through the extraction runner, which parses on its own threads; the gc
+ * profiler only attributes allocations of the benchmark thread, so {@link #extractInline()}
+ * calls the extractor registry directly to report the allocation of the parsing itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtractionBenchmark {
+
+    @Param({"pdf", "doc", "docx", "txt"})
+    public String format;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public ResumeCorpus.Size size;
+
+    @Param({"in-process"})
+    public String sandboxMode;
+
+    private BenchmarkServices services;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        services = new BenchmarkServices(sandboxMode);
+        file = ResumeCorpus.write(services.getUploadDir(), format, size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        services.close();
+    }
+
+    @Benchmark
+    public String extract() {
+        return services.getFileUploadService().extractTextFromFile(file, format);
+    }
+
+    @Benchmark
+    public String extractInline() throws IOException {
+        return services.getTextExtractorRegistry().extract(file, format);
+    }
+}
@@ -0,0 +1,137 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.airesume.resumescreeningtool.corpus.CorpusProfile;
+import com.airesume.resumescreeningtool.corpus.GeneratedResume;
+import com.airesume.resumescreeningtool.corpus.ResumeGenerator;
+import com.airesume.resumescreeningtool.search.MinHashLshIndex;
+import com.airesume.resumescreeningtool.search.MinHasher;
+
+/**
+ * Near-duplicate checks at ingest over synthetic resumes spread across job postings,
+ * every hundredth of them sent again under another email: signing a text, looking its
+ * signature up in the LSH index, and the exhaustive alternative of comparing it with
+ * every signature of the job posting. The setup logs how many of the resent resumes
+ * the index flags, how many other pairs it flags, and how long clustering everything takes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NearDuplicateBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearDuplicateBenchmark.class);
+
+    private static final int BANDS = 20;
+    private static final int ROWS = 5;
+    private static final float MIN_SIMILARITY = 0.7f;
+
+    @Param({"100000"})
+    public int documents;
+
+    @Param({"20"})
+    public int jobPostings;
+
+    private MinHasher hasher;
+    private MinHashLshIndex index;
+    private int[][] signatures;
+    private String[] texts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ResumeGenerator generator = new ResumeGenerator(new CorpusProfile(), 20240611L);
+        hasher = new MinHasher(BANDS * ROWS, 3, 1);
+        index = new MinHashLshIndex(BANDS, ROWS);
+        signatures = new int[documents][];
+        texts = new String[documents];
+        List<Integer> resent = new ArrayList<>();
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < documents; i++) {
+            if (i % 100 == 99) {
+                // The previous resume again, with another email
+                GeneratedResume original = generator.generate(i - 1);
+                texts[i] = original.text().replace(original.candidateEmail(), "resent" + i + "@example.org");
+                resent.add(i);
+            } else {
+                texts[i] = generator.generate(i).text();
+            }
+            signatures[i] = hasher.signature(texts[i]);
+            index.add(i, jobPosting(i), signatures[i]);
+        }
+        logger.info("Signed and indexed {} resumes in {} ms", documents, System.currentTimeMillis() - startTime);
+
+        int found = 0;
+        int others = 0;
+        for (int i = 0; i < documents; i++) {
+            for (MinHashLshIndex.Match match : index.findSimilar(signatures[i], jobPosting(i), MIN_SIMILARITY, i, 10)) {
+                boolean planted = i % 100 == 99 && match.resumeId() == i - 1 || i % 100 == 98 && match.resumeId() == i + 1;
+                if (planted && i % 100 == 99) {
+                    found++;
+                } else if (!planted) {
+                    others++;
+                }
+            }
+        }
+        logger.info("Flagged {} of {} resent resumes, and {} other pairs", found, resent.size(), others / 2);
+
+        startTime = System.currentTimeMillis();
+        int clusters = index.clusters(MIN_SIMILARITY).size();
+        logger.info("Clustered into {} groups in {} ms", clusters, System.currentTimeMillis() - startTime);
+    }
+
+    @Benchmark
+    public int[] signature() {
+        return hasher.signature(texts[next++ % documents]);
+    }
+
+    @Benchmark
+    public List<MinHashLshIndex.Match> lookup() {
+        int query = next++ % documents;
+        return index.findSimilar(signatures[query], jobPosting(query), MIN_SIMILARITY, query, 1);
+    }
+
+    @Benchmark
+    public int exhaustive() {
+        int query = next++ % documents;
+        int best = -1;
+        float bestSimilarity = MIN_SIMILARITY;
+        for (int block = jobPosting(query); block * 100 < documents; block += jobPostings) {
+            for (int i = block * 100; i < Math.min(block * 100 + 100, documents); i++) {
+                float similarity = MinHasher.similarity(signatures[query], signatures[i]);
+                if (i != query && similarity >= bestSimilarity) {
+                    best = i;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Job posting of a resume, by blocks of a hundred so a resent resume goes to the same posting as the one it copies
+     */
+    private int jobPosting(int i) {
+        return i / 100 % jobPostings;
+    }
+}
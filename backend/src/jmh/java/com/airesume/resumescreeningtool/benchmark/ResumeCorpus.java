@@ -0,0 +1,52 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.airesume.resumescreeningtool.corpus.CorpusProfile;
+import com.airesume.resumescreeningtool.corpus.GeneratedResume;
+import com.airesume.resumescreeningtool.corpus.ResumeDocumentWriter;
+import com.airesume.resumescreeningtool.corpus.ResumeGenerator;
+
+/**
+ * Fixed corpus of synthetic resumes for the benchmarks. The same size always yields
+ * the same resume, and the same resume is written to every format, so results can be
+ * compared across formats and across runs.
+ */
+public final class ResumeCorpus {
+
+    private static final long SEED = 20240611L;
+
+    private ResumeCorpus() {
+    }
+
+    /**
+     * Resume sizes, by number of positions held; LARGE runs to several pages
+     */
+    public enum Size {
+        SMALL(2), MEDIUM(12), LARGE(60);
+
+        private final CorpusProfile profile;
+
+        Size(int positions) {
+            this.profile = CorpusProfile.builder().minPositions(positions).maxPositions(positions).build();
+        }
+    }
+
+    static GeneratedResume resume(Size size) {
+        return new ResumeGenerator(size.profile, SEED).generate(0);
+    }
+
+    static String text(Size size) {
+        return resume(size).text();
+    }
+
+    /**
+     * Writes the resume of the given size in one of {@link ResumeDocumentWriter#FORMATS}
+     */
+    static Path write(Path directory, String format, Size size) throws IOException {
+        Path file = directory.resolve("resume-" + size.name().toLowerCase() + "." + format);
+        new ResumeDocumentWriter(size.profile).write(resume(size), format, file);
+        return file;
+    }
+}
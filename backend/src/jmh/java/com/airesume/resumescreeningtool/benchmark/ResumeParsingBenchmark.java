@@ -0,0 +1,57 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+
+/**
+ * Structured information extraction from already extracted resume text:
+ * section segmentation, years of experience and skill matching
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResumeParsingBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public ResumeCorpus.Size size;
+
+    private BenchmarkServices services;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        services = new BenchmarkServices("in-process");
+        text = ResumeCorpus.text(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        services.close();
+    }
+
+    @Benchmark
+    public Resume extractResumeInformation() {
+        Resume resume = new Resume();
+        services.getResumeService().extractResumeInformation(resume, text);
+        return resume;
+    }
+}
@@ -0,0 +1,65 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.airesume.resumescreeningtool.corpus.CorpusProfile;
+import com.airesume.resumescreeningtool.corpus.ResumeGenerator;
+import com.airesume.resumescreeningtool.search.InvertedIndex;
+import com.airesume.resumescreeningtool.search.SearchQuery;
+import com.airesume.resumescreeningtool.search.TextAnalyzer;
+
+/**
+ * Full-text search over an index of synthetic resumes: a common skill, a rarer
+ * multi-word query and a phrase. Run with {@code -p documents=200000} and a larger
+ * heap to see the scale at which LIKE scans took seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ResumeSearchBenchmark {
+
+    @Param({"20000"})
+    public int documents;
+
+    @Param({"java", "kubernetes terraform postgresql", "\"professional experience\" python"})
+    public String query;
+
+    private InvertedIndex index;
+    private SearchQuery searchQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ResumeGenerator generator = new ResumeGenerator(new CorpusProfile(), 20240611L);
+        index = new InvertedIndex();
+        for (int i = 0; i < documents; i++) {
+            index.add(new InvertedIndex.Document(i + 1, i % 50, TextAnalyzer.analyze(generator.generate(i).text())));
+        }
+        searchQuery = SearchQuery.parse(query);
+    }
+
+    @Benchmark
+    public InvertedIndex.SearchResult search() {
+        return index.search(searchQuery, null, 0, 20);
+    }
+
+    @Benchmark
+    public InvertedIndex.SearchResult searchJobPosting() {
+        return index.search(searchQuery, 7L, 0, 20);
+    }
+}
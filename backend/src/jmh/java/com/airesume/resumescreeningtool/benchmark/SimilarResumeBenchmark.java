@@ -0,0 +1,120 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import com.airesume.resumescreeningtool.corpus.CorpusProfile;
+import com.airesume.resumescreeningtool.corpus.ResumeGenerator;
+import com.airesume.resumescreeningtool.parsing.SkillDictionary;
+import com.airesume.resumescreeningtool.search.HnswIndex;
+import com.airesume.resumescreeningtool.search.ResumeVectorizer;
+
+/**
+ * "Similar resumes" over an HNSW graph of synthetic resume vectors, against the exact
+ * answer from comparing the query with every vector. The setup logs how many of the
+ * exact top 10 the graph search finds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SimilarResumeBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarResumeBenchmark.class);
+
+    private static final int DIMENSIONS = 256;
+
+    @Param({"20000"})
+    public int documents;
+
+    private HnswIndex index;
+    private float[][] vectors;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ResumeGenerator generator = new ResumeGenerator(new CorpusProfile(), 20240611L);
+        SkillDictionary skills = new SkillDictionary(new ClassPathResource("skills/skills.csv"));
+        ResumeVectorizer vectorizer = new ResumeVectorizer(DIMENSIONS);
+        index = new HnswIndex(DIMENSIONS, 16, 100, 1);
+        vectors = new float[documents][];
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < documents; i++) {
+            String text = generator.generate(i).text();
+            vectors[i] = vectorizer.vectorize(text, skills.match(text));
+            index.add(i, vectors[i]);
+        }
+        logger.info("Indexed {} resumes in {} ms", documents, System.currentTimeMillis() - startTime);
+
+        int found = 0;
+        for (int q = 0; q < 100; q++) {
+            List<HnswIndex.Neighbor> exact = exact(q * (documents / 100));
+            List<Long> approximate = index.search(vectors[q * (documents / 100)], 10, 64, q * (documents / 100))
+                    .stream().map(HnswIndex.Neighbor::resumeId).toList();
+            found += (int) exact.stream().filter(neighbor -> approximate.contains(neighbor.resumeId())).count();
+        }
+        logger.info("Recall@10 at ef 64: {}", String.format("%.3f", found / 1000.0));
+    }
+
+    @Benchmark
+    public List<HnswIndex.Neighbor> similar() {
+        int query = next++ % documents;
+        return index.search(vectors[query], 10, 64, query);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Neighbor> exhaustive() {
+        return exact(next++ % documents);
+    }
+
+    private List<HnswIndex.Neighbor> exact(int query) {
+        float[] best = new float[10];
+        long[] ids = new long[10];
+        Arrays.fill(best, -2);
+        for (int i = 0; i < vectors.length; i++) {
+            if (i == query) {
+                continue;
+            }
+            float similarity = 0;
+            for (int d = 0; d < DIMENSIONS; d++) {
+                similarity += vectors[query][d] * vectors[i][d];
+            }
+            if (similarity > best[9]) {
+                int slot = 9;
+                while (slot > 0 && best[slot - 1] < similarity) {
+                    best[slot] = best[slot - 1];
+                    ids[slot] = ids[slot - 1];
+                    slot--;
+                }
+                best[slot] = similarity;
+                ids[slot] = i;
+            }
+        }
+        List<HnswIndex.Neighbor> neighbors = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) {
+            neighbors.add(new HnswIndex.Neighbor(ids[i], best[i]));
+        }
+        return neighbors;
+    }
+}
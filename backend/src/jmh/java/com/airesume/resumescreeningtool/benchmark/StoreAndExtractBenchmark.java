@@ -0,0 +1,79 @@
+package com.airesume.resumescreeningtool.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.service.FileUploadService;
+
+/**
+ * The ingestion path of one upload without the database: staging with hashing and
+ * content sniffing, committing the blob, text extraction and information extraction.
+ * The blob is removed again after each upload so every invocation stores new content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoreAndExtractBenchmark {
+
+    @Param({"pdf", "doc", "docx", "txt"})
+    public String format;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public ResumeCorpus.Size size;
+
+    private BenchmarkServices services;
+    private String filename;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        services = new BenchmarkServices("in-process");
+        Path file = ResumeCorpus.write(services.getUploadDir(), format, size);
+        filename = file.getFileName().toString();
+        content = Files.readAllBytes(file);
+        Files.delete(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        services.close();
+    }
+
+    @Benchmark
+    public Resume storeAndExtract() throws IOException {
+        FileUploadService fileUploadService = services.getFileUploadService();
+        FileUploadService.FileUploadResult upload = fileUploadService.storeStream(new ByteArrayInputStream(content), filename);
+        Path blob = fileUploadService.blobPath(upload.getStoredFilename());
+        fileUploadService.commitStagedFile(upload, blob);
+        try {
+            String text = fileUploadService.extractTextFromFile(blob, fileUploadService.getFileExtension(upload.getStoredFilename()));
+            Resume resume = new Resume();
+            resume.setExtractedText(text);
+            services.getResumeService().extractResumeInformation(resume, text);
+            return resume;
+        } finally {
+            Files.delete(blob);
+        }
+    }
+}
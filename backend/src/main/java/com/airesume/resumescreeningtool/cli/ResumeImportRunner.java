@@ -0,0 +1,79 @@
+package com.airesume.resumescreeningtool.cli;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.airesume.resumescreeningtool.service.ResumeImportService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Headless bulk import, active with the {@code import} profile. The application starts
+ * without a web server, imports one directory of resumes and exits. Run from the
+ * backend directory with
+ * <pre>
+ * java -jar target/resumescreeningtool-*.jar --spring.profiles.active=import \
+ *     --resume.import.job-posting-id=1 --resume.import.source=/data/ats-export
+ * </pre>
+ * The source is a directory containing {@code manifest.csv}, or the manifest file
+ * itself; file names in the manifest are resolved next to it. The exit code is 0 when
+ * every file was imported or skipped, 2 when some failed and 1 when the import could
+ * not run.
+ */
+@Component
+@Profile("import")
+@RequiredArgsConstructor
+public class ResumeImportRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeImportRunner.class);
+
+    private static final String MANIFEST_NAME = "manifest.csv";
+
+    private final ResumeImportService resumeImportService;
+
+    private final ApplicationContext applicationContext;
+
+    @Value("${resume.import.source:}")
+    private String source;
+
+    @Value("${resume.import.job-posting-id:}")
+    private Long jobPostingId;
+
+    @Override
+    public void run(String... args) {
+        int exitCode;
+        try {
+            if (source.isBlank() || jobPostingId == null) {
+                throw new IllegalArgumentException("resume.import.source and resume.import.job-posting-id are required");
+            }
+            Path sourcePath = Paths.get(source);
+            Path manifest = Files.isDirectory(sourcePath) ? sourcePath.resolve(MANIFEST_NAME) : sourcePath;
+            if (!Files.isRegularFile(manifest)) {
+                throw new IllegalArgumentException("No manifest found at " + manifest);
+            }
+
+            ResumeImportService.ImportReport report = resumeImportService.importResumes(
+                    jobPostingId, manifest.toAbsolutePath().getParent(), manifest);
+            exitCode = report.failed() > 0 ? 2 : 0;
+        } catch (IllegalArgumentException e) {
+            logger.error("Import not started: {}", e.getMessage());
+            exitCode = 1;
+        } catch (Exception e) {
+            logger.error("Import failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> status));
+    }
+}
@@ -0,0 +1,84 @@
+package com.airesume.resumescreeningtool.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${resume.processing.core-pool-size}")
+    private int corePoolSize;
+
+    @Value("${resume.processing.max-pool-size}")
+    private int maxPoolSize;
+
+    @Value("${resume.processing.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${resume.bulk.queue-capacity}")
+    private int bulkQueueCapacity;
+
+    @Value("${resume.backfill.parallelism}")
+    private int backfillParallelism;
+
+    /**
+     * Bounded worker pool for resume text extraction and parsing.
+     * When both the pool and its queue are full new work is rejected rather than run
+     * on the submitting request thread; rejected resumes stay PROCESSING until the
+     * recovery sweep in ResumeProcessingService submits them again.
+     */
+    @Bean(name = "resumeProcessingExecutor")
+    public Executor resumeProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("resume-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool for extracting bulk uploads in parallel, one thread per core.
+     * A full queue makes the archive reader extract entries itself, which keeps the
+     * number of staged but unprocessed files bounded.
+     */
+    @Bean(name = "resumeBulkExecutor")
+    public Executor resumeBulkExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(bulkQueueCapacity);
+        executor.setThreadNamePrefix("resume-bulk-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Small fixed pool for the resume backfill, kept apart from the upload pools so a
+     * backfill never queues ahead of live uploads. The backfill waits for each chunk
+     * before submitting the next, so the queue only ever holds one chunk.
+     */
+    @Bean(name = "resumeBackfillExecutor")
+    public Executor resumeBackfillExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(backfillParallelism);
+        executor.setMaxPoolSize(backfillParallelism);
+        executor.setThreadNamePrefix("resume-backfill-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,11 +1,14 @@
 package com.airesume.resumescreeningtool.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
+// Not needed by headless runs such as the import profile
 @Configuration
+@ConditionalOnWebApplication
 public class SecurityConfig {
 
     @Bean
@@ -13,7 +16,9 @@ public class SecurityConfig {
         http.cors(cors -> cors.disable())
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/actuator/**", "/api/health").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/api/health").permitAll()
+                // Metrics expose upload, dedup and extraction counters
+                .requestMatchers("/actuator/**", "/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             );
         return http.build();
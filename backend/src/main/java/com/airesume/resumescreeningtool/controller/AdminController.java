@@ -0,0 +1,166 @@
+package com.airesume.resumescreeningtool.controller;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.airesume.resumescreeningtool.dto.NearDuplicateClusterDto;
+import com.airesume.resumescreeningtool.dto.NearDuplicateClustersResponseDto;
+import com.airesume.resumescreeningtool.entity.BackfillSource;
+import com.airesume.resumescreeningtool.service.NearDuplicateService;
+import com.airesume.resumescreeningtool.service.ResumeBackfillService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "http://127.0.0.1:5500")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    private final ResumeBackfillService resumeBackfillService;
+
+    private final NearDuplicateService nearDuplicateService;
+
+    /**
+     * Start parsing all stored resumes again, from their stored text or, with
+     * source=file, from their files. Responds with 202 and the job's progress;
+     * an unfinished earlier job continues from its checkpoint unless restart is set.
+     */
+    @PostMapping("/resumes/backfill")
+    public ResponseEntity<?> startResumeBackfill(
+            @RequestParam(value = "source", defaultValue = "text") String source,
+            @RequestParam(value = "restart", defaultValue = "false") boolean restart) {
+        try {
+            BackfillSource backfillSource = BackfillSource.valueOf(source.toUpperCase(Locale.ROOT));
+            logger.info("Starting resume backfill from {} (restart: {})", backfillSource, restart);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(createSuccessResponse("Resume backfill started",
+                    resumeBackfillService.start(backfillSource, restart)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse("Unknown backfill source: " + source, "INVALID_REQUEST"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(createErrorResponse(e.getMessage(), "BACKFILL_RUNNING"));
+        }
+    }
+
+    /**
+     * Get the progress of the current or last resume backfill
+     */
+    @GetMapping("/resumes/backfill")
+    public ResponseEntity<?> getResumeBackfillStatus() {
+        try {
+            return ResponseEntity.ok(createSuccessResponse("Backfill status retrieved successfully",
+                resumeBackfillService.getStatus()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Stop the running resume backfill after its current chunk
+     */
+    @DeleteMapping("/resumes/backfill")
+    public ResponseEntity<?> cancelResumeBackfill() {
+        if (!resumeBackfillService.cancel()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(createSuccessResponse("Resume backfill cancelling", null));
+    }
+
+    /**
+     * Group the stored resumes that nearly duplicate each other, optionally for one job posting
+     */
+    @GetMapping("/resumes/near-duplicates")
+    public ResponseEntity<?> getNearDuplicateClusters(
+            @RequestParam(value = "jobPostingId", required = false) Long jobPostingId) {
+        try {
+            long startTime = System.currentTimeMillis();
+            NearDuplicateService.ClusterResults results = nearDuplicateService.findClusters(jobPostingId);
+            return ResponseEntity.ok(createSuccessResponse("Near-duplicate groups retrieved successfully",
+                toClustersResponse(jobPostingId, results, startTime)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        }
+    }
+
+    /**
+     * Group the stored resumes that nearly duplicate each other and flag every resume of a
+     * group as a near-duplicate of the group's oldest resume
+     */
+    @PostMapping("/resumes/near-duplicates")
+    public ResponseEntity<?> flagNearDuplicateClusters(
+            @RequestParam(value = "jobPostingId", required = false) Long jobPostingId) {
+        try {
+            long startTime = System.currentTimeMillis();
+            NearDuplicateService.ClusterResults results = nearDuplicateService.flagClusters(jobPostingId);
+            logger.info("Flagged near-duplicate groups for job posting {}", jobPostingId);
+            return ResponseEntity.ok(createSuccessResponse("Near-duplicate groups flagged",
+                toClustersResponse(jobPostingId, results, startTime)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(createErrorResponse(e.getMessage(), "INDEX_BUILDING"));
+        }
+    }
+
+    private NearDuplicateClustersResponseDto toClustersResponse(Long jobPostingId,
+                                                                NearDuplicateService.ClusterResults results,
+                                                                long startTime) {
+        return NearDuplicateClustersResponseDto.builder()
+            .jobPostingId(jobPostingId)
+            .clusterCount(results.clusters().size())
+            .resumeCount(results.clusters().stream().mapToLong(cluster -> cluster.resumeIds().length).sum())
+            .partial(results.partial())
+            .processingTimeMs(System.currentTimeMillis() - startTime)
+            .clusters(results.clusters().stream()
+                .map(cluster -> new NearDuplicateClusterDto(cluster.jobPostingId(),
+                    Arrays.stream(cluster.resumeIds()).boxed().toList()))
+                .toList())
+            .build();
+    }
+
+    /**
+     * Creates a success response
+     */
+    private Map<String, Object> createSuccessResponse(String message, Object data) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("data", data);
+        response.put("timestamp", System.currentTimeMillis());
+        return response;
+    }
+
+    /**
+     * Creates an error response
+     */
+    private Map<String, Object> createErrorResponse(String message, String errorCode) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", message);
+        response.put("errorCode", errorCode);
+        response.put("timestamp", System.currentTimeMillis());
+        return response;
+    }
+}
@@ -22,7 +22,7 @@ public class GlobalExceptionHandler {
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
-        response.put("message", "File size exceeds the maximum allowed size of 10MB");
+        response.put("message", "Upload exceeds the maximum allowed request size");
         response.put("errorCode", "FILE_SIZE_EXCEEDED");
         response.put("timestamp", System.currentTimeMillis());
         
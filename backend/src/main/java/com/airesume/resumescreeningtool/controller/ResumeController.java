@@ -21,11 +21,25 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.airesume.resumescreeningtool.dto.BulkUploadResponseDto;
+import com.airesume.resumescreeningtool.dto.CandidateLookupResponseDto;
+import com.airesume.resumescreeningtool.dto.CandidateMatchDto;
+import com.airesume.resumescreeningtool.dto.ChunkedUploadStatusDto;
+import com.airesume.resumescreeningtool.dto.ResumeSearchHitDto;
+import com.airesume.resumescreeningtool.dto.ResumeSearchResponseDto;
 import com.airesume.resumescreeningtool.dto.ResumeUploadResponseDto;
+import com.airesume.resumescreeningtool.dto.SimilarResumeDto;
+import com.airesume.resumescreeningtool.dto.SimilarResumesResponseDto;
 import com.airesume.resumescreeningtool.entity.Resume;
 import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.repository.ResumeFileView;
+import com.airesume.resumescreeningtool.service.CandidateLookupService;
+import com.airesume.resumescreeningtool.service.ChunkedUploadService;
+import com.airesume.resumescreeningtool.service.ResumeBulkUploadService;
 import com.airesume.resumescreeningtool.service.ResumeService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -38,8 +52,18 @@ public class ResumeController {
 
     private final ResumeService resumeService;
 
+    private final ResumeBulkUploadService resumeBulkUploadService;
+
+    private final ResumeFileResponder resumeFileResponder;
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    private final CandidateLookupService candidateLookupService;
+
     /**
-     * Upload a resume for a specific job posting
+     * Upload a resume for a specific job posting.
+     * Responds with 202 once the file is stored; poll the processing status
+     * endpoint until text extraction has finished.
      */
     @PostMapping("/upload")
     public ResponseEntity<?> uploadResume(
@@ -59,15 +83,16 @@ public class ResumeController {
                     .body(createErrorResponse("File is empty", "EMPTY_FILE"));
             }
 
-            // Upload and process resume
+            // Store resume and queue it for processing
             Resume resume = resumeService.uploadResume(jobPostingId, candidateName, 
                                                      candidateEmail, candidatePhone, file);
 
             // Convert to DTO
             ResumeUploadResponseDto responseDto = convertToDto(resume);
 
-            logger.info("Resume uploaded successfully with ID: {}", resume.getId());
-            return ResponseEntity.ok(createSuccessResponse("Resume uploaded successfully", responseDto));
+            logger.info("Resume accepted for processing with ID: {}", resume.getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(createSuccessResponse("Resume accepted for processing", responseDto));
 
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid request: {}", e.getMessage());
@@ -88,6 +113,135 @@ public class ResumeController {
         }
     }
 
+    /**
+     * Start a resumable chunked upload.
+     * The application details are checked up front; the response carries the upload ID
+     * used to send chunks, query progress and complete the upload.
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<?> startChunkedUpload(
+            @RequestParam("jobPostingId") Long jobPostingId,
+            @RequestParam("candidateName") String candidateName,
+            @RequestParam("candidateEmail") String candidateEmail,
+            @RequestParam(value = "candidatePhone", required = false) String candidatePhone,
+            @RequestParam("fileName") String fileName,
+            @RequestParam("fileSize") long fileSize) {
+        try {
+            ChunkedUploadStatusDto status = chunkedUploadService.startUpload(jobPostingId, candidateName,
+                    candidateEmail, candidatePhone, fileName, fileSize);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(createSuccessResponse("Chunked upload started", status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(createErrorResponse(e.getMessage(), "UPLOAD_REJECTED"));
+        } catch (IOException e) {
+            logger.error("Could not start chunked upload: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(createErrorResponse("Failed to start upload", "FILE_PROCESSING_ERROR"));
+        }
+    }
+
+    /**
+     * Send one chunk of a chunked upload as the raw request body, written at the given byte offset
+     */
+    @PutMapping("/uploads/{uploadId}")
+    public ResponseEntity<?> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam("offset") long offset,
+            HttpServletRequest request) {
+        try {
+            ChunkedUploadStatusDto status = chunkedUploadService.writeChunk(uploadId, offset, request.getInputStream());
+            return ResponseEntity.ok(createSuccessResponse("Chunk received", status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        } catch (IOException e) {
+            logger.warn("Chunk upload for {} failed: {}", uploadId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(createErrorResponse("Failed to store chunk", "FILE_PROCESSING_ERROR"));
+        }
+    }
+
+    /**
+     * Get the progress of a chunked upload, including the next offset to resume from
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<?> getChunkedUploadStatus(@PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(createSuccessResponse("Upload status retrieved successfully",
+                chunkedUploadService.getStatus(uploadId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Complete a chunked upload. The assembled file goes through the same path as a
+     * regular upload and is queued for processing.
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<?> completeChunkedUpload(@PathVariable String uploadId) {
+        try {
+            Resume resume = chunkedUploadService.completeUpload(uploadId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(createSuccessResponse("Resume accepted for processing", convertToDto(resume)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(createErrorResponse(e.getMessage(), "UPLOAD_REJECTED"));
+        } catch (IOException e) {
+            logger.error("Could not complete chunked upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(createErrorResponse("Failed to process file", "FILE_PROCESSING_ERROR"));
+        }
+    }
+
+    /**
+     * Cancel a chunked upload and discard the bytes received so far
+     */
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<?> cancelChunkedUpload(@PathVariable String uploadId) {
+        try {
+            chunkedUploadService.cancelUpload(uploadId);
+            return ResponseEntity.ok(createSuccessResponse("Upload cancelled", null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Upload many resumes for a job posting at once, as a ZIP archive and/or
+     * multiple file parts, with a CSV manifest of candidate details
+     */
+    @PostMapping("/bulk-upload")
+    public ResponseEntity<?> bulkUploadResumes(
+            @RequestParam("jobPostingId") Long jobPostingId,
+            @RequestParam("manifest") MultipartFile manifest,
+            @RequestParam(value = "archive", required = false) MultipartFile archive,
+            @RequestParam(value = "files", required = false) List<MultipartFile> files) {
+
+        try {
+            logger.info("Received bulk resume upload request for job posting: {}", jobPostingId);
+
+            BulkUploadResponseDto report = resumeBulkUploadService.bulkUpload(jobPostingId, archive, files, manifest);
+            return ResponseEntity.ok(createSuccessResponse("Bulk upload processed", report));
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk upload request: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        } catch (IOException e) {
+            logger.error("Bulk upload processing error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(createErrorResponse("Failed to process bulk upload", "FILE_PROCESSING_ERROR"));
+        }
+    }
+
     /**
      * Get all resumes for a specific job posting
      */
@@ -106,6 +260,90 @@ public class ResumeController {
         }
     }
 
+    /**
+     * Search resumes by a dictionary skill (id, name or synonym such as "k8s"),
+     * optionally within one job posting
+     */
+    @GetMapping("/search/skills")
+    public ResponseEntity<?> searchResumesBySkill(
+            @RequestParam("skill") String skill,
+            @RequestParam(value = "jobPostingId", required = false) Long jobPostingId) {
+        try {
+            List<Resume> resumes = resumeService.findResumesBySkill(skill, jobPostingId);
+            List<ResumeUploadResponseDto> responseDtos = resumes.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+
+            return ResponseEntity.ok(createSuccessResponse("Resumes retrieved successfully", responseDtos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        }
+    }
+
+    /**
+     * Full-text search over resume text, ranked by relevance and paginated.
+     * Words match regardless of inflection ("managed" finds "managing");
+     * "quoted phrases" must appear as written.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchResumes(
+            @RequestParam("q") String query,
+            @RequestParam(value = "jobPostingId", required = false) Long jobPostingId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            long startTime = System.currentTimeMillis();
+            ResumeService.SearchResults results = resumeService.searchResumes(query, jobPostingId, page, size);
+            List<ResumeSearchHitDto> hits = results.hits().stream()
+                .map(hit -> new ResumeSearchHitDto(hit.score(), convertToDto(hit.resume())))
+                .collect(Collectors.toList());
+
+            ResumeSearchResponseDto response = ResumeSearchResponseDto.builder()
+                .query(query)
+                .page(page)
+                .size(size)
+                .totalHits(results.totalHits())
+                .partial(results.partial())
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .hits(hits)
+                .build();
+            return ResponseEntity.ok(createSuccessResponse("Search completed successfully", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        }
+    }
+
+    /**
+     * Typo-tolerant lookup of candidates by name or email, most similar first.
+     * "jon smith" finds John Smith; part of an email finds the full address.
+     */
+    @GetMapping("/candidates")
+    public ResponseEntity<?> lookupCandidates(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            long startTime = System.currentTimeMillis();
+            CandidateLookupService.LookupResults results = candidateLookupService.lookup(query, limit);
+            List<CandidateMatchDto> matches = results.matches().stream()
+                .map(match -> new CandidateMatchDto(match.similarity(), convertToDto(match.resume())))
+                .collect(Collectors.toList());
+
+            CandidateLookupResponseDto response = CandidateLookupResponseDto.builder()
+                .query(query)
+                .limit(limit)
+                .partial(results.partial())
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .matches(matches)
+                .build();
+            return ResponseEntity.ok(createSuccessResponse("Lookup completed successfully", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        }
+    }
+
     /**
      * Get resumes by status for a specific job posting
      */
@@ -140,6 +378,70 @@ public class ResumeController {
         }
     }
 
+    /**
+     * Get the processing state of an uploaded resume
+     */
+    @GetMapping("/{resumeId}/processing-status")
+    public ResponseEntity<?> getProcessingStatus(@PathVariable Long resumeId) {
+        try {
+            Resume resume = resumeService.getResumeById(resumeId);
+            Map<String, Object> processingStatus = new HashMap<>();
+            processingStatus.put("resumeId", resume.getId());
+            processingStatus.put("status", resume.getStatus());
+            processingStatus.put("completed", resume.getStatus() != ResumeStatus.PROCESSING);
+            processingStatus.put("failed", resume.getStatus() == ResumeStatus.EXTRACTION_FAILED);
+            return ResponseEntity.ok(createSuccessResponse("Processing status retrieved successfully", processingStatus));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * The k resumes across all job postings most like this one, most similar first
+     */
+    @GetMapping("/{resumeId}/similar")
+    public ResponseEntity<?> getSimilarResumes(
+            @PathVariable Long resumeId,
+            @RequestParam(value = "k", defaultValue = "10") int k) {
+        try {
+            long startTime = System.currentTimeMillis();
+            ResumeService.SimilarResults results = resumeService.findSimilarResumes(resumeId, k);
+            List<SimilarResumeDto> similar = results.similar().stream()
+                .map(hit -> new SimilarResumeDto(hit.score(), convertToDto(hit.resume())))
+                .collect(Collectors.toList());
+
+            SimilarResumesResponseDto response = SimilarResumesResponseDto.builder()
+                .resumeId(resumeId)
+                .k(k)
+                .partial(results.partial())
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .similar(similar)
+                .build();
+            return ResponseEntity.ok(createSuccessResponse("Similar resumes retrieved successfully", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        }
+    }
+
+    /**
+     * Download the original resume file.
+     * Supports ETag revalidation and single byte ranges, so PDF viewers can load
+     * pages incrementally and browsers can reuse cached copies.
+     */
+    @GetMapping("/{resumeId}/file")
+    public void downloadResumeFile(@PathVariable Long resumeId, HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        ResumeFileView resumeFile;
+        try {
+            resumeFile = resumeService.getResumeFile(resumeId);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        resumeFileResponder.send(resumeFile, request, response);
+    }
+
     /**
      * Update resume status
      */
@@ -243,6 +545,7 @@ public class ResumeController {
         dto.setStatus(resume.getStatus());
         dto.setJobPostingId(resume.getJobPosting().getId());
         dto.setJobPostingTitle(resume.getJobPosting().getTitle());
+        dto.setNearDuplicateOf(resume.getNearDuplicateOf());
         dto.setSubmissionDate(resume.getSubmissionDate());
         dto.setCreatedAt(resume.getCreatedAt());
         return dto;
@@ -0,0 +1,215 @@
+package com.airesume.resumescreeningtool.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.airesume.resumescreeningtool.repository.ResumeFileView;
+import com.airesume.resumescreeningtool.service.FileUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes a stored resume file to the HTTP response.
+ * Supports conditional requests through an ETag (the content hash for files in the
+ * content-addressed store) and single byte ranges, so PDF viewers can fetch pages
+ * on demand. Bodies are handed to Tomcat's sendfile when the connector offers it,
+ * otherwise they are copied with {@link FileChannel#transferTo}; the file is never
+ * read onto the heap.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResumeFileResponder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeFileResponder.class);
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // Same cut-off as Tomcat's DefaultServlet; smaller bodies are cheaper to copy
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private final FileUploadService fileUploadService;
+
+    /**
+     * Sends the file of a resume, honouring If-None-Match, Range and If-Range
+     */
+    public void send(ResumeFileView resumeFile, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = fileUploadService.resolveStoredPath(resumeFile.getFilePath());
+        if (!Files.isRegularFile(file)) {
+            logger.warn("Stored file of resume {} is missing: {}", resumeFile.getId(), file);
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long length = Files.size(file);
+        String etag = etagFor(resumeFile, file, length);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(resumeFile.getContentType() != null ? resumeFile.getContentType() : "application/octet-stream");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(resumeFile.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            if (range.length == 2) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // Tomcat streams the file from the kernel once the handler returns; the end offset is exclusive
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             WritableByteChannel out = Channels.newChannel(response.getOutputStream())) {
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Content-addressed files get a strong ETag from their hash; files stored before
+     * hashing fall back to a weak tag built from size and modification time
+     */
+    private String etagFor(ResumeFileView resumeFile, Path file, long length) throws IOException {
+        if (resumeFile.getContentHash() != null) {
+            return "\"" + resumeFile.getContentHash() + "\"";
+        }
+        return "W/\"" + length + "-" + Files.getLastModifiedTime(file).toMillis() + "\"";
+    }
+
+    private boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match uses weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Range only allows the partial response when the strong validator still matches
+     */
+    private boolean ifRangeMatches(String ifRange, String etag) {
+        if (ifRange == null) {
+            return true;
+        }
+        return !etag.startsWith("W/") && ifRange.trim().equals(etag);
+    }
+
+    /**
+     * Parses a single byte range.
+     *
+     * @return {start, end} (inclusive) for a satisfiable single range, an empty array
+     *         when the header should be ignored and the full file sent (unknown unit,
+     *         multiple ranges, malformed syntax), or null when the range is unsatisfiable
+     */
+    static long[] parseRange(String header, long length) {
+        String value = header.trim();
+        if (!value.regionMatches(true, 0, "bytes=", 0, 6)) {
+            return new long[0];
+        }
+        String spec = value.substring(6).trim();
+        if (spec.contains(",")) {
+            return new long[0];
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+                if (start > end && !last.isEmpty() && Long.parseLong(last) < start) {
+                    return new long[0];
+                }
+            }
+            if (start < 0 || start >= length) {
+                return null;
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.airesume.resumescreeningtool.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.airesume.resumescreeningtool.dto.ScreeningResultDto;
+import com.airesume.resumescreeningtool.entity.ScreeningResult;
+import com.airesume.resumescreeningtool.service.ScreeningFeedbackSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/screening-results")
+@CrossOrigin(origins = "http://127.0.0.1:5500")
+@RequiredArgsConstructor
+public class ScreeningResultController {
+
+    private final ScreeningFeedbackSearchService screeningFeedbackSearchService;
+
+    /**
+     * Search the AI feedback, strengths or weaknesses of screening results.
+     * On PostgreSQL the query takes words, "quoted phrases", or and -excluded
+     * words and results come best match first; elsewhere it is a substring match.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchScreeningResults(
+            @RequestParam("q") String query,
+            @RequestParam(value = "field", defaultValue = "feedback") String field) {
+        try {
+            List<ScreeningResultDto> results = screeningFeedbackSearchService.search(field, query).stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+            return ResponseEntity.ok(createSuccessResponse("Search completed successfully", results));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(createErrorResponse(e.getMessage(), "INVALID_REQUEST"));
+        }
+    }
+
+    private ScreeningResultDto convertToDto(ScreeningResult result) {
+        return ScreeningResultDto.builder()
+            .id(result.getId())
+            .resumeId(result.getResume().getId())
+            .jobPostingId(result.getJobPosting().getId())
+            .overallScore(result.getOverallScore())
+            .recommendationStatus(result.getRecommendationStatus())
+            .aiFeedback(result.getAiFeedback())
+            .strengths(result.getStrengths())
+            .weaknesses(result.getWeaknesses())
+            .createdAt(result.getCreatedAt())
+            .build();
+    }
+
+    private Map<String, Object> createSuccessResponse(String message, Object data) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("data", data);
+        response.put("timestamp", System.currentTimeMillis());
+        return response;
+    }
+
+    private Map<String, Object> createErrorResponse(String message, String errorCode) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", message);
+        response.put("errorCode", errorCode);
+        response.put("timestamp", System.currentTimeMillis());
+        return response;
+    }
+}
@@ -0,0 +1,24 @@
+package com.airesume.resumescreeningtool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUploadEntryResultDto {
+    private String fileName;
+    private String candidateEmail;
+    private BulkUploadEntryStatus status;
+    private Long resumeId;
+    private String message;
+
+    public enum BulkUploadEntryStatus {
+        CREATED,
+        SKIPPED,
+        FAILED
+    }
+}
@@ -0,0 +1,22 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUploadResponseDto {
+    private Long jobPostingId;
+    private int totalEntries;
+    private int created;
+    private int skipped;
+    private int failed;
+    private long processingTimeMs;
+    private List<BulkUploadEntryResultDto> entries;
+}
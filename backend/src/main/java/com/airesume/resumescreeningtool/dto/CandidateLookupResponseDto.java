@@ -0,0 +1,21 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CandidateLookupResponseDto {
+    private String query;
+    private int limit;
+    // True while the in-memory lookup index is still being built and may miss candidates
+    private boolean partial;
+    private long processingTimeMs;
+    private List<CandidateMatchDto> matches;
+}
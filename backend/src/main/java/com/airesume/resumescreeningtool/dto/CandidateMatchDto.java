@@ -0,0 +1,16 @@
+package com.airesume.resumescreeningtool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CandidateMatchDto {
+    // Share of the query's trigrams found in the candidate's name or email, 0 to 1
+    private float similarity;
+    private ResumeUploadResponseDto resume;
+}
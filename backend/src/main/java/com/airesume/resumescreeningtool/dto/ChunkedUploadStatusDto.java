@@ -0,0 +1,27 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChunkedUploadStatusDto {
+    private String uploadId;
+    private String fileName;
+    private long fileSize;
+    private long receivedBytes;
+    // First byte the server has not received yet; equals fileSize once everything has arrived
+    private long nextOffset;
+    private boolean complete;
+    private long maxChunkSize;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,18 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearDuplicateClusterDto {
+    private Long jobPostingId;
+    // Oldest resume first
+    private List<Long> resumeIds;
+}
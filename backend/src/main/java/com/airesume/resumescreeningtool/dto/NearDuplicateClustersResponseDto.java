@@ -0,0 +1,24 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearDuplicateClustersResponseDto {
+    // Job posting the groups were limited to, null for all of them
+    private Long jobPostingId;
+    private int clusterCount;
+    // Resumes in all groups, including the oldest of each
+    private long resumeCount;
+    // True while the near-duplicate index is still being built and may miss resumes
+    private boolean partial;
+    private long processingTimeMs;
+    private List<NearDuplicateClusterDto> clusters;
+}
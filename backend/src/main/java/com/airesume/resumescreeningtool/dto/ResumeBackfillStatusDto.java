@@ -0,0 +1,32 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.time.LocalDateTime;
+
+import com.airesume.resumescreeningtool.entity.BackfillSource;
+import com.airesume.resumescreeningtool.entity.BackfillStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeBackfillStatusDto {
+    private BackfillSource source;
+    private BackfillStatus status;
+    // Whether a backfill is running in this application instance right now
+    private boolean running;
+    // Resume id the next chunk starts after
+    private long lastId;
+    private long processedCount;
+    private long skippedCount;
+    private long failedCount;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startedAt;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.airesume.resumescreeningtool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeSearchHitDto {
+    // BM25 relevance (ts_rank with resume.search.engine=database); only comparable between hits of the same query
+    private float score;
+    private ResumeUploadResponseDto resume;
+}
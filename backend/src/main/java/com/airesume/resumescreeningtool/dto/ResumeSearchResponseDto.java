@@ -0,0 +1,23 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeSearchResponseDto {
+    private String query;
+    private int page;
+    private int size;
+    private long totalHits;
+    // True while the index is being rebuilt from the database and may miss resumes
+    private boolean partial;
+    private long processingTimeMs;
+    private List<ResumeSearchHitDto> hits;
+}
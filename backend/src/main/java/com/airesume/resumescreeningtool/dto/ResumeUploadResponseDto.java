@@ -28,6 +28,8 @@ public class ResumeUploadResponseDto {
     private ResumeStatus status;
     private Long jobPostingId;
     private String jobPostingTitle;
+    // Resume of the same job posting this one nearly duplicates, if any
+    private Long nearDuplicateOf;
     
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime submissionDate;
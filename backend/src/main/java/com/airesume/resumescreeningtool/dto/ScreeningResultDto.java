@@ -0,0 +1,27 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.airesume.resumescreeningtool.entity.RecommendationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScreeningResultDto {
+    private Long id;
+    private Long resumeId;
+    private Long jobPostingId;
+    private BigDecimal overallScore;
+    private RecommendationStatus recommendationStatus;
+    private String aiFeedback;
+    private String strengths;
+    private String weaknesses;
+    private LocalDateTime createdAt;
+}
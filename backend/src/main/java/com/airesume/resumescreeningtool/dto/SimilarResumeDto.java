@@ -0,0 +1,16 @@
+package com.airesume.resumescreeningtool.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarResumeDto {
+    // Cosine similarity of the two resumes' term and skill vectors, at most 1
+    private float similarity;
+    private ResumeUploadResponseDto resume;
+}
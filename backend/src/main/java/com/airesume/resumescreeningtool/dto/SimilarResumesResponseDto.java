@@ -0,0 +1,21 @@
+package com.airesume.resumescreeningtool.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarResumesResponseDto {
+    private Long resumeId;
+    private int k;
+    // True while the similarity index is being rebuilt from the database and may miss resumes
+    private boolean partial;
+    private long processingTimeMs;
+    private List<SimilarResumeDto> similar;
+}
@@ -0,0 +1,142 @@
+package com.airesume.resumescreeningtool.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+/**
+ * Progress of a backfill job, saved after every chunk so the job can continue
+ * after the last resume it finished once the application restarts
+ */
+@Entity
+@Table(name = "backfill_checkpoints")
+public class BackfillCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private BackfillSource source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BackfillStatus status;
+
+    // Highest resume id processed so far; the next chunk starts after it
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private long skippedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public BackfillCheckpoint() {
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public BackfillCheckpoint(String jobName, BackfillSource source) {
+        this();
+        this.jobName = jobName;
+        this.source = source;
+        this.status = BackfillStatus.RUNNING;
+    }
+
+    // Getters and Setters
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public BackfillSource getSource() {
+        return source;
+    }
+
+    public void setSource(BackfillSource source) {
+        this.source = source;
+    }
+
+    public BackfillStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BackfillStatus status) {
+        this.status = status;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(long lastId) {
+        this.lastId = lastId;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(long processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Lifecycle callbacks
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
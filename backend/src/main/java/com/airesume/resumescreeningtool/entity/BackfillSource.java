@@ -0,0 +1,11 @@
+package com.airesume.resumescreeningtool.entity;
+
+/**
+ * Where a resume backfill reads the text it parses
+ */
+public enum BackfillSource {
+    // The extracted text already stored with each resume
+    TEXT,
+    // The stored file, extracted again with the current extractors
+    FILE
+}
@@ -0,0 +1,8 @@
+package com.airesume.resumescreeningtool.entity;
+
+public enum BackfillStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
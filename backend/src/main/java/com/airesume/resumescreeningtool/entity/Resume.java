@@ -1,10 +1,14 @@
 package com.airesume.resumescreeningtool.entity;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -12,6 +16,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -19,7 +24,9 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "resumes")
+@Table(name = "resumes", indexes = {
+    @Index(name = "idx_resumes_content_hash", columnList = "content_hash")
+})
 public class Resume {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,6 +53,10 @@ public class Resume {
     @Column(name = "content_type")
     private String contentType;
 
+    // SHA-256 of the file bytes; resumes with the same hash share one stored file
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "extracted_text", columnDefinition = "TEXT")
     private String extractedText;
 
@@ -64,6 +75,22 @@ public class Resume {
     @Column(name = "certifications", columnDefinition = "TEXT")
     private String certifications;
 
+    // Normalized ids of the dictionary skills found in the extracted text
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "resume_skills",
+            joinColumns = @JoinColumn(name = "resume_id"),
+            indexes = @Index(name = "idx_resume_skills_skill_id", columnList = "skill_id"))
+    @Column(name = "skill_id", length = 64, nullable = false)
+    private Set<String> skillIds = new LinkedHashSet<>();
+
+    // MinHash signature of the extracted text, for near-duplicate detection
+    @Column(name = "minhash_signature", length = 1024)
+    private byte[] minhashSignature;
+
+    // Resume already stored for the same job posting that this one nearly duplicates, if any
+    @Column(name = "near_duplicate_of")
+    private Long nearDuplicateOf;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private ResumeStatus status = ResumeStatus.SUBMITTED;
@@ -167,6 +194,14 @@ public class Resume {
         this.contentType = contentType;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public String getExtractedText() {
         return extractedText;
     }
@@ -215,6 +250,30 @@ public class Resume {
         this.certifications = certifications;
     }
 
+    public Set<String> getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(Set<String> skillIds) {
+        this.skillIds = skillIds;
+    }
+
+    public byte[] getMinhashSignature() {
+        return minhashSignature;
+    }
+
+    public void setMinhashSignature(byte[] minhashSignature) {
+        this.minhashSignature = minhashSignature;
+    }
+
+    public Long getNearDuplicateOf() {
+        return nearDuplicateOf;
+    }
+
+    public void setNearDuplicateOf(Long nearDuplicateOf) {
+        this.nearDuplicateOf = nearDuplicateOf;
+    }
+
     public ResumeStatus getStatus() {
         return status;
     }
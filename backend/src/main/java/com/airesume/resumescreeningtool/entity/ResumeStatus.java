@@ -1,6 +1,8 @@
 package com.airesume.resumescreeningtool.entity;
 
 public enum ResumeStatus {
+    PROCESSING("Processing"),
+    EXTRACTION_FAILED("Extraction Failed"),
     SUBMITTED("Submitted"),
     UNDER_REVIEW("Under Review"),
     SCREENED("Screened"),
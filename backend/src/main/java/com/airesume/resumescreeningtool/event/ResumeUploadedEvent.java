@@ -0,0 +1,8 @@
+package com.airesume.resumescreeningtool.event;
+
+/**
+ * Published once a resume row and its stored file have been saved and the
+ * resume is waiting for text extraction.
+ */
+public record ResumeUploadedEvent(Long resumeId) {
+}
@@ -0,0 +1,455 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Streaming DOCX text extraction.
+ * Reads the main document part straight out of the OPC zip with a SAX parser and
+ * emits text runs as they are parsed, instead of building POI's XWPFDocument object
+ * model. The output follows XWPFWordExtractor: headers first, one line per body
+ * paragraph, tab-separated table cells with one line per row, then footers.
+ * <p>
+ * Constructs whose XWPFWordExtractor output depends on other parts of the package
+ * (content controls, footnotes, comments, tracked deletions, text boxes, section
+ * breaks inside the body, ...) are not handled; for those documents
+ * {@link UnsupportedDocxException} is thrown so the registry can fall back to
+ * {@link XwpfTextExtractor}.
+ */
+@Component
+public class DocxStreamingTextExtractor implements TextExtractor {
+
+    private static final String W = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String R = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String MC = "http://schemas.openxmlformats.org/markup-compatibility/2006";
+    private static final String PACKAGE_RELS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String OFFICE_DOCUMENT_REL = "/officeDocument";
+
+    // Elements whose extractor output cannot be reproduced from the main part alone
+    private static final Set<String> UNSUPPORTED = Set.of(
+            "sdt", "footnoteReference", "endnoteReference", "commentRangeStart", "commentReference",
+            "del", "delText", "moveFrom", "txbxContent", "ruby", "sym", "noBreakHyphen", "softHyphen",
+            "altChunk", "subDoc", "object");
+
+    private final SAXParserFactory parserFactory;
+
+    public DocxStreamingTextExtractor() {
+        parserFactory = SAXParserFactory.newInstance();
+        parserFactory.setNamespaceAware(true);
+        try {
+            parserFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            parserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IllegalStateException("Could not configure a secure XML parser", e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "docx-sax";
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("docx");
+    }
+
+    @Override
+    public boolean matchesSignature(byte[] header, int length) {
+        return FormatSignatures.isZip(header, length);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public double relativeCost() {
+        return 2.0;
+    }
+
+    /**
+     * Extracts the text of a stored DOCX file
+     *
+     * @throws UnsupportedDocxException if the document uses constructs this reader does not handle
+     */
+    @Override
+    public String extract(Path file) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            String mainPart = findMainPart(zip);
+            Map<String, String> relationships = readRelationships(zip, relsPartFor(mainPart), parentOf(mainPart));
+
+            BodyHandler body = new BodyHandler(false);
+            parse(zip, mainPart, body);
+
+            StringBuilder text = new StringBuilder(body.out.length() + 256);
+            appendHeadersOrFooters(zip, text, body.headerRefs, relationships);
+            text.append(body.out);
+            appendHeadersOrFooters(zip, text, body.footerRefs, relationships);
+            return text.toString();
+        }
+    }
+
+    /**
+     * Appends first-page, even-page and default header/footer text, in that order
+     */
+    private void appendHeadersOrFooters(ZipFile zip, StringBuilder text, Map<String, String> refs,
+                                        Map<String, String> relationships) throws IOException {
+        for (String type : new String[] {"first", "even", "default"}) {
+            String relationshipId = refs.get(type);
+            if (relationshipId == null) {
+                continue;
+            }
+            String part = relationships.get(relationshipId);
+            if (part == null) {
+                throw new UnsupportedDocxException("Missing header/footer relationship " + relationshipId);
+            }
+            BodyHandler handler = new BodyHandler(true);
+            parse(zip, part, handler);
+            text.append(handler.out);
+        }
+    }
+
+    private String findMainPart(ZipFile zip) throws IOException {
+        Map<String, String> packageRels = readRelationshipsByType(zip, "_rels/.rels", "");
+        for (Map.Entry<String, String> rel : packageRels.entrySet()) {
+            if (rel.getKey().endsWith(OFFICE_DOCUMENT_REL)) {
+                return rel.getValue();
+            }
+        }
+        throw new UnsupportedDocxException("Package has no main document part");
+    }
+
+    private Map<String, String> readRelationships(ZipFile zip, String relsPart, String baseDir) throws IOException {
+        Map<String, String> byId = new HashMap<>();
+        if (zip.getEntry(relsPart) == null) {
+            return byId;
+        }
+        parse(zip, relsPart, new RelationshipHandler(baseDir, byId, false));
+        return byId;
+    }
+
+    private Map<String, String> readRelationshipsByType(ZipFile zip, String relsPart, String baseDir) throws IOException {
+        Map<String, String> byType = new HashMap<>();
+        if (zip.getEntry(relsPart) == null) {
+            throw new UnsupportedDocxException("Package has no relationships part");
+        }
+        parse(zip, relsPart, new RelationshipHandler(baseDir, byType, true));
+        return byType;
+    }
+
+    private void parse(ZipFile zip, String partName, DefaultHandler handler) throws IOException {
+        ZipEntry entry = zip.getEntry(partName);
+        if (entry == null) {
+            throw new UnsupportedDocxException("Missing package part " + partName);
+        }
+        try (InputStream inputStream = zip.getInputStream(entry)) {
+            SAXParser parser = parserFactory.newSAXParser();
+            parser.parse(inputStream, handler);
+        } catch (UnsupportedContentSignal e) {
+            throw new UnsupportedDocxException("Unsupported element in " + partName + ": " + e.getMessage());
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new IOException("Malformed DOCX part " + partName + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String relsPartFor(String partName) {
+        return parentOf(partName) + "_rels/" + partName.substring(partName.lastIndexOf('/') + 1) + ".rels";
+    }
+
+    private static String parentOf(String partName) {
+        return partName.substring(0, partName.lastIndexOf('/') + 1);
+    }
+
+    private static String resolve(String baseDir, String target) {
+        String path = target.startsWith("/") ? target.substring(1) : baseDir + target;
+        Deque<String> segments = new ArrayDeque<>();
+        for (String segment : path.split("/")) {
+            if (segment.equals("..")) {
+                segments.pollLast();
+            } else if (!segment.isEmpty() && !segment.equals(".")) {
+                segments.addLast(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * Thrown when a document cannot be extracted faithfully by the streaming reader
+     */
+    public static class UnsupportedDocxException extends IOException {
+        public UnsupportedDocxException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Aborts SAX parsing as soon as an unsupported element is seen
+     */
+    private static class UnsupportedContentSignal extends SAXException {
+        UnsupportedContentSignal(String element) {
+            super(element);
+        }
+    }
+
+    /**
+     * Collects relationship targets keyed by ID or by relationship type
+     */
+    private static class RelationshipHandler extends DefaultHandler {
+        private final String baseDir;
+        private final Map<String, String> targets;
+        private final boolean keyByType;
+
+        RelationshipHandler(String baseDir, Map<String, String> targets, boolean keyByType) {
+            this.baseDir = baseDir;
+            this.targets = targets;
+            this.keyByType = keyByType;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (!PACKAGE_RELS.equals(uri) || !"Relationship".equals(localName)) {
+                return;
+            }
+            if ("External".equals(attributes.getValue("TargetMode"))) {
+                return;
+            }
+            String key = keyByType ? attributes.getValue("Type") : attributes.getValue("Id");
+            String target = attributes.getValue("Target");
+            if (key != null && target != null) {
+                targets.put(key, resolve(baseDir, target));
+            }
+        }
+    }
+
+    /**
+     * A table being collected; body tables are rendered when they close
+     */
+    private static class TableNode {
+        private final List<List<CellNode>> rows = new ArrayList<>();
+    }
+
+    /**
+     * Body elements of a table cell: paragraph text (String) or nested tables
+     */
+    private static class CellNode {
+        private final List<Object> elements = new ArrayList<>();
+    }
+
+    /**
+     * Turns a document body, header or footer part into text
+     */
+    private static class BodyHandler extends DefaultHandler {
+        private final boolean headerFooter;
+        private final StringBuilder out = new StringBuilder(4096);
+        private final Map<String, String> headerRefs = new HashMap<>();
+        private final Map<String, String> footerRefs = new HashMap<>();
+
+        private final Deque<TableNode> tables = new ArrayDeque<>();
+        private final Deque<CellNode> cells = new ArrayDeque<>();
+        private final StringBuilder paragraph = new StringBuilder(256);
+
+        private int paragraphDepth;
+        private int runDepth;
+        private int paragraphPropertiesDepth;
+        private int drawingDepth;
+        private boolean inText;
+        private boolean skipText;
+        private boolean bodySeen;
+
+        BodyHandler(boolean headerFooter) {
+            this.headerFooter = headerFooter;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+            if (MC.equals(uri) && "AlternateContent".equals(localName)) {
+                throw new UnsupportedContentSignal(qName);
+            }
+            if (!W.equals(uri)) {
+                return;
+            }
+            if (UNSUPPORTED.contains(localName)) {
+                throw new UnsupportedContentSignal(qName);
+            }
+
+            switch (localName) {
+                case "body", "hdr", "ftr" -> bodySeen = true;
+                case "p" -> {
+                    if (paragraphDepth++ == 0) {
+                        paragraph.setLength(0);
+                    }
+                }
+                case "pPr" -> paragraphPropertiesDepth++;
+                case "sectPr" -> {
+                    if (paragraphPropertiesDepth > 0) {
+                        // Section breaks inside the body pull headers into the middle of the text
+                        throw new UnsupportedContentSignal(qName);
+                    }
+                }
+                case "headerReference" -> headerRefs.put(typeOf(attributes), attributes.getValue(R, "id"));
+                case "footerReference" -> footerRefs.put(typeOf(attributes), attributes.getValue(R, "id"));
+                case "r" -> runDepth++;
+                case "drawing", "pict" -> drawingDepth++;
+                case "t" -> {
+                    inText = runDepth > 0 && drawingDepth == 0;
+                }
+                case "instrText" -> skipText = true;
+                case "tab", "ptab" -> {
+                    if (runDepth > 0) {
+                        paragraph.append('\t');
+                    }
+                }
+                case "br", "cr" -> {
+                    if (runDepth > 0) {
+                        paragraph.append('\n');
+                    }
+                }
+                case "tbl" -> {
+                    if (headerFooter) {
+                        throw new UnsupportedContentSignal(qName);
+                    }
+                    tables.push(new TableNode());
+                }
+                case "tr" -> {
+                    if (!tables.isEmpty()) {
+                        tables.peek().rows.add(new ArrayList<>());
+                    }
+                }
+                case "tc" -> {
+                    CellNode cell = new CellNode();
+                    if (!tables.isEmpty() && !tables.peek().rows.isEmpty()) {
+                        List<List<CellNode>> rows = tables.peek().rows;
+                        rows.get(rows.size() - 1).add(cell);
+                    }
+                    cells.push(cell);
+                }
+                default -> { }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            if (!W.equals(uri)) {
+                return;
+            }
+            switch (localName) {
+                case "p" -> {
+                    if (--paragraphDepth == 0) {
+                        endParagraph();
+                    }
+                }
+                case "pPr" -> paragraphPropertiesDepth--;
+                case "r" -> runDepth--;
+                case "drawing", "pict" -> drawingDepth--;
+                case "t" -> inText = false;
+                case "instrText" -> skipText = false;
+                case "tc" -> cells.pop();
+                case "tbl" -> endTable(tables.pop());
+                default -> { }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText && !skipText) {
+                paragraph.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endDocument() throws SAXException {
+            if (!bodySeen) {
+                throw new UnsupportedContentSignal("no WordprocessingML body");
+            }
+        }
+
+        private void endParagraph() {
+            if (!cells.isEmpty()) {
+                cells.peek().elements.add(paragraph.toString());
+            } else if (headerFooter) {
+                // Headers and footers skip empty paragraphs
+                if (paragraph.length() > 0) {
+                    out.append(paragraph).append('\n');
+                }
+            } else {
+                out.append(paragraph).append('\n');
+            }
+        }
+
+        private void endTable(TableNode table) {
+            if (!cells.isEmpty()) {
+                cells.peek().elements.add(table);
+                return;
+            }
+            // Top-level table: tab between cells, newline after each row
+            for (List<CellNode> row : table.rows) {
+                for (int i = 0; i < row.size(); i++) {
+                    appendCellText(out, row.get(i));
+                    if (i < row.size() - 1) {
+                        out.append('\t');
+                    }
+                }
+                out.append('\n');
+            }
+            out.append('\n');
+        }
+
+        /**
+         * Cell text as produced by XWPFTableCell.getTextRecursively()
+         */
+        private static void appendCellText(StringBuilder text, CellNode cell) {
+            List<Object> elements = cell.elements;
+            for (int i = 0; i < elements.size(); i++) {
+                appendCellElement(text, elements.get(i), i == elements.size() - 1);
+            }
+        }
+
+        private static void appendCellElement(StringBuilder text, Object element, boolean isLast) {
+            if (element instanceof String paragraphText) {
+                text.append(paragraphText);
+                if (!isLast) {
+                    text.append('\t');
+                }
+            } else if (element instanceof TableNode nested) {
+                for (List<CellNode> row : nested.rows) {
+                    for (CellNode cell : row) {
+                        List<Object> elements = cell.elements;
+                        for (int i = 0; i < elements.size(); i++) {
+                            appendCellElement(text, elements.get(i), i == elements.size() - 1);
+                        }
+                    }
+                }
+                if (!isLast) {
+                    text.append('\n');
+                }
+            }
+        }
+
+        private static String typeOf(Attributes attributes) {
+            String type = attributes.getValue(W, "type");
+            return type != null ? type : "default";
+        }
+    }
+}
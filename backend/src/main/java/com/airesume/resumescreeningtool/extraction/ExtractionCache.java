@@ -0,0 +1,360 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Two-tier cache of extracted resume text keyed by file content hash and extractor version.
+ * The first tier is an in-memory LRU bounded by the total number of cached characters;
+ * the second tier keeps gzip-compressed text under the upload directory so results
+ * survive restarts. Concurrent lookups of the same missing key share one extraction.
+ * <p>
+ * The disk tier is bounded by the total size of its files. Reading an entry touches its
+ * modification time, and once a write takes the tier over its budget the least recently
+ * used entries are deleted until it is back under nine tenths of it, so sweeps stay rare.
+ * The size is counted by listing the directory on first use after a start.
+ */
+@Component
+public class ExtractionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtractionCache.class);
+
+    private static final String CACHE_DIR = ".extraction-cache";
+
+    private final Path cacheDir;
+    private final boolean diskEnabled;
+    private final long maxMemoryChars;
+    private final long maxDiskBytes;
+
+    private final LinkedHashMap<String, String> memoryTier = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryChars;
+
+    private final Object diskLock = new Object();
+    private long diskBytes = -1;
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter diskEvictions;
+
+    public ExtractionCache(@Value("${file.upload.dir}") String uploadDir,
+                           @Value("${resume.extraction.cache.memory-max-chars}") long maxMemoryChars,
+                           @Value("${resume.extraction.cache.disk-enabled}") boolean diskEnabled,
+                           @Value("${resume.extraction.cache.disk-max-bytes}") long maxDiskBytes,
+                           MeterRegistry meterRegistry) {
+        this.cacheDir = Paths.get(uploadDir).resolve(CACHE_DIR);
+        this.maxMemoryChars = maxMemoryChars;
+        this.maxDiskBytes = maxDiskBytes;
+        this.diskEnabled = diskEnabled;
+
+        this.memoryHits = Counter.builder("resume.extraction.cache.requests")
+                .description("Extraction cache lookups")
+                .tag("result", "hit").tag("tier", "memory")
+                .register(meterRegistry);
+        this.diskHits = Counter.builder("resume.extraction.cache.requests")
+                .description("Extraction cache lookups")
+                .tag("result", "hit").tag("tier", "disk")
+                .register(meterRegistry);
+        this.misses = Counter.builder("resume.extraction.cache.requests")
+                .description("Extraction cache lookups")
+                .tag("result", "miss").tag("tier", "none")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("resume.extraction.cache.evictions")
+                .description("Entries evicted from the in-memory tier")
+                .register(meterRegistry);
+        this.diskEvictions = Counter.builder("resume.extraction.cache.disk.evictions")
+                .description("Entries evicted from the disk tier")
+                .register(meterRegistry);
+        Gauge.builder("resume.extraction.cache.entries", this, ExtractionCache::memoryEntryCount)
+                .description("Entries held in the in-memory tier")
+                .register(meterRegistry);
+        Gauge.builder("resume.extraction.cache.chars", this, ExtractionCache::memoryCharCount)
+                .description("Characters held in the in-memory tier")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached text for a content hash, running the loader on a miss
+     */
+    public String get(String contentHash, String extractorVersion, Supplier<String> loader) {
+        String key = cacheKey(contentHash, extractorVersion);
+
+        String cached = getFromMemory(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            // Another thread is already loading this key
+            return existing.join();
+        }
+
+        try {
+            String text = readFromDisk(key);
+            if (text != null) {
+                diskHits.increment();
+            } else {
+                misses.increment();
+                text = loader.get();
+                writeToDisk(key, text);
+            }
+            putInMemory(key, text);
+            pending.complete(text);
+            return text;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * Stores freshly extracted text for a content hash in both tiers, replacing what was
+     * cached under the same version
+     */
+    public void put(String contentHash, String extractorVersion, String text) {
+        String key = cacheKey(contentHash, extractorVersion);
+        writeToDisk(key, text);
+        putInMemory(key, text);
+    }
+
+    /**
+     * Drops every cached version of a content hash from both tiers
+     */
+    public void evict(String contentHash) {
+        String prefix = contentHash + "-v";
+        synchronized (memoryTier) {
+            Iterator<Map.Entry<String, String>> iterator = memoryTier.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, String> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    memoryChars -= entry.getValue().length();
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (!diskEnabled || !Files.isDirectory(cacheDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(cacheDir, prefix + "*.txt.gz")) {
+            for (Path entry : entries) {
+                deleteEntry(entry);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not evict cached text for {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    private String cacheKey(String contentHash, String extractorVersion) {
+        return contentHash + "-v" + extractorVersion;
+    }
+
+    private String getFromMemory(String key) {
+        synchronized (memoryTier) {
+            return memoryTier.get(key);
+        }
+    }
+
+    private void putInMemory(String key, String text) {
+        if (text.length() > maxMemoryChars) {
+            return;
+        }
+        synchronized (memoryTier) {
+            String previous = memoryTier.put(key, text);
+            if (previous != null) {
+                memoryChars -= previous.length();
+            }
+            memoryChars += text.length();
+
+            // Evict least recently used entries until the tier fits its budget again
+            Iterator<Map.Entry<String, String>> iterator = memoryTier.entrySet().iterator();
+            while (memoryChars > maxMemoryChars && iterator.hasNext()) {
+                Map.Entry<String, String> eldest = iterator.next();
+                memoryChars -= eldest.getValue().length();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private String readFromDisk(String key) {
+        if (!diskEnabled) {
+            return null;
+        }
+        Path entry = cacheDir.resolve(key + ".txt.gz");
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(entry))) {
+            String text = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return text;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Discarding unreadable cache entry {}: {}", entry, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, String text) {
+        if (!diskEnabled) {
+            return;
+        }
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheDir);
+            tempFile = Files.createTempFile(cacheDir, ".entry-", ".tmp");
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+                outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+            }
+            long size = Files.size(tempFile);
+            Path entry = cacheDir.resolve(key + ".txt.gz");
+            synchronized (diskLock) {
+                long replaced = Files.exists(entry) ? Files.size(entry) : 0;
+                Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                diskBytes = diskBytes() + size - replaced;
+                if (diskBytes > maxDiskBytes) {
+                    sweepDisk();
+                }
+            }
+        } catch (IOException e) {
+            // The disk tier is an optimization; extraction already succeeded
+            logger.warn("Could not write cache entry {}: {}", key, e.getMessage());
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries until the disk tier is under nine tenths of
+     * its budget. Called with the disk lock held.
+     */
+    private void sweepDisk() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        Map<Path, Long> lastUsed = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*.txt.gz")) {
+            for (Path entry : stream) {
+                entries.add(entry);
+                lastUsed.put(entry, lastModified(entry));
+            }
+        }
+        entries.sort(Comparator.comparing(lastUsed::get));
+
+        long target = maxDiskBytes / 10 * 9;
+        int removed = 0;
+        for (Iterator<Path> iterator = entries.iterator(); diskBytes > target && iterator.hasNext(); ) {
+            if (deleteEntry(iterator.next())) {
+                removed++;
+            }
+        }
+        diskEvictions.increment(removed);
+        logger.debug("Evicted {} entries from the disk cache, {} bytes left", removed, diskBytes);
+    }
+
+    /**
+     * Total size of the disk tier, counted from the directory the first time. Called with the disk lock held.
+     */
+    private long diskBytes() throws IOException {
+        if (diskBytes < 0) {
+            long total = 0;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*.txt.gz")) {
+                for (Path entry : stream) {
+                    total += sizeOf(entry);
+                }
+            }
+            diskBytes = total;
+        }
+        return diskBytes;
+    }
+
+    private boolean deleteEntry(Path entry) {
+        synchronized (diskLock) {
+            long size = sizeOf(entry);
+            try {
+                if (Files.deleteIfExists(entry)) {
+                    if (diskBytes >= 0) {
+                        diskBytes -= size;
+                    }
+                    return true;
+                }
+            } catch (IOException e) {
+                logger.debug("Could not remove {}: {}", entry, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private static long sizeOf(Path entry) {
+        try {
+            return Files.size(entry);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastModified(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Could not remove {}: {}", file, e.getMessage());
+        }
+    }
+
+    private double memoryEntryCount() {
+        synchronized (memoryTier) {
+            return memoryTier.size();
+        }
+    }
+
+    private double memoryCharCount() {
+        synchronized (memoryTier) {
+            return memoryChars;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.airesume.resumescreeningtool.extraction;
+
+/**
+ * Thrown when extraction is refused because every in-process slot is still held,
+ * typically by documents that ran past their budget and ignore interruption.
+ * The document itself was not tried and may be submitted again later.
+ */
+public class ExtractionCapacityExceededException extends RuntimeException {
+
+    public ExtractionCapacityExceededException(String message) {
+        super(message);
+    }
+}
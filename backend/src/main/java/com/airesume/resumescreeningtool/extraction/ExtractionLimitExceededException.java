@@ -0,0 +1,15 @@
+package com.airesume.resumescreeningtool.extraction;
+
+/**
+ * Thrown when a document could not be extracted within its time or memory budget
+ */
+public class ExtractionLimitExceededException extends RuntimeException {
+
+    public ExtractionLimitExceededException(String message) {
+        super(message);
+    }
+
+    public ExtractionLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,417 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs document text extraction under a per-document time budget, and in forked mode
+ * a memory budget as well.
+ * <p>
+ * In {@code forked} mode documents are handed to a pool of helper JVMs started with
+ * their own heap limit and {@code -XX:+ExitOnOutOfMemoryError}; a worker that runs out
+ * of time is killed, so a hostile file only costs one worker, which is replaced on the
+ * next request. Workers are also recycled after a fixed number of documents. This is
+ * the only mode that isolates the application from untrusted documents.
+ * <p>
+ * {@code in-process} mode is cheaper but only enforces what the JVM allows. Extraction
+ * runs on one of at most {@code workers} threads and the caller gives up once the time
+ * budget is spent, but the thread can only be interrupted: PDFBox and POI mostly ignore
+ * interrupts, so a runaway document keeps its thread and a core until it finishes on
+ * its own. Such threads keep their slot, and once runaway documents hold every slot new
+ * extractions are refused with {@link ExtractionCapacityExceededException} rather than
+ * piling up more threads. There is no real memory budget: the extractors' scratch
+ * limits bound what they cache, and an OutOfMemoryError that happens to be thrown on the
+ * extraction thread is reported as an exceeded budget, but the heap is shared with the
+ * application and the error can just as well hit another thread.
+ * <p>
+ * Documents over budget raise {@link ExtractionLimitExceededException}.
+ */
+@Component
+public class ExtractionRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtractionRunner.class);
+
+    private static final String PROPERTIES_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+    private static final int TASK_RUNNING = 0;
+    private static final int TASK_DONE = 1;
+    private static final int TASK_ABANDONED = 2;
+
+    private final TextExtractorRegistry textExtractorRegistry;
+    private final MeterRegistry meterRegistry;
+    private final boolean forked;
+    private final long timeoutMs;
+    private final int workerHeapMb;
+    private final int documentsPerWorker;
+    private final List<String> workerSystemProperties;
+
+    private final int workers;
+    private final ExecutorService taskExecutor;
+    private final Semaphore workerPermits;
+    private final Semaphore inProcessPermits;
+    private final AtomicInteger runawayTasks = new AtomicInteger();
+    private final BlockingQueue<WorkerProcess> idleWorkers = new LinkedBlockingQueue<>();
+    private volatile boolean shuttingDown;
+
+    public ExtractionRunner(TextExtractorRegistry textExtractorRegistry,
+                            MeterRegistry meterRegistry,
+                            @Value("${resume.extraction.sandbox.mode}") String mode,
+                            @Value("${resume.extraction.sandbox.timeout-ms}") long timeoutMs,
+                            @Value("${resume.extraction.sandbox.workers}") int workers,
+                            @Value("${resume.extraction.sandbox.worker-heap-mb}") int workerHeapMb,
+                            @Value("${resume.extraction.sandbox.documents-per-worker}") int documentsPerWorker,
+                            @Value("${resume.extraction.pdf.scratch-memory-bytes}") long scratchMemoryBytes,
+                            @Value("${resume.extraction.pdf.parallel-page-threshold}") int parallelPageThreshold,
+                            @Value("${resume.extraction.pdf.pages-per-chunk}") int pagesPerChunk,
+                            @Value("${resume.extraction.pdf.max-pages}") int maxPages,
+                            @Value("${resume.extraction.pdf.parallelism}") int parallelism) {
+        this.textExtractorRegistry = textExtractorRegistry;
+        this.meterRegistry = meterRegistry;
+        this.forked = switch (mode.trim().toLowerCase(Locale.ROOT)) {
+            case "forked" -> true;
+            case "in-process" -> false;
+            default -> throw new IllegalArgumentException("Unknown extraction sandbox mode: " + mode);
+        };
+        this.timeoutMs = timeoutMs;
+        this.workerHeapMb = workerHeapMb;
+        this.documentsPerWorker = documentsPerWorker;
+        this.workers = Math.max(1, workers);
+        this.workerPermits = new Semaphore(this.workers);
+        this.inProcessPermits = new Semaphore(this.workers);
+        this.workerSystemProperties = List.of(
+                "-Dresume.extraction.pdf.scratch-memory-bytes=" + scratchMemoryBytes,
+                "-Dresume.extraction.pdf.parallel-page-threshold=" + parallelPageThreshold,
+                "-Dresume.extraction.pdf.pages-per-chunk=" + pagesPerChunk,
+                "-Dresume.extraction.pdf.max-pages=" + maxPages,
+                "-Dresume.extraction.pdf.parallelism=" + parallelism);
+        // Runs in-process extractions, or waits on worker responses in forked mode; both are bounded by permits
+        this.taskExecutor = Executors.newCachedThreadPool(daemonThreadFactory());
+        meterRegistry.gauge("resume.extraction.runaway", runawayTasks);
+        logger.info("Text extraction runs {} with a {} ms budget per document", forked ? "in forked workers" : "in-process", timeoutMs);
+    }
+
+    /**
+     * Extracts the text of a stored file within the time and memory budget
+     *
+     * @throws ExtractionLimitExceededException if the document exceeds its budget
+     */
+    public String extract(Path file, String extension) throws IOException {
+        return forked ? extractForked(file, extension) : extractInProcess(file, extension);
+    }
+
+    private String extractInProcess(Path file, String extension) throws IOException {
+        acquireInProcessPermit(file);
+        // Set once by whichever comes first: the task finishing or the caller giving up on it
+        AtomicInteger state = new AtomicInteger(TASK_RUNNING);
+        Future<String> task;
+        try {
+            task = taskExecutor.submit(() -> {
+                try {
+                    return textExtractorRegistry.extract(file, extension);
+                } finally {
+                    if (!state.compareAndSet(TASK_RUNNING, TASK_DONE)) {
+                        runawayTasks.decrementAndGet();
+                        logger.info("Runaway extraction of {} finished", file.getFileName());
+                    }
+                    inProcessPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inProcessPermits.release();
+            throw e;
+        }
+        try {
+            return await(task, file);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof OutOfMemoryError) {
+                throw limitExceeded("memory", "Extraction of " + file.getFileName() + " ran out of memory", cause);
+            }
+            throw rethrow(cause);
+        } finally {
+            if (state.compareAndSet(TASK_RUNNING, TASK_ABANDONED)) {
+                // Interrupted but still running; it keeps its permit until it stops
+                runawayTasks.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Waits up to the time budget for an in-process slot, or refuses at once when
+     * runaway documents hold all of them
+     */
+    private void acquireInProcessPermit(Path file) throws IOException {
+        try {
+            if (runawayTasks.get() < workers && inProcessPermits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to extract " + file.getFileName(), e);
+        }
+        meterRegistry.counter("resume.extraction.limit.exceeded", "reason", "capacity").increment();
+        String message = "Extraction of " + file.getFileName() + " refused: " + runawayTasks.get()
+                + " of " + workers + " in-process extraction slots are held by runaway documents";
+        logger.warn(message);
+        throw new ExtractionCapacityExceededException(message);
+    }
+
+    private String extractForked(Path file, String extension) throws IOException {
+        // Extractors are chosen here so trials and content routing follow this process's configuration
+        List<TextExtractor> candidates = textExtractorRegistry.plan(file, extension);
+        if (candidates.isEmpty()) {
+            logger.warn("Unsupported file type for text extraction: {}", extension);
+            return "";
+        }
+        String plan = candidates.stream().map(TextExtractor::name).collect(Collectors.joining(","));
+
+        WorkerProcess worker = acquireWorker();
+        boolean reusable = false;
+        try {
+            Future<TextExtractorRegistry.ExtractionResult> task =
+                    taskExecutor.submit(() -> worker.extract(extension, file.toAbsolutePath().toString(), plan));
+            TextExtractorRegistry.ExtractionResult result = await(task, file);
+            reusable = true;
+            textExtractorRegistry.record(result.extractor(), extension.toLowerCase(Locale.ROOT), result.elapsedNanos(), true);
+            return result.text();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof WorkerExtractionException) {
+                // The worker is fine, the document just could not be parsed
+                reusable = true;
+                throw new IOException(cause.getMessage(), cause);
+            }
+            int exitCode = worker.awaitExit();
+            throw limitExceeded("memory", "Extraction worker for " + file.getFileName() + " exited with code " + exitCode
+                    + " (heap budget " + workerHeapMb + " MB)", cause);
+        } finally {
+            releaseWorker(worker, reusable);
+        }
+    }
+
+    /**
+     * Waits for an extraction task for at most the wall-clock budget
+     */
+    private <T> T await(Future<T> task, Path file) throws IOException, ExecutionException {
+        try {
+            return task.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw limitExceeded("timeout", "Extraction of " + file.getFileName() + " exceeded the " + timeoutMs + " ms time budget", e);
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting " + file.getFileName(), e);
+        }
+    }
+
+    private ExtractionLimitExceededException limitExceeded(String reason, String message, Throwable cause) {
+        meterRegistry.counter("resume.extraction.limit.exceeded", "reason", reason).increment();
+        logger.warn(message);
+        return new ExtractionLimitExceededException(message, cause);
+    }
+
+    private static IOException rethrow(Throwable cause) {
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+
+    private WorkerProcess acquireWorker() throws IOException {
+        try {
+            workerPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for an extraction worker", e);
+        }
+        WorkerProcess worker = idleWorkers.poll();
+        if (worker != null && worker.isAlive()) {
+            return worker;
+        }
+        if (worker != null) {
+            worker.destroy();
+        }
+        try {
+            return startWorker();
+        } catch (IOException | RuntimeException e) {
+            workerPermits.release();
+            throw e;
+        }
+    }
+
+    private void releaseWorker(WorkerProcess worker, boolean reusable) {
+        try {
+            if (reusable && !shuttingDown && worker.isAlive() && worker.documents < documentsPerWorker) {
+                idleWorkers.offer(worker);
+            } else {
+                worker.destroy();
+            }
+        } finally {
+            workerPermits.release();
+        }
+    }
+
+    private WorkerProcess startWorker() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx" + workerHeapMb + "m");
+        command.add("-XX:+ExitOnOutOfMemoryError");
+        command.add("-Djava.awt.headless=true");
+        command.addAll(workerSystemProperties);
+
+        String classPath = System.getProperty("java.class.path");
+        command.add("-cp");
+        command.add(classPath);
+        if (isExecutableArchive(classPath)) {
+            // Inside a Spring Boot fat jar the application classes are nested under BOOT-INF
+            command.add("-Dloader.main=" + ExtractionWorker.class.getName());
+            command.add(PROPERTIES_LAUNCHER);
+        } else {
+            command.add(ExtractionWorker.class.getName());
+        }
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        logger.info("Started extraction worker pid {}", process.pid());
+        return new WorkerProcess(process);
+    }
+
+    private static boolean isExecutableArchive(String classPath) {
+        if (classPath.contains(File.pathSeparator) || !classPath.endsWith(".jar")) {
+            return false;
+        }
+        try (JarFile jar = new JarFile(classPath)) {
+            return jar.getEntry("BOOT-INF/classes/") != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        WorkerProcess worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.destroy();
+        }
+        taskExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "extraction-runner-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Raised when a worker answered with an extraction error rather than dying
+     */
+    private static class WorkerExtractionException extends IOException {
+        WorkerExtractionException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * One helper JVM speaking the {@link ExtractionWorker} protocol over its stdin and stdout
+     */
+    private static class WorkerProcess {
+        private final Process process;
+        private final DataOutputStream requests;
+        private final DataInputStream responses;
+        private int documents;
+
+        WorkerProcess(Process process) {
+            this.process = process;
+            this.requests = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            this.responses = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+        }
+
+        TextExtractorRegistry.ExtractionResult extract(String extension, String path, String plan) throws IOException {
+            documents++;
+            requests.writeUTF(extension);
+            requests.writeUTF(path);
+            requests.writeUTF(plan);
+            requests.flush();
+
+            byte status = responses.readByte();
+            if (status == ExtractionWorker.STATUS_OK) {
+                String extractor = responses.readUTF();
+                long elapsedNanos = responses.readLong();
+                byte[] text = new byte[responses.readInt()];
+                responses.readFully(text);
+                return new TextExtractorRegistry.ExtractionResult(new String(text, StandardCharsets.UTF_8), extractor, elapsedNanos);
+            }
+            throw new WorkerExtractionException("Extraction failed in worker: " + responses.readUTF());
+        }
+
+        boolean isAlive() {
+            return process.isAlive();
+        }
+
+        int awaitExit() {
+            try {
+                if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                    return process.waitFor();
+                }
+                return process.exitValue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+
+        void destroy() {
+            // Closing stdin lets an idle worker exit on its own; force it in case it is busy
+            try {
+                requests.close();
+            } catch (IOException ignored) {
+                // Already gone
+            }
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Entry point of a forked extraction worker JVM.
+ * Reads requests (extension, file path, comma-separated extractor names to try in
+ * order) from stdin and answers each with a status byte followed by the extractor
+ * that succeeded, its run time and the UTF-8 text, or by an error message. The worker runs with its own
+ * heap limit and exits on OutOfMemoryError, so a hostile document only takes this
+ * process down. Stdout carries the protocol only; anything else printed there is
+ * redirected to stderr.
+ */
+public final class ExtractionWorker {
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+
+    // Error messages are truncated so they always fit in writeUTF
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private ExtractionWorker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+
+        // The parent decides which extractors to run, so no preferences or trials apply here
+        TextExtractorRegistry registry = new TextExtractorRegistry(List.of(
+                new PdfTextExtractor(
+                        Long.getLong("resume.extraction.pdf.scratch-memory-bytes", 16L * 1024 * 1024),
+                        Integer.getInteger("resume.extraction.pdf.parallel-page-threshold", 24),
+                        Integer.getInteger("resume.extraction.pdf.pages-per-chunk", 8),
+                        Integer.getInteger("resume.extraction.pdf.max-pages", 200),
+                        Integer.getInteger("resume.extraction.pdf.parallelism", 1)),
+                new DocxStreamingTextExtractor(),
+                new XwpfTextExtractor(),
+                new HwpfTextExtractor(),
+                new PlainTextExtractor()),
+                new SimpleMeterRegistry(), "", "");
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+        while (true) {
+            String extension;
+            String path;
+            String plan;
+            try {
+                extension = in.readUTF();
+                path = in.readUTF();
+                plan = in.readUTF();
+            } catch (EOFException e) {
+                // Parent closed the pipe
+                return;
+            }
+
+            try {
+                TextExtractorRegistry.ExtractionResult result = registry.extract(Paths.get(path), extension,
+                        registry.byNames(Arrays.asList(plan.split(","))));
+                byte[] text = result.text().getBytes(StandardCharsets.UTF_8);
+                out.writeByte(STATUS_OK);
+                out.writeUTF(result.extractor());
+                out.writeLong(result.elapsedNanos());
+                out.writeInt(text.length);
+                out.write(text);
+            } catch (Exception e) {
+                String message = String.valueOf(e.getMessage());
+                out.writeByte(STATUS_ERROR);
+                out.writeUTF(message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message);
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks for the leading bytes of the supported document formats
+ */
+public final class FormatSignatures {
+
+    // PDF readers accept the header anywhere in the first kilobyte
+    private static final int PDF_HEADER_WINDOW = 1024;
+    private static final byte[] PDF_HEADER = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] OLE2_HEADER = {
+            (byte) 0xD0, (byte) 0xCF, (byte) 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, (byte) 0x1A, (byte) 0xE1};
+    private static final byte[] ZIP_HEADER = {'P', 'K', 3, 4};
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[] UTF_16LE_BOM = {(byte) 0xFF, (byte) 0xFE};
+    private static final byte[] UTF_16BE_BOM = {(byte) 0xFE, (byte) 0xFF};
+
+    public static final Charset WINDOWS_1252 = Charset.forName("windows-1252");
+
+    private static final int ZIP_LOCAL_HEADER_LENGTH = 30;
+    private static final int ZIP_DATA_DESCRIPTOR_FLAG = 0x08;
+    private static final String WORD_PART_PREFIX = "word/";
+
+    private FormatSignatures() {
+    }
+
+    /**
+     * Detects the format of a file from its first bytes.
+     *
+     * @return {@code pdf}, {@code doc} (any OLE2 container), {@code docx} (a zip whose
+     *         local headers within the window include a {@code word/} part), {@code zip}
+     *         (a zip whose {@code word/} parts, if any, start past the window), {@code txt},
+     *         or null when the bytes match none of these
+     */
+    public static String detectFormat(byte[] header, int length) {
+        if (isPdf(header, length)) {
+            return "pdf";
+        }
+        if (isOle2(header, length)) {
+            return "doc";
+        }
+        if (isZip(header, length)) {
+            return hasWordPartInWindow(header, length) ? "docx" : "zip";
+        }
+        if (isText(header, length)) {
+            return "txt";
+        }
+        return null;
+    }
+
+    public static boolean isPdf(byte[] header, int length) {
+        return indexOf(header, Math.min(length, PDF_HEADER_WINDOW), PDF_HEADER) >= 0;
+    }
+
+    public static boolean isOle2(byte[] header, int length) {
+        return startsWith(header, length, OLE2_HEADER);
+    }
+
+    public static boolean isZip(byte[] header, int length) {
+        return startsWith(header, length, ZIP_HEADER);
+    }
+
+    /**
+     * Whether the bytes look like text in one of the encodings {@link #textCharset} recognises
+     */
+    public static boolean isText(byte[] header, int length) {
+        return textCharset(header, length) != null;
+    }
+
+    /**
+     * The encoding of text that starts with these bytes: UTF-8 or UTF-16 when marked by a
+     * byte order mark, otherwise UTF-8 when the bytes decode as such and windows-1252 when
+     * they do not but use only characters defined in that code page. Text may contain no
+     * control characters other than whitespace, which is what tells it apart from binary
+     * formats. A character cut off at the end of the header is accepted.
+     *
+     * @return the charset, or null if the bytes are not text
+     */
+    public static Charset textCharset(byte[] header, int length) {
+        if (length == 0) {
+            return StandardCharsets.UTF_8;
+        }
+        if (startsWith(header, length, UTF_16LE_BOM)) {
+            return isUtf16Text(header, length, StandardCharsets.UTF_16LE) ? StandardCharsets.UTF_16LE : null;
+        }
+        if (startsWith(header, length, UTF_16BE_BOM)) {
+            return isUtf16Text(header, length, StandardCharsets.UTF_16BE) ? StandardCharsets.UTF_16BE : null;
+        }
+        for (int i = 0; i < length; i++) {
+            if (isControl(header[i] & 0xFF)) {
+                return null;
+            }
+        }
+        if (decodes(header, 0, length, StandardCharsets.UTF_8, 4)) {
+            return StandardCharsets.UTF_8;
+        }
+        if (startsWith(header, length, UTF_8_BOM)) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            if (isUndefinedInWindows1252(header[i] & 0xFF)) {
+                return null;
+            }
+        }
+        return WINDOWS_1252;
+    }
+
+    private static boolean isUtf16Text(byte[] header, int length, Charset charset) {
+        int bodyLength = (length - 2) & ~1;
+        if (!decodes(header, 2, bodyLength, charset, 2)) {
+            return false;
+        }
+        String text = new String(header, 2, bodyLength, charset);
+        for (int i = 0; i < text.length(); i++) {
+            if (isControl(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the bytes decode without errors, allowing fewer than {@code maxCutOff}
+     * bytes of a sequence cut off at the end
+     */
+    private static boolean decodes(byte[] data, int offset, int length, Charset charset, int maxCutOff) {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer in = ByteBuffer.wrap(data, offset, length);
+        CharBuffer out = CharBuffer.allocate(length);
+        CoderResult result = decoder.decode(in, out, false);
+        return !result.isError() && in.remaining() < maxCutOff;
+    }
+
+    private static boolean isControl(int c) {
+        return c < 0x20 && c != '\t' && c != '\n' && c != '\r' && c != '\f';
+    }
+
+    private static boolean isUndefinedInWindows1252(int b) {
+        return b == 0x81 || b == 0x8D || b == 0x8F || b == 0x90 || b == 0x9D;
+    }
+
+    /**
+     * Walks the zip local file headers that fit in the window looking for a {@code word/}
+     * entry. Entries whose size is only known from a trailing data descriptor end the walk.
+     */
+    private static boolean hasWordPartInWindow(byte[] header, int length) {
+        int offset = 0;
+        while (offset + ZIP_LOCAL_HEADER_LENGTH <= length
+                && header[offset] == 'P' && header[offset + 1] == 'K' && header[offset + 2] == 3 && header[offset + 3] == 4) {
+            int flags = readShort(header, offset + 6);
+            long compressedSize = readInt(header, offset + 18);
+            int nameLength = readShort(header, offset + 26);
+            int extraLength = readShort(header, offset + 28);
+            int nameStart = offset + ZIP_LOCAL_HEADER_LENGTH;
+            if (nameStart + nameLength > length) {
+                return false;
+            }
+            String name = new String(header, nameStart, nameLength, StandardCharsets.UTF_8);
+            if (name.startsWith(WORD_PART_PREFIX)) {
+                return true;
+            }
+            if ((flags & ZIP_DATA_DESCRIPTOR_FLAG) != 0 && compressedSize == 0) {
+                return false;
+            }
+            long next = (long) nameStart + nameLength + extraLength + compressedSize;
+            if (next > length) {
+                return false;
+            }
+            offset = (int) next;
+        }
+        return false;
+    }
+
+    private static int readShort(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+    }
+
+    private static long readInt(byte[] data, int offset) {
+        return readShort(data, offset) | (long) readShort(data, offset + 2) << 16;
+    }
+
+    static int indexOf(byte[] data, int length, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(byte[] data, int length, byte[] prefix) {
+        if (length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.apache.poi.hwpf.HWPFDocument;
+import org.apache.poi.hwpf.extractor.WordExtractor;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.springframework.stereotype.Component;
+
+/**
+ * Legacy Word (.doc) text extraction through POI's HWPF
+ */
+@Component
+public class HwpfTextExtractor implements TextExtractor {
+
+    @Override
+    public String name() {
+        return "hwpf";
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("doc");
+    }
+
+    @Override
+    public boolean matchesSignature(byte[] header, int length) {
+        return FormatSignatures.isOle2(header, length);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return false;
+    }
+
+    @Override
+    public double relativeCost() {
+        return 6.0;
+    }
+
+    /**
+     * Extracts text from DOC file. The OLE2 container is opened directly from
+     * the file rather than copied into memory from a stream.
+     */
+    @Override
+    public String extract(Path file) throws IOException {
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file.toFile(), true);
+             HWPFDocument document = new HWPFDocument(fileSystem);
+             WordExtractor extractor = new WordExtractor(document)) {
+            return extractor.getText();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * PDF text extraction with bounded memory use.
+ * Documents are opened through PDFBox's file-backed reader and decoded streams are
+ * cached in a mixed memory/scratch-file cache limited to a fixed number of bytes per
+ * document. Large documents are split into page ranges that are stripped in parallel,
+ * each range on its own {@link PDDocument} because PDFBox documents are not thread-safe,
+ * and the range texts are joined in page order. The per-document memory limit is then
+ * shared by the documents open at the same time.
+ * <p>
+ * Stripping checks between pages whether the extraction was abandoned, because PDFBox
+ * ignores interrupts: once the calling thread is interrupted or one range fails, the
+ * other ranges stop at their next page.
+ */
+@Component
+public class PdfTextExtractor implements TextExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfTextExtractor.class);
+
+    private final long scratchMemoryBytes;
+    private final int parallelPageThreshold;
+    private final int pagesPerChunk;
+    private final int maxPages;
+    private final int threads;
+    private final ExecutorService pageExecutor;
+
+    public PdfTextExtractor(@Value("${resume.extraction.pdf.scratch-memory-bytes}") long scratchMemoryBytes,
+                            @Value("${resume.extraction.pdf.parallel-page-threshold}") int parallelPageThreshold,
+                            @Value("${resume.extraction.pdf.pages-per-chunk}") int pagesPerChunk,
+                            @Value("${resume.extraction.pdf.max-pages}") int maxPages,
+                            @Value("${resume.extraction.pdf.parallelism}") int parallelism) {
+        this.scratchMemoryBytes = scratchMemoryBytes;
+        this.parallelPageThreshold = parallelPageThreshold;
+        this.pagesPerChunk = Math.max(1, pagesPerChunk);
+        this.maxPages = maxPages;
+        this.threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pageExecutor = Executors.newFixedThreadPool(threads, daemonThreadFactory());
+    }
+
+    @Override
+    public String name() {
+        return "pdfbox";
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("pdf");
+    }
+
+    @Override
+    public boolean matchesSignature(byte[] header, int length) {
+        return FormatSignatures.isPdf(header, length);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return false;
+    }
+
+    @Override
+    public double relativeCost() {
+        return 10.0;
+    }
+
+    /**
+     * Extracts the text of a stored PDF
+     */
+    @Override
+    public String extract(Path file) throws IOException {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        int lastPage;
+        try (PDDocument document = load(file, scratchMemoryBytes)) {
+            int pageCount = document.getNumberOfPages();
+            lastPage = maxPages > 0 ? Math.min(pageCount, maxPages) : pageCount;
+            if (lastPage < pageCount) {
+                logger.warn("PDF {} has {} pages; extracting the first {}", file.getFileName(), pageCount, lastPage);
+            }
+
+            if (lastPage < parallelPageThreshold) {
+                return strip(document, 1, lastPage, cancelled);
+            }
+        }
+
+        // The calling thread strips the first range while the pool strips the others
+        int chunks = (lastPage + pagesPerChunk - 1) / pagesPerChunk;
+        long rangeMemoryBytes = scratchMemoryBytes / Math.min(chunks, threads + 1);
+        List<CompletableFuture<String>> ranges = new ArrayList<>();
+        for (int start = 1 + pagesPerChunk; start <= lastPage; start += pagesPerChunk) {
+            int from = start;
+            int to = Math.min(start + pagesPerChunk - 1, lastPage);
+            ranges.add(CompletableFuture.supplyAsync(
+                    () -> stripRange(file, from, to, rangeMemoryBytes, cancelled), pageExecutor));
+        }
+
+        boolean completed = false;
+        try {
+            StringBuilder text;
+            try (PDDocument document = load(file, rangeMemoryBytes)) {
+                text = new StringBuilder(strip(document, 1, Math.min(pagesPerChunk, lastPage), cancelled));
+            }
+            for (CompletableFuture<String> range : ranges) {
+                text.append(range.get());
+            }
+            completed = true;
+            return text.toString();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PdfRangeException rangeException) {
+                throw rangeException.getCause();
+            }
+            throw new IOException("PDF page range failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("PDF extraction was interrupted");
+        } finally {
+            if (!completed) {
+                cancelled.set(true);
+            }
+        }
+    }
+
+    private PDDocument load(Path file, long memoryBytes) throws IOException {
+        return Loader.loadPDF(file.toFile(), MemoryUsageSetting.setupMixed(memoryBytes).streamCache);
+    }
+
+    private String stripRange(Path file, int startPage, int endPage, long memoryBytes, AtomicBoolean cancelled) {
+        try (PDDocument document = load(file, memoryBytes)) {
+            return strip(document, startPage, endPage, cancelled);
+        } catch (IOException e) {
+            // Ranges stop at their next page once any of them fails
+            cancelled.set(true);
+            throw new PdfRangeException(e);
+        }
+    }
+
+    private static String strip(PDDocument document, int startPage, int endPage, AtomicBoolean cancelled) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper() {
+            @Override
+            protected void startPage(PDPage page) throws IOException {
+                if (cancelled.get() || Thread.currentThread().isInterrupted()) {
+                    cancelled.set(true);
+                    throw new InterruptedIOException("PDF extraction was cancelled");
+                }
+                super.startPage(page);
+            }
+        };
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        return stripper.getText(document);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pageExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "pdf-pages-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Carries an I/O failure of one page range out of the page pool
+     */
+    private static class PdfRangeException extends RuntimeException {
+        PdfRangeException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
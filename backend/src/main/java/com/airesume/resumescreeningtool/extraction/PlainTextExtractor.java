@@ -0,0 +1,90 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads text files line by line, in UTF-8 or UTF-16 when a byte order mark says so and
+ * otherwise in UTF-8, falling back to windows-1252 for files that are not valid UTF-8
+ */
+@Component
+public class PlainTextExtractor implements TextExtractor {
+
+    private static final int HEADER_BYTES = 4096;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    @Override
+    public String name() {
+        return "plain-text";
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("txt");
+    }
+
+    @Override
+    public boolean matchesSignature(byte[] header, int length) {
+        return FormatSignatures.isText(header, length);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public double relativeCost() {
+        return 1.0;
+    }
+
+    /**
+     * Extracts text from a TXT file, normalising line endings to the platform separator
+     * and dropping a byte order mark
+     */
+    @Override
+    public String extract(Path file) throws IOException {
+        byte[] header = new byte[HEADER_BYTES];
+        int length;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            length = inputStream.readNBytes(header, 0, header.length);
+        }
+        Charset charset = FormatSignatures.textCharset(header, length);
+        if (charset == null) {
+            charset = StandardCharsets.UTF_8;
+        }
+        try {
+            return read(file, charset);
+        } catch (CharacterCodingException e) {
+            if (!StandardCharsets.UTF_8.equals(charset)) {
+                throw e;
+            }
+            // Valid UTF-8 up front but not further on: a single-byte file with a plain ASCII start
+            return read(file, FormatSignatures.WINDOWS_1252);
+        }
+    }
+
+    private static String read(Path file, Charset charset) throws IOException {
+        StringBuilder textBuilder = new StringBuilder();
+        try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                textBuilder.append(line).append(System.lineSeparator());
+            }
+        }
+        if (!textBuilder.isEmpty() && textBuilder.charAt(0) == BYTE_ORDER_MARK) {
+            textBuilder.deleteCharAt(0);
+        }
+        return textBuilder.toString();
+    }
+}
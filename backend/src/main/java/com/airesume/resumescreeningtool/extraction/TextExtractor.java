@@ -0,0 +1,52 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Extracts plain text from one document format.
+ * Implementations are collected by {@link TextExtractorRegistry}, which picks the
+ * extractors for a file from its extension and leading bytes and orders them by
+ * configured preference and cost. Implementations must be usable without Spring, as
+ * forked extraction workers construct them directly.
+ */
+public interface TextExtractor {
+
+    /**
+     * Unique name of the extractor, used in configuration and as a metrics tag
+     */
+    String name();
+
+    /**
+     * Lower-case file extensions this extractor reads
+     */
+    Set<String> extensions();
+
+    /**
+     * Whether the first bytes of a file carry the signature of a format this extractor reads
+     *
+     * @param header the first bytes of the file
+     * @param length number of valid bytes in {@code header}
+     */
+    boolean matchesSignature(byte[] header, int length);
+
+    /**
+     * Whether text is emitted while the file is read, rather than from a document model
+     * built in memory first
+     */
+    boolean supportsStreaming();
+
+    /**
+     * Rough cost of extracting a file relative to reading plain text of the same size (1.0).
+     * Used to order extractors of the same format when no preference is configured.
+     */
+    double relativeCost();
+
+    /**
+     * Extracts the text of a stored file
+     *
+     * @throws IOException if the file cannot be read or is not a valid document of this format
+     */
+    String extract(Path file) throws IOException;
+}
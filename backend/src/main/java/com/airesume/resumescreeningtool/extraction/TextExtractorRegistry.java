@@ -0,0 +1,250 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Picks and runs the {@link TextExtractor} for a stored file.
+ * Extractors are looked up by file extension; when none of them recognises the
+ * leading bytes of the file but an extractor of another format does, the file is
+ * routed by its content instead. The candidates for a format are ordered by the
+ * configured preference, then by relative cost, streaming extractors first on a tie;
+ * if one fails the next is tried. Trials send a percentage of a format's documents
+ * to another extractor first so both can be compared on real traffic through the
+ * {@code resume.extraction.duration} timer, tagged with extractor, format and outcome.
+ * <p>
+ * Has no dependencies beyond the extractors, so the same code runs inside the
+ * application and in forked extraction workers.
+ */
+@Component
+public class TextExtractorRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextExtractorRegistry.class);
+
+    static final int HEADER_BYTES = 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TextExtractor> byName = new LinkedHashMap<>();
+    private final Map<String, List<TextExtractor>> byExtension = new HashMap<>();
+    private final List<TextExtractor> all;
+    private final Map<String, Trial> trials;
+
+    /**
+     * @param preferred comma-separated {@code extension=extractor} pairs that override the cost order
+     * @param trials    comma-separated {@code extension=extractor:percent} entries
+     */
+    public TextExtractorRegistry(List<TextExtractor> extractors,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${resume.extraction.preferred:}") String preferred,
+                                 @Value("${resume.extraction.trials:}") String trials) {
+        this.meterRegistry = meterRegistry;
+        for (TextExtractor extractor : extractors) {
+            if (byName.putIfAbsent(extractor.name(), extractor) != null) {
+                throw new IllegalStateException("Duplicate text extractor name: " + extractor.name());
+            }
+        }
+
+        Map<String, String> preferences = parsePairs(preferred);
+        preferences.forEach((extension, name) -> {
+            if (!byName.containsKey(name) || !byName.get(name).extensions().contains(extension)) {
+                throw new IllegalArgumentException("Extractor " + name + " does not handle ." + extension);
+            }
+        });
+        for (TextExtractor extractor : extractors) {
+            for (String extension : extractor.extensions()) {
+                byExtension.computeIfAbsent(extension, key -> new ArrayList<>()).add(extractor);
+            }
+        }
+        byExtension.forEach((extension, candidates) -> candidates.sort(order(preferences.get(extension))));
+        this.all = extractors.stream().sorted(order(null)).toList();
+
+        this.trials = new HashMap<>();
+        parsePairs(trials).forEach((extension, value) -> this.trials.put(extension, parseTrial(extension, value)));
+
+        byExtension.forEach((extension, candidates) -> {
+            for (TextExtractor extractor : candidates) {
+                // Registered up front so every extractor shows up before its first document
+                timer(extractor.name(), extension, "success");
+            }
+            logger.info("Text extractors for {}: {}", extension, candidates.stream().map(TextExtractor::name).toList());
+        });
+    }
+
+    /**
+     * Extracts the text of a stored file, trying the candidate extractors in order
+     *
+     * @return the text, or an empty string for formats no extractor handles
+     */
+    public String extract(Path file, String extension) throws IOException {
+        List<TextExtractor> candidates = plan(file, extension);
+        if (candidates.isEmpty()) {
+            logger.warn("Unsupported file type for text extraction: {}", extension);
+            return "";
+        }
+        return extract(file, extension, candidates).text();
+    }
+
+    /**
+     * Picks the extractors to try for a file, in order. Trials are applied here, so a
+     * plan decided in the application can be carried out in a forked worker.
+     */
+    public List<TextExtractor> plan(Path file, String extension) throws IOException {
+        String format = extension.toLowerCase(Locale.ROOT);
+        byte[] header = new byte[HEADER_BYTES];
+        int length = readHeader(file, header);
+
+        List<TextExtractor> candidates = byExtension.getOrDefault(format, List.of());
+        if (candidates.stream().noneMatch(extractor -> extractor.matchesSignature(header, length))) {
+            List<TextExtractor> detected = all.stream()
+                    .filter(extractor -> extractor.matchesSignature(header, length))
+                    .toList();
+            if (!detected.isEmpty()) {
+                logger.warn("Content of {} does not look like .{}; extracting with {}", file.getFileName(), format,
+                        detected.get(0).name());
+                candidates = detected;
+            }
+        }
+
+        Trial trial = trials.get(format);
+        if (trial != null && candidates.size() > 1 && ThreadLocalRandom.current().nextInt(100) < trial.percent()) {
+            TextExtractor challenger = byName.get(trial.extractor());
+            if (candidates.contains(challenger)) {
+                List<TextExtractor> reordered = new ArrayList<>(candidates.size());
+                reordered.add(challenger);
+                candidates.stream().filter(extractor -> extractor != challenger).forEach(reordered::add);
+                candidates = reordered;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Runs the given extractors in order until one succeeds
+     */
+    public ExtractionResult extract(Path file, String extension, List<TextExtractor> candidates) throws IOException {
+        String format = extension.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < candidates.size(); i++) {
+            TextExtractor extractor = candidates.get(i);
+            long start = System.nanoTime();
+            try {
+                String text = extractor.extract(file);
+                long elapsed = System.nanoTime() - start;
+                record(extractor.name(), format, elapsed, true);
+                return new ExtractionResult(text, extractor.name(), elapsed);
+            } catch (IOException | RuntimeException e) {
+                record(extractor.name(), format, System.nanoTime() - start, false);
+                if (i == candidates.size() - 1) {
+                    throw e;
+                }
+                logger.debug("Extractor {} failed on {}, trying {}: {}", extractor.name(), file.getFileName(),
+                        candidates.get(i + 1).name(), e.getMessage());
+            }
+        }
+        throw new IllegalArgumentException("No extractors given for " + file.getFileName());
+    }
+
+    /**
+     * Looks up extractors by name, in the given order
+     */
+    public List<TextExtractor> byNames(Collection<String> names) {
+        List<TextExtractor> extractors = new ArrayList<>(names.size());
+        for (String name : names) {
+            TextExtractor extractor = byName.get(name);
+            if (extractor == null) {
+                throw new IllegalArgumentException("Unknown text extractor: " + name);
+            }
+            extractors.add(extractor);
+        }
+        return extractors;
+    }
+
+    /**
+     * Records one extraction in the per-extractor timer
+     */
+    public void record(String extractor, String format, long elapsedNanos, boolean success) {
+        timer(extractor, format, success ? "success" : "failure").record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String extractor, String format, String outcome) {
+        return Timer.builder("resume.extraction.duration")
+                .description("Time spent extracting text from one document")
+                .tag("extractor", extractor)
+                .tag("format", format)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static int readHeader(Path file, byte[] header) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.readNBytes(header, 0, header.length);
+        }
+    }
+
+    private static Comparator<TextExtractor> order(String preferred) {
+        return Comparator.<TextExtractor>comparingInt(extractor -> extractor.name().equals(preferred) ? 0 : 1)
+                .thenComparingDouble(TextExtractor::relativeCost)
+                .thenComparing(extractor -> !extractor.supportsStreaming())
+                .thenComparing(TextExtractor::name);
+    }
+
+    private static Map<String, String> parsePairs(String value) {
+        Map<String, String> pairs = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return pairs;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected extension=value but got: " + entry.trim());
+            }
+            pairs.put(entry.substring(0, separator).trim().toLowerCase(Locale.ROOT), entry.substring(separator + 1).trim());
+        }
+        return pairs;
+    }
+
+    private Trial parseTrial(String extension, String value) {
+        int separator = value.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Expected extractor:percent for the ." + extension + " trial but got: " + value);
+        }
+        String extractor = value.substring(0, separator).trim();
+        int percent = Integer.parseInt(value.substring(separator + 1).trim());
+        if (!byName.containsKey(extractor) || !byName.get(extractor).extensions().contains(extension)) {
+            throw new IllegalArgumentException("Extractor " + extractor + " does not handle ." + extension);
+        }
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Trial percentage must be between 0 and 100: " + percent);
+        }
+        logger.info("Trying {} first for {}% of .{} documents", extractor, percent, extension);
+        return new Trial(extractor, percent);
+    }
+
+    /**
+     * Text of a document together with the extractor that produced it
+     */
+    public record ExtractionResult(String text, String extractor, long elapsedNanos) {
+    }
+
+    private record Trial(String extractor, int percent) {
+    }
+}
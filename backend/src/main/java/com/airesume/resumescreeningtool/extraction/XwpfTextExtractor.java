@@ -0,0 +1,71 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * DOCX text extraction through POI's XWPFDocument object model.
+ * Handles every construct XWPFWordExtractor knows about, at the cost of building
+ * the whole document in memory; {@link DocxStreamingTextExtractor} is tried first.
+ */
+@Component
+public class XwpfTextExtractor implements TextExtractor {
+
+    @Override
+    public String name() {
+        return "xwpf";
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("docx");
+    }
+
+    @Override
+    public boolean matchesSignature(byte[] header, int length) {
+        return FormatSignatures.isZip(header, length);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return false;
+    }
+
+    @Override
+    public double relativeCost() {
+        return 8.0;
+    }
+
+    /**
+     * Extracts text from DOCX file. The OPC package is opened read-only from the
+     * file so POI can seek to the parts it needs instead of buffering the zip.
+     */
+    @Override
+    public String extract(Path file) throws IOException {
+        OPCPackage opcPackage;
+        try {
+            opcPackage = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        } catch (InvalidFormatException e) {
+            throw new IOException("Invalid DOCX package: " + e.getMessage(), e);
+        }
+        XWPFDocument document;
+        try {
+            document = new XWPFDocument(opcPackage);
+        } catch (IOException | RuntimeException e) {
+            opcPackage.revert();
+            throw e;
+        }
+        // Closing the document releases the read-only package as well
+        try (document; XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+            return extractor.getText();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.airesume.resumescreeningtool.parsing;
+
+import java.util.List;
+
+/**
+ * Sections picked out of resume text. A section starts after the first occurrence
+ * of any of its header keywords (matched case-insensitively anywhere in the text),
+ * skips colons and whitespace, and runs to the end of that line plus a fixed number
+ * of following lines.
+ */
+public enum ResumeSection {
+
+    SKILLS(List.of("skills", "technical skills", "core competencies", "technologies"), false, 10, 500),
+    EDUCATION(List.of("education", "academic", "qualification"), false, 5, 300),
+    WORK_EXPERIENCE(List.of("experience", "work experience", "employment", "professional experience"), false, 15, 1000),
+    CERTIFICATIONS(List.of("certification", "certificate", "license"), true, 8, 500);
+
+    private final List<String> keywords;
+    private final boolean optionalPlural;
+    private final int extraLines;
+    private final int maxLength;
+
+    ResumeSection(List<String> keywords, boolean optionalPlural, int extraLines, int maxLength) {
+        this.keywords = keywords;
+        this.optionalPlural = optionalPlural;
+        this.extraLines = extraLines;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Header keywords in lower case, in order of preference at the same position
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Whether a trailing "s" after the keyword belongs to the header
+     */
+    public boolean isOptionalPlural() {
+        return optionalPlural;
+    }
+
+    /**
+     * Number of lines after the header line that belong to the section
+     */
+    public int getExtraLines() {
+        return extraLines;
+    }
+
+    /**
+     * Maximum length of the stored section text before it is cut off with "..."
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
@@ -0,0 +1,236 @@
+package com.airesume.resumescreeningtool.parsing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits resume text into {@link ResumeSection}s and finds years-of-experience
+ * mentions in a single left-to-right pass.
+ * <p>
+ * Header keywords are looked up through a table indexed by the first character, so
+ * each position of the text is compared against only the few keywords that can start
+ * there; sections are reported as offsets into the original string. The results are
+ * the same as the first match of the per-section patterns
+ * {@code (?:keyword|...)[:\s]*([^\n\r]*(?:\n[^\n\r]*){0,lines})} and all matches of
+ * {@code (\d+)\s*\+?\s*year[s]?\s*(of\s*)?(experience|exp)}, matched ASCII
+ * case-insensitively like {@link java.util.regex.Pattern#CASE_INSENSITIVE}.
+ * <p>
+ * The pass is linear in the text, and section content is only read in a window after
+ * each header when it is asked for, so a section on a multi-megabyte line costs no more
+ * than its stored length. Each document still gets a budget of characters and time:
+ * once either runs out, or the thread is interrupted, scanning stops and the result
+ * covers the text scanned so far and reports why it was cut short.
+ * <p>
+ * Stateless and thread-safe.
+ */
+@Component
+public class ResumeSectionSegmenter {
+
+    private static final ResumeSection[] SECTIONS = ResumeSection.values();
+
+    // Characters scanned between checks of the time budget and the interrupt flag
+    private static final int CHECK_INTERVAL = 8192;
+
+    // Header keywords by the lower-case ASCII letter they start with
+    private final Keyword[][] keywordsByFirstChar = new Keyword[128][];
+
+    private final int maxChars;
+    private final long timeoutNanos;
+
+    /**
+     * Segmenter without a budget, scanning whole texts
+     */
+    public ResumeSectionSegmenter() {
+        this(Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * @param maxChars  characters scanned per document
+     * @param timeoutMs time allowed per document; 0 for no limit
+     */
+    @Autowired
+    public ResumeSectionSegmenter(@Value("${resume.parsing.max-chars}") int maxChars,
+                                  @Value("${resume.parsing.timeout-ms}") long timeoutMs) {
+        if (maxChars <= 0 || timeoutMs < 0) {
+            throw new IllegalArgumentException("Invalid parsing budget: " + maxChars + " chars, " + timeoutMs + " ms");
+        }
+        this.maxChars = maxChars;
+        this.timeoutNanos = timeoutMs * 1_000_000L;
+        List<List<Keyword>> table = new ArrayList<>(128);
+        for (int c = 0; c < 128; c++) {
+            table.add(new ArrayList<>());
+        }
+        for (ResumeSection section : SECTIONS) {
+            for (String keyword : section.getKeywords()) {
+                table.get(keyword.charAt(0)).add(new Keyword(section, keyword));
+            }
+        }
+        for (int c = 0; c < 128; c++) {
+            List<Keyword> keywords = table.get(c);
+            keywordsByFirstChar[c] = keywords.isEmpty() ? null : keywords.toArray(new Keyword[0]);
+        }
+    }
+
+    /**
+     * Finds the sections and the largest years-of-experience figure in the text
+     */
+    public ResumeSections segment(String text) {
+        long started = System.nanoTime();
+        int length = Math.min(text.length(), maxChars);
+        ResumeSections.Truncation truncation = length < text.length() ? ResumeSections.Truncation.SIZE : null;
+        int[] starts = new int[SECTIONS.length];
+        Arrays.fill(starts, -1);
+        int sectionsLeft = SECTIONS.length;
+
+        int maxYears = 0;
+        boolean yearsOverflow = false;
+
+        int i = 0;
+        int nextCheck = CHECK_INTERVAL;
+        while (i < length) {
+            if (i >= nextCheck) {
+                nextCheck = i + CHECK_INTERVAL;
+                if (Thread.currentThread().isInterrupted()) {
+                    truncation = ResumeSections.Truncation.INTERRUPTED;
+                    length = i;
+                    break;
+                }
+                if (timeoutNanos > 0 && System.nanoTime() - started > timeoutNanos) {
+                    truncation = ResumeSections.Truncation.TIME;
+                    length = i;
+                    break;
+                }
+            }
+            char c = text.charAt(i);
+
+            if (isDigit(c)) {
+                // A digit run is always scanned from its first digit
+                int digitsEnd = i;
+                long value = 0;
+                boolean overflow = false;
+                while (digitsEnd < text.length() && isDigit(text.charAt(digitsEnd))) {
+                    if (!overflow) {
+                        value = value * 10 + (text.charAt(digitsEnd) - '0');
+                        overflow = value > Integer.MAX_VALUE;
+                    }
+                    digitsEnd++;
+                }
+                if (isYearsOfExperience(text, digitsEnd)) {
+                    if (overflow) {
+                        yearsOverflow = true;
+                    } else {
+                        maxYears = Math.max(maxYears, (int) value);
+                    }
+                }
+                // Digits never start a section header
+                i = digitsEnd;
+                continue;
+            }
+
+            if (sectionsLeft > 0) {
+                int lower = asciiLower(c);
+                Keyword[] candidates = lower < 128 ? keywordsByFirstChar[lower] : null;
+                if (candidates != null) {
+                    for (Keyword candidate : candidates) {
+                        int ordinal = candidate.section.ordinal();
+                        if (starts[ordinal] >= 0 || !regionMatches(text, i, candidate.text)) {
+                            continue;
+                        }
+                        int headerEnd = i + candidate.text.length();
+                        if (candidate.section.isOptionalPlural() && headerEnd < text.length() && asciiLower(text.charAt(headerEnd)) == 's') {
+                            headerEnd++;
+                        }
+                        starts[ordinal] = skipSeparators(text, headerEnd);
+                        sectionsLeft--;
+                    }
+                }
+            }
+            i++;
+        }
+
+        Integer years = yearsOverflow || maxYears == 0 ? null : maxYears;
+        return new ResumeSections(text, starts, years, Math.min(i, length), truncation);
+    }
+
+    /**
+     * Whether the text after a number reads {@code \s*\+?\s*year[s]?\s*(of\s*)?(experience|exp)}.
+     * None of the optional parts can be given back to let a later part match, so a
+     * greedy scan decides it.
+     */
+    private static boolean isYearsOfExperience(String text, int position) {
+        int i = skipWhitespace(text, position);
+        if (i < text.length() && text.charAt(i) == '+') {
+            i++;
+        }
+        i = skipWhitespace(text, i);
+        if (!regionMatches(text, i, "year")) {
+            return false;
+        }
+        i += 4;
+        if (i < text.length() && asciiLower(text.charAt(i)) == 's') {
+            i++;
+        }
+        i = skipWhitespace(text, i);
+        if (regionMatches(text, i, "of")) {
+            i = skipWhitespace(text, i + 2);
+        }
+        return regionMatches(text, i, "exp");
+    }
+
+    /**
+     * Skips the {@code [:\s]*} run between a header and its content
+     */
+    private static int skipSeparators(String text, int position) {
+        int i = position;
+        while (i < text.length() && (text.charAt(i) == ':' || isWhitespace(text.charAt(i)))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(String text, int position) {
+        int i = position;
+        while (i < text.length() && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Case-insensitive comparison with a lower-case ASCII keyword, folding only A-Z
+     */
+    private static boolean regionMatches(String text, int offset, String keyword) {
+        if (offset + keyword.length() > text.length()) {
+            return false;
+        }
+        for (int k = 0; k < keyword.length(); k++) {
+            if (asciiLower(text.charAt(offset + k)) != keyword.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int asciiLower(char c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * The {@code \s} class of java.util.regex without UNICODE_CHARACTER_CLASS
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private record Keyword(ResumeSection section, String text) {
+    }
+}
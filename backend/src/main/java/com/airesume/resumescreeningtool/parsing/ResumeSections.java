@@ -0,0 +1,156 @@
+package com.airesume.resumescreeningtool.parsing;
+
+/**
+ * Result of {@link ResumeSectionSegmenter#segment(String)}: the sections found in a
+ * resume as offsets into the original text, plus the largest years-of-experience
+ * figure mentioned
+ */
+public final class ResumeSections {
+
+    private static final String TRUNCATION_MARKER = "...";
+
+    /**
+     * Why the segmenter stopped before the end of the text
+     */
+    public enum Truncation {
+        // The text is longer than the per-document character budget
+        SIZE,
+        // The per-document time budget ran out
+        TIME,
+        // The parsing thread was interrupted
+        INTERRUPTED
+    }
+
+    private final String text;
+    private final int[] starts;
+    private final Integer yearsOfExperience;
+    private final int scannedLength;
+    private final Truncation truncation;
+
+    ResumeSections(String text, int[] starts, Integer yearsOfExperience, int scannedLength, Truncation truncation) {
+        this.text = text;
+        this.starts = starts;
+        this.yearsOfExperience = yearsOfExperience;
+        this.scannedLength = scannedLength;
+        this.truncation = truncation;
+    }
+
+    /**
+     * Largest number of years in mentions like "5+ years of experience", or null if none
+     */
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    /**
+     * Number of leading characters of the text that were searched for headers and
+     * experience mentions; the whole text unless the scan was truncated
+     */
+    public int getScannedLength() {
+        return scannedLength;
+    }
+
+    public boolean isTruncated() {
+        return truncation != null;
+    }
+
+    /**
+     * Why the scan stopped early, or null if it covered the whole text
+     */
+    public Truncation getTruncation() {
+        return truncation;
+    }
+
+    public boolean contains(ResumeSection section) {
+        return starts[section.ordinal()] >= 0;
+    }
+
+    /**
+     * Offset of the first content character of a section, or -1 if the section was not found
+     */
+    public int start(ResumeSection section) {
+        return starts[section.ordinal()];
+    }
+
+    /**
+     * Offset just past the last character of a section, or -1 if the section was not found.
+     * The section runs to the end of its first line plus up to the section's number of
+     * extra lines, each starting with {@code \n}; a {@code \r} ends it.
+     */
+    public int end(ResumeSection section) {
+        if (!contains(section)) {
+            return -1;
+        }
+        int i = endOfLine(starts[section.ordinal()]);
+        for (int line = 0; line < section.getExtraLines() && i < text.length() && text.charAt(i) == '\n'; line++) {
+            i = endOfLine(i + 1);
+        }
+        return i;
+    }
+
+    /**
+     * Section content with whitespace runs collapsed to single spaces, trimmed, and
+     * cut off at the section's maximum length; null if the section was not found.
+     * <p>
+     * Only reads as far into the section as needed to tell whether the content is cut
+     * off, which is the same as collapsing, trimming and cutting the whole section.
+     */
+    public String value(ResumeSection section) {
+        if (!contains(section)) {
+            return null;
+        }
+        int maxLength = section.getMaxLength();
+        int linesLeft = section.getExtraLines();
+
+        StringBuilder collapsed = new StringBuilder(Math.min(text.length() - starts[section.ordinal()], maxLength));
+        boolean inWhitespace = false;
+        for (int i = starts[section.ordinal()]; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\r' || (c == '\n' && linesLeft-- == 0)) {
+                break;
+            }
+            boolean whitespace = ResumeSectionSegmenter.isWhitespace(c);
+            if (collapsed.length() == maxLength) {
+                // Full: anything visible still to come means the trimmed content is longer
+                if (!whitespace && c > ' ') {
+                    return collapsed + TRUNCATION_MARKER;
+                }
+                continue;
+            }
+            if (whitespace) {
+                inWhitespace = true;
+                continue;
+            }
+            if (inWhitespace) {
+                // Same bounds as String.trim(), which also drops other control characters
+                if (collapsed.length() > 0) {
+                    collapsed.append(' ');
+                }
+                inWhitespace = false;
+                if (collapsed.length() == maxLength) {
+                    if (c > ' ') {
+                        return collapsed + TRUNCATION_MARKER;
+                    }
+                    continue;
+                }
+            }
+            if (collapsed.length() > 0 || c > ' ') {
+                collapsed.append(c);
+            }
+        }
+
+        int to = collapsed.length();
+        while (to > 0 && collapsed.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return collapsed.substring(0, to);
+    }
+
+    private int endOfLine(int position) {
+        int i = position;
+        while (i < text.length() && text.charAt(i) != '\n' && text.charAt(i) != '\r') {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,330 @@
+package com.airesume.resumescreeningtool.parsing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dictionary of skills with their synonyms, compiled into an Aho-Corasick automaton.
+ * <p>
+ * Every display name and synonym is a term; terms are lower-cased and their whitespace
+ * collapsed to single spaces. The automaton is completed into a DFA over the characters
+ * that occur in any term, so {@link #match(String)} reads each character of the text
+ * once with a single table lookup, whatever the size of the dictionary. A term only
+ * counts when it stands as a whole word, i.e. it is not directly preceded or followed
+ * by a letter or digit.
+ * <p>
+ * The dictionary file holds one skill per line as {@code id,display name,synonym|synonym};
+ * blank lines and lines starting with {@code #} are skipped. A fourth field of
+ * {@code synonyms-only} keeps a display name that is also an ordinary word, such as Go,
+ * from being matched in text; it still resolves. Immutable and thread-safe.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillDictionary.class);
+
+    // Single letters such as "c" or "r" match too much ordinary text to be useful
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private static final String SYNONYMS_ONLY = "synonyms-only";
+
+    private final Map<String, String> displayNames;
+    private final Map<String, String> skillIdsByTerm;
+
+    // Automaton: symbols are indexes into the alphabet of term characters
+    private final int[] asciiSymbols = new int[128];
+    private final Map<Character, Integer> otherSymbols = new HashMap<>();
+    private final int[][] transitions;
+    private final int[][] outputs;
+    private final String[] termSkillIds;
+    private final int[] termLengths;
+    private final int maxTermLength;
+
+    @Autowired
+    public SkillDictionary(@Value("${resume.skills.dictionary}") Resource dictionary) {
+        this(read(dictionary));
+        logger.info("Loaded {} skills with {} terms from {}", displayNames.size(), skillIdsByTerm.size(), dictionary.getDescription());
+    }
+
+    /**
+     * Compiles a dictionary from skill entries
+     */
+    public SkillDictionary(List<Skill> skills) {
+        Map<String, String> names = new LinkedHashMap<>();
+        Map<String, String> terms = new LinkedHashMap<>();
+        Map<String, String> matchedTerms = new LinkedHashMap<>();
+        for (Skill skill : skills) {
+            if (names.putIfAbsent(skill.id(), skill.displayName()) != null) {
+                throw new IllegalArgumentException("Duplicate skill id: " + skill.id());
+            }
+            List<String> skillTerms = new ArrayList<>(skill.synonyms());
+            skillTerms.add(0, skill.displayName());
+            for (int i = 0; i < skillTerms.size(); i++) {
+                String normalized = normalize(skillTerms.get(i));
+                if (normalized.length() < MIN_TERM_LENGTH) {
+                    continue;
+                }
+                String existing = terms.putIfAbsent(normalized, skill.id());
+                if (existing != null && !existing.equals(skill.id())) {
+                    throw new IllegalArgumentException("Term '" + normalized + "' is listed for both " + existing + " and " + skill.id());
+                }
+                if (i > 0 || skill.matchDisplayName()) {
+                    matchedTerms.put(normalized, skill.id());
+                }
+            }
+        }
+        this.displayNames = Collections.unmodifiableMap(names);
+        this.skillIdsByTerm = Collections.unmodifiableMap(terms);
+
+        // Alphabet of every character used by a term
+        Arrays.fill(asciiSymbols, -1);
+        int alphabetSize = 0;
+        for (String term : matchedTerms.keySet()) {
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                if (symbol(c) < 0) {
+                    if (c < 128) {
+                        asciiSymbols[c] = alphabetSize++;
+                    } else {
+                        otherSymbols.put(c, alphabetSize++);
+                    }
+                }
+            }
+        }
+
+        // Trie of all terms
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> ownOutputs = new ArrayList<>();
+        trie.add(newState(alphabetSize));
+        ownOutputs.add(new ArrayList<>());
+        termSkillIds = new String[matchedTerms.size()];
+        termLengths = new int[matchedTerms.size()];
+        int termIndex = 0;
+        int longest = 0;
+        for (Map.Entry<String, String> entry : matchedTerms.entrySet()) {
+            String term = entry.getKey();
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                int symbol = symbol(term.charAt(i));
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newState(alphabetSize));
+                    ownOutputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[symbol];
+            }
+            ownOutputs.get(state).add(termIndex);
+            termSkillIds[termIndex] = entry.getValue();
+            termLengths[termIndex] = term.length();
+            longest = Math.max(longest, term.length());
+            termIndex++;
+        }
+        this.maxTermLength = Math.max(1, longest);
+
+        // Breadth-first: failure links, then missing transitions filled in from the failure state
+        int stateCount = trie.size();
+        transitions = trie.toArray(new int[0][]);
+        outputs = new int[stateCount][];
+        int[] failure = new int[stateCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        outputs[0] = toArray(ownOutputs.get(0));
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int child = transitions[0][symbol];
+            if (child < 0) {
+                transitions[0][symbol] = 0;
+            } else {
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = concat(toArray(ownOutputs.get(state)), outputs[failure[state]]);
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int child = transitions[state][symbol];
+                if (child < 0) {
+                    transitions[state][symbol] = transitions[failure[state]][symbol];
+                } else {
+                    failure[child] = transitions[failure[state]][symbol];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the skills mentioned anywhere in a text
+     *
+     * @return skill ids in order of first mention
+     */
+    public Set<String> match(String text) {
+        return match(text, text == null ? 0 : text.length());
+    }
+
+    /**
+     * Finds the skills mentioned in the first {@code limit} characters of a text
+     *
+     * @return skill ids in order of first mention
+     */
+    public Set<String> match(String text, int limit) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return found;
+        }
+        int end = Math.min(limit, text.length());
+
+        // Text offsets of the most recent normalized characters, to find where a match started
+        int[] offsets = new int[maxTermLength];
+        long position = 0;
+        int state = 0;
+        boolean previousWhitespace = false;
+        for (int i = 0; i < end; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (previousWhitespace) {
+                    continue;
+                }
+                previousWhitespace = true;
+                c = ' ';
+            } else {
+                previousWhitespace = false;
+                c = Character.toLowerCase(c);
+            }
+            offsets[(int) (position % maxTermLength)] = i;
+            position++;
+
+            int symbol = symbol(c);
+            state = symbol < 0 ? 0 : transitions[state][symbol];
+            for (int term : outputs[state]) {
+                int start = offsets[(int) ((position - termLengths[term]) % maxTermLength)];
+                if (isWordBoundary(text, start - 1) && isWordBoundary(text, i + 1)) {
+                    found.add(termSkillIds[term]);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Looks up the skill id for an id, display name or synonym
+     */
+    public Optional<String> resolve(String term) {
+        if (term == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(term);
+        if (displayNames.containsKey(normalized)) {
+            return Optional.of(normalized);
+        }
+        return Optional.ofNullable(skillIdsByTerm.get(normalized));
+    }
+
+    public String getDisplayName(String skillId) {
+        return displayNames.get(skillId);
+    }
+
+    public int size() {
+        return displayNames.size();
+    }
+
+    private int symbol(char c) {
+        if (c < 128) {
+            return asciiSymbols[c];
+        }
+        Integer symbol = otherSymbols.get(c);
+        return symbol != null ? symbol : -1;
+    }
+
+    private static boolean isWordBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static String normalize(String term) {
+        return term.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static int[] newState(int alphabetSize) {
+        int[] state = new int[alphabetSize];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static List<Skill> read(Resource dictionary) {
+        List<Skill> skills = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                if (fields.length < 2 || fields[0].isBlank() || fields[1].isBlank()) {
+                    throw new IllegalArgumentException("Invalid skill entry on line " + lineNumber + " of "
+                            + dictionary.getDescription() + ": " + line);
+                }
+                List<String> synonyms = new ArrayList<>();
+                if (fields.length > 2) {
+                    for (String synonym : fields[2].split("\\|")) {
+                        if (!synonym.isBlank()) {
+                            synonyms.add(synonym);
+                        }
+                    }
+                }
+                boolean matchDisplayName = fields.length < 4 || !SYNONYMS_ONLY.equals(fields[3].trim());
+                skills.add(new Skill(fields[0].trim().toLowerCase(Locale.ROOT), fields[1].trim(), synonyms, matchDisplayName));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read skill dictionary " + dictionary.getDescription(), e);
+        }
+        return skills;
+    }
+
+    /**
+     * One dictionary entry
+     *
+     * @param matchDisplayName false if only the synonyms are matched in text
+     */
+    public record Skill(String id, String displayName, List<String> synonyms, boolean matchDisplayName) {
+
+        public Skill(String id, String displayName, List<String> synonyms) {
+            this(id, displayName, synonyms, true);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.airesume.resumescreeningtool.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.airesume.resumescreeningtool.entity.BackfillCheckpoint;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, String> {
+}
@@ -0,0 +1,14 @@
+package com.airesume.resumescreeningtool.repository;
+
+/**
+ * Projection of the candidate name and email of a resume, for building the
+ * in-memory candidate lookup without loading resume text.
+ */
+public interface CandidateContactView {
+
+    Long getId();
+
+    String getCandidateName();
+
+    String getCandidateEmail();
+}
@@ -0,0 +1,11 @@
+package com.airesume.resumescreeningtool.repository;
+
+/**
+ * Projection of a resume id and the trigram similarity of its candidate to a lookup query.
+ */
+public interface CandidateMatchView {
+
+    Long getId();
+
+    Float getSimilarity();
+}
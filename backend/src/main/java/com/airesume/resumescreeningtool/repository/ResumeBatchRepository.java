@@ -0,0 +1,255 @@
+package com.airesume.resumescreeningtool.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC batch operations for resumes. Resume IDs use identity columns, which
+ * stop Hibernate from batching inserts, so bulk paths write through here instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResumeBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO resumes (candidate_name, candidate_email, candidate_phone, " +
+            "file_name, file_path, file_size, content_type, content_hash, extracted_text, years_of_experience, " +
+            "skills, education, work_experience, certifications, minhash_signature, status, job_posting_id, " +
+            "submission_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SKILL_SQL = "INSERT INTO resume_skills (resume_id, skill_id) VALUES (?, ?)";
+
+    private static final String SELECT_AFTER_SQL = "SELECT id, job_posting_id, file_path, content_hash, extracted_text FROM resumes " +
+            "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_IDS_WITH_TEXT_AFTER_SQL = "SELECT id FROM resumes " +
+            "WHERE id > ? AND extracted_text IS NOT NULL ORDER BY id LIMIT ?";
+
+    // Text is only selected where the signature is missing or was computed with another number of hashes
+    private static final String SELECT_SIGNATURES_AFTER_SQL = "SELECT id, job_posting_id, minhash_signature, " +
+            "CASE WHEN minhash_signature IS NULL OR OCTET_LENGTH(minhash_signature) <> ? THEN extracted_text END " +
+            "AS extracted_text FROM resumes WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_PARSED_SQL = "UPDATE resumes SET years_of_experience = ?, skills = ?, " +
+            "education = ?, work_experience = ?, certifications = ?, minhash_signature = ?, updated_at = ? WHERE id = ?";
+
+    private static final String UPDATE_SIGNATURE_SQL = "UPDATE resumes SET minhash_signature = ? WHERE id = ?";
+
+    private static final String UPDATE_NEAR_DUPLICATE_SQL = "UPDATE resumes SET near_duplicate_of = ? WHERE id = ?";
+
+    private static final String UPDATE_TEXT_SQL = "UPDATE resumes SET extracted_text = ? WHERE id = ?";
+
+    private static final String DELETE_SKILLS_SQL = "DELETE FROM resume_skills WHERE resume_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts resumes in JDBC batches and sets the generated IDs on the given entities,
+     * followed by their skill ids
+     */
+    public void insertAll(List<Resume> resumes, int batchSize) {
+        for (int from = 0; from < resumes.size(); from += batchSize) {
+            List<Resume> batch = resumes.subList(from, Math.min(from + batchSize, resumes.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bindInsert(ps, batch.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < batch.size() && i < keys.size(); i++) {
+                Object id = keys.get(i).values().iterator().next();
+                batch.get(i).setId(((Number) id).longValue());
+            }
+            insertSkills(batch, batchSize);
+        }
+    }
+
+    /**
+     * Reads the next resumes in id order after a keyset cursor, with only the
+     * columns needed to parse or index them again; the job posting carries only its id
+     */
+    public List<Resume> findChunkAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER_SQL, (rs, rowNum) -> {
+            Resume resume = new Resume();
+            resume.setId(rs.getLong("id"));
+            JobPosting jobPosting = new JobPosting();
+            jobPosting.setId(rs.getLong("job_posting_id"));
+            resume.setJobPosting(jobPosting);
+            resume.setFilePath(rs.getString("file_path"));
+            resume.setContentHash(rs.getString("content_hash"));
+            resume.setExtractedText(rs.getString("extracted_text"));
+            return resume;
+        }, afterId, limit);
+    }
+
+    /**
+     * Reads the ids of the next resumes with extracted text in id order after a keyset cursor
+     */
+    public List<Long> findIdsWithTextAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_IDS_WITH_TEXT_AFTER_SQL, Long.class, afterId, limit);
+    }
+
+    /**
+     * Writes parsed fields and skill ids of existing resumes back in JDBC batches,
+     * and their extracted text as well if it was extracted again, all in one transaction.
+     * Resumes deleted since they were read match no row and are left out.
+     *
+     * @return the resumes that were written
+     */
+    @Transactional
+    public List<Resume> updateParsedFields(List<Resume> resumes, boolean includeText, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Resume> updated = new ArrayList<>(resumes.size());
+        for (int from = 0; from < resumes.size(); from += batchSize) {
+            List<Resume> batch = resumes.subList(from, Math.min(from + batchSize, resumes.size()));
+            int[][] counts = jdbcTemplate.batchUpdate(UPDATE_PARSED_SQL, batch, batch.size(), (ps, resume) -> {
+                setNullableInt(ps, 1, resume.getYearsOfExperience());
+                ps.setString(2, resume.getSkills());
+                ps.setString(3, resume.getEducation());
+                ps.setString(4, resume.getWorkExperience());
+                ps.setString(5, resume.getCertifications());
+                ps.setBytes(6, resume.getMinhashSignature());
+                ps.setTimestamp(7, now);
+                ps.setLong(8, resume.getId());
+            });
+            List<Resume> existing = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                // Drivers may report SUCCESS_NO_INFO instead of a count; only 0 means the row is gone
+                if (counts[0][i] != 0) {
+                    existing.add(batch.get(i));
+                }
+            }
+            if (existing.isEmpty()) {
+                continue;
+            }
+            if (includeText) {
+                jdbcTemplate.batchUpdate(UPDATE_TEXT_SQL, existing, existing.size(), (ps, resume) -> {
+                    ps.setString(1, resume.getExtractedText());
+                    ps.setLong(2, resume.getId());
+                });
+            }
+            jdbcTemplate.batchUpdate(DELETE_SKILLS_SQL, existing, existing.size(), (ps, resume) -> ps.setLong(1, resume.getId()));
+            insertSkills(existing, batchSize);
+            updated.addAll(existing);
+        }
+        return updated;
+    }
+
+    /**
+     * Reads the next resumes in id order after a keyset cursor with their MinHash
+     * signatures, and their text only where the signature is missing or does not have
+     * {@code signatureBytes} bytes; the job posting carries only its id
+     */
+    public List<Resume> findSignaturesAfter(long afterId, int signatureBytes, int limit) {
+        return jdbcTemplate.query(SELECT_SIGNATURES_AFTER_SQL, (rs, rowNum) -> {
+            Resume resume = new Resume();
+            resume.setId(rs.getLong("id"));
+            JobPosting jobPosting = new JobPosting();
+            jobPosting.setId(rs.getLong("job_posting_id"));
+            resume.setJobPosting(jobPosting);
+            resume.setMinhashSignature(rs.getBytes("minhash_signature"));
+            resume.setExtractedText(rs.getString("extracted_text"));
+            return resume;
+        }, signatureBytes, afterId, limit);
+    }
+
+    /**
+     * Writes the MinHash signatures of existing resumes in JDBC batches
+     */
+    public void updateSignatures(List<Resume> resumes, int batchSize) {
+        jdbcTemplate.batchUpdate(UPDATE_SIGNATURE_SQL, resumes, batchSize, (ps, resume) -> {
+            ps.setBytes(1, resume.getMinhashSignature());
+            ps.setLong(2, resume.getId());
+        });
+    }
+
+    /**
+     * Points resumes at the resume they nearly duplicate, given as resume id to original id
+     * (null to clear the flag), in JDBC batches
+     */
+    public void updateNearDuplicates(Map<Long, Long> nearDuplicateOf, int batchSize) {
+        jdbcTemplate.batchUpdate(UPDATE_NEAR_DUPLICATE_SQL, nearDuplicateOf.entrySet(), batchSize, (ps, entry) -> {
+            setNullableLong(ps, 1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    private void insertSkills(List<Resume> resumes, int batchSize) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Resume resume : resumes) {
+            for (String skillId : resume.getSkillIds()) {
+                rows.add(new Object[] {resume.getId(), skillId});
+            }
+        }
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_SKILL_SQL, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    private void bindInsert(PreparedStatement ps, Resume resume) throws SQLException {
+        ps.setString(1, resume.getCandidateName());
+        ps.setString(2, resume.getCandidateEmail());
+        ps.setString(3, resume.getCandidatePhone());
+        ps.setString(4, resume.getFileName());
+        ps.setString(5, resume.getFilePath());
+        setNullableLong(ps, 6, resume.getFileSize());
+        ps.setString(7, resume.getContentType());
+        ps.setString(8, resume.getContentHash());
+        ps.setString(9, resume.getExtractedText());
+        setNullableInt(ps, 10, resume.getYearsOfExperience());
+        ps.setString(11, resume.getSkills());
+        ps.setString(12, resume.getEducation());
+        ps.setString(13, resume.getWorkExperience());
+        ps.setString(14, resume.getCertifications());
+        ps.setBytes(15, resume.getMinhashSignature());
+        ps.setString(16, resume.getStatus().name());
+        ps.setLong(17, resume.getJobPosting().getId());
+        ps.setTimestamp(18, Timestamp.valueOf(resume.getSubmissionDate()));
+        ps.setTimestamp(19, Timestamp.valueOf(resume.getCreatedAt()));
+        ps.setTimestamp(20, Timestamp.valueOf(resume.getUpdatedAt()));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.airesume.resumescreeningtool.repository;
+
+/**
+ * Projection of the stored file fields of a resume. Used where only the file is
+ * needed, so the extracted text and parsed sections are never loaded.
+ */
+public interface ResumeFileView {
+
+    Long getId();
+
+    String getFileName();
+
+    String getFilePath();
+
+    String getContentType();
+
+    Long getFileSize();
+
+    String getContentHash();
+}
@@ -1,10 +1,14 @@
 package com.airesume.resumescreeningtool.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +23,11 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     // Find resumes by status
     List<Resume> findByStatus(ResumeStatus status);
     
+    // Find IDs of resumes in a status that have not changed since a point in time, oldest ID first
+    @Query("SELECT r.id FROM Resume r WHERE r.status = :status AND r.updatedAt < :before ORDER BY r.id")
+    List<Long> findIdsByStatusUpdatedBefore(@Param("status") ResumeStatus status, @Param("before") LocalDateTime before,
+                                            Pageable pageable);
+    
     // Find resumes by job posting
     List<Resume> findByJobPosting(JobPosting jobPosting);
     
@@ -31,9 +40,62 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     // Find resume by candidate email and job posting (to prevent duplicates)
     Optional<Resume> findByCandidateEmailAndJobPosting(String candidateEmail, JobPosting jobPosting);
     
+    // Find which of the given candidate emails already applied for a job posting
+    @Query("SELECT r.candidateEmail FROM Resume r WHERE r.jobPosting = :jobPosting AND r.candidateEmail IN :emails")
+    List<String> findExistingCandidateEmails(@Param("jobPosting") JobPosting jobPosting, @Param("emails") Collection<String> emails);
+    
+    // Find IDs of resumes whose file predates the content-addressed store, in ID order after a cursor
+    @Query("SELECT r.id FROM Resume r WHERE r.contentHash IS NULL AND r.id > :afterId ORDER BY r.id")
+    List<Long> findIdsWithoutContentHash(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Point every resume sharing a blob at its new location
+    @Modifying
+    @Query("UPDATE Resume r SET r.filePath = :filePath WHERE r.contentHash = :contentHash")
+    int updateFilePathByContentHash(@Param("contentHash") String contentHash, @Param("filePath") String filePath);
+    
+    // Unflag the resumes that nearly duplicated a resume about to be deleted
+    @Modifying
+    @Query("UPDATE Resume r SET r.nearDuplicateOf = NULL WHERE r.nearDuplicateOf = :resumeId")
+    int clearNearDuplicateOf(@Param("resumeId") Long resumeId);
+    
+    // Find the stored file fields of a resume without loading its text
+    Optional<ResumeFileView> findProjectedById(Long id);
+    
+    // Full-text search over extracted text with the stored tsvector column (PostgreSQL only)
+    @Query(value = "SELECT r.id AS id, ts_rank(r.extracted_text_tsv, q) AS rank " +
+                   "FROM resumes r, websearch_to_tsquery('english', :query) q " +
+                   "WHERE r.extracted_text_tsv @@ q ORDER BY rank DESC, r.id",
+           countQuery = "SELECT COUNT(*) FROM resumes r WHERE r.extracted_text_tsv @@ websearch_to_tsquery('english', :query)",
+           nativeQuery = true)
+    Page<ResumeSearchRank> searchByExtractedText(@Param("query") String query, Pageable pageable);
+    
+    // Full-text search over extracted text of one job posting's resumes (PostgreSQL only)
+    @Query(value = "SELECT r.id AS id, ts_rank(r.extracted_text_tsv, q) AS rank " +
+                   "FROM resumes r, websearch_to_tsquery('english', :query) q " +
+                   "WHERE r.job_posting_id = :jobPostingId AND r.extracted_text_tsv @@ q ORDER BY rank DESC, r.id",
+           countQuery = "SELECT COUNT(*) FROM resumes r WHERE r.job_posting_id = :jobPostingId " +
+                        "AND r.extracted_text_tsv @@ websearch_to_tsquery('english', :query)",
+           nativeQuery = true)
+    Page<ResumeSearchRank> searchByJobPostingAndExtractedText(@Param("jobPostingId") Long jobPostingId,
+                                                              @Param("query") String query, Pageable pageable);
+    
     // Find resumes by candidate name
     List<Resume> findByCandidateNameContainingIgnoreCase(String candidateName);
     
+    // Fuzzy lookup by candidate name or email with the pg_trgm indexes, most similar first (PostgreSQL only).
+    // <% applies pg_trgm.word_similarity_threshold, which is what lets the GIN indexes answer it
+    @Query(value = "SELECT r.id AS id, GREATEST(word_similarity(:query, r.candidate_name), " +
+                   "word_similarity(:query, r.candidate_email)) AS similarity " +
+                   "FROM resumes r WHERE :query <% r.candidate_name OR :query <% r.candidate_email " +
+                   "ORDER BY similarity DESC, r.id LIMIT :limit",
+           nativeQuery = true)
+    List<CandidateMatchView> findSimilarCandidates(@Param("query") String query, @Param("limit") int limit);
+    
+    // Candidate names and emails in ID order after a cursor
+    @Query("SELECT r.id AS id, r.candidateName AS candidateName, r.candidateEmail AS candidateEmail " +
+           "FROM Resume r WHERE r.id > :afterId ORDER BY r.id")
+    List<CandidateContactView> findCandidateContactsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
     // Find resumes by years of experience
     List<Resume> findByYearsOfExperienceGreaterThanEqual(Integer minYears);
     
@@ -51,9 +113,13 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     @Query("SELECT r FROM Resume r WHERE LOWER(r.skills) LIKE LOWER(CONCAT('%', :skill, '%'))")
     List<Resume> findBySkillsContaining(@Param("skill") String skill);
     
-    // Search resumes by extracted text containing keyword
-    @Query("SELECT r FROM Resume r WHERE LOWER(r.extractedText) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Resume> findByExtractedTextContaining(@Param("keyword") String keyword);
+    // Find resumes whose text mentions a dictionary skill (indexed lookup on resume_skills)
+    @Query("SELECT r FROM Resume r JOIN r.skillIds s WHERE s = :skillId ORDER BY r.id")
+    List<Resume> findBySkillId(@Param("skillId") String skillId);
+    
+    // Find resumes for a job posting whose text mentions a dictionary skill
+    @Query("SELECT r FROM Resume r JOIN r.skillIds s WHERE r.jobPosting = :jobPosting AND s = :skillId ORDER BY r.id")
+    List<Resume> findByJobPostingAndSkillId(@Param("jobPosting") JobPosting jobPosting, @Param("skillId") String skillId);
     
     // Find resumes by education containing keyword
     @Query("SELECT r FROM Resume r WHERE LOWER(r.education) LIKE LOWER(CONCAT('%', :education, '%'))")
@@ -90,6 +156,9 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     @Query("SELECT r FROM Resume r WHERE r.jobPosting = :jobPosting AND NOT EXISTS (SELECT sr FROM ScreeningResult sr WHERE sr.resume = r)")
     List<Resume> findByJobPostingWithoutScreeningResults(@Param("jobPosting") JobPosting jobPosting);
     
+    // Count resumes with extracted text, which are the ones in the full-text index
+    long countByExtractedTextIsNotNull();
+    
     // Count resumes by status
     long countByStatus(ResumeStatus status);
     
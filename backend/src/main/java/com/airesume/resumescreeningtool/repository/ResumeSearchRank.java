@@ -0,0 +1,11 @@
+package com.airesume.resumescreeningtool.repository;
+
+/**
+ * Projection of a resume id and its {@code ts_rank} from a database full-text search.
+ */
+public interface ResumeSearchRank {
+
+    Long getId();
+
+    Float getRank();
+}
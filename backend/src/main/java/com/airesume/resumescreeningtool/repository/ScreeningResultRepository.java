@@ -81,6 +81,24 @@ public interface ScreeningResultRepository extends JpaRepository<ScreeningResult
     @Query("SELECT sr FROM ScreeningResult sr WHERE LOWER(sr.weaknesses) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<ScreeningResult> findByWeaknessesContaining(@Param("keyword") String keyword);
     
+    // Full-text search over AI feedback, best match first (PostgreSQL only)
+    @Query(value = "SELECT sr.* FROM screening_results sr, websearch_to_tsquery('english', :query) q " +
+                   "WHERE sr.ai_feedback_tsv @@ q ORDER BY ts_rank(sr.ai_feedback_tsv, q) DESC, sr.id",
+           nativeQuery = true)
+    List<ScreeningResult> searchByAiFeedback(@Param("query") String query);
+    
+    // Full-text search over strengths, best match first (PostgreSQL only)
+    @Query(value = "SELECT sr.* FROM screening_results sr, websearch_to_tsquery('english', :query) q " +
+                   "WHERE sr.strengths_tsv @@ q ORDER BY ts_rank(sr.strengths_tsv, q) DESC, sr.id",
+           nativeQuery = true)
+    List<ScreeningResult> searchByStrengths(@Param("query") String query);
+    
+    // Full-text search over weaknesses, best match first (PostgreSQL only)
+    @Query(value = "SELECT sr.* FROM screening_results sr, websearch_to_tsquery('english', :query) q " +
+                   "WHERE sr.weaknesses_tsv @@ q ORDER BY ts_rank(sr.weaknesses_tsv, q) DESC, sr.id",
+           nativeQuery = true)
+    List<ScreeningResult> searchByWeaknesses(@Param("query") String query);
+    
     // Find screening results by matching keywords containing specific keyword
     @Query("SELECT sr FROM ScreeningResult sr WHERE LOWER(sr.matchingKeywords) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<ScreeningResult> findByMatchingKeywordsContaining(@Param("keyword") String keyword);
@@ -0,0 +1,50 @@
+package com.airesume.resumescreeningtool.repository;
+
+import java.sql.Timestamp;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.airesume.resumescreeningtool.entity.StoredFile;
+
+/**
+ * Creates stored file records without racing concurrent uploads of the same bytes.
+ * <p>
+ * On PostgreSQL a conflicting insert waits for the other transaction and then does
+ * nothing. Other databases (the H2 development setup) only roll back the failed
+ * statement, so the duplicate key error is caught there. Going through JDBC keeps
+ * the error from marking the surrounding transaction rollback-only.
+ */
+@Repository
+public class StoredFileInsertRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO stored_files (content_hash, file_path, file_size, " +
+            "reference_count, created_at, updated_at) VALUES (?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean postgres;
+
+    public StoredFileInsertRepository(JdbcTemplate jdbcTemplate, @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = datasourceUrl.startsWith("jdbc:postgresql:");
+    }
+
+    /**
+     * Inserts a record without references unless one exists for the content hash
+     *
+     * @return true if the record was inserted
+     */
+    public boolean insertIfAbsent(StoredFile storedFile) {
+        String sql = postgres ? INSERT_SQL + " ON CONFLICT (content_hash) DO NOTHING" : INSERT_SQL;
+        Timestamp createdAt = Timestamp.valueOf(storedFile.getCreatedAt());
+        try {
+            return jdbcTemplate.update(sql, storedFile.getContentHash(), storedFile.getFilePath(),
+                    storedFile.getFileSize(), createdAt, createdAt) > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.airesume.resumescreeningtool.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.airesume.resumescreeningtool.entity.StoredFile;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    // Find stored file by content hash and lock it for reference count changes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sf FROM StoredFile sf WHERE sf.contentHash = :contentHash")
+    Optional<StoredFile> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+
+    // Find content hashes of blobs not yet stored in the sharded layout, in key order after a cursor
+    @Query("SELECT sf.contentHash FROM StoredFile sf WHERE sf.contentHash > :after AND sf.filePath NOT LIKE " +
+           "CONCAT('%', SUBSTRING(sf.contentHash, 1, 2), '/', SUBSTRING(sf.contentHash, 3, 2), '/', sf.contentHash, '%') " +
+           "ORDER BY sf.contentHash")
+    List<String> findUnshardedContentHashes(@Param("after") String after, Pageable pageable);
+}
@@ -0,0 +1,146 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.repository.CandidateContactView;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Candidate names and emails in a {@link TrigramIndex}, for fuzzy lookup on databases
+ * without pg_trgm (the H2 development setup).
+ * <p>
+ * On PostgreSQL the trigram indexes from migration V12 answer lookups and this index
+ * stays empty. Otherwise it is built from the database in the background once the
+ * application is ready, and kept current as resumes are stored and deleted. Names
+ * are short, so rebuilding on every start is cheaper than persisting the index.
+ */
+@Service
+public class CandidateLookupIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateLookupIndex.class);
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private DatabaseTextSearch databaseTextSearch;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${resume.backfill.chunk-size}")
+    private int buildChunkSize;
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    // Resumes removed while the build runs, which its database reads may still return; guarded by this
+    private Set<Long> removedDuringBuild = new HashSet<>();
+
+    private volatile boolean building;
+
+    private Timer lookupTimer;
+
+    @PostConstruct
+    public void init() {
+        lookupTimer = meterRegistry.timer("resume.candidates.lookup");
+        Gauge.builder("resume.candidates.indexed", index, TrigramIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * Builds the index from the database unless PostgreSQL answers lookups
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildFromDatabase() {
+        if (isDisabled()) {
+            return;
+        }
+        synchronized (this) {
+            building = true;
+            removedDuringBuild = new HashSet<>();
+        }
+        Thread thread = new Thread(this::build, "candidate-lookup-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void add(Resume resume) {
+        if (!isDisabled()) {
+            index.add(resume.getId(), resume.getCandidateName(), resume.getCandidateEmail());
+        }
+    }
+
+    public void remove(Long resumeId) {
+        if (isDisabled()) {
+            return;
+        }
+        synchronized (this) {
+            index.remove(resumeId);
+            if (building) {
+                removedDuringBuild.add(resumeId);
+            }
+        }
+    }
+
+    /**
+     * Resume ids of the candidates most similar to a name or email
+     */
+    public List<TrigramIndex.Match> search(String query, float minSimilarity, int limit) {
+        return lookupTimer.record(() -> index.search(query, minSimilarity, limit));
+    }
+
+    /**
+     * Whether the initial build is still running, in which case results may be incomplete
+     */
+    public boolean isBuilding() {
+        return building;
+    }
+
+    private boolean isDisabled() {
+        return databaseTextSearch.isAvailable();
+    }
+
+    private void build() {
+        long startTime = System.currentTimeMillis();
+        try {
+            long cursor = 0;
+            List<CandidateContactView> chunk;
+            while (!(chunk = resumeRepository.findCandidateContactsAfter(cursor, PageRequest.of(0, buildChunkSize))).isEmpty()) {
+                // Resumes removed meanwhile by a live delete are newer than this read
+                synchronized (this) {
+                    for (CandidateContactView contact : chunk) {
+                        if (!removedDuringBuild.contains(contact.getId())) {
+                            index.add(contact.getId(), contact.getCandidateName(), contact.getCandidateEmail());
+                        }
+                    }
+                }
+                cursor = chunk.get(chunk.size() - 1).getId();
+            }
+            logger.info("Built candidate lookup index with {} resumes in {} ms", index.size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            logger.error("Candidate lookup index build failed: {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                building = false;
+                removedDuringBuild = new HashSet<>();
+            }
+        }
+    }
+}
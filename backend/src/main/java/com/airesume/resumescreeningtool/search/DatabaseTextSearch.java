@@ -0,0 +1,59 @@
+package com.airesume.resumescreeningtool.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Decides whether full-text queries can run in the database.
+ * <p>
+ * The tsvector columns and GIN indexes added by migration V11 only exist on
+ * PostgreSQL. On any other database (the H2 development setup) resume search stays
+ * on the in-process {@link ResumeSearchIndex} and screening feedback is searched with
+ * the LIKE queries.
+ */
+@Component
+public class DatabaseTextSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseTextSearch.class);
+
+    public static final String ENGINE_INDEX = "index";
+    public static final String ENGINE_DATABASE = "database";
+
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+
+    @Value("${resume.search.engine:index}")
+    private String engine;
+
+    private boolean available;
+
+    @PostConstruct
+    public void init() {
+        if (!ENGINE_INDEX.equals(engine) && !ENGINE_DATABASE.equals(engine)) {
+            throw new IllegalStateException("resume.search.engine must be '" + ENGINE_INDEX + "' or '"
+                    + ENGINE_DATABASE + "', was '" + engine + "'");
+        }
+        available = datasourceUrl.startsWith("jdbc:postgresql:");
+        if (ENGINE_DATABASE.equals(engine) && !available) {
+            logger.warn("resume.search.engine=database needs PostgreSQL, searching resumes with the in-process index instead");
+        }
+    }
+
+    /**
+     * Whether the database supports the tsvector queries
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Whether resume search should query the database rather than the in-process index
+     */
+    public boolean isResumeSearchEnabled() {
+        return available && ENGINE_DATABASE.equals(engine);
+    }
+}
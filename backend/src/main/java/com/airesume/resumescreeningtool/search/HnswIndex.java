@@ -0,0 +1,538 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Approximate nearest-neighbour index over unit-length resume vectors, using a
+ * hierarchical navigable small world graph (Malkov and Yashunin).
+ * <p>
+ * Every resume is a node on layer 0 and, with geometrically falling probability, on
+ * the layers above; each layer links a node to up to {@code maxConnections} near
+ * neighbours ({@code 2 * maxConnections} on layer 0), chosen with the paper's
+ * diversity heuristic. A search descends greedily from the top layer and then keeps
+ * the {@code ef} best nodes on layer 0. Similarity is the dot product, i.e. cosine.
+ * <p>
+ * Removing or replacing a resume leaves its node in the graph as a tombstone that
+ * searches pass through but never return, since unlinking it would disconnect its
+ * neighbours; {@link #withoutDeleted()} builds a fresh graph once there are many.
+ * The whole graph is persisted as one snapshot ending with a CRC32, like the segments
+ * of {@link InvertedIndex}. Searches run concurrently; additions take an exclusive lock.
+ */
+public final class HnswIndex {
+
+    private static final int MAGIC = 0x5253484E; // "RSHN"
+    private static final int VERSION = 1;
+
+    public record Neighbor(long resumeId, float similarity) {
+    }
+
+    private final int dimensions;
+    private final int maxConnections;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> nodeByResumeId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private float[] vectors;
+    private long[] resumeIds;
+    // Per node and layer: the neighbour count followed by the neighbours
+    private int[][][] links;
+    private int nodeCount;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+
+    public HnswIndex(int dimensions, int maxConnections, int efConstruction, long seed) {
+        if (maxConnections < 2) {
+            throw new IllegalArgumentException("An HNSW graph needs at least 2 connections per node");
+        }
+        this.dimensions = dimensions;
+        this.maxConnections = maxConnections;
+        this.efConstruction = Math.max(efConstruction, maxConnections);
+        this.levelMultiplier = 1 / Math.log(maxConnections);
+        this.random = new Random(seed);
+        this.vectors = new float[1024 * dimensions];
+        this.resumeIds = new long[1024];
+        this.links = new int[1024][][];
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Adds a resume vector, replacing any earlier vector of the same resume
+     */
+    public void add(long resumeId, float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected a vector of " + dimensions + " dimensions, got " + vector.length);
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = nodeByResumeId.remove(resumeId);
+            if (previous != null) {
+                deleted.set(previous);
+            }
+            int node = newNode(resumeId, vector, randomLevel());
+            link(node);
+            nodeByResumeId.put(resumeId, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a resume from search results
+     *
+     * @return false if it was not indexed
+     */
+    public boolean remove(long resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeByResumeId.remove(resumeId);
+            if (node == null) {
+                return false;
+            }
+            deleted.set(node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long resumeId) {
+        lock.readLock().lock();
+        try {
+            return nodeByResumeId.containsKey(resumeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The indexed vector of a resume, or null if it is not indexed
+     */
+    public float[] getVector(long resumeId) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByResumeId.get(resumeId);
+            return node == null ? null : Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of live resumes
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByResumeId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of tombstones left by removed and replaced resumes
+     */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deleted.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The resumes most similar to a vector, best first
+     *
+     * @param ef              candidates kept while searching layer 0; higher finds more of the true neighbours
+     * @param excludeResumeId a resume to leave out of the results, typically the one being compared
+     */
+    public List<Neighbor> search(float[] query, int k, int ef, long excludeResumeId) {
+        if (query.length != dimensions) {
+            throw new IllegalArgumentException("Expected a vector of " + dimensions + " dimensions, got " + query.length);
+        }
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k < 1) {
+                return List.of();
+            }
+            int entry = entryPoint;
+            for (int level = topLevel; level > 0; level--) {
+                entry = greedyClosest(query, entry, level);
+            }
+            // Tombstones and the excluded resume take up slots, so look a little wider than k
+            Scored[] found = searchLayer(query, entry, Math.max(ef, k + 1), 0);
+            List<Neighbor> neighbors = new ArrayList<>(k);
+            for (Scored scored : found) {
+                if (neighbors.size() == k) {
+                    break;
+                }
+                if (!deleted.get(scored.node) && resumeIds[scored.node] != excludeResumeId) {
+                    neighbors.add(new Neighbor(resumeIds[scored.node], scored.similarity));
+                }
+            }
+            return neighbors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A new index with the live resumes of this one and no tombstones
+     */
+    public HnswIndex withoutDeleted() {
+        List<Long> ids = new ArrayList<>();
+        List<float[]> live = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int node = 0; node < nodeCount; node++) {
+                if (!deleted.get(node)) {
+                    ids.add(resumeIds[node]);
+                    live.add(Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        HnswIndex compacted = new HnswIndex(dimensions, maxConnections, efConstruction, random.nextLong());
+        for (int i = 0; i < ids.size(); i++) {
+            compacted.add(ids.get(i), live.get(i));
+        }
+        return compacted;
+    }
+
+    /**
+     * Writes the whole graph, tombstones included, followed by a CRC32 of the content
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        lock.readLock().lock();
+        try {
+            CheckedOutputStream checked = new CheckedOutputStream(outputStream, new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(dimensions);
+            out.writeInt(maxConnections);
+            out.writeInt(efConstruction);
+            out.writeInt(nodeCount);
+            out.writeInt(entryPoint);
+            out.writeInt(topLevel);
+            for (int node = 0; node < nodeCount; node++) {
+                out.writeLong(resumeIds[node]);
+                out.writeBoolean(deleted.get(node));
+                for (int d = node * dimensions; d < (node + 1) * dimensions; d++) {
+                    out.writeFloat(vectors[d]);
+                }
+                out.writeByte(links[node].length);
+                for (int[] layer : links[node]) {
+                    out.writeShort(layer[0]);
+                    for (int i = 1; i <= layer[0]; i++) {
+                        out.writeInt(layer[i]);
+                    }
+                }
+            }
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads a graph written by {@link #writeTo}
+     *
+     * @throws IOException if it is truncated or its checksum does not match
+     */
+    public static HnswIndex read(InputStream inputStream, long seed) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(inputStream, new CRC32());
+        DataInputStream in = new DataInputStream(checked);
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a similarity index snapshot");
+            }
+            HnswIndex index = new HnswIndex(in.readInt(), in.readInt(), in.readInt(), seed);
+            int count = in.readInt();
+            int entryPoint = in.readInt();
+            int topLevel = in.readInt();
+            for (int node = 0; node < count; node++) {
+                long resumeId = in.readLong();
+                boolean removed = in.readBoolean();
+                float[] vector = new float[index.dimensions];
+                for (int d = 0; d < vector.length; d++) {
+                    vector[d] = in.readFloat();
+                }
+                int levels = in.readByte();
+                if (levels < 1) {
+                    throw new IOException("Similarity index node has no layers");
+                }
+                index.newNode(resumeId, vector, levels - 1);
+                for (int level = 0; level < levels; level++) {
+                    int size = in.readShort();
+                    int[] layer = index.links[node][level];
+                    if (size >= layer.length) {
+                        throw new IOException("Similarity index node has too many links");
+                    }
+                    layer[0] = size;
+                    for (int i = 1; i <= size; i++) {
+                        layer[i] = in.readInt();
+                        if (layer[i] < 0 || layer[i] >= count) {
+                            throw new IOException("Similarity index link points outside the graph");
+                        }
+                    }
+                }
+                if (removed) {
+                    index.deleted.set(node);
+                } else {
+                    Integer previous = index.nodeByResumeId.put(resumeId, node);
+                    if (previous != null) {
+                        index.deleted.set(previous);
+                    }
+                }
+            }
+            if (entryPoint >= count || (entryPoint >= 0 && index.links[entryPoint].length != topLevel + 1)) {
+                throw new IOException("Similarity index entry point is invalid");
+            }
+            index.entryPoint = entryPoint;
+            index.topLevel = topLevel;
+
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Similarity index checksum mismatch");
+            }
+            return index;
+        } catch (EOFException | IndexOutOfBoundsException | NegativeArraySizeException | IllegalArgumentException e) {
+            throw new IOException("Similarity index snapshot is truncated or corrupt", e);
+        }
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private int newNode(long resumeId, float[] vector, int level) {
+        int node = nodeCount++;
+        if (node == resumeIds.length) {
+            resumeIds = Arrays.copyOf(resumeIds, node * 2);
+            links = Arrays.copyOf(links, node * 2);
+            vectors = Arrays.copyOf(vectors, node * 2 * dimensions);
+        }
+        resumeIds[node] = resumeId;
+        System.arraycopy(vector, 0, vectors, node * dimensions, dimensions);
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[maxLinks(l) + 1];
+        }
+        return node;
+    }
+
+    private int maxLinks(int level) {
+        return level == 0 ? maxConnections * 2 : maxConnections;
+    }
+
+    /**
+     * Connects a new node to its neighbours on each of its layers
+     */
+    private void link(int node) {
+        int level = links[node].length - 1;
+        if (entryPoint < 0) {
+            entryPoint = node;
+            topLevel = level;
+            return;
+        }
+        float[] vector = Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions);
+        int entry = entryPoint;
+        for (int l = topLevel; l > level; l--) {
+            entry = greedyClosest(vector, entry, l);
+        }
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            Scored[] candidates = searchLayer(vector, entry, efConstruction, l);
+            int[] selected = selectNeighbors(candidates, maxConnections);
+            int[] layer = links[node][l];
+            layer[0] = selected.length;
+            System.arraycopy(selected, 0, layer, 1, selected.length);
+            for (int neighbor : selected) {
+                addLink(neighbor, node, l);
+            }
+            entry = candidates[0].node;
+        }
+        if (level > topLevel) {
+            topLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * Links {@code from} to {@code to}, re-selecting the neighbours of {@code from} when it has too many
+     */
+    private void addLink(int from, int to, int level) {
+        int[] layer = links[from][level];
+        int size = layer[0];
+        if (size < layer.length - 1) {
+            layer[size + 1] = to;
+            layer[0] = size + 1;
+            return;
+        }
+        Scored[] candidates = new Scored[size + 1];
+        for (int i = 0; i < size; i++) {
+            candidates[i] = new Scored(layer[i + 1], similarity(from, layer[i + 1]));
+        }
+        candidates[size] = new Scored(to, similarity(from, to));
+        Arrays.sort(candidates, (a, b) -> Float.compare(b.similarity, a.similarity));
+        int[] selected = selectNeighbors(candidates, size);
+        layer[0] = selected.length;
+        System.arraycopy(selected, 0, layer, 1, selected.length);
+    }
+
+    /**
+     * The paper's heuristic: take candidates best first, skipping any that is closer to an
+     * already chosen neighbour than to the base node, so links spread out in different
+     * directions. Skipped candidates fill up any remaining slots.
+     *
+     * @param candidates sorted by similarity to the base node, best first
+     */
+    private int[] selectNeighbors(Scored[] candidates, int max) {
+        int[] selected = new int[Math.min(max, candidates.length)];
+        int count = 0;
+        boolean[] skipped = new boolean[candidates.length];
+        for (int i = 0; i < candidates.length && count < selected.length; i++) {
+            boolean diverse = true;
+            for (int j = 0; j < count; j++) {
+                if (similarity(candidates[i].node, selected[j]) > candidates[i].similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidates[i].node;
+            } else {
+                skipped[i] = true;
+            }
+        }
+        for (int i = 0; i < candidates.length && count < selected.length; i++) {
+            if (skipped[i]) {
+                selected[count++] = candidates[i].node;
+            }
+        }
+        return selected;
+    }
+
+    private int greedyClosest(float[] query, int entry, int level) {
+        int current = entry;
+        float best = similarity(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] layer = links[current][level];
+            for (int i = 1; i <= layer[0]; i++) {
+                float candidate = similarity(query, layer[i]);
+                if (candidate > best) {
+                    best = candidate;
+                    current = layer[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * The {@code ef} nodes closest to a query found on one layer, best first
+     */
+    private Scored[] searchLayer(float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(nodeCount);
+        PriorityQueue<Scored> candidates = new PriorityQueue<>((a, b) -> Float.compare(b.similarity, a.similarity));
+        PriorityQueue<Scored> results = new PriorityQueue<>((a, b) -> Float.compare(a.similarity, b.similarity));
+        Scored start = new Scored(entry, similarity(query, entry));
+        visited.set(entry);
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            Scored current = candidates.poll();
+            if (results.size() >= ef && current.similarity < results.peek().similarity) {
+                break;
+            }
+            int[] layer = links[current.node][level];
+            for (int i = 1; i <= layer[0]; i++) {
+                int neighbor = layer[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float similarity = similarity(query, neighbor);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    Scored scored = new Scored(neighbor, similarity);
+                    candidates.add(scored);
+                    results.add(scored);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        Scored[] found = new Scored[results.size()];
+        for (int i = found.length - 1; i >= 0; i--) {
+            found[i] = results.poll();
+        }
+        return found;
+    }
+
+    private float similarity(float[] query, int node) {
+        return dot(query, 0, vectors, node * dimensions, dimensions);
+    }
+
+    private float similarity(int a, int b) {
+        return dot(vectors, a * dimensions, vectors, b * dimensions, dimensions);
+    }
+
+    /**
+     * Dot product with four independent sums, which the JIT cannot do by itself for
+     * floats; most of the time spent adding a resume goes here
+     */
+    private static float dot(float[] a, int offsetA, float[] b, int offsetB, int length) {
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int d = 0;
+        for (; d + 3 < length; d += 4) {
+            sum0 += a[offsetA + d] * b[offsetB + d];
+            sum1 += a[offsetA + d + 1] * b[offsetB + d + 1];
+            sum2 += a[offsetA + d + 2] * b[offsetB + d + 2];
+            sum3 += a[offsetA + d + 3] * b[offsetB + d + 3];
+        }
+        for (; d < length; d++) {
+            sum0 += a[offsetA + d] * b[offsetB + d];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    private record Scored(int node, float similarity) {
+    }
+}
@@ -0,0 +1,586 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * In-memory positional inverted index over resume text with BM25 ranking.
+ * <p>
+ * Documents get consecutive internal numbers as they are added, so every posting list
+ * stays sorted by document without any merging. Replacing or removing a resume only
+ * marks its old number deleted; the postings are dropped by {@link #purgeDeleted()}.
+ * As in most search engines, document frequencies include deleted documents until
+ * then, which shifts scores slightly but never the set of hits.
+ * <p>
+ * The index is also the codec for its segment files: a segment holds resume ids to
+ * delete followed by a small inverted index of added documents, and a snapshot is
+ * a segment of every live document. Segments end with a CRC32 of their content.
+ * Reads run concurrently; writes take an exclusive lock, but all text analysis
+ * happens before it.
+ */
+public final class InvertedIndex {
+
+    private static final int MAGIC = 0x52534958; // "RSIX"
+    private static final int VERSION = 1;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * A resume's analyzed text, ready to be added
+     */
+    public record Document(long resumeId, long jobPostingId, List<TextAnalyzer.Token> tokens) {
+    }
+
+    public record Hit(long resumeId, float score) {
+    }
+
+    public record SearchResult(long totalHits, List<Hit> hits) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByResumeId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] resumeIds = new long[1024];
+    private long[] jobPostingIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int maxDoc;
+    private int liveDocs;
+    private long liveLength;
+
+    /**
+     * Adds a document, replacing any earlier version of the same resume
+     */
+    public void add(Document document) {
+        Map<String, int[]> positions = positionsByTerm(document.tokens());
+        lock.writeLock().lock();
+        try {
+            int doc = newDoc(document.resumeId(), document.jobPostingId(), document.tokens().size());
+            for (Map.Entry<String, int[]> entry : positions.entrySet()) {
+                int[] termPositions = entry.getValue();
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList())
+                        .add(doc, termPositions, termPositions.length);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a resume from the index
+     *
+     * @return false if it was not indexed
+     */
+    public boolean remove(long resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByResumeId.remove(resumeId);
+            if (doc == null) {
+                return false;
+            }
+            markDeleted(doc);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long resumeId) {
+        lock.readLock().lock();
+        try {
+            return docByResumeId.containsKey(resumeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the indexed resumes in ascending order
+     */
+    public long[] resumeIds() {
+        lock.readLock().lock();
+        try {
+            return docByResumeId.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of live documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct terms, including terms only found in deleted documents
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks live documents matching any query term and all of its phrases
+     *
+     * @param jobPostingId only return resumes for this job posting, or null for all
+     */
+    public SearchResult search(SearchQuery query, Long jobPostingId, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return new SearchResult(0, List.of());
+            }
+            float[] scores = new float[maxDoc];
+            int[] matched = new int[16];
+            int matchCount = 0;
+            float averageLength = (float) liveLength / liveDocs;
+
+            for (String term : query.getTerms()) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (liveDocs - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (deleted.get(doc) || (jobPostingId != null && jobPostingIds[doc] != jobPostingId)) {
+                        continue;
+                    }
+                    int tf = list.frequency(i);
+                    float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    if (scores[doc] == 0) {
+                        if (matchCount == matched.length) {
+                            matched = Arrays.copyOf(matched, matchCount * 2);
+                        }
+                        matched[matchCount++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            int wanted = offset + limit;
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, Math.min(wanted, matchCount) + 1),
+                    (a, b) -> scores[a] != scores[b] ? Float.compare(scores[a], scores[b]) : Integer.compare(b, a));
+            long totalHits = 0;
+            for (int i = 0; i < matchCount; i++) {
+                int doc = matched[i];
+                if (!matchesPhrases(doc, query)) {
+                    continue;
+                }
+                totalHits++;
+                if (wanted <= 0) {
+                    continue;
+                }
+                top.add(doc);
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int doc = top.poll();
+                hits.add(new Hit(resumeIds[doc], scores[doc]));
+            }
+            Collections.reverse(hits);
+            return new SearchResult(totalHits, offset >= hits.size() ? List.of() : hits.subList(offset, hits.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops postings of deleted documents and terms left without any
+     */
+    public void purgeDeleted() {
+        lock.writeLock().lock();
+        try {
+            if (deleted.isEmpty()) {
+                return;
+            }
+            postings.values().removeIf(list -> list.purge(deleted) == 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a segment of every live document
+     */
+    public void writeSnapshot(OutputStream outputStream) throws IOException {
+        lock.readLock().lock();
+        try {
+            int[] segmentDoc = new int[maxDoc];
+            List<Integer> docs = new ArrayList<>(liveDocs);
+            for (int doc = 0; doc < maxDoc; doc++) {
+                if (!deleted.get(doc)) {
+                    segmentDoc[doc] = docs.size();
+                    docs.add(doc);
+                }
+            }
+
+            CheckedOutputStream checked = new CheckedOutputStream(outputStream, new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            writeHeader(out, List.of());
+            out.writeInt(docs.size());
+            for (int doc : docs) {
+                out.writeLong(resumeIds[doc]);
+                out.writeLong(jobPostingIds[doc]);
+                out.writeInt(lengths[doc]);
+            }
+
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                PostingList list = entry.getValue();
+                int live = 0;
+                for (int i = 0; i < list.size; i++) {
+                    if (!deleted.get(list.docs[i])) {
+                        live++;
+                    }
+                }
+                out.writeUTF(entry.getKey());
+                writeVarInt(out, live);
+                int previous = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    writeVarInt(out, segmentDoc[doc] - previous);
+                    previous = segmentDoc[doc];
+                    writePositions(out, list.positions, list.positionStarts[i], list.frequency(i));
+                }
+            }
+            writeTrailer(out, checked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a segment of removed resume ids and added documents. Loading applies the
+     * removals first, so a resume that was replaced appears in both.
+     */
+    public static void writeSegment(OutputStream outputStream, Collection<Long> removed, List<Document> added)
+            throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(outputStream, new CRC32());
+        DataOutputStream out = new DataOutputStream(checked);
+        writeHeader(out, removed);
+        out.writeInt(added.size());
+        Map<String, List<int[]>> termPostings = new LinkedHashMap<>();
+        for (int d = 0; d < added.size(); d++) {
+            Document document = added.get(d);
+            out.writeLong(document.resumeId());
+            out.writeLong(document.jobPostingId());
+            out.writeInt(document.tokens().size());
+            for (Map.Entry<String, int[]> entry : positionsByTerm(document.tokens()).entrySet()) {
+                int[] posting = new int[entry.getValue().length + 1];
+                posting[0] = d;
+                System.arraycopy(entry.getValue(), 0, posting, 1, entry.getValue().length);
+                termPostings.computeIfAbsent(entry.getKey(), term -> new ArrayList<>()).add(posting);
+            }
+        }
+
+        out.writeInt(termPostings.size());
+        for (Map.Entry<String, List<int[]>> entry : termPostings.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeVarInt(out, entry.getValue().size());
+            int previous = 0;
+            for (int[] posting : entry.getValue()) {
+                writeVarInt(out, posting[0] - previous);
+                previous = posting[0];
+                writePositions(out, posting, 1, posting.length - 1);
+            }
+        }
+        writeTrailer(out, checked);
+    }
+
+    /**
+     * Applies a segment written by {@link #writeSegment} or {@link #writeSnapshot}
+     *
+     * @throws IOException if the segment is truncated or its checksum does not match,
+     *                     in which case the index may hold part of it
+     */
+    public void load(InputStream inputStream) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(inputStream, new CRC32());
+        DataInputStream in = new DataInputStream(checked);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a search index segment");
+        }
+        lock.writeLock().lock();
+        try {
+            int removedCount = in.readInt();
+            for (int i = 0; i < removedCount; i++) {
+                Integer doc = docByResumeId.remove(in.readLong());
+                if (doc != null) {
+                    markDeleted(doc);
+                }
+            }
+
+            int docCount = in.readInt();
+            int[] docs = new int[docCount];
+            for (int d = 0; d < docCount; d++) {
+                docs[d] = newDoc(in.readLong(), in.readLong(), in.readInt());
+            }
+
+            int termCount = in.readInt();
+            int[] positions = new int[64];
+            for (int t = 0; t < termCount; t++) {
+                PostingList list = postings.computeIfAbsent(in.readUTF(), term -> new PostingList());
+                int postingCount = readVarInt(in);
+                int d = 0;
+                for (int p = 0; p < postingCount; p++) {
+                    d += readVarInt(in);
+                    int frequency = readVarInt(in);
+                    if (frequency > positions.length) {
+                        positions = new int[Math.max(frequency, positions.length * 2)];
+                    }
+                    int position = 0;
+                    for (int i = 0; i < frequency; i++) {
+                        position += readVarInt(in);
+                        positions[i] = position;
+                    }
+                    list.add(docs[d], positions, frequency);
+                }
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Search index segment checksum mismatch");
+            }
+        } catch (EOFException | IndexOutOfBoundsException e) {
+            throw new IOException("Search index segment is truncated or corrupt", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes everything from the index
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docByResumeId.clear();
+            deleted.clear();
+            maxDoc = 0;
+            liveDocs = 0;
+            liveLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int newDoc(long resumeId, long jobPostingId, int length) {
+        Integer previous = docByResumeId.get(resumeId);
+        if (previous != null) {
+            markDeleted(previous);
+        }
+        if (maxDoc == resumeIds.length) {
+            int capacity = maxDoc * 2;
+            resumeIds = Arrays.copyOf(resumeIds, capacity);
+            jobPostingIds = Arrays.copyOf(jobPostingIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        int doc = maxDoc++;
+        resumeIds[doc] = resumeId;
+        jobPostingIds[doc] = jobPostingId;
+        lengths[doc] = length;
+        docByResumeId.put(resumeId, doc);
+        liveDocs++;
+        liveLength += length;
+        return doc;
+    }
+
+    private void markDeleted(int doc) {
+        if (!deleted.get(doc)) {
+            deleted.set(doc);
+            liveDocs--;
+            liveLength -= lengths[doc];
+        }
+    }
+
+    private boolean matchesPhrases(int doc, SearchQuery query) {
+        for (List<TextAnalyzer.Token> phrase : query.getPhrases()) {
+            if (!matchesPhrase(doc, phrase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesPhrase(int doc, List<TextAnalyzer.Token> phrase) {
+        PostingList[] lists = new PostingList[phrase.size()];
+        int[] indexes = new int[phrase.size()];
+        for (int j = 0; j < phrase.size(); j++) {
+            lists[j] = postings.get(phrase.get(j).term());
+            indexes[j] = lists[j] == null ? -1 : Arrays.binarySearch(lists[j].docs, 0, lists[j].size, doc);
+            if (indexes[j] < 0) {
+                return false;
+            }
+        }
+        PostingList first = lists[0];
+        int firstStart = first.positionStarts[indexes[0]];
+        for (int p = firstStart; p < firstStart + first.frequency(indexes[0]); p++) {
+            int base = first.positions[p] - phrase.get(0).position();
+            boolean all = true;
+            for (int j = 1; j < phrase.size() && all; j++) {
+                PostingList list = lists[j];
+                int start = list.positionStarts[indexes[j]];
+                all = Arrays.binarySearch(list.positions, start, start + list.frequency(indexes[j]),
+                        base + phrase.get(j).position()) >= 0;
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, int[]> positionsByTerm(List<TextAnalyzer.Token> tokens) {
+        Map<String, int[]> counts = new LinkedHashMap<>();
+        for (TextAnalyzer.Token token : tokens) {
+            counts.merge(token.term(), new int[] {1}, (a, b) -> { a[0]++; return a; });
+        }
+        Map<String, int[]> positions = new LinkedHashMap<>(counts.size() * 2);
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            positions.put(entry.getKey(), new int[entry.getValue()[0]]);
+            entry.getValue()[0] = 0;
+        }
+        for (TextAnalyzer.Token token : tokens) {
+            int[] next = counts.get(token.term());
+            positions.get(token.term())[next[0]++] = token.position();
+        }
+        return positions;
+    }
+
+    private static void writeHeader(DataOutputStream out, Collection<Long> removed) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(removed.size());
+        for (long resumeId : removed) {
+            out.writeLong(resumeId);
+        }
+    }
+
+    private static void writeTrailer(DataOutputStream out, CheckedOutputStream checked) throws IOException {
+        out.flush();
+        out.writeLong(checked.getChecksum().getValue());
+        out.flush();
+    }
+
+    private static void writePositions(DataOutputStream out, int[] positions, int from, int count) throws IOException {
+        writeVarInt(out, count);
+        int previous = 0;
+        for (int i = from; i < from + count; i++) {
+            writeVarInt(out, positions[i] - previous);
+            previous = positions[i];
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Documents containing a term, in document order, with the term's positions in each
+     */
+    private static final class PostingList {
+        private int size;
+        private int[] docs = new int[4];
+        // Positions of posting i are positions[positionStarts[i]] up to positionStarts[i + 1]
+        private int[] positionStarts = new int[5];
+        private int[] positions = new int[8];
+
+        void add(int doc, int[] termPositions, int count) {
+            if (size + 1 == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+                positionStarts = Arrays.copyOf(positionStarts, docs.length + 1);
+            }
+            int start = positionStarts[size];
+            if (start + count > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(start + count, positions.length * 2));
+            }
+            System.arraycopy(termPositions, 0, positions, start, count);
+            docs[size] = doc;
+            positionStarts[++size] = start + count;
+        }
+
+        int frequency(int i) {
+            return positionStarts[i + 1] - positionStarts[i];
+        }
+
+        /**
+         * Removes postings of deleted documents in place
+         *
+         * @return the number of postings left
+         */
+        int purge(BitSet deleted) {
+            int kept = 0;
+            int positionCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (deleted.get(docs[i])) {
+                    continue;
+                }
+                int start = positionStarts[i];
+                int frequency = positionStarts[i + 1] - start;
+                System.arraycopy(positions, start, positions, positionCount, frequency);
+                docs[kept] = docs[i];
+                positionStarts[kept] = positionCount;
+                positionCount += frequency;
+                kept++;
+            }
+            size = kept;
+            positionStarts[kept] = positionCount;
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Locality-sensitive hashing over {@link MinHasher} signatures, to find the resumes of
+ * a job posting that nearly duplicate a given one without comparing against all of them.
+ * <p>
+ * A signature of {@code bands * rows} hashes is cut into {@code bands} bands of
+ * {@code rows} hashes, and every band is hashed together with the job posting into a
+ * bucket. Two resumes become candidates if any band lands in the same bucket, which
+ * happens with probability {@code 1 - (1 - s^rows)^bands} for Jaccard similarity
+ * {@code s}: with 20 bands of 5 rows that is 97.5% at 0.7, 99.96% at 0.8 and 19% at
+ * 0.4. Candidates are then checked against the full signatures, so a lookup costs
+ * {@code bands} bucket reads plus a handful of comparisons whatever the number of resumes.
+ * <p>
+ * Buckets are one open-addressing table from band hash to the latest resume in it,
+ * each resume linking to the previous one per band: 20 to 36 bytes per band and resume
+ * next to the {@code 4 * bands * rows} bytes of its signature. Removing a resume only
+ * marks it deleted; the table is rebuilt once deleted resumes outnumber live ones. Reads
+ * run concurrently; writes take an exclusive lock.
+ */
+public final class MinHashLshIndex {
+
+    public record Match(long resumeId, float similarity) {
+    }
+
+    /**
+     * Resumes of one job posting that are near-duplicates of each other, by ascending id
+     */
+    public record Cluster(long jobPostingId, long[] resumeIds) {
+    }
+
+    private static final int MIN_COMPACT_DELETED = 1024;
+    private static final int BAND_MASK = 0xFF;
+
+    private final int bands;
+    private final int rows;
+    private final int numHashes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docByResumeId = new HashMap<>();
+    private long[] resumeIds;
+    private long[] jobPostingIds;
+    private boolean[] deleted;
+    // Signatures of all documents back to back
+    private int[] signatures;
+    // Previous document in the same bucket per document and band, -1 at the end of a chain
+    private int[] previous;
+    private int[] bucketKeys;
+    // Latest document per bucket, -1 for a free slot
+    private int[] bucketHeads;
+    private int bucketCount;
+    private int maxDoc;
+    private int deletedCount;
+
+    public MinHashLshIndex(int bands, int rows) {
+        if (bands < 1 || bands > BAND_MASK + 1 || rows < 1) {
+            throw new IllegalArgumentException("LSH needs between 1 and 256 bands of at least one row");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.numHashes = bands * rows;
+        reset(1024);
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    /**
+     * Adds the signature of a resume, replacing any earlier one
+     */
+    public void add(long resumeId, long jobPostingId, int[] signature) {
+        checkLength(signature);
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByResumeId.remove(resumeId);
+            if (existing != null) {
+                markDeleted(existing);
+            }
+            insert(resumeId, jobPostingId, signature);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a resume from the index
+     *
+     * @return false if it was not indexed
+     */
+    public boolean remove(long resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByResumeId.remove(resumeId);
+            if (doc == null) {
+                return false;
+            }
+            markDeleted(doc);
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long resumeId) {
+        lock.readLock().lock();
+        try {
+            return docByResumeId.containsKey(resumeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of live resumes
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByResumeId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resumes of a job posting whose estimated similarity to a signature is at least
+     * {@code minSimilarity}, most similar first and older resumes first among equals
+     */
+    public List<Match> findSimilar(int[] signature, long jobPostingId, float minSimilarity,
+                                   long excludeResumeId, int limit) {
+        checkLength(signature);
+        if (limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Set<Integer> seen = new HashSet<>();
+            List<Match> matches = new ArrayList<>();
+            for (int band = 0; band < bands; band++) {
+                int slot = findSlot(bucketKey(signature, band, jobPostingId));
+                for (int doc = bucketHeads[slot]; doc >= 0; doc = previous[doc * bands + band]) {
+                    if (deleted[doc] || jobPostingIds[doc] != jobPostingId || resumeIds[doc] == excludeResumeId
+                            || !seen.add(doc)) {
+                        continue;
+                    }
+                    float similarity = similarity(signature, doc);
+                    if (similarity >= minSimilarity) {
+                        matches.add(new Match(resumeIds[doc], similarity));
+                    }
+                }
+            }
+            matches.sort(Comparator.comparing(Match::similarity).reversed().thenComparingLong(Match::resumeId));
+            return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups of near-duplicate resumes across the whole index, ordered by their oldest resume.
+     * Resumes join a group if they are similar enough to any member, so a chain of small
+     * edits ends up in one group even if its ends differ more.
+     */
+    public List<Cluster> clusters(float minSimilarity) {
+        lock.readLock().lock();
+        try {
+            int[] parents = new int[maxDoc];
+            for (int doc = 0; doc < maxDoc; doc++) {
+                parents[doc] = doc;
+            }
+            List<Integer> chain = new ArrayList<>();
+            for (int slot = 0; slot < bucketHeads.length; slot++) {
+                if (bucketHeads[slot] < 0) {
+                    continue;
+                }
+                int head = bucketHeads[slot];
+                int band = bucketKeys[slot] & BAND_MASK;
+                chain.clear();
+                for (int doc = head; doc >= 0; doc = previous[doc * bands + band]) {
+                    if (!deleted[doc]) {
+                        chain.add(doc);
+                    }
+                }
+                for (int i = 1; i < chain.size(); i++) {
+                    int doc = chain.get(i);
+                    for (int j = 0; j < i; j++) {
+                        int other = chain.get(j);
+                        if (jobPostingIds[doc] == jobPostingIds[other] && find(parents, doc) != find(parents, other)
+                                && similarity(doc, other) >= minSimilarity) {
+                            parents[find(parents, doc)] = find(parents, other);
+                        }
+                    }
+                }
+            }
+
+            Map<Integer, List<Integer>> groups = new HashMap<>();
+            for (int doc = 0; doc < maxDoc; doc++) {
+                if (!deleted[doc]) {
+                    groups.computeIfAbsent(find(parents, doc), root -> new ArrayList<>()).add(doc);
+                }
+            }
+            List<Cluster> clusters = new ArrayList<>();
+            for (List<Integer> members : groups.values()) {
+                if (members.size() > 1) {
+                    long[] ids = members.stream().mapToLong(doc -> resumeIds[doc]).sorted().toArray();
+                    clusters.add(new Cluster(jobPostingIds[members.get(0)], ids));
+                }
+            }
+            clusters.sort(Comparator.comparingLong(cluster -> cluster.resumeIds()[0]));
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docByResumeId.clear();
+            reset(1024);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reset(int capacity) {
+        resumeIds = new long[capacity];
+        jobPostingIds = new long[capacity];
+        deleted = new boolean[capacity];
+        signatures = new int[capacity * numHashes];
+        previous = new int[capacity * bands];
+        bucketKeys = new int[Integer.highestOneBit(capacity * bands) * 2];
+        bucketHeads = new int[bucketKeys.length];
+        Arrays.fill(bucketHeads, -1);
+        bucketCount = 0;
+        maxDoc = 0;
+        deletedCount = 0;
+    }
+
+    private void insert(long resumeId, long jobPostingId, int[] signature) {
+        int doc = maxDoc++;
+        if (doc == resumeIds.length) {
+            resumeIds = Arrays.copyOf(resumeIds, doc * 2);
+            jobPostingIds = Arrays.copyOf(jobPostingIds, doc * 2);
+            deleted = Arrays.copyOf(deleted, doc * 2);
+            signatures = Arrays.copyOf(signatures, doc * 2 * numHashes);
+            previous = Arrays.copyOf(previous, doc * 2 * bands);
+        }
+        resumeIds[doc] = resumeId;
+        jobPostingIds[doc] = jobPostingId;
+        System.arraycopy(signature, 0, signatures, doc * numHashes, numHashes);
+        for (int band = 0; band < bands; band++) {
+            if ((bucketCount + 1) * 2 > bucketKeys.length) {
+                growBuckets();
+            }
+            int key = bucketKey(signature, band, jobPostingId);
+            int slot = findSlot(key);
+            if (bucketHeads[slot] < 0) {
+                bucketKeys[slot] = key;
+                bucketCount++;
+            }
+            previous[doc * bands + band] = bucketHeads[slot];
+            bucketHeads[slot] = doc;
+        }
+        docByResumeId.put(resumeId, doc);
+    }
+
+    private void markDeleted(int doc) {
+        deleted[doc] = true;
+        deletedCount++;
+    }
+
+    /**
+     * Rebuilds the arrays from the live resumes once deleted ones outnumber them
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < MIN_COMPACT_DELETED || deletedCount <= docByResumeId.size()) {
+            return;
+        }
+        long[] oldResumeIds = resumeIds;
+        long[] oldJobPostingIds = jobPostingIds;
+        boolean[] oldDeleted = deleted;
+        int[] oldSignatures = signatures;
+        int oldMaxDoc = maxDoc;
+        docByResumeId.clear();
+        reset(Math.max(1024, Integer.highestOneBit(Math.max(1, oldMaxDoc - deletedCount)) * 2));
+        for (int doc = 0; doc < oldMaxDoc; doc++) {
+            if (!oldDeleted[doc]) {
+                insert(oldResumeIds[doc], oldJobPostingIds[doc],
+                        Arrays.copyOfRange(oldSignatures, doc * numHashes, (doc + 1) * numHashes));
+            }
+        }
+    }
+
+    private void growBuckets() {
+        int[] oldKeys = bucketKeys;
+        int[] oldHeads = bucketHeads;
+        bucketKeys = new int[oldKeys.length * 2];
+        bucketHeads = new int[oldKeys.length * 2];
+        Arrays.fill(bucketHeads, -1);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldHeads[slot] >= 0) {
+                int newSlot = findSlot(oldKeys[slot]);
+                bucketKeys[newSlot] = oldKeys[slot];
+                bucketHeads[newSlot] = oldHeads[slot];
+            }
+        }
+    }
+
+    /**
+     * The slot holding a bucket key, or the free slot where it would go
+     */
+    private int findSlot(int key) {
+        int mask = bucketKeys.length - 1;
+        // The low bits hold the band, so start from the hash bits
+        int slot = Integer.rotateRight(key, 8) & mask;
+        while (bucketHeads[slot] >= 0 && bucketKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Hash of a band of a signature and the job posting, with the band number in the low
+     * bits so different bands never share a bucket. Resumes whose bands differ may still
+     * share one; they are only compared, never taken as matches unchecked.
+     */
+    private int bucketKey(int[] signature, int band, long jobPostingId) {
+        long hash = jobPostingId * 0x9E3779B97F4A7C15L + band;
+        for (int i = band * rows, end = i + rows; i < end; i++) {
+            hash = (hash ^ signature[i]) * 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return ((int) hash & ~BAND_MASK) | band;
+    }
+
+    private float similarity(int[] signature, int doc) {
+        int equal = 0;
+        for (int i = 0, base = doc * numHashes; i < numHashes; i++) {
+            if (signature[i] == signatures[base + i]) {
+                equal++;
+            }
+        }
+        return (float) equal / numHashes;
+    }
+
+    private float similarity(int doc, int other) {
+        int equal = 0;
+        for (int i = 0, base = doc * numHashes, otherBase = other * numHashes; i < numHashes; i++) {
+            if (signatures[base + i] == signatures[otherBase + i]) {
+                equal++;
+            }
+        }
+        return (float) equal / numHashes;
+    }
+
+    private static int find(int[] parents, int doc) {
+        while (parents[doc] != doc) {
+            parents[doc] = parents[parents[doc]];
+            doc = parents[doc];
+        }
+        return doc;
+    }
+
+    private void checkLength(int[] signature) {
+        if (signature == null || signature.length != numHashes) {
+            throw new IllegalArgumentException("Signature must have " + numHashes + " hashes");
+        }
+    }
+}
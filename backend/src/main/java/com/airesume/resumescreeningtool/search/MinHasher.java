@@ -0,0 +1,139 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures of resume text, for finding near-duplicates without comparing texts.
+ * <p>
+ * A text is reduced to its set of shingles, every run of {@code shingleSize} adjacent
+ * terms (see {@link TextAnalyzer}). Editing a word changes only the few shingles that
+ * contain it, while two different resumes with the same vocabulary still share few
+ * shingles. Each of {@code numHashes} hash functions keeps the smallest hash of any
+ * shingle, and the share of positions where two signatures agree estimates the
+ * Jaccard similarity of the two shingle sets.
+ * <p>
+ * The hash functions are multiply-shift hashes of a 64-bit shingle hash with odd
+ * multipliers drawn from {@code seed}, so signatures only compare with signatures from
+ * a hasher with the same settings.
+ */
+public final class MinHasher {
+
+    private final int numHashes;
+    private final int shingleSize;
+    private final long[] multipliers;
+    private final long[] increments;
+
+    public MinHasher(int numHashes, int shingleSize, long seed) {
+        if (numHashes < 1 || shingleSize < 1) {
+            throw new IllegalArgumentException("A MinHash signature needs at least one hash and one term per shingle");
+        }
+        this.numHashes = numHashes;
+        this.shingleSize = shingleSize;
+        this.multipliers = new long[numHashes];
+        this.increments = new long[numHashes];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < numHashes; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    /**
+     * The signature of a text, or null if it has no terms
+     */
+    public int[] signature(String text) {
+        long[] shingles = shingles(text);
+        if (shingles.length == 0) {
+            return null;
+        }
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < numHashes; i++) {
+                int hash = (int) ((multipliers[i] * shingle + increments[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the shingle sets behind two signatures of the same length
+     */
+    public static float similarity(int[] first, int[] second) {
+        int equal = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (float) equal / first.length;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        int[] signature = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    /**
+     * Distinct hashes of the shingles of a text; a text shorter than one shingle is a single shingle
+     */
+    private long[] shingles(String text) {
+        if (text == null) {
+            return new long[0];
+        }
+        List<TextAnalyzer.Token> tokens = TextAnalyzer.analyze(text);
+        if (tokens.isEmpty()) {
+            return new long[0];
+        }
+        long[] termHashes = new long[tokens.size()];
+        for (int i = 0; i < termHashes.length; i++) {
+            termHashes[i] = tokens.get(i).term().hashCode();
+        }
+        int count = Math.max(1, termHashes.length - shingleSize + 1);
+        long[] shingles = new long[count];
+        for (int start = 0; start < count; start++) {
+            long hash = 0xCBF29CE484222325L;
+            for (int i = start, end = Math.min(start + shingleSize, termHashes.length); i < end; i++) {
+                hash = (hash ^ termHashes[i]) * 0x100000001B3L;
+            }
+            shingles[start] = mix(hash);
+        }
+        Arrays.sort(shingles);
+        return Arrays.stream(shingles).distinct().toArray();
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer, so the multiply-shift hashes see well spread input
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FE53485A3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,222 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Near-duplicate resumes within a job posting: the MinHash signature of every resume
+ * with text (see {@link MinHasher}) in a {@link MinHashLshIndex}.
+ * <p>
+ * Signatures are computed when the text is parsed and stored with the resume, so the
+ * index is built from the database on every start by reading signatures, not text.
+ * Resumes stored before signatures existed, or signed with another number of hashes,
+ * are signed from their text during that build and written back. Afterwards resumes
+ * are flagged and added in one step as their text is stored, before the transaction
+ * commits, and removed again if it rolls back or when they are deleted.
+ */
+@Service
+public class NearDuplicateIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearDuplicateIndex.class);
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final long SEED = 0x4D494E48;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${resume.dedup.bands}")
+    private int bands;
+
+    @Value("${resume.dedup.rows}")
+    private int rows;
+
+    @Value("${resume.dedup.min-similarity}")
+    private float minSimilarity;
+
+    @Value("${resume.backfill.chunk-size}")
+    private int buildChunkSize;
+
+    @Value("${resume.bulk.batch-size}")
+    private int batchSize;
+
+    private MinHasher hasher;
+
+    private MinHashLshIndex index;
+
+    private volatile boolean building;
+
+    private Timer lookupTimer;
+
+    private Counter flaggedCounter;
+
+    @PostConstruct
+    public void init() {
+        index = new MinHashLshIndex(bands, rows);
+        hasher = new MinHasher(index.getNumHashes(), SHINGLE_SIZE, SEED);
+        lookupTimer = meterRegistry.timer("resume.dedup.lookup");
+        flaggedCounter = meterRegistry.counter("resume.dedup.flagged");
+        Gauge.builder("resume.dedup.indexed", index, MinHashLshIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * Builds the index from the stored signatures in the background
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildFromDatabase() {
+        building = true;
+        Thread thread = new Thread(this::build, "near-duplicate-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * The signature of a text as stored with a resume, or null if the text has no terms
+     */
+    public byte[] signature(String text) {
+        return MinHasher.toBytes(hasher.signature(text));
+    }
+
+    /**
+     * Adds or replaces the signature of a resume
+     */
+    public void add(Resume resume) {
+        int[] signature = signatureOf(resume);
+        if (signature == null) {
+            remove(resume.getId());
+            return;
+        }
+        index.add(resume.getId(), resume.getJobPosting().getId(), signature);
+    }
+
+    public void remove(Long resumeId) {
+        index.remove(resumeId);
+    }
+
+    /**
+     * Points each resume at the most similar indexed resume of its job posting, or an
+     * earlier one in the list, that it nearly duplicates, and clears the flag of the others
+     *
+     * @return the resumes that were flagged
+     */
+    public List<Resume> flagNearDuplicates(List<Resume> resumes) {
+        // Resumes stored together are not indexed until they commit, so they are checked against each other here
+        MinHashLshIndex pending = resumes.size() > 1 ? new MinHashLshIndex(bands, rows) : null;
+        List<Resume> flagged = new ArrayList<>();
+        for (Resume resume : resumes) {
+            int[] signature = signatureOf(resume);
+            resume.setNearDuplicateOf(null);
+            if (signature == null) {
+                continue;
+            }
+            long jobPostingId = resume.getJobPosting().getId();
+            MinHashLshIndex.Match best = lookupTimer.record(() -> first(
+                    index.findSimilar(signature, jobPostingId, minSimilarity, resume.getId(), 1)));
+            if (pending != null) {
+                MinHashLshIndex.Match earlier = first(
+                        pending.findSimilar(signature, jobPostingId, minSimilarity, resume.getId(), 1));
+                if (best == null || earlier != null && earlier.similarity() > best.similarity()) {
+                    best = earlier;
+                }
+                pending.add(resume.getId(), jobPostingId, signature);
+            }
+            if (best != null) {
+                resume.setNearDuplicateOf(best.resumeId());
+                flagged.add(resume);
+                flaggedCounter.increment();
+                logger.info("Resume {} nearly duplicates resume {} (estimated similarity {})", resume.getId(),
+                        best.resumeId(), best.similarity());
+            }
+        }
+        return flagged;
+    }
+
+    /**
+     * Flags resumes like {@link #flagNearDuplicates} and adds them in the same step.
+     * Two resumes of a job posting stored at the same time would otherwise both be
+     * checked before either is indexed and miss each other. One lock covers all job
+     * postings; the lookups it guards take microseconds.
+     *
+     * @return the resumes that were flagged
+     */
+    public synchronized List<Resume> flagAndAdd(List<Resume> resumes) {
+        List<Resume> flagged = flagNearDuplicates(resumes);
+        resumes.forEach(this::add);
+        return flagged;
+    }
+
+    /**
+     * All groups of near-duplicate resumes, per job posting
+     */
+    public List<MinHashLshIndex.Cluster> clusters() {
+        return index.clusters(minSimilarity);
+    }
+
+    /**
+     * Whether the initial build is still running, in which case results may be incomplete
+     */
+    public boolean isBuilding() {
+        return building;
+    }
+
+    private int[] signatureOf(Resume resume) {
+        int[] signature = MinHasher.fromBytes(resume.getMinhashSignature());
+        return signature != null && signature.length == hasher.getNumHashes() ? signature : null;
+    }
+
+    private static MinHashLshIndex.Match first(List<MinHashLshIndex.Match> matches) {
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    private void build() {
+        long startTime = System.currentTimeMillis();
+        int signatureBytes = hasher.getNumHashes() * Integer.BYTES;
+        long signed = 0;
+        try {
+            long cursor = 0;
+            List<Resume> chunk;
+            while (!(chunk = resumeBatchRepository.findSignaturesAfter(cursor, signatureBytes, buildChunkSize)).isEmpty()) {
+                List<Resume> unsigned = new ArrayList<>();
+                for (Resume resume : chunk) {
+                    if (signatureOf(resume) == null && resume.getExtractedText() != null) {
+                        resume.setMinhashSignature(signature(resume.getExtractedText()));
+                        unsigned.add(resume);
+                    }
+                    // Resumes indexed meanwhile by a live write are newer than this read
+                    if (signatureOf(resume) != null && !index.contains(resume.getId())) {
+                        add(resume);
+                    }
+                }
+                resumeBatchRepository.updateSignatures(unsigned, batchSize);
+                signed += unsigned.size();
+                cursor = chunk.get(chunk.size() - 1).getId();
+            }
+            logger.info("Built near-duplicate index with {} resumes in {} ms, {} signed from their text",
+                    index.size(), System.currentTimeMillis() - startTime, signed);
+        } catch (RuntimeException e) {
+            logger.error("Near-duplicate index build failed: {}", e.getMessage(), e);
+        } finally {
+            building = false;
+        }
+    }
+}
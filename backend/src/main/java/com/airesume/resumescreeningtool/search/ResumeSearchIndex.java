@@ -0,0 +1,371 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Full-text index over the extracted text of all resumes, kept in memory and
+ * persisted as segment files under {@code resume.search.index-dir}.
+ * <p>
+ * Resumes are indexed as their text is stored and removed when they are deleted.
+ * Changes since the last flush are written as a new segment every
+ * {@code resume.search.flush-interval-ms}; once there are more than
+ * {@code resume.search.max-segments} segments they are replaced by a single snapshot.
+ * On startup the segments are loaded in order, and the index is rebuilt from the
+ * database in the background if they are missing, corrupt, or hold a different
+ * number of resumes than the database. Changes lost in a crash can leave that count
+ * unchanged, for example a deletion and an upload that were both not flushed, so every
+ * {@code resume.search.verify-interval-ms} the indexed resume ids are compared with the
+ * database one by one and the index is rebuilt if they differ. Lost re-extractions of
+ * a resume that stays indexed are not detected; a FILE backfill indexes them again.
+ * <p>
+ * When resume search runs in PostgreSQL ({@code resume.search.engine=database}) the
+ * index stays empty: nothing is loaded, rebuilt or indexed.
+ */
+@Service
+public class ResumeSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeSearchIndex.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseTextSearch databaseTextSearch;
+
+    @Value("${resume.search.index-dir}")
+    private String indexDir;
+
+    @Value("${resume.search.max-segments}")
+    private int maxSegments;
+
+    @Value("${resume.backfill.chunk-size}")
+    private int rebuildChunkSize;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    // Changes not yet written to a segment, guarded by this
+    private Map<Long, InvertedIndex.Document> pendingAdds = new LinkedHashMap<>();
+    private Set<Long> pendingRemovals = new LinkedHashSet<>();
+
+    // Resumes removed while a rebuild runs, which its database reads may still return; guarded by this
+    private Set<Long> removedDuringRebuild = new HashSet<>();
+
+    private long nextSegment;
+
+    private boolean loadFailed;
+
+    private volatile boolean rebuilding;
+
+    private Timer searchTimer;
+
+    @PostConstruct
+    public void open() throws IOException {
+        searchTimer = meterRegistry.timer("resume.search.query");
+        Gauge.builder("resume.search.documents", index, InvertedIndex::size).register(meterRegistry);
+        Gauge.builder("resume.search.terms", index, InvertedIndex::termCount).register(meterRegistry);
+        if (isDisabled()) {
+            return;
+        }
+
+        Path directory = Files.createDirectories(Paths.get(indexDir));
+        List<Path> segments = listSegments(directory);
+        try {
+            for (Path segment : segments) {
+                try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(segment))) {
+                    index.load(inputStream);
+                }
+            }
+            logger.info("Loaded search index with {} resumes from {} segment(s)", index.size(), segments.size());
+        } catch (IOException e) {
+            logger.warn("Search index in {} could not be loaded, it will be rebuilt: {}", directory, e.getMessage());
+            index.clear();
+            loadFailed = true;
+        }
+        nextSegment = segments.isEmpty() ? 1 : segmentNumber(segments.get(segments.size() - 1)) + 1;
+    }
+
+    /**
+     * Rebuilds the index from the database if it does not match it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyAgainstDatabase() {
+        if (isDisabled()) {
+            return;
+        }
+        long expected = resumeRepository.countByExtractedTextIsNotNull();
+        if (!loadFailed && expected == index.size()) {
+            return;
+        }
+        logger.info("Search index holds {} of {} resumes with text, rebuilding", index.size(), expected);
+        startRebuild();
+    }
+
+    /**
+     * Compares the ids of the indexed resumes with those of the resumes with text in the
+     * database, and rebuilds the index if they differ. Differences are checked against the
+     * index again at the end, so uploads and deletions made during the walk do not count.
+     */
+    @Scheduled(initialDelayString = "${resume.search.verify-interval-ms}",
+               fixedDelayString = "${resume.search.verify-interval-ms}")
+    public void verifyIds() {
+        if (isDisabled() || rebuilding) {
+            return;
+        }
+        long[] indexed = index.resumeIds();
+        List<Long> missing = new ArrayList<>();
+        List<Long> extra = new ArrayList<>();
+        int position = 0;
+        long cursor = 0;
+        List<Long> ids;
+        while (!(ids = resumeBatchRepository.findIdsWithTextAfter(cursor, rebuildChunkSize)).isEmpty()) {
+            for (long id : ids) {
+                while (position < indexed.length && indexed[position] < id) {
+                    extra.add(indexed[position++]);
+                }
+                if (position < indexed.length && indexed[position] == id) {
+                    position++;
+                } else {
+                    missing.add(id);
+                }
+            }
+            cursor = ids.get(ids.size() - 1);
+        }
+        while (position < indexed.length) {
+            extra.add(indexed[position++]);
+        }
+
+        missing.removeIf(index::contains);
+        extra.removeIf(id -> !index.contains(id));
+        if (missing.isEmpty() && extra.isEmpty()) {
+            return;
+        }
+        logger.warn("Search index is missing {} resume(s) and holds {} deleted one(s), rebuilding",
+                missing.size(), extra.size());
+        startRebuild();
+    }
+
+    /**
+     * Adds or replaces the text of a resume
+     */
+    public void index(Resume resume) {
+        if (isDisabled()) {
+            return;
+        }
+        if (resume.getExtractedText() == null) {
+            remove(resume.getId());
+            return;
+        }
+        InvertedIndex.Document document = new InvertedIndex.Document(resume.getId(), resume.getJobPosting().getId(),
+                TextAnalyzer.analyze(resume.getExtractedText()));
+        synchronized (this) {
+            index.add(document);
+            pendingAdds.put(document.resumeId(), document);
+        }
+    }
+
+    public void remove(Long resumeId) {
+        if (isDisabled()) {
+            return;
+        }
+        synchronized (this) {
+            index.remove(resumeId);
+            pendingAdds.remove(resumeId);
+            pendingRemovals.add(resumeId);
+            if (rebuilding) {
+                removedDuringRebuild.add(resumeId);
+            }
+        }
+    }
+
+    /**
+     * Ranked resume ids for a query
+     *
+     * @param jobPostingId only search resumes for this job posting, or null for all
+     */
+    public InvertedIndex.SearchResult search(SearchQuery query, Long jobPostingId, int offset, int limit) {
+        return searchTimer.record(() -> index.search(query, jobPostingId, offset, limit));
+    }
+
+    /**
+     * Whether a rebuild from the database is still running, in which case results may be incomplete
+     */
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    /**
+     * Writes changes since the last flush to a new segment
+     */
+    @Scheduled(initialDelayString = "${resume.search.flush-interval-ms}",
+               fixedDelayString = "${resume.search.flush-interval-ms}")
+    public synchronized void flush() {
+        if (pendingAdds.isEmpty() && pendingRemovals.isEmpty()) {
+            return;
+        }
+        List<InvertedIndex.Document> added = new ArrayList<>(pendingAdds.values());
+        Set<Long> removed = pendingRemovals;
+        try {
+            writeSegment(out -> InvertedIndex.writeSegment(out, removed, added));
+            pendingAdds = new LinkedHashMap<>();
+            pendingRemovals = new LinkedHashSet<>();
+            if (listSegments(Paths.get(indexDir)).size() > maxSegments) {
+                compact();
+            }
+        } catch (IOException e) {
+            // Keep the changes pending and try again on the next flush
+            logger.error("Could not write search index segment: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces all segments with one snapshot of the index
+     */
+    public synchronized void compact() throws IOException {
+        List<Path> previous = listSegments(Paths.get(indexDir));
+        index.purgeDeleted();
+        writeSegment(index::writeSnapshot);
+        pendingAdds = new LinkedHashMap<>();
+        pendingRemovals = new LinkedHashSet<>();
+        for (Path segment : previous) {
+            Files.deleteIfExists(segment);
+        }
+        logger.info("Compacted {} search index segment(s) into one snapshot of {} resumes", previous.size(), index.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private boolean isDisabled() {
+        return databaseTextSearch.isResumeSearchEnabled();
+    }
+
+    private void startRebuild() {
+        Thread thread = new Thread(this::rebuild, "resume-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            synchronized (this) {
+                rebuilding = true;
+                removedDuringRebuild = new HashSet<>();
+                index.clear();
+                pendingAdds = new LinkedHashMap<>();
+                pendingRemovals = new LinkedHashSet<>();
+            }
+            long cursor = 0;
+            List<Resume> chunk;
+            while (!(chunk = resumeBatchRepository.findChunkAfter(cursor, rebuildChunkSize)).isEmpty()) {
+                for (Resume resume : chunk) {
+                    if (resume.getExtractedText() == null) {
+                        continue;
+                    }
+                    InvertedIndex.Document document = new InvertedIndex.Document(resume.getId(),
+                            resume.getJobPosting().getId(), TextAnalyzer.analyze(resume.getExtractedText()));
+                    // Straight into the index: the snapshot at the end persists everything at once.
+                    // Resumes indexed or removed meanwhile by a live write are newer than this read.
+                    synchronized (this) {
+                        if (!index.contains(resume.getId()) && !removedDuringRebuild.contains(resume.getId())) {
+                            index.add(document);
+                        }
+                    }
+                }
+                cursor = chunk.get(chunk.size() - 1).getId();
+            }
+            compact();
+            loadFailed = false;
+            logger.info("Rebuilt search index with {} resumes in {} ms", index.size(), System.currentTimeMillis() - startTime);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Search index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+                removedDuringRebuild = new HashSet<>();
+            }
+        }
+    }
+
+    private interface SegmentContent {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Writes the next segment under a temporary name and moves it into place, so a
+     * crash never leaves a partial segment behind
+     */
+    private void writeSegment(SegmentContent content) throws IOException {
+        Path directory = Files.createDirectories(Paths.get(indexDir));
+        Path target = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, nextSegment, SEGMENT_SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            content.writeTo(outputStream);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        nextSegment++;
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns resume text into a fixed-length vector for similarity search, without any
+ * external model.
+ * <p>
+ * Features are the analyzed terms of the text (see {@link TextAnalyzer}), pairs of
+ * adjacent terms, and the dictionary skills found in it. Each feature is hashed to one
+ * of {@code dimensions} slots with a hashed sign, weighted by {@code 1 + ln(count)} so a
+ * word repeated fifty times does not drown out the rest, and the vector is scaled to
+ * unit length. The dot product of two vectors is then their cosine similarity. Skills
+ * weigh more than words, since two resumes sharing Kubernetes and Terraform say more
+ * than two resumes sharing "managed".
+ */
+public final class ResumeVectorizer {
+
+    private static final float BIGRAM_WEIGHT = 0.5f;
+    private static final float SKILL_WEIGHT = 3.0f;
+
+    private final int dimensions;
+
+    public ResumeVectorizer(int dimensions) {
+        if (dimensions < 8) {
+            throw new IllegalArgumentException("A resume vector needs at least 8 dimensions");
+        }
+        this.dimensions = dimensions;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * The unit-length vector of a text and the skills found in it, or the zero vector,
+     * which is similar to nothing, if the text has no terms and no skills
+     */
+    public float[] vectorize(String text, Collection<String> skillIds) {
+        Map<String, Integer> counts = new HashMap<>();
+        List<TextAnalyzer.Token> tokens = TextAnalyzer.analyze(text);
+        for (int i = 0; i < tokens.size(); i++) {
+            counts.merge(tokens.get(i).term(), 1, Integer::sum);
+        }
+
+        float[] vector = new float[dimensions];
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            addFeature(vector, mix(entry.getKey().hashCode()), weight(entry.getValue()));
+        }
+
+        Map<Long, Integer> bigrams = new HashMap<>();
+        for (int i = 1; i < tokens.size(); i++) {
+            long pair = ((long) tokens.get(i - 1).term().hashCode() << 32) | (tokens.get(i).term().hashCode() & 0xFFFFFFFFL);
+            bigrams.merge(pair, 1, Integer::sum);
+        }
+        for (Map.Entry<Long, Integer> entry : bigrams.entrySet()) {
+            addFeature(vector, mix(Long.hashCode(entry.getKey() * 0x9E3779B97F4A7C15L)), BIGRAM_WEIGHT * weight(entry.getValue()));
+        }
+
+        for (String skillId : skillIds) {
+            addFeature(vector, mix(("skill:" + skillId).hashCode()), SKILL_WEIGHT);
+        }
+
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return vector;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    private void addFeature(float[] vector, int hash, float weight) {
+        // The low bit picks the sign, so colliding features cancel out on average instead of piling up
+        int slot = Math.floorMod(hash >>> 1, dimensions);
+        vector[slot] += (hash & 1) == 0 ? weight : -weight;
+    }
+
+    private static float weight(int count) {
+        return 1 + (float) Math.log(count);
+    }
+
+    /**
+     * MurmurHash3 finalizer, so similar strings land in unrelated slots
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
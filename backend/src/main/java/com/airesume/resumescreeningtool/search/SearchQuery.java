@@ -0,0 +1,65 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A parsed full-text query. Words are analyzed like indexed text; documents are ranked
+ * by all query terms, and every "quoted phrase" must also appear with its words adjacent
+ * and in order.
+ */
+public final class SearchQuery {
+
+    private static final int MAX_TERMS = 32;
+
+    private final Set<String> terms;
+    private final List<List<TextAnalyzer.Token>> phrases;
+
+    private SearchQuery(Set<String> terms, List<List<TextAnalyzer.Token>> phrases) {
+        this.terms = terms;
+        this.phrases = phrases;
+    }
+
+    /**
+     * Parses a query string
+     *
+     * @throws IllegalArgumentException if the query has no searchable words or too many of them
+     */
+    public static SearchQuery parse(String query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        List<List<TextAnalyzer.Token>> phrases = new ArrayList<>();
+
+        String[] parts = query.split("\"", -1);
+        for (int i = 0; i < parts.length; i++) {
+            List<TextAnalyzer.Token> tokens = TextAnalyzer.analyze(parts[i]);
+            tokens.forEach(token -> terms.add(token.term()));
+            // Odd parts sit between quotes; an unbalanced trailing quote is treated as plain text
+            if (i % 2 == 1 && i < parts.length - 1 && tokens.size() > 1) {
+                phrases.add(tokens);
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query has no searchable words");
+        }
+        if (terms.size() > MAX_TERMS) {
+            throw new IllegalArgumentException("Search query has more than " + MAX_TERMS + " distinct words");
+        }
+        return new SearchQuery(terms, phrases);
+    }
+
+    public Set<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Terms of each quoted phrase with their positions in the phrase
+     */
+    public List<List<TextAnalyzer.Token>> getPhrases() {
+        return phrases;
+    }
+}
@@ -0,0 +1,290 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.parsing.SkillDictionary;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * "More resumes like this one": a vector of every resume with text (see
+ * {@link ResumeVectorizer}) in an {@link HnswIndex}, persisted as a single snapshot
+ * file at {@code resume.similar.index-file}.
+ * <p>
+ * Resumes are added as their text is stored and removed when they are deleted. The
+ * snapshot is rewritten every {@code resume.similar.flush-interval-ms} if anything
+ * changed, after building a fresh graph if more than a fifth of the nodes are
+ * tombstones of removed resumes. On startup the snapshot is loaded, and the index is
+ * rebuilt from the database in the background if it is missing, corrupt, built with
+ * other settings, or holds a different number of resumes than the database.
+ */
+@Service
+public class SimilarResumeIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarResumeIndex.class);
+
+    private static final long SEED = 0x5245534D;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${resume.similar.index-file}")
+    private String indexFile;
+
+    @Value("${resume.similar.dimensions}")
+    private int dimensions;
+
+    @Value("${resume.similar.max-connections}")
+    private int maxConnections;
+
+    @Value("${resume.similar.ef-construction}")
+    private int efConstruction;
+
+    @Value("${resume.similar.ef-search}")
+    private int efSearch;
+
+    @Value("${resume.parsing.max-chars}")
+    private int maxSkillScanChars;
+
+    @Value("${resume.backfill.chunk-size}")
+    private int rebuildChunkSize;
+
+    private ResumeVectorizer vectorizer;
+
+    private volatile HnswIndex index;
+
+    // Whether the index changed since the snapshot was written, guarded by this
+    private boolean dirty;
+
+    // Resumes removed while a rebuild runs, which its database reads may still return; guarded by this
+    private Set<Long> removedDuringRebuild = new HashSet<>();
+
+    private boolean loadFailed;
+
+    private volatile boolean rebuilding;
+
+    private Timer searchTimer;
+
+    @PostConstruct
+    public void open() {
+        vectorizer = new ResumeVectorizer(dimensions);
+        index = newIndex();
+        searchTimer = meterRegistry.timer("resume.similar.query");
+        Gauge.builder("resume.similar.documents", this, self -> self.index.size()).register(meterRegistry);
+
+        Path file = Paths.get(indexFile);
+        if (!Files.exists(file)) {
+            loadFailed = true;
+            return;
+        }
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+            HnswIndex loaded = HnswIndex.read(inputStream, SEED);
+            if (loaded.getDimensions() != dimensions) {
+                logger.info("Similarity index in {} has {} dimensions instead of {}, it will be rebuilt",
+                        file, loaded.getDimensions(), dimensions);
+                loadFailed = true;
+                return;
+            }
+            index = loaded;
+            logger.info("Loaded similarity index with {} resumes", loaded.size());
+        } catch (IOException e) {
+            logger.warn("Similarity index in {} could not be loaded, it will be rebuilt: {}", file, e.getMessage());
+            loadFailed = true;
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database if it does not match it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyAgainstDatabase() {
+        long expected = resumeRepository.countByExtractedTextIsNotNull();
+        if (!loadFailed && expected == index.size()) {
+            return;
+        }
+        logger.info("Similarity index holds {} of {} resumes with text, rebuilding", index.size(), expected);
+        synchronized (this) {
+            rebuilding = true;
+            removedDuringRebuild = new HashSet<>();
+        }
+        Thread thread = new Thread(this::rebuild, "resume-similar-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Adds or replaces the vector of a resume
+     */
+    public void index(Resume resume) {
+        if (resume.getExtractedText() == null) {
+            remove(resume.getId());
+            return;
+        }
+        float[] vector = vectorize(resume.getExtractedText());
+        synchronized (this) {
+            index.add(resume.getId(), vector);
+            dirty = true;
+        }
+    }
+
+    public void remove(Long resumeId) {
+        synchronized (this) {
+            if (index.remove(resumeId)) {
+                dirty = true;
+            }
+            if (rebuilding) {
+                removedDuringRebuild.add(resumeId);
+            }
+        }
+    }
+
+    /**
+     * The vector of a resume: the indexed one, or computed from its text if it is not indexed (yet)
+     */
+    public float[] vectorOf(Resume resume) {
+        float[] vector = index.getVector(resume.getId());
+        return vector != null ? vector : vectorize(resume.getExtractedText());
+    }
+
+    /**
+     * The resumes most similar to a vector, best first
+     */
+    public List<HnswIndex.Neighbor> search(float[] vector, int k, Long excludeResumeId) {
+        long exclude = excludeResumeId != null ? excludeResumeId : -1;
+        return searchTimer.record(() -> index.search(vector, k, efSearch, exclude));
+    }
+
+    /**
+     * Whether a rebuild from the database is still running, in which case results may be incomplete
+     */
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    /**
+     * Rewrites the snapshot if the index changed, dropping tombstones first if there are many
+     */
+    @Scheduled(initialDelayString = "${resume.similar.flush-interval-ms}",
+               fixedDelayString = "${resume.similar.flush-interval-ms}")
+    public synchronized void flush() {
+        if (!dirty || rebuilding) {
+            return;
+        }
+        if (index.deletedCount() > index.size() / 5) {
+            index = index.withoutDeleted();
+        }
+        try {
+            writeSnapshot();
+            dirty = false;
+        } catch (IOException e) {
+            // Try again on the next flush
+            logger.error("Could not write similarity index snapshot: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private HnswIndex newIndex() {
+        return new HnswIndex(dimensions, maxConnections, efConstruction, SEED);
+    }
+
+    private float[] vectorize(String text) {
+        return vectorizer.vectorize(text, skillDictionary.match(text, maxSkillScanChars));
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            synchronized (this) {
+                index = newIndex();
+            }
+            long cursor = 0;
+            List<Resume> chunk;
+            while (!(chunk = resumeBatchRepository.findChunkAfter(cursor, rebuildChunkSize)).isEmpty()) {
+                for (Resume resume : chunk) {
+                    if (resume.getExtractedText() == null || index.contains(resume.getId())) {
+                        continue;
+                    }
+                    float[] vector = vectorize(resume.getExtractedText());
+                    // Resumes indexed or removed meanwhile by a live write are newer than this read
+                    synchronized (this) {
+                        if (!index.contains(resume.getId()) && !removedDuringRebuild.contains(resume.getId())) {
+                            index.add(resume.getId(), vector);
+                        }
+                    }
+                }
+                cursor = chunk.get(chunk.size() - 1).getId();
+            }
+            synchronized (this) {
+                writeSnapshot();
+                dirty = false;
+            }
+            loadFailed = false;
+            logger.info("Rebuilt similarity index with {} resumes in {} ms", index.size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Similarity index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+                removedDuringRebuild = new HashSet<>();
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot under a temporary name and moves it into place, so a crash
+     * never leaves a partial snapshot behind
+     */
+    private void writeSnapshot() throws IOException {
+        Path target = Paths.get(indexFile).toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            index.writeTo(outputStream);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,235 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns text into the terms stored in the search index: runs of letters and digits,
+ * lowercased, with stop words dropped and English suffixes stemmed. Positions count
+ * every token including stop words, so phrases only match words that were adjacent.
+ * A trailing {@code +} or {@code #} stays part of the token, which keeps skills like
+ * C++ and C# apart from C.
+ */
+public final class TextAnalyzer {
+
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "in", "into",
+            "is", "it", "its", "of", "on", "or", "our", "such", "that", "the", "their", "then", "there", "these",
+            "they", "this", "to", "was", "were", "will", "with", "within");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * A term and its token position in the text
+     */
+    public record Token(String term, int position) {
+    }
+
+    /**
+     * Terms of a text in order, with their positions
+     */
+    public static List<Token> analyze(String text) {
+        List<Token> tokens = new ArrayList<>();
+        int position = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            while (i < length && i - start < MAX_TOKEN_LENGTH && (text.charAt(i) == '+' || text.charAt(i) == '#')) {
+                i++;
+            }
+            if (i - start <= MAX_TOKEN_LENGTH) {
+                String term = normalize(text.substring(start, i).toLowerCase(Locale.ROOT));
+                if (term != null) {
+                    tokens.add(new Token(term, position));
+                }
+            }
+            position++;
+        }
+        return tokens;
+    }
+
+    /**
+     * Index term for a single lowercased word, or null for a stop word
+     */
+    static String normalize(String word) {
+        if (STOP_WORDS.contains(word)) {
+            return null;
+        }
+        return stem(word);
+    }
+
+    /**
+     * Light Porter stemmer: steps 1, 2 and 5a, which fold plurals, -ed/-ing forms, the
+     * common derivational suffixes and a final e ("managed", "managing" and "manages"
+     * all become "manag"). Steps 3 and 4 strip so much that skill names start to
+     * collide, so they are left out. Words with digits or symbols are kept as they are.
+     */
+    static String stem(String word) {
+        if (word.length() <= 3) {
+            return word;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return word;
+            }
+        }
+        StringBuilder w = new StringBuilder(word);
+        step1a(w);
+        step1b(w);
+        step1c(w);
+        step2(w);
+        step5a(w);
+        return w.toString();
+    }
+
+    private static void step1a(StringBuilder w) {
+        if (endsWith(w, "sses") || endsWith(w, "ies")) {
+            w.setLength(w.length() - 2);
+        } else if (!endsWith(w, "ss") && !endsWith(w, "us") && endsWith(w, "s")) {
+            w.setLength(w.length() - 1);
+        }
+    }
+
+    private static void step1b(StringBuilder w) {
+        if (endsWith(w, "eed")) {
+            if (measure(w, w.length() - 3) > 0) {
+                w.setLength(w.length() - 1);
+            }
+            return;
+        }
+        int suffix = endsWith(w, "ed") ? 2 : endsWith(w, "ing") ? 3 : 0;
+        if (suffix == 0 || !containsVowel(w, w.length() - suffix)) {
+            return;
+        }
+        w.setLength(w.length() - suffix);
+        if (endsWith(w, "at") || endsWith(w, "bl") || endsWith(w, "iz")) {
+            w.append('e');
+        } else if (endsWithDoubleConsonant(w) && !endsWith(w, "l") && !endsWith(w, "s") && !endsWith(w, "z")) {
+            w.setLength(w.length() - 1);
+        } else if (measure(w, w.length()) == 1 && endsWithCvc(w)) {
+            w.append('e');
+        }
+    }
+
+    private static void step1c(StringBuilder w) {
+        if (endsWith(w, "y") && containsVowel(w, w.length() - 1)) {
+            w.setCharAt(w.length() - 1, 'i');
+        }
+    }
+
+    private static final String[][] STEP2 = {
+            {"ational", "ate"}, {"tional", "tion"}, {"enci", "ence"}, {"anci", "ance"}, {"izer", "ize"},
+            {"abli", "able"}, {"alli", "al"}, {"entli", "ent"}, {"eli", "e"}, {"ousli", "ous"},
+            {"ization", "ize"}, {"ation", "ate"}, {"ator", "ate"}, {"alism", "al"}, {"iveness", "ive"},
+            {"fulness", "ful"}, {"ousness", "ous"}, {"aliti", "al"}, {"iviti", "ive"}, {"biliti", "ble"}};
+
+    private static void step2(StringBuilder w) {
+        for (String[] rule : STEP2) {
+            if (endsWith(w, rule[0])) {
+                int stemLength = w.length() - rule[0].length();
+                if (measure(w, stemLength) > 0) {
+                    w.setLength(stemLength);
+                    w.append(rule[1]);
+                }
+                return;
+            }
+        }
+    }
+
+    private static void step5a(StringBuilder w) {
+        if (!endsWith(w, "e")) {
+            return;
+        }
+        int m = measure(w, w.length() - 1);
+        if (m > 1) {
+            w.setLength(w.length() - 1);
+        } else if (m == 1) {
+            w.setLength(w.length() - 1);
+            if (endsWithCvc(w)) {
+                w.append('e');
+            }
+        }
+    }
+
+    private static boolean endsWith(StringBuilder w, String suffix) {
+        int offset = w.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (w.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConsonant(StringBuilder w, int i) {
+        char c = w.charAt(i);
+        if (c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u') {
+            return false;
+        }
+        return c != 'y' || i == 0 || !isConsonant(w, i - 1);
+    }
+
+    private static boolean containsVowel(StringBuilder w, int end) {
+        for (int i = 0; i < end; i++) {
+            if (!isConsonant(w, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Porter's m: the number of vowel-consonant sequences in the first {@code end} characters
+     */
+    private static int measure(StringBuilder w, int end) {
+        int m = 0;
+        int i = 0;
+        while (i < end && isConsonant(w, i)) {
+            i++;
+        }
+        while (i < end) {
+            while (i < end && !isConsonant(w, i)) {
+                i++;
+            }
+            if (i >= end) {
+                break;
+            }
+            m++;
+            while (i < end && isConsonant(w, i)) {
+                i++;
+            }
+        }
+        return m;
+    }
+
+    private static boolean endsWithDoubleConsonant(StringBuilder w) {
+        int n = w.length();
+        return n >= 2 && w.charAt(n - 1) == w.charAt(n - 2) && isConsonant(w, n - 1);
+    }
+
+    private static boolean endsWithCvc(StringBuilder w) {
+        int n = w.length();
+        if (n < 3 || !isConsonant(w, n - 1) || isConsonant(w, n - 2) || !isConsonant(w, n - 3)) {
+            return false;
+        }
+        char c = w.charAt(n - 1);
+        return c != 'w' && c != 'x' && c != 'y';
+    }
+}
@@ -0,0 +1,327 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over candidate names and emails for typo-tolerant lookup.
+ * <p>
+ * Text is split into trigrams the way PostgreSQL's pg_trgm does it: lower-cased
+ * words of letters and digits, each padded with two spaces in front and one behind.
+ * The similarity of a candidate is the share of the query's trigrams it contains,
+ * like pg_trgm's {@code word_similarity}, so "jon smith" still finds "John Smith"
+ * and a partial email finds the full one. Ties go to the candidate with fewer
+ * trigrams of its own, i.e. the closer overall match.
+ * <p>
+ * A candidate needs at least {@code ceil(minSimilarity * queryTrigrams)} shared
+ * trigrams, so only the rarest {@code queryTrigrams - required + 1} posting lists
+ * have to be read to find every candidate; the remaining trigrams are checked per
+ * candidate. That keeps common trigrams like the ones in "example.com" off the hot
+ * path. Removing a candidate only marks it deleted, as in {@link InvertedIndex}.
+ * Reads run concurrently; writes take an exclusive lock.
+ */
+public final class TrigramIndex {
+
+    public record Match(long resumeId, float similarity) {
+    }
+
+    // More shared trigrams first, then fewer trigrams of the candidate's own, then the older resume
+    private static final Comparator<Candidate> WORST_FIRST = (a, b) -> {
+        if (a.shared() != b.shared()) {
+            return Integer.compare(a.shared(), b.shared());
+        }
+        if (a.size() != b.size()) {
+            return Integer.compare(b.size(), a.size());
+        }
+        return Long.compare(b.resumeId(), a.resumeId());
+    };
+
+    private static final ThreadLocal<int[]> SCRATCH_COUNTS = ThreadLocal.withInitial(() -> new int[1024]);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> termIds = new HashMap<>();
+    private final Map<Long, Integer> docByResumeId = new HashMap<>();
+    private int[][] postings = new int[1024][];
+    private int[] postingSizes = new int[1024];
+    private long[] resumeIds = new long[1024];
+    // Sorted term ids of every document back to back, so checking candidates in document order reads memory in order
+    private int[] docTerms = new int[16384];
+    private int[] docStarts = new int[1025];
+    private int[] docSizes = new int[1024];
+    private int maxDoc;
+
+    /**
+     * Adds a candidate, replacing any earlier entry for the same resume
+     */
+    public void add(long resumeId, String name, String email) {
+        long[] trigrams = union(trigrams(name), trigrams(email));
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByResumeId.remove(resumeId);
+            if (previous != null) {
+                docSizes[previous] = -1;
+            }
+            int doc = maxDoc++;
+            if (doc == resumeIds.length) {
+                resumeIds = Arrays.copyOf(resumeIds, doc * 2);
+                docStarts = Arrays.copyOf(docStarts, doc * 2 + 1);
+                docSizes = Arrays.copyOf(docSizes, doc * 2);
+            }
+            int start = docStarts[doc];
+            if (start + trigrams.length > docTerms.length) {
+                docTerms = Arrays.copyOf(docTerms, Math.max(docTerms.length * 2, start + trigrams.length));
+            }
+            for (int i = 0; i < trigrams.length; i++) {
+                int term = termId(trigrams[i]);
+                docTerms[start + i] = term;
+                appendPosting(term, doc);
+            }
+            Arrays.sort(docTerms, start, start + trigrams.length);
+            resumeIds[doc] = resumeId;
+            docSizes[doc] = trigrams.length;
+            docStarts[doc + 1] = start + trigrams.length;
+            docByResumeId.put(resumeId, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a candidate from the index
+     *
+     * @return false if it was not indexed
+     */
+    public boolean remove(long resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByResumeId.remove(resumeId);
+            if (doc == null) {
+                return false;
+            }
+            docSizes[doc] = -1;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of live candidates
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByResumeId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            docByResumeId.clear();
+            postings = new int[1024][];
+            postingSizes = new int[1024];
+            resumeIds = new long[1024];
+            docTerms = new int[16384];
+            docStarts = new int[1025];
+            docSizes = new int[1024];
+            maxDoc = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The best matching candidates for a name or email, most similar first
+     *
+     * @param minSimilarity share of the query's trigrams a candidate must contain, in (0, 1]
+     */
+    public List<Match> search(String query, float minSimilarity, int limit) {
+        long[] queryTrigrams = trigrams(query);
+        if (queryTrigrams.length == 0 || limit < 1) {
+            return List.of();
+        }
+        int required = Math.max(1, (int) Math.ceil(minSimilarity * queryTrigrams.length - 1e-6));
+
+        lock.readLock().lock();
+        try {
+            // Trigrams nobody has can never be shared; the rest are read rarest first
+            int[] terms = Arrays.stream(queryTrigrams)
+                    .mapToObj(termIds::get)
+                    .filter(id -> id != null)
+                    .sorted(Comparator.comparingInt(id -> postingSizes[id]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            if (terms.length < required) {
+                return List.of();
+            }
+            int prefix = terms.length - required + 1;
+
+            int[] counts = scratchCounts(maxDoc);
+            int[] touched = new int[64];
+            int touchedCount = 0;
+            for (int t = 0; t < prefix; t++) {
+                int[] posting = postings[terms[t]];
+                for (int i = 0, size = postingSizes[terms[t]]; i < size; i++) {
+                    int doc = posting[i];
+                    if (counts[doc]++ == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = doc;
+                    }
+                }
+            }
+
+            PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            // Once there are enough matches, a candidate has to share at least as many trigrams as the worst of them
+            int needed = required;
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                int shared = counts[doc];
+                counts[doc] = 0;
+                int size = docSizes[doc];
+                if (size < 0) {
+                    continue;
+                }
+                int start = docStarts[doc];
+                for (int t = prefix; t < terms.length && shared + terms.length - t >= needed; t++) {
+                    if (Arrays.binarySearch(docTerms, start, start + size, terms[t]) >= 0) {
+                        shared++;
+                    }
+                }
+                if (shared < needed) {
+                    continue;
+                }
+                if (top.size() == limit && !beats(shared, size, resumeIds[doc], top.peek())) {
+                    continue;
+                }
+                top.add(new Candidate(resumeIds[doc], shared, size));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+                if (top.size() == limit) {
+                    needed = top.peek().shared();
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Candidate candidate = top.poll();
+                matches.add(new Match(candidate.resumeId(), (float) candidate.shared() / queryTrigrams.length));
+            }
+            Collections.reverse(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A zeroed array of per-document counters for the calling thread. Searches leave it
+     * zeroed again, so a lookup over a million candidates does not allocate megabytes.
+     */
+    private static int[] scratchCounts(int size) {
+        int[] counts = SCRATCH_COUNTS.get();
+        if (counts.length < size) {
+            counts = new int[Math.max(size, counts.length * 2)];
+            SCRATCH_COUNTS.set(counts);
+        }
+        return counts;
+    }
+
+    /**
+     * Sorted distinct trigrams of a text, three chars packed into a long
+     */
+    static long[] trigrams(String text) {
+        if (text == null || text.isEmpty()) {
+            return new long[0];
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        long[] trigrams = new long[lower.length() * 2 + 8];
+        int count = 0;
+        int i = 0;
+        while (i < lower.length()) {
+            if (!Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < lower.length() && Character.isLetterOrDigit(lower.charAt(end))) {
+                end++;
+            }
+            // "  word " as in pg_trgm
+            char a = ' ';
+            char b = ' ';
+            for (int j = i; j <= end; j++) {
+                char c = j < end ? lower.charAt(j) : ' ';
+                if (count == trigrams.length) {
+                    trigrams = Arrays.copyOf(trigrams, count * 2);
+                }
+                trigrams[count++] = ((long) a << 32) | ((long) b << 16) | c;
+                a = b;
+                b = c;
+            }
+            i = end;
+        }
+        long[] sorted = Arrays.copyOf(trigrams, count);
+        Arrays.sort(sorted);
+        return Arrays.stream(sorted).distinct().toArray();
+    }
+
+    private static long[] union(long[] first, long[] second) {
+        long[] all = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        Arrays.sort(all);
+        return Arrays.stream(all).distinct().toArray();
+    }
+
+    private int termId(long trigram) {
+        Integer id = termIds.get(trigram);
+        if (id != null) {
+            return id;
+        }
+        int newId = termIds.size();
+        termIds.put(trigram, newId);
+        if (newId == postings.length) {
+            postings = Arrays.copyOf(postings, newId * 2);
+            postingSizes = Arrays.copyOf(postingSizes, newId * 2);
+        }
+        postings[newId] = new int[4];
+        return newId;
+    }
+
+    private void appendPosting(int term, int doc) {
+        int size = postingSizes[term];
+        if (size == postings[term].length) {
+            postings[term] = Arrays.copyOf(postings[term], size * 2);
+        }
+        postings[term][size] = doc;
+        postingSizes[term] = size + 1;
+    }
+
+    private static boolean beats(int shared, int size, long resumeId, Candidate worst) {
+        if (shared != worst.shared()) {
+            return shared > worst.shared();
+        }
+        if (size != worst.size()) {
+            return size < worst.size();
+        }
+        return resumeId < worst.resumeId();
+    }
+
+    private record Candidate(long resumeId, int shared, int size) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.repository.CandidateMatchView;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.search.CandidateLookupIndex;
+import com.airesume.resumescreeningtool.search.DatabaseTextSearch;
+import com.airesume.resumescreeningtool.search.TrigramIndex;
+
+/**
+ * Typo-tolerant lookup of candidates by name or email.
+ * <p>
+ * Candidates are ranked by the share of the query's trigrams found in their name or
+ * email. PostgreSQL answers from the pg_trgm indexes, with
+ * {@code pg_trgm.word_similarity_threshold} (0.6 unless set on the database) as the
+ * cut-off; elsewhere the in-memory {@link CandidateLookupIndex} applies
+ * {@code resume.candidate-lookup.min-similarity}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CandidateLookupService {
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private CandidateLookupIndex candidateLookupIndex;
+
+    @Autowired
+    private DatabaseTextSearch databaseTextSearch;
+
+    @Value("${resume.candidate-lookup.min-similarity}")
+    private float minSimilarity;
+
+    @Value("${resume.candidate-lookup.max-results}")
+    private int maxResults;
+
+    /**
+     * A resume whose candidate matched a lookup, with a similarity between 0 and 1
+     */
+    public record CandidateMatch(Resume resume, float similarity) {
+    }
+
+    /**
+     * Matches, most similar first. Partial while the in-memory index is still being built.
+     */
+    public record LookupResults(List<CandidateMatch> matches, boolean partial) {
+    }
+
+    public LookupResults lookup(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Lookup query must not be empty");
+        }
+        if (limit < 1 || limit > maxResults) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxResults);
+        }
+        String text = query.trim();
+
+        List<Long> ids;
+        List<Float> similarities;
+        boolean partial;
+        if (databaseTextSearch.isAvailable()) {
+            List<CandidateMatchView> found = resumeRepository.findSimilarCandidates(text, limit);
+            ids = found.stream().map(CandidateMatchView::getId).toList();
+            similarities = found.stream().map(CandidateMatchView::getSimilarity).toList();
+            partial = false;
+        } else {
+            partial = candidateLookupIndex.isBuilding();
+            List<TrigramIndex.Match> found = candidateLookupIndex.search(text, minSimilarity, limit);
+            ids = found.stream().map(TrigramIndex.Match::resumeId).toList();
+            similarities = found.stream().map(TrigramIndex.Match::similarity).toList();
+        }
+
+        Map<Long, Resume> resumes = resumeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Resume::getId, Function.identity()));
+        List<CandidateMatch> matches = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Resume resume = resumes.get(ids.get(i));
+            if (resume != null) {
+                matches.add(new CandidateMatch(resume, similarities.get(i)));
+            } else {
+                // Deleted while the index was being built
+                candidateLookupIndex.remove(ids.get(i));
+            }
+        }
+        return new LookupResults(matches, partial);
+    }
+}
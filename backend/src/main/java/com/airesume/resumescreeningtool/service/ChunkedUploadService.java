@@ -0,0 +1,474 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.dto.ChunkedUploadStatusDto;
+import com.airesume.resumescreeningtool.entity.Resume;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Resumable uploads sent in chunks.
+ * An upload starts with the candidate details and the final file size; the server
+ * preallocates a partial file of that size and each chunk is written straight to
+ * its offset with positional channel writes, so chunks may arrive out of order,
+ * in parallel, or be resent after a dropped connection. Completing the upload
+ * hashes the partial file in place and hands it to the regular upload path.
+ * Sessions that see no activity for the configured time are expired together
+ * with their partial files.
+ * <p>
+ * Each session's details and received ranges are kept in a small properties file
+ * next to its partial file, rewritten after every chunk, so uploads in progress
+ * survive a restart and resume from their next missing offset.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private static final String PARTIAL_DIR = ".partial";
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final String SESSION_SUFFIX = ".session";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Value("${file.upload.chunked.max-chunk-size}")
+    private long maxChunkSize;
+
+    @Value("${file.upload.chunked.expiry-ms}")
+    private long expiryMs;
+
+    @Value("${file.upload.chunked.max-sessions}")
+    private int maxSessions;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Reloads the sessions of uploads that were in progress before a restart
+     */
+    @PostConstruct
+    public void restoreSessions() {
+        Path partialDir = partialDir();
+        if (!Files.isDirectory(partialDir)) {
+            return;
+        }
+        int restored = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(partialDir, "*" + SESSION_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    UploadSession session = readSession(file);
+                    if (Files.exists(session.partialFile)) {
+                        sessions.put(session.uploadId, session);
+                        restored++;
+                    } else {
+                        deleteFile(file);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // Left for the expiry sweep
+                    logger.warn("Could not restore chunked upload from {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not scan partial uploads: {}", e.getMessage());
+        }
+        if (restored > 0) {
+            logger.info("Restored {} chunked upload(s) in progress", restored);
+        }
+    }
+
+    /**
+     * Starts a chunked upload after checking the application and file details up front
+     */
+    public ChunkedUploadStatusDto startUpload(Long jobPostingId, String candidateName, String candidateEmail,
+                                              String candidatePhone, String fileName, long fileSize) throws IOException {
+        resumeService.validateNewApplication(jobPostingId, candidateEmail);
+        String filename = fileUploadService.validateFilename(fileName);
+        if (fileSize <= 0) {
+            throw new IllegalArgumentException("Cannot store empty file");
+        }
+        if (fileSize > fileUploadService.getMaxSize()) {
+            throw new IllegalArgumentException("File size exceeds maximum allowed size of "
+                    + (fileUploadService.getMaxSize() / 1024 / 1024) + "MB");
+        }
+        if (sessions.size() >= maxSessions) {
+            throw new IllegalStateException("Too many uploads in progress, please retry later");
+        }
+
+        Path partialDir = partialDir();
+        Files.createDirectories(partialDir);
+        String uploadId = UUID.randomUUID().toString();
+        Path partialFile = partialDir.resolve(uploadId + PARTIAL_SUFFIX);
+        try (RandomAccessFile file = new RandomAccessFile(partialFile.toFile(), "rw")) {
+            file.setLength(fileSize);
+        }
+
+        UploadSession session = new UploadSession(uploadId, jobPostingId, candidateName, candidateEmail,
+                candidatePhone, filename, fileSize, partialFile);
+        writeSession(session);
+        sessions.put(uploadId, session);
+        logger.info("Started chunked upload {} for {} ({} bytes)", uploadId, filename, fileSize);
+        return toStatus(session);
+    }
+
+    /**
+     * Writes one chunk at the given offset. Resending a chunk simply overwrites the same bytes.
+     */
+    public ChunkedUploadStatusDto writeChunk(String uploadId, long offset, InputStream body) throws IOException {
+        UploadSession session = getSession(uploadId);
+        session.lock.readLock().lock();
+        try {
+            if (session.closed) {
+                throw new IllegalArgumentException("Upload not found or expired: " + uploadId);
+            }
+            if (offset < 0 || offset >= session.fileSize) {
+                throw new IllegalArgumentException("Offset " + offset + " is outside the file (0-" + (session.fileSize - 1) + ")");
+            }
+
+            long position = offset;
+            try (FileChannel channel = FileChannel.open(session.partialFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+                int read;
+                while ((read = body.read(buffer.array(), 0, buffer.capacity())) != -1) {
+                    if (position + read > session.fileSize) {
+                        throw new IllegalArgumentException("Chunk extends past the declared file size of " + session.fileSize + " bytes");
+                    }
+                    if (position + read - offset > maxChunkSize) {
+                        throw new IllegalArgumentException("Chunk exceeds the maximum chunk size of " + maxChunkSize + " bytes");
+                    }
+                    buffer.position(0).limit(read);
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                }
+            }
+            // Only fully written chunks count as received
+            session.markReceived(offset, position);
+            writeSession(session);
+            return toStatus(session);
+        } finally {
+            session.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reports how much of an upload has arrived
+     */
+    public ChunkedUploadStatusDto getStatus(String uploadId) {
+        return toStatus(getSession(uploadId));
+    }
+
+    /**
+     * Finishes an upload once every byte has arrived and stores the resume through
+     * the regular upload path, which queues it for text extraction
+     */
+    public Resume completeUpload(String uploadId) throws IOException {
+        UploadSession session = getSession(uploadId);
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                throw new IllegalArgumentException("Upload not found or expired: " + uploadId);
+            }
+            long received = session.receivedBytes();
+            if (received < session.fileSize) {
+                throw new IllegalStateException("Upload is incomplete: " + received + " of " + session.fileSize
+                        + " bytes received, next missing offset is " + session.nextOffset());
+            }
+            session.closed = true;
+            sessions.remove(uploadId);
+            deleteFile(sessionFile(session.partialFile));
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+
+        FileUploadService.FileUploadResult staged;
+        try {
+            staged = fileUploadService.stageWrittenFile(session.partialFile, session.fileName);
+        } catch (IOException | RuntimeException e) {
+            deletePartialFile(session.partialFile);
+            throw e;
+        }
+        logger.info("Completed chunked upload {} for {}", uploadId, session.fileName);
+        return resumeService.uploadStagedResume(session.jobPostingId, session.candidateName,
+                session.candidateEmail, session.candidatePhone, staged);
+    }
+
+    /**
+     * Abandons an upload and removes its partial file
+     */
+    public void cancelUpload(String uploadId) {
+        UploadSession session = getSession(uploadId);
+        close(session);
+        logger.info("Cancelled chunked upload {}", uploadId);
+    }
+
+    /**
+     * Expires sessions without recent activity, along with partial files left behind by
+     * sessions that no longer exist (for example after a restart)
+     */
+    @Scheduled(fixedDelayString = "${file.upload.chunked.cleanup-interval-ms}")
+    public void expireStaleUploads() {
+        long cutoff = System.currentTimeMillis() - expiryMs;
+        int expired = 0;
+        for (UploadSession session : sessions.values()) {
+            if (session.lastActivity < cutoff && session.lock.writeLock().tryLock()) {
+                try {
+                    if (!session.closed) {
+                        session.closed = true;
+                        sessions.remove(session.uploadId);
+                        deletePartialFile(session.partialFile);
+                        expired++;
+                    }
+                } finally {
+                    session.lock.writeLock().unlock();
+                }
+            }
+        }
+
+        Path partialDir = partialDir();
+        if (Files.isDirectory(partialDir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(partialDir, "*" + PARTIAL_SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    String uploadId = name.substring(0, name.length() - PARTIAL_SUFFIX.length());
+                    if (!sessions.containsKey(uploadId) && Files.getLastModifiedTime(file).toMillis() < cutoff) {
+                        deletePartialFile(file);
+                        expired++;
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Could not scan partial uploads: {}", e.getMessage());
+            }
+        }
+        if (expired > 0) {
+            logger.info("Expired {} stale chunked upload(s)", expired);
+        }
+    }
+
+    private UploadSession getSession(String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            throw new IllegalArgumentException("Upload not found or expired: " + uploadId);
+        }
+        return session;
+    }
+
+    private void close(UploadSession session) {
+        session.lock.writeLock().lock();
+        try {
+            if (!session.closed) {
+                session.closed = true;
+                sessions.remove(session.uploadId);
+                deletePartialFile(session.partialFile);
+            }
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a partial file together with its session file
+     */
+    private void deletePartialFile(Path partialFile) {
+        deleteFile(partialFile);
+        deleteFile(sessionFile(partialFile));
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not remove partial upload '{}': {}", file, e.getMessage());
+        }
+    }
+
+    private static Path sessionFile(Path partialFile) {
+        String name = partialFile.getFileName().toString();
+        return partialFile.resolveSibling(name.substring(0, name.length() - PARTIAL_SUFFIX.length()) + SESSION_SUFFIX);
+    }
+
+    /**
+     * Replaces the session file of an upload with its current state
+     */
+    private void writeSession(UploadSession session) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("jobPostingId", String.valueOf(session.jobPostingId));
+        properties.setProperty("candidateName", session.candidateName);
+        properties.setProperty("candidateEmail", session.candidateEmail);
+        if (session.candidatePhone != null) {
+            properties.setProperty("candidatePhone", session.candidatePhone);
+        }
+        properties.setProperty("fileName", session.fileName);
+        properties.setProperty("fileSize", String.valueOf(session.fileSize));
+
+        Path sessionFile = sessionFile(session.partialFile);
+        Path tempFile = Files.createTempFile(sessionFile.getParent(), ".session-", ".tmp");
+        try {
+            // Concurrent chunks take turns, so the file always ends with the latest ranges
+            synchronized (session) {
+                properties.setProperty("receivedRanges", session.encodeRanges());
+                try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                    properties.store(writer, null);
+                }
+                Files.move(tempFile, sessionFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static UploadSession readSession(Path sessionFile) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(sessionFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        String name = sessionFile.getFileName().toString();
+        String uploadId = name.substring(0, name.length() - SESSION_SUFFIX.length());
+        UploadSession session = new UploadSession(uploadId, Long.valueOf(properties.getProperty("jobPostingId")),
+                properties.getProperty("candidateName"), properties.getProperty("candidateEmail"),
+                properties.getProperty("candidatePhone"), properties.getProperty("fileName"),
+                Long.parseLong(properties.getProperty("fileSize")), sessionFile.resolveSibling(uploadId + PARTIAL_SUFFIX));
+        session.decodeRanges(properties.getProperty("receivedRanges", ""));
+        session.lastActivity = Files.getLastModifiedTime(sessionFile).toMillis();
+        return session;
+    }
+
+    private Path partialDir() {
+        return Paths.get(fileUploadService.getUploadDir()).resolve(PARTIAL_DIR);
+    }
+
+    private ChunkedUploadStatusDto toStatus(UploadSession session) {
+        long received = session.receivedBytes();
+        return ChunkedUploadStatusDto.builder()
+                .uploadId(session.uploadId)
+                .fileName(session.fileName)
+                .fileSize(session.fileSize)
+                .receivedBytes(received)
+                .nextOffset(session.nextOffset())
+                .complete(received == session.fileSize)
+                .maxChunkSize(maxChunkSize)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(session.lastActivity + expiryMs), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * State of one upload. Chunk writes share the read lock so they can run in
+     * parallel; completing, cancelling and expiring take the write lock.
+     */
+    private static class UploadSession {
+        private final String uploadId;
+        private final Long jobPostingId;
+        private final String candidateName;
+        private final String candidateEmail;
+        private final String candidatePhone;
+        private final String fileName;
+        private final long fileSize;
+        private final Path partialFile;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        // Received byte ranges as start -> end (exclusive), kept merged
+        private final TreeMap<Long, Long> receivedRanges = new TreeMap<>();
+        private volatile long lastActivity = System.currentTimeMillis();
+        private boolean closed;
+
+        UploadSession(String uploadId, Long jobPostingId, String candidateName, String candidateEmail,
+                      String candidatePhone, String fileName, long fileSize, Path partialFile) {
+            this.uploadId = uploadId;
+            this.jobPostingId = jobPostingId;
+            this.candidateName = candidateName;
+            this.candidateEmail = candidateEmail;
+            this.candidatePhone = candidatePhone;
+            this.fileName = fileName;
+            this.fileSize = fileSize;
+            this.partialFile = partialFile;
+        }
+
+        synchronized void markReceived(long start, long end) {
+            lastActivity = System.currentTimeMillis();
+            if (end <= start) {
+                return;
+            }
+            Map.Entry<Long, Long> before = receivedRanges.floorEntry(start);
+            if (before != null && before.getValue() >= start) {
+                start = before.getKey();
+                end = Math.max(end, before.getValue());
+            }
+            Map.Entry<Long, Long> next = receivedRanges.ceilingEntry(start);
+            while (next != null && next.getKey() <= end) {
+                end = Math.max(end, next.getValue());
+                receivedRanges.remove(next.getKey());
+                next = receivedRanges.ceilingEntry(start);
+            }
+            receivedRanges.put(start, end);
+        }
+
+        synchronized String encodeRanges() {
+            StringBuilder encoded = new StringBuilder();
+            for (Map.Entry<Long, Long> range : receivedRanges.entrySet()) {
+                if (encoded.length() > 0) {
+                    encoded.append(',');
+                }
+                encoded.append(range.getKey()).append('-').append(range.getValue());
+            }
+            return encoded.toString();
+        }
+
+        synchronized void decodeRanges(String encoded) {
+            for (String range : encoded.split(",")) {
+                int dash = range.indexOf('-');
+                if (dash > 0) {
+                    receivedRanges.put(Long.parseLong(range.substring(0, dash)), Long.parseLong(range.substring(dash + 1)));
+                }
+            }
+        }
+
+        synchronized long receivedBytes() {
+            long total = 0;
+            for (Map.Entry<Long, Long> range : receivedRanges.entrySet()) {
+                total += range.getValue() - range.getKey();
+            }
+            return total;
+        }
+
+        synchronized long nextOffset() {
+            Map.Entry<Long, Long> first = receivedRanges.firstEntry();
+            if (first == null || first.getKey() > 0) {
+                return 0;
+            }
+            return first.getValue();
+        }
+    }
+}
@@ -1,27 +1,24 @@
 package com.airesume.resumescreeningtool.service;
 
-import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
-
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
-import org.apache.poi.hwpf.HWPFDocument;
-import org.apache.poi.hwpf.extractor.WordExtractor;
-import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import java.util.Locale;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,6 +26,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.airesume.resumescreeningtool.extraction.ExtractionCache;
+import com.airesume.resumescreeningtool.extraction.ExtractionRunner;
+import com.airesume.resumescreeningtool.extraction.FormatSignatures;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -37,6 +40,21 @@ public class FileUploadService {
 
     private static final Logger logger = LoggerFactory.getLogger(FileUploadService.class);
 
+    /**
+     * Version of the extraction logic; bump it whenever extractor output changes so
+     * cached text from older extractors is no longer served
+     */
+    public static final String EXTRACTOR_VERSION = "4";
+
+    // Leading bytes checked against the format signatures before a file is accepted
+    private static final int SNIFF_BYTES = 4096;
+
+    private final ExtractionCache extractionCache;
+
+    private final ExtractionRunner extractionRunner;
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${file.upload.dir}")
     private String uploadDir;
 
@@ -49,50 +67,332 @@ public class FileUploadService {
     @Value("${file.upload.supported-extensions}")
     private String supportedExtensions;
 
+    @Value("${file.upload.sniffing.mismatch-action}")
+    private String mismatchAction;
+
+    // Settings that change the extracted text, fingerprinted into the cache version
+    @Value("${resume.extraction.pdf.max-pages}")
+    private int pdfMaxPages;
+
+    @Value("${resume.extraction.preferred:}")
+    private String preferredExtractors;
+
+    @Value("${resume.extraction.trials:}")
+    private String extractorTrials;
+
+    private volatile String extractionCacheVersion;
+
     private List<String> getSupportedExtensions() {
         return Arrays.asList(supportedExtensions.split(","));
     }
 
     /**
-     * Stores the uploaded file and returns file information
+     * Stages the uploaded file in the content-addressed store and returns file information.
+     * The multipart body is read exactly once: it is hashed while being streamed
+     * into a temporary file in the upload directory, and text extraction later
+     * works from the stored blob, so the document is never buffered on the heap.
+     * The staged file becomes visible under its content address only once
+     * {@link StoredFileService#acquire} takes the first reference to it and moves it
+     * into place with {@link #commitStagedFile(FileUploadResult, Path)}.
      */
     public FileUploadResult storeFile(MultipartFile file) throws IOException {
         validateFile(file);
 
+        String originalFilenameRaw = file.getOriginalFilename();
+        if (originalFilenameRaw == null) {
+            throw new IllegalArgumentException("File must have a name");
+        }
+        String originalFilename = StringUtils.cleanPath(originalFilenameRaw);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return stageStream(inputStream, originalFilename, file.getContentType(), true);
+        }
+    }
+
+    /**
+     * Stages content that does not arrive as a multipart part, such as an archive entry.
+     * The filename is validated up front and the size limit is enforced while streaming;
+     * the content type is derived from the file extension.
+     */
+    public FileUploadResult storeStream(InputStream inputStream, String originalFilename) throws IOException {
+        String filename = validateFilename(originalFilename);
+        FileUploadResult result = stageStream(inputStream, filename, contentTypeForExtension(getFileExtension(filename)), true);
+        if (result.getFileSize() == 0) {
+            discardStagedFile(result);
+            throw new IllegalArgumentException("Cannot store empty file");
+        }
+        return result;
+    }
+
+    /**
+     * Streams the content into a temporary file in the upload directory while computing
+     * its SHA-256 hash. The returned result carries the blob path derived from the hash.
+     * The leading bytes are sniffed before the rest is read, so content of no supported
+     * format is refused without writing the whole upload; only a zip, whose central
+     * directory at the end decides whether it is a DOCX, is checked after writing.
+     */
+    private FileUploadResult stageStream(InputStream inputStream, String originalFilename, String contentType,
+                                         boolean enforceContent) throws IOException {
         // Create upload directory if it doesn't exist
         Path uploadPath = Paths.get(uploadDir);
         if (!Files.exists(uploadPath)) {
             Files.createDirectories(uploadPath);
         }
 
-        // Generate unique filename
-        String originalFilenameRaw = file.getOriginalFilename();
-        if (originalFilenameRaw == null) {
-            throw new IllegalArgumentException("File must have a name");
+        MessageDigest digest = newContentDigest();
+        Path stagedFile = Files.createTempFile(uploadPath, ".upload-", ".tmp");
+        long bytesWritten;
+        String extension = null;
+        try (DigestInputStream digestStream = new DigestInputStream(new SizeLimitedInputStream(inputStream, maxSize), digest)) {
+            byte[] header = new byte[SNIFF_BYTES];
+            int length = digestStream.readNBytes(header, 0, header.length);
+            boolean zip = FormatSignatures.isZip(header, length);
+            if (!zip) {
+                extension = sniffExtension(header, length, null, originalFilename, enforceContent);
+            }
+            try (OutputStream outputStream = Files.newOutputStream(stagedFile)) {
+                outputStream.write(header, 0, length);
+                bytesWritten = length + digestStream.transferTo(outputStream);
+            }
+            if (zip) {
+                extension = sniffExtension(header, length, stagedFile, originalFilename, enforceContent);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedFile);
+            throw e;
         }
-        String originalFilename = StringUtils.cleanPath(originalFilenameRaw);
-        String fileExtension = getFileExtension(originalFilename);
-        String uniqueFilename = generateUniqueFilename(originalFilename);
 
-        // Store file
-        Path targetLocation = uploadPath.resolve(uniqueFilename);
-        Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        if (!extension.equals(getFileExtension(originalFilename).toLowerCase())) {
+            contentType = contentTypeForExtension(extension);
+        }
+        return stagedResult(stagedFile, originalFilename, extension, contentType, digest, bytesWritten);
+    }
 
-        // Extract text content
-        String extractedText = extractTextFromFile(file, fileExtension);
+    /**
+     * Stages a file that has already been written inside the upload directory, such
+     * as a completed chunked upload. The file is hashed in place and becomes the
+     * staged copy itself, so committing it is a rename rather than another copy.
+     */
+    public FileUploadResult stageWrittenFile(Path file, String originalFilename) throws IOException {
+        String filename = validateFilename(originalFilename);
+        long size = Files.size(file);
+        if (size == 0) {
+            throw new IllegalArgumentException("Cannot store empty file");
+        }
+        if (size > maxSize) {
+            throw new IllegalArgumentException("File size exceeds maximum allowed size of " + (maxSize / 1024 / 1024) + "MB");
+        }
 
-        logger.info("File stored successfully: {}", uniqueFilename);
+        byte[] header = new byte[SNIFF_BYTES];
+        int length;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            length = inputStream.readNBytes(header, 0, header.length);
+        }
+        String extension = sniffExtension(header, length, file, filename, true);
+
+        MessageDigest digest = newContentDigest();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return stagedResult(file, filename, extension, contentTypeForExtension(extension), digest, size);
+    }
+
+    private FileUploadResult stagedResult(Path stagedFile, String originalFilename, String extension, String contentType,
+                                          MessageDigest digest, long bytesWritten) {
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+        String storedFilename = contentHash + "." + extension;
+        Path blobLocation = blobPath(storedFilename);
+
+        logger.info("File staged: {} -> {} ({} bytes)", originalFilename, storedFilename, bytesWritten);
 
         return FileUploadResult.builder()
                 .originalFilename(originalFilename)
-                .storedFilename(uniqueFilename)
-                .filePath(targetLocation.toString())
-                .fileSize(file.getSize())
-                .contentType(file.getContentType())
-                .extractedText(extractedText)
+                .storedFilename(storedFilename)
+                .filePath(blobLocation.toString())
+                .stagedPath(stagedFile)
+                .contentHash(contentHash)
+                .fileSize(bytesWritten)
+                .contentType(contentType)
                 .build();
     }
 
+    /**
+     * Location of a blob in the sharded store. Blobs fan out over two directory levels
+     * named after the first two byte pairs of the content hash, e.g.
+     * {@code ab/cd/abcd1234....pdf}, so no single directory grows past a few thousand entries.
+     */
+    public Path blobPath(String storedFilename) {
+        return Paths.get(uploadDir)
+                .resolve(storedFilename.substring(0, 2))
+                .resolve(storedFilename.substring(2, 4))
+                .resolve(storedFilename);
+    }
+
+    /**
+     * Moves a staged file to the location of its blob. If the blob is already stored
+     * the staged copy is simply dropped, so identical uploads share one physical file.
+     * Callers serialize this per hash through the stored file row.
+     */
+    public void commitStagedFile(FileUploadResult result, Path blobLocation) throws IOException {
+        Path stagedFile = result.getStagedPath();
+        if (stagedFile == null) {
+            return;
+        }
+        if (Files.exists(blobLocation)) {
+            Files.deleteIfExists(stagedFile);
+            logger.info("Reusing stored blob: {}", result.getStoredFilename());
+        } else {
+            Files.createDirectories(blobLocation.getParent());
+            Files.move(stagedFile, blobLocation, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("File stored successfully: {}", result.getStoredFilename());
+        }
+        result.filePath = blobLocation.toString();
+        result.stagedPath = null;
+    }
+
+    /**
+     * Makes an existing file available at a second location, preferring a hard link so
+     * both paths stay readable until the old one is removed. Falls back to a copy that
+     * is moved into place atomically when the file system does not support links.
+     *
+     * @return true if the target was created, false if it already existed
+     */
+    public boolean linkIntoPlace(Path source, Path target) throws IOException {
+        if (Files.exists(target)) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | IOException e) {
+            Path copy = Files.createTempFile(target.getParent(), ".migrate-", ".tmp");
+            try {
+                Files.copy(source, copy, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(copy, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(copy);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the stored path of a file. While the store is being migrated a path
+     * read from the database may already have moved to the sharded layout.
+     */
+    public Path resolveStoredPath(String filePath) {
+        Path path = Paths.get(filePath);
+        if (Files.exists(path)) {
+            return path;
+        }
+        String filename = path.getFileName().toString();
+        if (filename.length() > 4) {
+            Path sharded = blobPath(filename);
+            if (Files.exists(sharded)) {
+                return sharded;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Stages a copy of a file that is already on disk, such as a resume stored before
+     * the content-addressed layout existed
+     */
+    public FileUploadResult stageExistingFile(Path file, String originalFilename) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            // Files accepted before content sniffing existed are routed but never rejected
+            return stageStream(inputStream, originalFilename, contentTypeForExtension(getFileExtension(originalFilename)), false);
+        }
+    }
+
+    /**
+     * Removes a staged file that will not be committed
+     */
+    public void discardStagedFile(FileUploadResult result) {
+        Path stagedFile = result.getStagedPath();
+        if (stagedFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(stagedFile);
+        } catch (IOException e) {
+            logger.warn("Could not remove staged file '{}': {}", stagedFile, e.getMessage());
+        }
+        result.stagedPath = null;
+    }
+
+    /**
+     * Checks the first bytes of a file against the signatures of the supported
+     * formats, before any document parser sees it. Content matching none of them is
+     * rejected; content of a different supported format than the extension claims is
+     * either stored under the detected format or rejected, depending on
+     * {@code file.upload.sniffing.mismatch-action}. Mismatches are counted in
+     * {@code file.upload.content.mismatch}.
+     *
+     * @param stagedFile the complete file, needed only when the header is a zip
+     * @param enforce false to only route, never reject
+     * @return the extension the file is stored and extracted under
+     */
+    private String sniffExtension(byte[] header, int length, Path stagedFile, String originalFilename,
+                                  boolean enforce) throws IOException {
+        String declared = getFileExtension(originalFilename).toLowerCase();
+        if (length == 0) {
+            // Empty files are rejected by the callers
+            return declared;
+        }
+
+        String detected = FormatSignatures.detectFormat(header, length);
+        if ("zip".equals(detected)) {
+            // The word/ parts start past the sniffed window; the central directory settles it
+            detected = hasWordPart(stagedFile) ? "docx" : null;
+        }
+        if (detected != null && !getSupportedExtensions().contains(detected)) {
+            detected = null;
+        }
+
+        if (detected == null) {
+            if (!enforce) {
+                logger.warn("Content of {} matches no supported format; keeping .{}", originalFilename, declared);
+                return declared;
+            }
+            countMismatch(declared, "unknown", "rejected");
+            throw new IllegalArgumentException("File content does not match any supported format: " + originalFilename);
+        }
+        if (detected.equals(declared)) {
+            return declared;
+        }
+        if (enforce && "reject".equals(mismatchAction)) {
+            countMismatch(declared, detected, "rejected");
+            throw new IllegalArgumentException("File content is " + detected.toUpperCase(Locale.ROOT)
+                    + " but the file is named ." + declared + ": " + originalFilename);
+        }
+        countMismatch(declared, detected, "routed");
+        logger.info("Content of {} is {}; storing it as .{}", originalFilename, detected.toUpperCase(Locale.ROOT), detected);
+        return detected;
+    }
+
+    private static boolean hasWordPart(Path file) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            return zip.stream().anyMatch(entry -> entry.getName().startsWith("word/"));
+        } catch (ZipException e) {
+            return false;
+        }
+    }
+
+    private void countMismatch(String declared, String detected, String action) {
+        meterRegistry.counter("file.upload.content.mismatch",
+                "declared", declared, "detected", detected, "action", action).increment();
+    }
+
+    private static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     /**
      * Validates the uploaded file
      */
@@ -105,7 +405,19 @@ public class FileUploadService {
             throw new IllegalArgumentException("File size exceeds maximum allowed size of " + (maxSize / 1024 / 1024) + "MB");
         }
 
-        String originalName = file.getOriginalFilename();
+        String contentType = file.getContentType();
+        List<String> allowedTypeList = Arrays.asList(allowedTypes.split(","));
+        if (!allowedTypeList.contains(contentType)) {
+            throw new IllegalArgumentException("File type not supported: " + contentType);
+        }
+
+        validateFilename(file.getOriginalFilename());
+    }
+
+    /**
+     * Validates a filename and its extension, returning the cleaned filename
+     */
+    public String validateFilename(String originalName) {
         if (originalName == null) {
             throw new IllegalArgumentException("File must have a name");
         }
@@ -114,100 +426,83 @@ public class FileUploadService {
             throw new IllegalArgumentException("Invalid filename: " + filename + ". Filenames cannot contain '..'.");
         }
 
-        String contentType = file.getContentType();
-        List<String> allowedTypeList = Arrays.asList(allowedTypes.split(","));
-        if (!allowedTypeList.contains(contentType)) {
-            throw new IllegalArgumentException("File type not supported: " + contentType);
-        }
-
         String extension = getFileExtension(filename).toLowerCase();
         if (!getSupportedExtensions().contains(extension)) {
             throw new IllegalArgumentException("Unsupported file extension: " + extension + ". Supported extensions are: " + getSupportedExtensions());
         }
+        return filename;
     }
 
     /**
-     * Extracts text content from the uploaded file
+     * Maps a supported file extension to its MIME type
      */
-    private String extractTextFromFile(MultipartFile file, String extension) {
-        try {
-            switch (extension.toLowerCase()) {
-                case "pdf" -> {
-                    return extractTextFromPDF(file.getInputStream());
-                }
-                case "doc" -> {
-                    return extractTextFromDOC(file.getInputStream());
-                }
-                case "docx" -> {
-                    return extractTextFromDOCX(file.getInputStream());
-                }
-                case "txt" -> {
-                    return extractTextFromTXT(file.getInputStream());
-                }
-                default -> {
-                    logger.warn("Unsupported file type for text extraction: {}", extension);
-                    return "";
-                }
-            }
-        } catch (IOException e) {
-            logger.error("Error extracting text from file: {}", e.getMessage());
-            throw new RuntimeException("Failed to extract text from file", e);
-        }
+    public String contentTypeForExtension(String extension) {
+        return switch (extension.toLowerCase()) {
+            case "pdf" -> "application/pdf";
+            case "doc" -> "application/msword";
+            case "docx" -> "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+            case "txt" -> "text/plain";
+            default -> "application/octet-stream";
+        };
     }
 
     /**
-     * Extracts text from PDF file
+     * Extracts text content from a stored blob, serving repeated requests for the
+     * same content from the extraction cache
      */
-    private String extractTextFromPDF(InputStream inputStream) throws IOException {
-        byte[] fileBytes = inputStream.readAllBytes();
-        try (PDDocument document = Loader.loadPDF(fileBytes)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+    public String extractTextFromFile(Path file, String extension, String contentHash) {
+        if (contentHash == null) {
+            return extractTextFromFile(file, extension);
         }
+        return extractionCache.get(contentHash, getExtractionCacheVersion(), () -> extractTextFromFile(file, extension));
     }
 
     /**
-     * Extracts text from DOC file
+     * Extracts text content from a stored blob with the current extractors, bypassing
+     * the extraction cache, and stores the result in the cache for later lookups
      */
-    private String extractTextFromDOC(InputStream inputStream) throws IOException {
-        try (HWPFDocument document = new HWPFDocument(inputStream);
-             WordExtractor extractor = new WordExtractor(document)) {
-            return extractor.getText();
+    public String refreshTextFromFile(Path file, String extension, String contentHash) {
+        String text = extractTextFromFile(file, extension);
+        if (contentHash != null) {
+            extractionCache.put(contentHash, getExtractionCacheVersion(), text);
         }
+        return text;
     }
 
     /**
-     * Extracts text from DOCX file
+     * The version cached text is stored under: {@link #EXTRACTOR_VERSION} followed by a
+     * fingerprint of the settings that change extractor output, so text extracted with
+     * other page limits or extractor choices is not served after they change
      */
-    private String extractTextFromDOCX(InputStream inputStream) throws IOException {
-        try (XWPFDocument document = new XWPFDocument(inputStream);
-             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
-            return extractor.getText();
+    public String getExtractionCacheVersion() {
+        String version = extractionCacheVersion;
+        if (version == null) {
+            String settings = "pdf.max-pages=" + pdfMaxPages + ";preferred=" + preferredExtractors.trim()
+                    + ";trials=" + extractorTrials.trim();
+            byte[] fingerprint = newContentDigest().digest(settings.getBytes(StandardCharsets.UTF_8));
+            version = EXTRACTOR_VERSION + "-" + HexFormat.of().formatHex(fingerprint, 0, 4);
+            extractionCacheVersion = version;
         }
+        return version;
     }
 
     /**
-     * Extracts text from a TXT file.
-     *
-     * @param inputStream the input stream of the file
-     * @return the extracted text
-     * @throws IOException if an I/O error occurs
+     * Extracts text content from a stored file within the per-document time and
+     * memory budget of the extraction runner
      */
-    private String extractTextFromTXT(InputStream inputStream) throws IOException {
-        StringBuilder textBuilder = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                textBuilder.append(line).append(System.lineSeparator());
-            }
+    public String extractTextFromFile(Path file, String extension) {
+        try {
+            return extractionRunner.extract(file, extension);
+        } catch (IOException e) {
+            logger.error("Error extracting text from file: {}", e.getMessage());
+            throw new RuntimeException("Failed to extract text from file", e);
         }
-        return textBuilder.toString();
     }
 
     /**
      * Gets file extension from filename
      */
-    private String getFileExtension(String filename) {
+    public String getFileExtension(String filename) {
         if (filename == null || filename.lastIndexOf('.') == -1) {
             return "";
         }
@@ -215,41 +510,32 @@ public class FileUploadService {
     }
 
     /**
-     * Generates unique filename to prevent conflicts
+     * Deletes the file of a resume stored before content addressing, wherever the
+     * layout migration has left it
      */
-    private String generateUniqueFilename(String originalFilename) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        String extension = getFileExtension(originalFilename);
-        String baseName = originalFilename.substring(0, originalFilename.lastIndexOf('.'));
-        
-        // Clean the base name to remove any special characters
-        baseName = baseName.replaceAll("[^a-zA-Z0-9._-]", "_");
-        
-        return String.format("%s_%s_%s.%s", baseName, timestamp, uuid, extension);
+    public boolean deleteFile(String filePath) {
+        return deleteStoredFile(resolveStoredPath(filePath).toString());
     }
 
     /**
-     * Deletes a file from storage
+     * Deletes a stored blob by its full path
      */
-    public boolean deleteFile(String filename) {
+    public boolean deleteStoredFile(String filePath) {
         try {
-            Path filePath = Paths.get(uploadDir).resolve(filename);
-            Files.deleteIfExists(filePath);
-            logger.info("File deleted successfully: {}", filename);
+            Files.deleteIfExists(Paths.get(filePath));
+            logger.info("File deleted successfully: {}", filePath);
             return true;
         } catch (IOException e) {
-            logger.error("Error deleting file '{}': {}", filename, e.getMessage());
+            logger.error("Error deleting file '{}': {}", filePath, e.getMessage());
             return false;
         }
     }
 
     /**
-     * Checks if a file exists in storage
+     * Gets the maximum allowed size of a single resume file in bytes
      */
-    public boolean fileExists(String filename) {
-        Path filePath = Paths.get(uploadDir).resolve(filename);
-        return Files.exists(filePath);
+    public long getMaxSize() {
+        return maxSize;
     }
 
     /**
@@ -259,6 +545,45 @@ public class FileUploadService {
         return uploadDir;
     }
 
+    /**
+     * Stops a stream once it has delivered more than the allowed number of bytes, so
+     * oversized or decompression-bomb entries are rejected while they are copied
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        SizeLimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                checkLimit(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                checkLimit(n);
+            }
+            return n;
+        }
+
+        private void checkLimit(long n) {
+            count += n;
+            if (count > limit) {
+                throw new IllegalArgumentException("File size exceeds maximum allowed size of " + (limit / 1024 / 1024) + "MB");
+            }
+        }
+    }
+
     /**
      * Result class for file upload operations
      */
@@ -266,9 +591,10 @@ public class FileUploadService {
         private String originalFilename;
         private String storedFilename;
         private String filePath;
+        private Path stagedPath;
+        private String contentHash;
         private long fileSize;
         private String contentType;
-        private String extractedText;
 
         // Builder pattern
         public static Builder builder() {
@@ -293,6 +619,16 @@ public class FileUploadService {
                 return this;
             }
 
+            public Builder stagedPath(Path stagedPath) {
+                result.stagedPath = stagedPath;
+                return this;
+            }
+
+            public Builder contentHash(String contentHash) {
+                result.contentHash = contentHash;
+                return this;
+            }
+
             public Builder fileSize(long fileSize) {
                 result.fileSize = fileSize;
                 return this;
@@ -303,11 +639,6 @@ public class FileUploadService {
                 return this;
             }
 
-            public Builder extractedText(String extractedText) {
-                result.extractedText = extractedText;
-                return this;
-            }
-
             public FileUploadResult build() {
                 return result;
             }
@@ -317,8 +648,9 @@ public class FileUploadService {
         public String getOriginalFilename() { return originalFilename; }
         public String getStoredFilename() { return storedFilename; }
         public String getFilePath() { return filePath; }
+        public Path getStagedPath() { return stagedPath; }
+        public String getContentHash() { return contentHash; }
         public long getFileSize() { return fileSize; }
         public String getContentType() { return contentType; }
-        public String getExtractedText() { return extractedText; }
     }
 }
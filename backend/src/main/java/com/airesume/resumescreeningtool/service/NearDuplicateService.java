@@ -0,0 +1,88 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.search.MinHashLshIndex;
+import com.airesume.resumescreeningtool.search.NearDuplicateIndex;
+
+/**
+ * Near-duplicate resumes across everything already stored.
+ * <p>
+ * Resumes are flagged one by one as they are stored (see {@link ResumeService}); this
+ * groups the whole corpus at once from the {@link NearDuplicateIndex}, which covers
+ * resumes stored before near-duplicate detection existed, and can point every resume
+ * of a group at its oldest one.
+ */
+@Service
+@Transactional
+public class NearDuplicateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearDuplicateService.class);
+
+    @Autowired
+    private NearDuplicateIndex nearDuplicateIndex;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Value("${resume.bulk.batch-size}")
+    private int batchSize;
+
+    /**
+     * Groups ordered by their oldest resume. Partial while the index is still being built.
+     */
+    public record ClusterResults(List<MinHashLshIndex.Cluster> clusters, boolean partial) {
+    }
+
+    /**
+     * Groups of near-duplicate resumes, of one job posting or of all of them
+     */
+    @Transactional(readOnly = true)
+    public ClusterResults findClusters(Long jobPostingId) {
+        if (jobPostingId != null && !jobPostingRepository.existsById(jobPostingId)) {
+            throw new IllegalArgumentException("Job posting not found with ID: " + jobPostingId);
+        }
+        boolean partial = nearDuplicateIndex.isBuilding();
+        List<MinHashLshIndex.Cluster> clusters = nearDuplicateIndex.clusters().stream()
+                .filter(cluster -> jobPostingId == null || cluster.jobPostingId() == jobPostingId)
+                .toList();
+        return new ClusterResults(clusters, partial);
+    }
+
+    /**
+     * Groups near-duplicate resumes like {@link #findClusters(Long)} and flags every
+     * resume of a group as a near-duplicate of the group's oldest resume
+     */
+    public ClusterResults flagClusters(Long jobPostingId) {
+        if (nearDuplicateIndex.isBuilding()) {
+            throw new IllegalStateException("The near-duplicate index is still being built");
+        }
+        ClusterResults results = findClusters(jobPostingId);
+        Map<Long, Long> nearDuplicateOf = new HashMap<>();
+        for (MinHashLshIndex.Cluster cluster : results.clusters()) {
+            long[] resumeIds = cluster.resumeIds();
+            nearDuplicateOf.put(resumeIds[0], null);
+            for (int i = 1; i < resumeIds.length; i++) {
+                nearDuplicateOf.put(resumeIds[i], resumeIds[0]);
+            }
+        }
+        resumeBatchRepository.updateNearDuplicates(nearDuplicateOf, batchSize);
+        logger.info("Flagged {} near-duplicate resumes in {} groups", nearDuplicateOf.size() - results.clusters().size(),
+                results.clusters().size());
+        return results;
+    }
+}
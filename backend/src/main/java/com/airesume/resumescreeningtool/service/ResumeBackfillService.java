@@ -0,0 +1,292 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.dto.ResumeBackfillStatusDto;
+import com.airesume.resumescreeningtool.entity.BackfillCheckpoint;
+import com.airesume.resumescreeningtool.entity.BackfillSource;
+import com.airesume.resumescreeningtool.entity.BackfillStatus;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.repository.BackfillCheckpointRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.search.NearDuplicateIndex;
+import com.airesume.resumescreeningtool.search.ResumeSearchIndex;
+import com.airesume.resumescreeningtool.search.SimilarResumeIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Admin-triggered job that parses every stored resume again, so that changes to the
+ * parsing rules reach resumes uploaded before them.
+ * <p>
+ * The job walks the resumes table in id order with a keyset cursor, one chunk at a
+ * time. Each chunk is parsed in parallel on the backfill pool, written back with JDBC
+ * batch updates in one transaction and then recorded in a checkpoint row. After a restart the job
+ * continues after the last checkpointed id; parsing is idempotent, so a chunk that was
+ * written but not yet checkpointed is simply parsed again. Only one backfill runs at
+ * a time.
+ */
+@Service
+public class ResumeBackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeBackfillService.class);
+
+    static final String JOB_NAME = "resume-reparse";
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private BackfillCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private ResumeSearchIndex resumeSearchIndex;
+
+    @Autowired
+    private SimilarResumeIndex similarResumeIndex;
+
+    @Autowired
+    private NearDuplicateIndex nearDuplicateIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("resumeBackfillExecutor")
+    private Executor backfillExecutor;
+
+    @Value("${resume.backfill.chunk-size}")
+    private int chunkSize;
+
+    @Value("${resume.backfill.chunk-delay-ms}")
+    private long chunkDelayMs;
+
+    @Value("${resume.backfill.resume-on-startup}")
+    private boolean resumeOnStartup;
+
+    @Value("${resume.bulk.batch-size}")
+    private int batchSize;
+
+    private Thread worker;
+
+    private volatile boolean cancelRequested;
+
+    private enum Outcome { PROCESSED, SKIPPED, FAILED }
+
+    /**
+     * Starts a backfill. A job that was cancelled or interrupted by a shutdown continues
+     * from its checkpoint unless {@code restart} is set or a different source is asked for.
+     *
+     * @throws IllegalStateException if a backfill is already running
+     */
+    public synchronized ResumeBackfillStatusDto start(BackfillSource source, boolean restart) {
+        if (isRunning()) {
+            throw new IllegalStateException("A resume backfill is already running");
+        }
+        BackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElse(null);
+        if (checkpoint == null || restart || checkpoint.getSource() != source
+                || checkpoint.getStatus() == BackfillStatus.COMPLETED) {
+            checkpoint = new BackfillCheckpoint(JOB_NAME, source);
+        } else {
+            checkpoint.setStatus(BackfillStatus.RUNNING);
+        }
+        launch(checkpointRepository.save(checkpoint));
+        return toStatus(checkpoint);
+    }
+
+    /**
+     * Picks up a backfill that was still running when the application stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void resumeInterruptedBackfill() {
+        if (!resumeOnStartup || isRunning()) {
+            return;
+        }
+        checkpointRepository.findById(JOB_NAME)
+                .filter(checkpoint -> checkpoint.getStatus() == BackfillStatus.RUNNING)
+                .ifPresent(checkpoint -> {
+                    logger.info("Resuming resume backfill after id {}", checkpoint.getLastId());
+                    launch(checkpoint);
+                });
+    }
+
+    /**
+     * Asks the running backfill to stop after its current chunk
+     *
+     * @return false if no backfill was running
+     */
+    public synchronized boolean cancel() {
+        if (!isRunning()) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    /**
+     * Progress of the current or last backfill
+     *
+     * @throws IllegalArgumentException if no backfill has ever been started
+     */
+    public ResumeBackfillStatusDto getStatus() {
+        return checkpointRepository.findById(JOB_NAME)
+                .map(this::toStatus)
+                .orElseThrow(() -> new IllegalArgumentException("No resume backfill has been started"));
+    }
+
+    public synchronized boolean isRunning() {
+        return worker != null && worker.isAlive();
+    }
+
+    /**
+     * Stops the job between chunks on shutdown; its checkpoint stays RUNNING so it is
+     * picked up again on the next start
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            current = worker;
+        }
+        if (current != null) {
+            current.interrupt();
+            current.join(30_000);
+        }
+    }
+
+    private void launch(BackfillCheckpoint checkpoint) {
+        cancelRequested = false;
+        worker = new Thread(() -> run(checkpoint), "resume-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run(BackfillCheckpoint checkpoint) {
+        boolean includeText = checkpoint.getSource() == BackfillSource.FILE;
+        logger.info("Resume backfill from {} started after id {}", checkpoint.getSource(), checkpoint.getLastId());
+        try {
+            while (true) {
+                if (cancelRequested) {
+                    finish(checkpoint, BackfillStatus.CANCELLED);
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    logger.info("Resume backfill stopped at id {}, will resume on restart", checkpoint.getLastId());
+                    return;
+                }
+
+                List<Resume> chunk = resumeBatchRepository.findChunkAfter(checkpoint.getLastId(), chunkSize);
+                if (chunk.isEmpty()) {
+                    finish(checkpoint, BackfillStatus.COMPLETED);
+                    return;
+                }
+                processChunk(checkpoint, chunk, includeText);
+
+                if (chunkDelayMs > 0) {
+                    Thread.sleep(chunkDelayMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.info("Resume backfill stopped at id {}, will resume on restart", checkpoint.getLastId());
+        } catch (RuntimeException e) {
+            logger.error("Resume backfill failed after id {}: {}", checkpoint.getLastId(), e.getMessage(), e);
+            finish(checkpoint, BackfillStatus.FAILED);
+        }
+    }
+
+    private void processChunk(BackfillCheckpoint checkpoint, List<Resume> chunk, boolean includeText) {
+        List<CompletableFuture<Outcome>> futures = new ArrayList<>(chunk.size());
+        for (Resume resume : chunk) {
+            futures.add(CompletableFuture.supplyAsync(() -> reparse(resume, includeText), backfillExecutor));
+        }
+
+        List<Resume> parsed = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Outcome outcome = futures.get(i).join();
+            meterRegistry.counter("resume.backfill.resumes", "outcome", outcome.name().toLowerCase(Locale.ROOT)).increment();
+            switch (outcome) {
+                case PROCESSED -> {
+                    parsed.add(chunk.get(i));
+                    checkpoint.setProcessedCount(checkpoint.getProcessedCount() + 1);
+                }
+                case SKIPPED -> checkpoint.setSkippedCount(checkpoint.getSkippedCount() + 1);
+                case FAILED -> checkpoint.setFailedCount(checkpoint.getFailedCount() + 1);
+            }
+        }
+
+        // Resumes deleted since the chunk was read are neither written nor indexed again
+        List<Resume> updated = resumeBatchRepository.updateParsedFields(parsed, includeText, batchSize);
+        if (includeText) {
+            updated.forEach(resume -> {
+                resumeSearchIndex.index(resume);
+                similarResumeIndex.index(resume);
+                nearDuplicateIndex.add(resume);
+            });
+        }
+        checkpoint.setLastId(chunk.get(chunk.size() - 1).getId());
+        checkpointRepository.save(checkpoint);
+        logger.debug("Resume backfill reparsed {} of {} resumes up to id {}", updated.size(), chunk.size(),
+                checkpoint.getLastId());
+    }
+
+    private Outcome reparse(Resume resume, boolean fromFile) {
+        try {
+            if (fromFile) {
+                // Bypass the extraction cache: the point is to run the current extractors again
+                String extension = fileUploadService.getFileExtension(resume.getFilePath());
+                resume.setExtractedText(fileUploadService.refreshTextFromFile(
+                        fileUploadService.resolveStoredPath(resume.getFilePath()), extension, resume.getContentHash()));
+            }
+            String text = resume.getExtractedText();
+            if (text == null || text.trim().isEmpty()) {
+                return Outcome.SKIPPED;
+            }
+            resumeService.extractResumeInformation(resume, text);
+            return Outcome.PROCESSED;
+        } catch (RuntimeException e) {
+            logger.warn("Resume backfill could not reparse resume {}: {}", resume.getId(), e.getMessage());
+            return Outcome.FAILED;
+        }
+    }
+
+    private void finish(BackfillCheckpoint checkpoint, BackfillStatus status) {
+        checkpoint.setStatus(status);
+        checkpointRepository.save(checkpoint);
+        logger.info("Resume backfill {}: {} reparsed, {} without text, {} failed", status.name().toLowerCase(Locale.ROOT),
+                checkpoint.getProcessedCount(), checkpoint.getSkippedCount(), checkpoint.getFailedCount());
+    }
+
+    private ResumeBackfillStatusDto toStatus(BackfillCheckpoint checkpoint) {
+        return ResumeBackfillStatusDto.builder()
+                .source(checkpoint.getSource())
+                .status(checkpoint.getStatus())
+                .running(isRunning())
+                .lastId(checkpoint.getLastId())
+                .processedCount(checkpoint.getProcessedCount())
+                .skippedCount(checkpoint.getSkippedCount())
+                .failedCount(checkpoint.getFailedCount())
+                .startedAt(checkpoint.getStartedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .build();
+    }
+}
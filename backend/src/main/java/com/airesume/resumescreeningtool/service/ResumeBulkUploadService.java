@@ -0,0 +1,323 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.airesume.resumescreeningtool.dto.BulkUploadEntryResultDto;
+import com.airesume.resumescreeningtool.dto.BulkUploadEntryResultDto.BulkUploadEntryStatus;
+import com.airesume.resumescreeningtool.dto.BulkUploadResponseDto;
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.extraction.ExtractionCapacityExceededException;
+import com.airesume.resumescreeningtool.extraction.ExtractionLimitExceededException;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+
+/**
+ * Imports many resumes for one job posting in a single request.
+ * Archive entries are read sequentially from the ZIP stream and staged on disk one
+ * at a time; extraction and parsing of staged entries run in parallel on the bulk
+ * pool, and all accepted resumes are inserted together at the end.
+ */
+@Service
+public class ResumeBulkUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeBulkUploadService.class);
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    @Qualifier("resumeBulkExecutor")
+    private Executor bulkExecutor;
+
+    @Value("${resume.bulk.max-entries}")
+    private int maxEntries;
+
+    /**
+     * Uploads the resumes contained in a ZIP archive and/or a list of files,
+     * matching each file to its candidate through the CSV manifest
+     */
+    public BulkUploadResponseDto bulkUpload(Long jobPostingId, MultipartFile archive, List<MultipartFile> files,
+                                            MultipartFile manifestFile) throws IOException {
+        long startTime = System.currentTimeMillis();
+
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("Job posting not found with ID: " + jobPostingId));
+
+        if (manifestFile == null || manifestFile.isEmpty()) {
+            throw new IllegalArgumentException("A CSV manifest is required");
+        }
+        ResumeManifest manifest;
+        try (InputStream inputStream = manifestFile.getInputStream()) {
+            manifest = ResumeManifest.parse(inputStream);
+        }
+
+        BulkContext context = new BulkContext(jobPosting, manifest, findAlreadyApplied(jobPosting, manifest));
+        try {
+            if (archive != null && !archive.isEmpty()) {
+                try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+                    ZipEntry zipEntry;
+                    while ((zipEntry = zip.getNextEntry()) != null) {
+                        if (zipEntry.isDirectory() || isIgnoredEntry(zipEntry.getName())) {
+                            continue;
+                        }
+                        accept(context, zipEntry.getName(), StreamUtils.nonClosing(zip));
+                    }
+                }
+            }
+            if (files != null) {
+                for (MultipartFile file : files) {
+                    if (file.isEmpty()) {
+                        continue;
+                    }
+                    try (InputStream inputStream = file.getInputStream()) {
+                        accept(context, file.getOriginalFilename(), inputStream);
+                    }
+                }
+            }
+            if (context.entries.isEmpty()) {
+                throw new IllegalArgumentException("No resume files were provided");
+            }
+
+            persistExtracted(context);
+        } finally {
+            // After an abort, extractions still queued are skipped and running ones finish
+            // before their staged files go away
+            context.aborted = true;
+            for (BulkEntry entry : context.entries) {
+                if (entry.extraction != null) {
+                    entry.extraction.handle((resume, failure) -> null).join();
+                }
+            }
+            // Anything still staged was skipped, failed or rolled back
+            for (BulkEntry entry : context.entries) {
+                if (entry.upload != null) {
+                    fileUploadService.discardStagedFile(entry.upload);
+                }
+            }
+        }
+
+        List<BulkUploadEntryResultDto> results = context.entries.stream()
+                .map(entry -> entry.result)
+                .collect(Collectors.toList());
+        BulkUploadResponseDto response = BulkUploadResponseDto.builder()
+                .jobPostingId(jobPostingId)
+                .totalEntries(results.size())
+                .created(count(results, BulkUploadEntryStatus.CREATED))
+                .skipped(count(results, BulkUploadEntryStatus.SKIPPED))
+                .failed(count(results, BulkUploadEntryStatus.FAILED))
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .entries(results)
+                .build();
+
+        logger.info("Bulk upload for job posting {}: {} created, {} skipped, {} failed in {} ms",
+                jobPostingId, response.getCreated(), response.getSkipped(), response.getFailed(), response.getProcessingTimeMs());
+        return response;
+    }
+
+    /**
+     * Stages one file and schedules its extraction, or records why it was not accepted
+     */
+    private void accept(BulkContext context, String entryName, InputStream inputStream) throws IOException {
+        if (context.entries.size() >= maxEntries) {
+            throw new IllegalArgumentException("Bulk upload exceeds the maximum of " + maxEntries + " files");
+        }
+
+        String fileName = baseName(entryName);
+        BulkEntry entry = new BulkEntry(fileName);
+        context.entries.add(entry);
+
+        Optional<ResumeManifest.Entry> row = context.manifest.find(fileName);
+        if (row.isEmpty()) {
+            entry.finish(BulkUploadEntryStatus.SKIPPED, null, "No manifest row for file");
+            return;
+        }
+        entry.row = row.get();
+        String email = entry.row.candidateEmail();
+        if (context.alreadyApplied.contains(email)) {
+            entry.finish(BulkUploadEntryStatus.SKIPPED, null, "Candidate has already applied for this job posting");
+            return;
+        }
+        if (!context.seenEmails.add(email)) {
+            entry.finish(BulkUploadEntryStatus.SKIPPED, null, "Candidate appears more than once in this upload");
+            return;
+        }
+
+        try {
+            entry.upload = fileUploadService.storeStream(inputStream, fileName);
+        } catch (IllegalArgumentException e) {
+            entry.finish(BulkUploadEntryStatus.FAILED, null, e.getMessage());
+            return;
+        }
+
+        entry.extraction = CompletableFuture.supplyAsync(() -> {
+            if (context.aborted) {
+                throw new CancellationException("Bulk upload was aborted");
+            }
+            return extractResume(context.jobPosting, entry);
+        }, bulkExecutor);
+    }
+
+    /**
+     * Extracts and parses a staged file into an unsaved resume
+     */
+    private Resume extractResume(JobPosting jobPosting, BulkEntry entry) {
+        FileUploadService.FileUploadResult upload = entry.upload;
+        String extension = fileUploadService.getFileExtension(upload.getStoredFilename());
+        String extractedText = fileUploadService.extractTextFromFile(upload.getStagedPath(), extension, upload.getContentHash());
+
+        Resume resume = new Resume();
+        resume.setCandidateName(entry.row.candidateName());
+        resume.setCandidateEmail(entry.row.candidateEmail());
+        resume.setCandidatePhone(entry.row.candidatePhone());
+        resume.setFileName(upload.getOriginalFilename());
+        resume.setFilePath(upload.getFilePath());
+        resume.setFileSize(upload.getFileSize());
+        resume.setContentType(upload.getContentType());
+        resume.setContentHash(upload.getContentHash());
+        resume.setExtractedText(extractedText);
+        resume.setJobPosting(jobPosting);
+        resume.setStatus(ResumeStatus.SUBMITTED);
+        resumeService.extractResumeInformation(resume, extractedText);
+        return resume;
+    }
+
+    /**
+     * Waits for all extractions and inserts the successful ones in one batch
+     */
+    private void persistExtracted(BulkContext context) throws IOException {
+        List<BulkEntry> extracted = new ArrayList<>();
+        for (BulkEntry entry : context.entries) {
+            if (entry.extraction == null) {
+                continue;
+            }
+            try {
+                entry.resume = entry.extraction.join();
+                extracted.add(entry);
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                logger.warn("Bulk extraction failed for {}: {}", entry.fileName, cause.getMessage());
+                String message = cause instanceof ExtractionLimitExceededException
+                        ? "Text extraction exceeded its time or memory budget"
+                        : cause instanceof ExtractionCapacityExceededException
+                        ? "Text extraction is busy, please retry later"
+                        : "Failed to extract text from file";
+                entry.finish(BulkUploadEntryStatus.FAILED, null, message);
+            }
+        }
+        if (extracted.isEmpty()) {
+            return;
+        }
+
+        List<Resume> resumes = extracted.stream().map(entry -> entry.resume).collect(Collectors.toList());
+        List<FileUploadService.FileUploadResult> uploads = extracted.stream().map(entry -> entry.upload).collect(Collectors.toList());
+        resumeService.saveExtractedResumes(resumes, uploads);
+
+        for (BulkEntry entry : extracted) {
+            entry.finish(BulkUploadEntryStatus.CREATED, entry.resume.getId(), "Resume created");
+        }
+    }
+
+    private Set<String> findAlreadyApplied(JobPosting jobPosting, ResumeManifest manifest) {
+        Set<String> emails = manifest.entries().stream()
+                .map(ResumeManifest.Entry::candidateEmail)
+                .collect(Collectors.toSet());
+        if (emails.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(resumeRepository.findExistingCandidateEmails(jobPosting, emails));
+    }
+
+    private static boolean isIgnoredEntry(String name) {
+        String fileName = baseName(name);
+        return name.startsWith("__MACOSX/") || fileName.startsWith(".");
+    }
+
+    private static String baseName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = name.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    private static int count(List<BulkUploadEntryResultDto> results, BulkUploadEntryStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    /**
+     * State shared by all entries of one bulk upload
+     */
+    private static class BulkContext {
+        private final JobPosting jobPosting;
+        private final ResumeManifest manifest;
+        private final Set<String> alreadyApplied;
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<BulkEntry> entries = new ArrayList<>();
+        private volatile boolean aborted;
+
+        BulkContext(JobPosting jobPosting, ResumeManifest manifest, Set<String> alreadyApplied) {
+            this.jobPosting = jobPosting;
+            this.manifest = manifest;
+            this.alreadyApplied = alreadyApplied;
+        }
+    }
+
+    /**
+     * Progress of a single file through the bulk upload
+     */
+    private static class BulkEntry {
+        private final String fileName;
+        private ResumeManifest.Entry row;
+        private FileUploadService.FileUploadResult upload;
+        private CompletableFuture<Resume> extraction;
+        private Resume resume;
+        private BulkUploadEntryResultDto result;
+
+        BulkEntry(String fileName) {
+            this.fileName = fileName;
+        }
+
+        void finish(BulkUploadEntryStatus status, Long resumeId, String message) {
+            this.result = BulkUploadEntryResultDto.builder()
+                    .fileName(fileName)
+                    .candidateEmail(row != null ? row.candidateEmail() : null)
+                    .status(status)
+                    .resumeId(resumeId)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.extraction.ExtractionLimitExceededException;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+
+/**
+ * Imports a directory of resume files described by a CSV manifest, such as an export
+ * from another applicant tracking system, without going through the web layer.
+ * <p>
+ * Files flow through a staged pipeline: store (size check, content sniffing, hashing
+ * and staging), extract, parse, and batch insert. Each of the first three stages has
+ * its own pool sized to the cores and a bounded queue in front of it; a stage whose
+ * queue is full blocks the stage feeding it, so at most a few queues' worth of files
+ * are staged at any time however large the import is. A single writer inserts parsed
+ * resumes in JDBC batches. Progress and throughput are logged periodically.
+ */
+@Service
+public class ResumeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeImportService.class);
+
+    // Longest candidate email list sent in one duplicate check query
+    private static final int EMAIL_LOOKUP_CHUNK = 1000;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Value("${resume.import.threads-per-stage}")
+    private int threadsPerStage;
+
+    @Value("${resume.import.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${resume.import.report-interval-ms}")
+    private long reportIntervalMs;
+
+    @Value("${resume.bulk.batch-size}")
+    private int batchSize;
+
+    /**
+     * Counts of files at the end of an import
+     */
+    public record ImportReport(long total, long inserted, long skipped, long failed, long elapsedMs) {
+    }
+
+    /**
+     * Imports the files listed in a manifest; file names are resolved in the given directory
+     *
+     * @throws IllegalArgumentException if the job posting does not exist or the manifest is invalid
+     */
+    public ImportReport importResumes(Long jobPostingId, Path directory, Path manifestFile)
+            throws IOException, InterruptedException {
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("Job posting not found with ID: " + jobPostingId));
+        ResumeManifest manifest;
+        try (InputStream inputStream = Files.newInputStream(manifestFile)) {
+            manifest = ResumeManifest.parse(inputStream);
+        }
+        Set<String> alreadyApplied = findAlreadyApplied(jobPosting, manifest);
+
+        int threads = threadsPerStage > 0 ? threadsPerStage : Runtime.getRuntime().availableProcessors();
+        Progress progress = new Progress(manifest.size());
+        ThreadPoolExecutor storePool = stagePool("resume-import-store-", threads);
+        ThreadPoolExecutor extractPool = stagePool("resume-import-extract-", threads);
+        ThreadPoolExecutor parsePool = stagePool("resume-import-parse-", threads);
+        BlockingQueue<ImportEntry> insertQueue = new ArrayBlockingQueue<>(Math.max(queueCapacity, batchSize));
+        Thread writer = new Thread(() -> insertParsed(insertQueue, progress), "resume-import-insert");
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("resume-import-report-"));
+
+        logger.info("Importing {} resumes for job posting {} with {} threads per stage", manifest.size(), jobPostingId, threads);
+        writer.start();
+        reporter.scheduleAtFixedRate(progress::log, reportIntervalMs, reportIntervalMs, TimeUnit.MILLISECONDS);
+        try {
+            Set<String> seenEmails = new HashSet<>();
+            for (ResumeManifest.Entry row : manifest.entries()) {
+                if (alreadyApplied.contains(row.candidateEmail()) || !seenEmails.add(row.candidateEmail())) {
+                    progress.skipped.incrementAndGet();
+                    continue;
+                }
+                ImportEntry entry = new ImportEntry(row, directory.resolve(row.fileName()));
+                storePool.execute(() -> store(entry, extractPool, parsePool, insertQueue, jobPosting, progress));
+            }
+
+            // Each pool only terminates once its tasks have handed everything to the next stage
+            for (ThreadPoolExecutor pool : List.of(storePool, extractPool, parsePool)) {
+                pool.shutdown();
+                while (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                    logger.info("Waiting for {} queued import task(s)", pool.getQueue().size());
+                }
+            }
+            insertQueue.put(ImportEntry.END);
+            writer.join();
+        } finally {
+            reporter.shutdownNow();
+            storePool.shutdownNow();
+            extractPool.shutdownNow();
+            parsePool.shutdownNow();
+            writer.interrupt();
+        }
+
+        ImportReport report = progress.report();
+        logger.info("Import for job posting {} finished: {} inserted, {} skipped, {} failed of {} in {} ms",
+                jobPostingId, report.inserted(), report.skipped(), report.failed(), report.total(), report.elapsedMs());
+        return report;
+    }
+
+    private void store(ImportEntry entry, ThreadPoolExecutor extractPool, ThreadPoolExecutor parsePool,
+                       BlockingQueue<ImportEntry> insertQueue, JobPosting jobPosting, Progress progress) {
+        try (InputStream inputStream = Files.newInputStream(entry.path)) {
+            entry.upload = fileUploadService.storeStream(inputStream, entry.row.fileName());
+        } catch (IOException | IllegalArgumentException e) {
+            fail(entry, progress, e.getMessage());
+            return;
+        }
+        progress.stored.incrementAndGet();
+        extractPool.execute(() -> extract(entry, parsePool, insertQueue, jobPosting, progress));
+    }
+
+    private void extract(ImportEntry entry, ThreadPoolExecutor parsePool, BlockingQueue<ImportEntry> insertQueue,
+                         JobPosting jobPosting, Progress progress) {
+        FileUploadService.FileUploadResult upload = entry.upload;
+        try {
+            String extension = fileUploadService.getFileExtension(upload.getStoredFilename());
+            entry.text = fileUploadService.extractTextFromFile(upload.getStagedPath(), extension, upload.getContentHash());
+        } catch (ExtractionLimitExceededException e) {
+            fail(entry, progress, "Text extraction exceeded its time or memory budget");
+            return;
+        } catch (RuntimeException e) {
+            fail(entry, progress, e.getMessage());
+            return;
+        }
+        progress.extracted.incrementAndGet();
+        parsePool.execute(() -> parse(entry, insertQueue, jobPosting, progress));
+    }
+
+    private void parse(ImportEntry entry, BlockingQueue<ImportEntry> insertQueue, JobPosting jobPosting, Progress progress) {
+        FileUploadService.FileUploadResult upload = entry.upload;
+        Resume resume = new Resume();
+        resume.setCandidateName(entry.row.candidateName());
+        resume.setCandidateEmail(entry.row.candidateEmail());
+        resume.setCandidatePhone(entry.row.candidatePhone());
+        resume.setFileName(upload.getOriginalFilename());
+        resume.setFilePath(upload.getFilePath());
+        resume.setFileSize(upload.getFileSize());
+        resume.setContentType(upload.getContentType());
+        resume.setContentHash(upload.getContentHash());
+        resume.setExtractedText(entry.text);
+        resume.setJobPosting(jobPosting);
+        resume.setStatus(ResumeStatus.SUBMITTED);
+        try {
+            resumeService.extractResumeInformation(resume, entry.text);
+        } catch (RuntimeException e) {
+            fail(entry, progress, e.getMessage());
+            return;
+        }
+        entry.resume = resume;
+        entry.text = null;
+        progress.parsed.incrementAndGet();
+        try {
+            insertQueue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(entry, progress, "Import interrupted");
+        }
+    }
+
+    /**
+     * Writer loop: collects parsed resumes into batches until the end marker arrives
+     */
+    private void insertParsed(BlockingQueue<ImportEntry> insertQueue, Progress progress) {
+        List<ImportEntry> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                ImportEntry entry = insertQueue.take();
+                if (entry != ImportEntry.END) {
+                    batch.add(entry);
+                }
+                if (batch.size() >= batchSize || (entry == ImportEntry.END && !batch.isEmpty())) {
+                    insertBatch(batch, progress);
+                    batch.clear();
+                }
+                if (entry == ImportEntry.END) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (ImportEntry entry : batch) {
+                fail(entry, progress, "Import interrupted");
+            }
+        }
+    }
+
+    private void insertBatch(List<ImportEntry> batch, Progress progress) {
+        List<Resume> resumes = batch.stream().map(entry -> entry.resume).toList();
+        List<FileUploadService.FileUploadResult> uploads = batch.stream().map(entry -> entry.upload).toList();
+        try {
+            resumeService.saveExtractedResumes(resumes, uploads);
+            progress.inserted.addAndGet(batch.size());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Could not insert a batch of {} imported resumes: {}", batch.size(), e.getMessage());
+            for (ImportEntry entry : batch) {
+                fail(entry, progress, e.getMessage());
+            }
+        } finally {
+            uploads.forEach(fileUploadService::discardStagedFile);
+        }
+    }
+
+    private void fail(ImportEntry entry, Progress progress, String reason) {
+        logger.warn("Could not import {}: {}", entry.row.fileName(), reason);
+        if (entry.upload != null) {
+            fileUploadService.discardStagedFile(entry.upload);
+        }
+        progress.failed.incrementAndGet();
+    }
+
+    private Set<String> findAlreadyApplied(JobPosting jobPosting, ResumeManifest manifest) {
+        List<String> emails = manifest.entries().stream().map(ResumeManifest.Entry::candidateEmail).distinct().toList();
+        Set<String> alreadyApplied = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK) {
+            alreadyApplied.addAll(resumeRepository.findExistingCandidateEmails(jobPosting,
+                    emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, emails.size()))));
+        }
+        return alreadyApplied;
+    }
+
+    /**
+     * Fixed pool with a bounded queue whose submitters wait for room instead of being
+     * rejected, which is what pushes back on the stage before it
+     */
+    private ThreadPoolExecutor stagePool(String threadNamePrefix, int threads) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(threadNamePrefix),
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Import stage has shut down");
+                    }
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for the next import stage", e);
+                    }
+                });
+    }
+
+    /**
+     * Per-stage counters of one import
+     */
+    private static class Progress {
+        private final long total;
+        private final long startTime = System.nanoTime();
+        private final AtomicLong stored = new AtomicLong();
+        private final AtomicLong extracted = new AtomicLong();
+        private final AtomicLong parsed = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        Progress(long total) {
+            this.total = total;
+        }
+
+        void log() {
+            long elapsedMs = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+            logger.info("Imported {}/{} resumes ({} stored, {} extracted, {} parsed, {} skipped, {} failed), {} resumes/s",
+                    inserted.get(), total, stored.get(), extracted.get(), parsed.get(), skipped.get(), failed.get(),
+                    String.format("%.1f", inserted.get() * 1000.0 / elapsedMs));
+        }
+
+        ImportReport report() {
+            return new ImportReport(total, inserted.get(), skipped.get(), failed.get(),
+                    (System.nanoTime() - startTime) / 1_000_000);
+        }
+    }
+
+    /**
+     * One manifest row on its way through the pipeline
+     */
+    private static class ImportEntry {
+        // Tells the writer that no more entries will arrive
+        static final ImportEntry END = new ImportEntry(null, null);
+
+        private final ResumeManifest.Entry row;
+        private final Path path;
+        private FileUploadService.FileUploadResult upload;
+        private String text;
+        private Resume resume;
+
+        ImportEntry(ResumeManifest.Entry row, Path path) {
+            this.row = row;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Candidate details for a batch of resume files, read from a CSV manifest.
+ * The first row is a header naming the columns; recognised headers are
+ * fileName (or file), candidateName (or name), candidateEmail (or email) and
+ * candidatePhone (or phone). Rows are matched to files by file name, ignoring
+ * any directory part and letter case.
+ */
+public class ResumeManifest {
+
+    /**
+     * One manifest row
+     */
+    public record Entry(String fileName, String candidateName, String candidateEmail, String candidatePhone) {
+    }
+
+    private final Map<String, Entry> entriesByFileName;
+
+    private ResumeManifest(Map<String, Entry> entriesByFileName) {
+        this.entriesByFileName = entriesByFileName;
+    }
+
+    /**
+     * Finds the manifest row for a file
+     */
+    public Optional<Entry> find(String fileName) {
+        return Optional.ofNullable(entriesByFileName.get(key(fileName)));
+    }
+
+    public Collection<Entry> entries() {
+        return entriesByFileName.values();
+    }
+
+    public int size() {
+        return entriesByFileName.size();
+    }
+
+    /**
+     * Parses a UTF-8 CSV manifest
+     */
+    public static ResumeManifest parse(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("Manifest is empty");
+        }
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        int fileColumn = -1;
+        int nameColumn = -1;
+        int emailColumn = -1;
+        int phoneColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "filename", "file" -> fileColumn = i;
+                case "candidatename", "name" -> nameColumn = i;
+                case "candidateemail", "email" -> emailColumn = i;
+                case "candidatephone", "phone" -> phoneColumn = i;
+                default -> { }
+            }
+        }
+        if (fileColumn < 0 || nameColumn < 0 || emailColumn < 0) {
+            throw new IllegalArgumentException("Manifest header must contain fileName, candidateName and candidateEmail columns");
+        }
+
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        List<String> record;
+        int line = 1;
+        while ((record = readRecord(reader)) != null) {
+            line++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            String fileName = column(record, fileColumn);
+            String candidateName = column(record, nameColumn);
+            String candidateEmail = column(record, emailColumn);
+            if (fileName == null || candidateName == null || candidateEmail == null) {
+                throw new IllegalArgumentException("Manifest row " + line + " is missing fileName, candidateName or candidateEmail");
+            }
+            Entry entry = new Entry(baseName(fileName), candidateName, candidateEmail, column(record, phoneColumn));
+            if (entries.putIfAbsent(key(fileName), entry) != null) {
+                throw new IllegalArgumentException("Manifest lists file more than once: " + fileName);
+            }
+        }
+        return new ResumeManifest(entries);
+    }
+
+    private static String column(List<String> record, int index) {
+        if (index < 0 || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String key(String fileName) {
+        return baseName(fileName).toLowerCase(Locale.ROOT);
+    }
+
+    private static String baseName(String fileName) {
+        String normalized = fileName.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Reads one RFC 4180 record, allowing quoted fields with embedded commas,
+     * doubled quotes and line breaks. Returns null at end of input.
+     */
+    private static List<String> readRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
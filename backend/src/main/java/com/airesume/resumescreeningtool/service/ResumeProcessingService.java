@@ -0,0 +1,167 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.event.ResumeUploadedEvent;
+import com.airesume.resumescreeningtool.extraction.ExtractionCapacityExceededException;
+import com.airesume.resumescreeningtool.extraction.ExtractionLimitExceededException;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs text extraction and resume parsing off the request thread.
+ * No transaction is held while a document is being parsed; the results are
+ * written back in a short transaction once extraction has finished.
+ * <p>
+ * The work queue lives in memory only, so resumes left PROCESSING by a crash or a
+ * redeploy are picked up again by a periodic sweep: once a resume has been
+ * PROCESSING for {@code resume.processing.stale-after-ms} without being queued or
+ * worked on here it is submitted again, and after {@code resume.processing.fail-after-ms}
+ * it is marked EXTRACTION_FAILED instead. With several application instances a
+ * stalled resume may be picked up by more than one of them, which only repeats work.
+ */
+@Service
+public class ResumeProcessingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeProcessingService.class);
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("resumeProcessingExecutor")
+    private Executor processingExecutor;
+
+    @Value("${resume.processing.stale-after-ms}")
+    private long staleAfterMs;
+
+    @Value("${resume.processing.fail-after-ms}")
+    private long failAfterMs;
+
+    @Value("${resume.processing.recovery-batch-size}")
+    private int recoveryBatchSize;
+
+    // Resumes queued or being processed by this instance
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Picks up freshly uploaded resumes once their upload transaction has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResumeUploaded(ResumeUploadedEvent event) {
+        submit(event.resumeId());
+    }
+
+    /**
+     * Queues a resume for processing unless it is already queued or running. Never runs
+     * it on the calling thread, which may be serving a request.
+     */
+    public void submit(Long resumeId) {
+        if (!inFlight.add(resumeId)) {
+            return;
+        }
+        try {
+            processingExecutor.execute(() -> {
+                try {
+                    processResume(resumeId);
+                } finally {
+                    inFlight.remove(resumeId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // The resume stays PROCESSING and the recovery sweep submits it again later
+            inFlight.remove(resumeId);
+            meterRegistry.counter("resume.processing.rejected").increment();
+            logger.warn("Processing queue is full, resume {} will be retried by the recovery sweep", resumeId);
+        }
+    }
+
+    /**
+     * Submits resumes that have been PROCESSING for too long again, and gives up on
+     * the ones that have been PROCESSING for longer still
+     */
+    @Scheduled(initialDelayString = "${resume.processing.recovery-interval-ms}",
+               fixedDelayString = "${resume.processing.recovery-interval-ms}")
+    public void recoverStalledResumes() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest batch = PageRequest.of(0, recoveryBatchSize);
+
+        List<Long> expired = resumeRepository.findIdsByStatusUpdatedBefore(
+                ResumeStatus.PROCESSING, now.minus(Duration.ofMillis(failAfterMs)), batch);
+        for (Long resumeId : expired) {
+            if (!inFlight.contains(resumeId)) {
+                logger.warn("Resume {} has been processing for over {} ms, marking extraction failed", resumeId, failAfterMs);
+                resumeService.markProcessingFailed(resumeId);
+            }
+        }
+
+        List<Long> stalled = resumeRepository.findIdsByStatusUpdatedBefore(
+                ResumeStatus.PROCESSING, now.minus(Duration.ofMillis(staleAfterMs)), batch);
+        int resubmitted = 0;
+        for (Long resumeId : stalled) {
+            if (!expired.contains(resumeId) && !inFlight.contains(resumeId)) {
+                submit(resumeId);
+                resubmitted++;
+            }
+        }
+        if (resubmitted > 0) {
+            logger.info("Resubmitted {} resumes left in processing", resubmitted);
+        }
+    }
+
+    /**
+     * Extracts and parses the stored file of a resume
+     */
+    public void processResume(Long resumeId) {
+        long startTime = System.currentTimeMillis();
+        try {
+            Resume resume = resumeService.getResumeById(resumeId);
+
+            // Identical files share one extraction result through the extraction cache
+            String extension = fileUploadService.getFileExtension(resume.getFilePath());
+            String extractedText = fileUploadService.extractTextFromFile(
+                    fileUploadService.resolveStoredPath(resume.getFilePath()), extension, resume.getContentHash());
+
+            resumeService.completeProcessing(resumeId, extractedText);
+            logger.info("Resume {} processed in {} ms", resumeId, System.currentTimeMillis() - startTime);
+        } catch (ExtractionCapacityExceededException e) {
+            // Not tried at all; the recovery sweep submits it again once it is stalled
+            logger.warn("Resume {} left in processing: {}", resumeId, e.getMessage());
+        } catch (ExtractionLimitExceededException e) {
+            logger.warn("Resume {} exceeded its extraction budget: {}", resumeId, e.getMessage());
+            resumeService.markProcessingFailed(resumeId);
+        } catch (RuntimeException e) {
+            logger.error("Processing failed for resume {}: {}", resumeId, e.getMessage(), e);
+            resumeService.markProcessingFailed(resumeId);
+        }
+    }
+}
@@ -1,23 +1,52 @@
 package com.airesume.resumescreeningtool.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.airesume.resumescreeningtool.entity.JobPosting;
 import com.airesume.resumescreeningtool.entity.Resume;
 import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.entity.StoredFile;
+import com.airesume.resumescreeningtool.event.ResumeUploadedEvent;
+import com.airesume.resumescreeningtool.parsing.ResumeSection;
+import com.airesume.resumescreeningtool.parsing.ResumeSectionSegmenter;
+import com.airesume.resumescreeningtool.parsing.ResumeSections;
+import com.airesume.resumescreeningtool.parsing.SkillDictionary;
 import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeFileView;
 import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.ResumeSearchRank;
+import com.airesume.resumescreeningtool.search.CandidateLookupIndex;
+import com.airesume.resumescreeningtool.search.DatabaseTextSearch;
+import com.airesume.resumescreeningtool.search.HnswIndex;
+import com.airesume.resumescreeningtool.search.InvertedIndex;
+import com.airesume.resumescreeningtool.search.NearDuplicateIndex;
+import com.airesume.resumescreeningtool.search.ResumeSearchIndex;
+import com.airesume.resumescreeningtool.search.SearchQuery;
+import com.airesume.resumescreeningtool.search.SimilarResumeIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
 @Transactional
@@ -34,14 +63,83 @@ public class ResumeService {
     @Autowired
     private FileUploadService fileUploadService;
 
+    @Autowired
+    private StoredFileService storedFileService;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private ResumeSectionSegmenter resumeSectionSegmenter;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ResumeSearchIndex resumeSearchIndex;
+
+    @Autowired
+    private DatabaseTextSearch databaseTextSearch;
+
+    @Autowired
+    private CandidateLookupIndex candidateLookupIndex;
+
+    @Autowired
+    private SimilarResumeIndex similarResumeIndex;
+
+    @Autowired
+    private NearDuplicateIndex nearDuplicateIndex;
+
+    @Value("${resume.bulk.batch-size}")
+    private int batchSize;
+
+    @Value("${resume.search.max-page-size}")
+    private int maxSearchPageSize;
+
+    @Value("${resume.similar.max-results}")
+    private int maxSimilarResults;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
-     * Uploads and processes a resume for a specific job posting
+     * Stores a resume for a specific job posting and queues it for processing.
+     * The returned resume is in PROCESSING state; text extraction and parsing
+     * run on the processing pool once this transaction has committed.
      */
     public Resume uploadResume(Long jobPostingId, String candidateName, String candidateEmail, 
                               String candidatePhone, MultipartFile file) throws IOException {
         
         logger.info("Starting resume upload for job posting ID: {}, candidate: {}", jobPostingId, candidateEmail);
 
+        JobPosting jobPosting = validateNewApplication(jobPostingId, candidateEmail);
+
+        // Stage the file and add a reference to its content-addressed blob
+        FileUploadService.FileUploadResult uploadResult = fileUploadService.storeFile(file);
+        return saveUploadedResume(jobPosting, candidateName, candidateEmail, candidatePhone, uploadResult);
+    }
+
+    /**
+     * Stores a resume whose file has already been staged, such as a completed
+     * chunked upload, and queues it for processing like a regular upload
+     */
+    public Resume uploadStagedResume(Long jobPostingId, String candidateName, String candidateEmail,
+                                     String candidatePhone, FileUploadService.FileUploadResult uploadResult) throws IOException {
+        try {
+            JobPosting jobPosting = validateNewApplication(jobPostingId, candidateEmail);
+            return saveUploadedResume(jobPosting, candidateName, candidateEmail, candidatePhone, uploadResult);
+        } finally {
+            fileUploadService.discardStagedFile(uploadResult);
+        }
+    }
+
+    /**
+     * Checks that the job posting exists and the candidate has not applied to it yet
+     */
+    public JobPosting validateNewApplication(Long jobPostingId, String candidateEmail) {
         // Validate job posting exists
         JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
                 .orElseThrow(() -> new IllegalArgumentException("Job posting not found with ID: " + jobPostingId));
@@ -51,9 +149,12 @@ public class ResumeService {
         if (existingResume.isPresent()) {
             throw new IllegalStateException("Candidate has already applied for this job posting");
         }
+        return jobPosting;
+    }
 
-        // Upload and process the file
-        FileUploadService.FileUploadResult uploadResult = fileUploadService.storeFile(file);
+    private Resume saveUploadedResume(JobPosting jobPosting, String candidateName, String candidateEmail,
+                                      String candidatePhone, FileUploadService.FileUploadResult uploadResult) throws IOException {
+        storedFileService.acquire(uploadResult);
 
         // Create resume entity
         Resume resume = new Resume();
@@ -64,160 +165,236 @@ public class ResumeService {
         resume.setFilePath(uploadResult.getFilePath());
         resume.setFileSize(uploadResult.getFileSize());
         resume.setContentType(uploadResult.getContentType());
-        resume.setExtractedText(uploadResult.getExtractedText());
+        resume.setContentHash(uploadResult.getContentHash());
         resume.setJobPosting(jobPosting);
-        resume.setStatus(ResumeStatus.SUBMITTED);
-
-        // Extract additional information from resume text
-        extractResumeInformation(resume, uploadResult.getExtractedText());
+        resume.setStatus(ResumeStatus.PROCESSING);
 
         // Save resume
         Resume savedResume = resumeRepository.save(resume);
+        afterCommit(() -> candidateLookupIndex.add(savedResume));
+
+        // Hand extraction to the processing pool after commit
+        eventPublisher.publishEvent(new ResumeUploadedEvent(savedResume.getId()));
 
-        logger.info("Resume uploaded successfully with ID: {}", savedResume.getId());
+        logger.info("Resume stored with ID: {}, queued for processing", savedResume.getId());
         return savedResume;
     }
 
     /**
-     * Extracts structured information from resume text
+     * Stores the extracted text and parsed fields of a resume and marks it as submitted
      */
-    private void extractResumeInformation(Resume resume, String extractedText) {
-        if (extractedText == null || extractedText.trim().isEmpty()) {
+    public void completeProcessing(Long resumeId, String extractedText) {
+        Optional<Resume> found = resumeRepository.findById(resumeId);
+        if (found.isEmpty()) {
+            logger.warn("Resume {} was removed before processing completed", resumeId);
             return;
         }
 
-        String text = extractedText.toLowerCase();
-
-        // Extract years of experience
-        Integer yearsOfExperience = extractYearsOfExperience(text);
-        resume.setYearsOfExperience(yearsOfExperience);
-
-        // Extract skills (basic pattern matching)
-        String skills = extractSkills(extractedText);
-        resume.setSkills(skills);
-
-        // Extract education
-        String education = extractEducation(extractedText);
-        resume.setEducation(education);
+        Resume resume = found.get();
+        resume.setExtractedText(extractedText);
 
-        // Extract work experience
-        String workExperience = extractWorkExperience(extractedText);
-        resume.setWorkExperience(workExperience);
+        // Extract additional information from resume text
+        extractResumeInformation(resume, extractedText);
+        nearDuplicateIndex.flagAndAdd(List.of(resume));
+        afterRollback(() -> nearDuplicateIndex.remove(resume.getId()));
 
-        // Extract certifications
-        String certifications = extractCertifications(extractedText);
-        resume.setCertifications(certifications);
+        // Only move forward if nobody changed the status while we were extracting
+        if (resume.getStatus() == ResumeStatus.PROCESSING) {
+            resume.setStatus(ResumeStatus.SUBMITTED);
+        }
+        resumeRepository.save(resume);
+        afterCommit(() -> {
+            resumeSearchIndex.index(resume);
+            similarResumeIndex.index(resume);
+        });
     }
 
     /**
-     * Extracts years of experience from resume text
+     * Marks a resume whose text could not be extracted
      */
-    private Integer extractYearsOfExperience(String text) {
-        try {
-            // Look for patterns like "5 years experience", "3+ years", etc.
-            Pattern pattern = Pattern.compile("(\\d+)\\s*\\+?\\s*year[s]?\\s*(of\\s*)?(experience|exp)", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(text);
-            
-            int maxYears = 0;
-            while (matcher.find()) {
-                int years = Integer.parseInt(matcher.group(1));
-                maxYears = Math.max(maxYears, years);
+    public void markProcessingFailed(Long resumeId) {
+        resumeRepository.findById(resumeId).ifPresent(resume -> {
+            if (resume.getStatus() == ResumeStatus.PROCESSING) {
+                resume.setStatus(ResumeStatus.EXTRACTION_FAILED);
+                resumeRepository.save(resume);
             }
-            
-            return maxYears > 0 ? maxYears : null;
-        } catch (NumberFormatException e) {
-            logger.warn("Error extracting years of experience: {}", e.getMessage());
-            return null;
+        });
+    }
+
+    /**
+     * Persists resumes whose text has already been extracted. Each resume takes a
+     * reference on its stored file and the rows are written with JDBC batch inserts.
+     * A failure to commit any staged file rolls back the references already taken.
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public void saveExtractedResumes(List<Resume> resumes, List<FileUploadService.FileUploadResult> uploads) throws IOException {
+        for (int i = 0; i < resumes.size(); i++) {
+            // The blob may still live at a location from before the sharded layout
+            StoredFile storedFile = storedFileService.acquire(uploads.get(i));
+            resumes.get(i).setFilePath(storedFile.getFilePath());
         }
+        resumeBatchRepository.insertAll(resumes, batchSize);
+        logger.info("Inserted {} resumes in batches of {}", resumes.size(), batchSize);
+
+        // Flags need the generated ids, so they are written after the insert
+        List<Resume> nearDuplicates = nearDuplicateIndex.flagAndAdd(resumes);
+        afterRollback(() -> resumes.forEach(saved -> nearDuplicateIndex.remove(saved.getId())));
+        resumeBatchRepository.updateNearDuplicates(nearDuplicates.stream()
+                .collect(Collectors.toMap(Resume::getId, Resume::getNearDuplicateOf)), batchSize);
+        afterCommit(() -> resumes.forEach(saved -> {
+            resumeSearchIndex.index(saved);
+            similarResumeIndex.index(saved);
+            candidateLookupIndex.add(saved);
+        }));
     }
 
     /**
-     * Extracts skills from resume text
+     * Extracts structured information from resume text in one pass of the section segmenter.
+     * Pure text processing, so callers on worker threads do not open a transaction.
      */
-    private String extractSkills(String text) {
-        try {
-            // Look for skills section
-            Pattern skillsPattern = Pattern.compile("(?:skills|technical skills|core competencies|technologies)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,10})", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = skillsPattern.matcher(text);
-            
-            if (matcher.find()) {
-                String skillsSection = matcher.group(1);
-                // Clean up and return first 500 characters
-                skillsSection = skillsSection.replaceAll("\\s+", " ").trim();
-                return skillsSection.length() > 500 ? skillsSection.substring(0, 500) + "..." : skillsSection;
-            }
-            
-            return null;
-        } catch (Exception e) {
-            logger.warn("Error extracting skills: {}", e.getMessage());
-            return null;
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void extractResumeInformation(Resume resume, String extractedText) {
+        if (extractedText == null || extractedText.trim().isEmpty()) {
+            return;
+        }
+
+        ResumeSections sections = resumeSectionSegmenter.segment(extractedText);
+        if (sections.isTruncated()) {
+            meterRegistry.counter("resume.parsing.truncated",
+                    "reason", sections.getTruncation().name().toLowerCase(Locale.ROOT)).increment();
+            logger.warn("Parsing of resume {} stopped after {} of {} characters ({})", resume.getId(),
+                    sections.getScannedLength(), extractedText.length(), sections.getTruncation());
         }
+        resume.setYearsOfExperience(sections.getYearsOfExperience());
+        resume.setSkills(sections.value(ResumeSection.SKILLS));
+        resume.setEducation(sections.value(ResumeSection.EDUCATION));
+        resume.setWorkExperience(sections.value(ResumeSection.WORK_EXPERIENCE));
+        resume.setCertifications(sections.value(ResumeSection.CERTIFICATIONS));
+
+        // Skills are matched over all of the scanned text, not only the skills section
+        resume.setSkillIds(skillDictionary.match(extractedText, sections.getScannedLength()));
+        resume.setMinhashSignature(nearDuplicateIndex.signature(extractedText));
     }
 
     /**
-     * Extracts education from resume text
+     * Finds resumes mentioning a skill, given by its id, name or a synonym,
+     * optionally limited to one job posting
      */
-    private String extractEducation(String text) {
-        try {
-            // Look for education section
-            Pattern educationPattern = Pattern.compile("(?:education|academic|qualification)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,5})", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = educationPattern.matcher(text);
-            
-            if (matcher.find()) {
-                String educationSection = matcher.group(1);
-                educationSection = educationSection.replaceAll("\\s+", " ").trim();
-                return educationSection.length() > 300 ? educationSection.substring(0, 300) + "..." : educationSection;
-            }
-            
-            return null;
-        } catch (Exception e) {
-            logger.warn("Error extracting education: {}", e.getMessage());
-            return null;
+    public List<Resume> findResumesBySkill(String skill, Long jobPostingId) {
+        String skillId = skillDictionary.resolve(skill)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown skill: " + skill));
+        if (jobPostingId == null) {
+            return resumeRepository.findBySkillId(skillId);
         }
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("Job posting not found with ID: " + jobPostingId));
+        return resumeRepository.findByJobPostingAndSkillId(jobPosting, skillId);
     }
 
     /**
-     * Extracts work experience from resume text
+     * A resume found by full-text search and its relevance score
      */
-    private String extractWorkExperience(String text) {
-        try {
-            // Look for work experience section
-            Pattern experiencePattern = Pattern.compile("(?:experience|work experience|employment|professional experience)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,15})", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = experiencePattern.matcher(text);
-            
-            if (matcher.find()) {
-                String experienceSection = matcher.group(1);
-                experienceSection = experienceSection.replaceAll("\\s+", " ").trim();
-                return experienceSection.length() > 1000 ? experienceSection.substring(0, 1000) + "..." : experienceSection;
+    public record ScoredResume(Resume resume, float score) {
+    }
+
+    /**
+     * One page of full-text search hits, best first, and the number of hits overall.
+     * Partial while the in-process index is still being rebuilt.
+     */
+    public record SearchResults(long totalHits, List<ScoredResume> hits, boolean partial) {
+    }
+
+    /**
+     * Full-text search over the extracted text of resumes, optionally limited to one
+     * job posting. Words are matched after stemming; "quoted phrases" must appear as
+     * written. Ranked by BM25 in the in-process index, or by ts_rank when
+     * resume.search.engine=database on PostgreSQL.
+     */
+    @Transactional(readOnly = true)
+    public SearchResults searchResumes(String query, Long jobPostingId, int page, int size) {
+        if (page < 0 || size < 1 || size > maxSearchPageSize) {
+            throw new IllegalArgumentException("Page must be at least 0 and size between 1 and " + maxSearchPageSize);
+        }
+        if (jobPostingId != null && !jobPostingRepository.existsById(jobPostingId)) {
+            throw new IllegalArgumentException("Job posting not found with ID: " + jobPostingId);
+        }
+        SearchQuery parsed = SearchQuery.parse(query);
+        if (databaseTextSearch.isResumeSearchEnabled()) {
+            return searchResumesInDatabase(query, jobPostingId, page, size);
+        }
+        InvertedIndex.SearchResult result = resumeSearchIndex.search(parsed, jobPostingId, page * size, size);
+
+        List<Long> ids = result.hits().stream().map(InvertedIndex.Hit::resumeId).toList();
+        Map<Long, Resume> resumes = resumeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Resume::getId, Function.identity()));
+        List<ScoredResume> hits = new ArrayList<>(ids.size());
+        for (InvertedIndex.Hit hit : result.hits()) {
+            Resume resume = resumes.get(hit.resumeId());
+            if (resume != null) {
+                hits.add(new ScoredResume(resume, hit.score()));
+            } else {
+                // Deleted while the index was being rebuilt
+                resumeSearchIndex.remove(hit.resumeId());
             }
-            
-            return null;
-        } catch (Exception e) {
-            logger.warn("Error extracting work experience: {}", e.getMessage());
-            return null;
         }
+        return new SearchResults(result.totalHits(), hits, resumeSearchIndex.isRebuilding());
+    }
+
+    private SearchResults searchResumesInDatabase(String query, Long jobPostingId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Page<ResumeSearchRank> ranks = jobPostingId == null
+                ? resumeRepository.searchByExtractedText(query, pageRequest)
+                : resumeRepository.searchByJobPostingAndExtractedText(jobPostingId, query, pageRequest);
+
+        List<Long> ids = ranks.getContent().stream().map(ResumeSearchRank::getId).toList();
+        Map<Long, Resume> resumes = resumeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Resume::getId, Function.identity()));
+        List<ScoredResume> hits = new ArrayList<>(ids.size());
+        for (ResumeSearchRank rank : ranks.getContent()) {
+            Resume resume = resumes.get(rank.getId());
+            if (resume != null) {
+                hits.add(new ScoredResume(resume, rank.getRank()));
+            }
+        }
+        return new SearchResults(ranks.getTotalElements(), hits, false);
     }
 
     /**
-     * Extracts certifications from resume text
+     * Resumes similar to a given one, best first. Partial while the similarity index
+     * is still being rebuilt.
      */
-    private String extractCertifications(String text) {
-        try {
-            // Look for certifications section
-            Pattern certificationPattern = Pattern.compile("(?:certification[s]?|certificate[s]?|license[s]?)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,8})", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = certificationPattern.matcher(text);
-            
-            if (matcher.find()) {
-                String certificationSection = matcher.group(1);
-                certificationSection = certificationSection.replaceAll("\\s+", " ").trim();
-                return certificationSection.length() > 500 ? certificationSection.substring(0, 500) + "..." : certificationSection;
+    public record SimilarResults(List<ScoredResume> similar, boolean partial) {
+    }
+
+    /**
+     * The resumes across all job postings whose text is most like that of a given
+     * resume, by cosine similarity of their hashed term and skill vectors
+     */
+    @Transactional(readOnly = true)
+    public SimilarResults findSimilarResumes(Long resumeId, int k) {
+        if (k < 1 || k > maxSimilarResults) {
+            throw new IllegalArgumentException("Number of similar resumes must be between 1 and " + maxSimilarResults);
+        }
+        Resume resume = getResumeById(resumeId);
+        if (resume.getExtractedText() == null) {
+            throw new IllegalArgumentException("Resume " + resumeId + " has no extracted text yet");
+        }
+        List<HnswIndex.Neighbor> neighbors = similarResumeIndex.search(similarResumeIndex.vectorOf(resume), k, resumeId);
+
+        List<Long> ids = neighbors.stream().map(HnswIndex.Neighbor::resumeId).toList();
+        Map<Long, Resume> resumes = resumeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Resume::getId, Function.identity()));
+        List<ScoredResume> similar = new ArrayList<>(ids.size());
+        for (HnswIndex.Neighbor neighbor : neighbors) {
+            Resume found = resumes.get(neighbor.resumeId());
+            if (found != null) {
+                similar.add(new ScoredResume(found, neighbor.similarity()));
+            } else {
+                // Deleted while the index was being rebuilt
+                similarResumeIndex.remove(neighbor.resumeId());
             }
-            
-            return null;
-        } catch (Exception e) {
-            logger.warn("Error extracting certifications: {}", e.getMessage());
-            return null;
         }
+        return new SimilarResults(similar, similarResumeIndex.isRebuilding());
     }
 
     /**
@@ -258,17 +435,36 @@ public class ResumeService {
     }
 
     /**
-     * Deletes a resume and its associated file
+     * Gets the stored file of a resume without loading its extracted text
+     */
+    public ResumeFileView getResumeFile(Long resumeId) {
+        return resumeRepository.findProjectedById(resumeId)
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found with ID: " + resumeId));
+    }
+
+    /**
+     * Deletes a resume and releases its associated file
      */
     public void deleteResume(Long resumeId) {
         Resume resume = getResumeById(resumeId);
         
-        // Delete the file from storage
-        String filename = resume.getFilePath().substring(resume.getFilePath().lastIndexOf('/') + 1);
-        fileUploadService.deleteFile(filename);
-        
         // Delete from database
+        resumeRepository.clearNearDuplicateOf(resumeId);
         resumeRepository.delete(resume);
+        resumeRepository.flush();
+        afterCommit(() -> {
+            resumeSearchIndex.remove(resumeId);
+            similarResumeIndex.remove(resumeId);
+            candidateLookupIndex.remove(resumeId);
+            nearDuplicateIndex.remove(resumeId);
+        });
+        
+        // Release the file; shared blobs are only removed with their last reference
+        if (resume.getContentHash() != null) {
+            storedFileService.release(resume.getContentHash());
+        } else {
+            fileUploadService.deleteFile(resume.getFilePath());
+        }
         
         logger.info("Resume deleted successfully with ID: {}", resumeId);
     }
@@ -297,4 +493,37 @@ public class ResumeService {
     public List<Resume> getAllResumes() {
         return resumeRepository.findAll();
     }
+
+    /**
+     * Runs an action once the current transaction has committed, or right away outside one
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Undoes an in-memory change made ahead of the commit if the transaction rolls back
+     */
+    private static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
 }
@@ -0,0 +1,71 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.airesume.resumescreeningtool.entity.ScreeningResult;
+import com.airesume.resumescreeningtool.repository.ScreeningResultRepository;
+import com.airesume.resumescreeningtool.search.DatabaseTextSearch;
+
+/**
+ * Searches the AI feedback, strengths and weaknesses of screening results.
+ * <p>
+ * On PostgreSQL the query is a web-search style expression (words, "quoted phrases",
+ * {@code or}, {@code -excluded}) matched against the GIN-indexed tsvector columns,
+ * best match first. Elsewhere it falls back to a case-insensitive substring match.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ScreeningFeedbackSearchService {
+
+    @Autowired
+    private ScreeningResultRepository screeningResultRepository;
+
+    @Autowired
+    private DatabaseTextSearch databaseTextSearch;
+
+    /**
+     * Searches one of the text fields: {@code feedback}, {@code strengths} or {@code weaknesses}
+     */
+    public List<ScreeningResult> search(String field, String query) {
+        return switch (field == null ? "" : field.toLowerCase(Locale.ROOT)) {
+            case "feedback" -> searchAiFeedback(query);
+            case "strengths" -> searchStrengths(query);
+            case "weaknesses" -> searchWeaknesses(query);
+            default -> throw new IllegalArgumentException("Unknown search field: " + field
+                    + ". Supported fields are feedback, strengths and weaknesses");
+        };
+    }
+
+    public List<ScreeningResult> searchAiFeedback(String query) {
+        String text = requireQuery(query);
+        return databaseTextSearch.isAvailable()
+                ? screeningResultRepository.searchByAiFeedback(text)
+                : screeningResultRepository.findByAiFeedbackContaining(text);
+    }
+
+    public List<ScreeningResult> searchStrengths(String query) {
+        String text = requireQuery(query);
+        return databaseTextSearch.isAvailable()
+                ? screeningResultRepository.searchByStrengths(text)
+                : screeningResultRepository.findByStrengthsContaining(text);
+    }
+
+    public List<ScreeningResult> searchWeaknesses(String query) {
+        String text = requireQuery(query);
+        return databaseTextSearch.isAvailable()
+                ? screeningResultRepository.searchByWeaknesses(text)
+                : screeningResultRepository.findByWeaknessesContaining(text);
+    }
+
+    private static String requireQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        return query.trim();
+    }
+}
@@ -0,0 +1,122 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.StoredFileRepository;
+
+/**
+ * Background migration of the upload store into the sharded layout.
+ * Each run handles one batch: blobs still in the flat directory are moved under
+ * their hash prefix, and resumes stored before content addressing are hashed into
+ * the store. Every file is moved in its own short transaction while the
+ * application keeps serving requests. Both passes walk their table with a keyset
+ * cursor and stop once they find nothing left to do; new uploads always go
+ * straight into the sharded layout.
+ */
+@Service
+public class StorageLayoutMigrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageLayoutMigrationService.class);
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private StoredFileService storedFileService;
+
+    @Value("${file.upload.migration.enabled}")
+    private boolean enabled;
+
+    @Value("${file.upload.migration.batch-size}")
+    private int batchSize;
+
+    private String contentHashCursor = "";
+
+    private long resumeIdCursor = 0L;
+
+    private boolean blobsDone;
+
+    private boolean legacyFilesDone;
+
+    /**
+     * Migrates the next batch of files
+     */
+    @Scheduled(initialDelayString = "${file.upload.migration.initial-delay-ms}",
+               fixedDelayString = "${file.upload.migration.interval-ms}")
+    public void migrateNextBatch() {
+        if (!enabled || isComplete()) {
+            return;
+        }
+        if (!blobsDone) {
+            migrateBlobBatch();
+        }
+        if (!legacyFilesDone) {
+            adoptLegacyFileBatch();
+        }
+        if (isComplete()) {
+            logger.info("Upload store migration to the sharded layout is complete");
+        }
+    }
+
+    /**
+     * Whether both migration passes have finished
+     */
+    public boolean isComplete() {
+        return blobsDone && legacyFilesDone;
+    }
+
+    private void migrateBlobBatch() {
+        List<String> contentHashes = storedFileRepository.findUnshardedContentHashes(contentHashCursor, PageRequest.of(0, batchSize));
+        if (contentHashes.isEmpty()) {
+            blobsDone = true;
+            return;
+        }
+
+        int moved = 0;
+        for (String contentHash : contentHashes) {
+            try {
+                if (storedFileService.relocate(contentHash)) {
+                    moved++;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.error("Could not move stored file {}: {}", contentHash, e.getMessage());
+            }
+        }
+        contentHashCursor = contentHashes.get(contentHashes.size() - 1);
+        logger.info("Moved {} of {} stored file(s) into the sharded layout", moved, contentHashes.size());
+    }
+
+    private void adoptLegacyFileBatch() {
+        List<Long> resumeIds = resumeRepository.findIdsWithoutContentHash(resumeIdCursor, PageRequest.of(0, batchSize));
+        if (resumeIds.isEmpty()) {
+            legacyFilesDone = true;
+            return;
+        }
+
+        int adopted = 0;
+        for (Long resumeId : resumeIds) {
+            try {
+                if (storedFileService.adoptLegacyFile(resumeId)) {
+                    adopted++;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.error("Could not move file of resume {} into the store: {}", resumeId, e.getMessage());
+            }
+        }
+        resumeIdCursor = resumeIds.get(resumeIds.size() - 1);
+        logger.info("Moved {} of {} legacy resume file(s) into the store", adopted, resumeIds.size());
+    }
+}
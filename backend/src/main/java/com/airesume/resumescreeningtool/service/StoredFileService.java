@@ -0,0 +1,214 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.StoredFile;
+import com.airesume.resumescreeningtool.extraction.ExtractionCache;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.StoredFileInsertRepository;
+import com.airesume.resumescreeningtool.repository.StoredFileRepository;
+
+/**
+ * Reference counting for the content-addressed upload store.
+ * Every change to a blob's reference count happens while holding a row lock on
+ * its stored file record, and the physical file is moved into place or set aside
+ * for removal under that same lock, so a concurrent upload of the same bytes can
+ * never observe a record whose blob is being deleted. Files are only deleted
+ * after commit, so a rollback leaves the store as it was.
+ */
+@Service
+@Transactional
+public class StoredFileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoredFileService.class);
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private StoredFileInsertRepository storedFileInsertRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private ExtractionCache extractionCache;
+
+    /**
+     * Adds a reference to the blob of a staged upload, committing the staged file
+     * to the store if this is the first reference
+     */
+    public StoredFile acquire(FileUploadService.FileUploadResult upload) throws IOException {
+        try {
+            // Concurrent first uploads of the same bytes both insert; only one row survives and both lock it
+            storedFileInsertRepository.insertIfAbsent(
+                    new StoredFile(upload.getContentHash(), upload.getFilePath(), upload.getFileSize()));
+            StoredFile storedFile = storedFileRepository.findByContentHashForUpdate(upload.getContentHash())
+                    .orElseThrow(() -> new IllegalStateException("Stored file disappeared: " + upload.getContentHash()));
+
+            // An existing blob keeps its current location until the layout migration moves it
+            fileUploadService.commitStagedFile(upload, Paths.get(storedFile.getFilePath()));
+
+            storedFile.setReferenceCount(storedFile.getReferenceCount() + 1);
+            return storedFileRepository.saveAndFlush(storedFile);
+        } finally {
+            fileUploadService.discardStagedFile(upload);
+        }
+    }
+
+    /**
+     * Drops a reference to a blob and removes the physical file once the last reference
+     * is gone and the transaction has committed
+     *
+     * @return true if the blob will be removed from storage
+     */
+    public boolean release(String contentHash) {
+        Optional<StoredFile> found = storedFileRepository.findByContentHashForUpdate(contentHash);
+        if (found.isEmpty()) {
+            logger.warn("No stored file found for content hash: {}", contentHash);
+            return false;
+        }
+
+        StoredFile storedFile = found.get();
+        int remaining = storedFile.getReferenceCount() - 1;
+        if (remaining > 0) {
+            storedFile.setReferenceCount(remaining);
+            storedFileRepository.save(storedFile);
+            logger.info("Stored file {} still has {} reference(s)", contentHash, remaining);
+            return false;
+        }
+
+        storedFileRepository.delete(storedFile);
+        storedFileRepository.flush();
+
+        // The blob is set aside under the lock, so an upload of the same bytes after commit
+        // stores a fresh copy, and is only removed once the record is gone for good
+        Path blobPath = Paths.get(storedFile.getFilePath());
+        Path removedPath = blobPath.resolveSibling(blobPath.getFileName() + ".removed");
+        boolean setAside = setAside(blobPath, removedPath);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    extractionCache.evict(contentHash);
+                    if (setAside) {
+                        fileUploadService.deleteStoredFile(removedPath.toString());
+                    }
+                } else if (setAside) {
+                    setAside(removedPath, blobPath);
+                }
+            }
+        });
+        return setAside;
+    }
+
+    /**
+     * Moves a blob into the sharded layout. The blob is linked at its new location and
+     * the stored file and resume rows are repointed under the row lock; the old path is
+     * only removed after commit, so readers holding either path keep working.
+     *
+     * @return true if the blob was moved
+     */
+    public boolean relocate(String contentHash) throws IOException {
+        Optional<StoredFile> found = storedFileRepository.findByContentHashForUpdate(contentHash);
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        StoredFile storedFile = found.get();
+        Path currentPath = Paths.get(storedFile.getFilePath());
+        Path shardedPath = fileUploadService.blobPath(currentPath.getFileName().toString());
+        if (currentPath.equals(shardedPath)) {
+            return false;
+        }
+        if (!Files.exists(currentPath) && !Files.exists(shardedPath)) {
+            logger.warn("Stored file {} is missing at {}", contentHash, currentPath);
+            return false;
+        }
+
+        boolean linked = Files.exists(currentPath) && fileUploadService.linkIntoPlace(currentPath, shardedPath);
+        storedFile.setFilePath(shardedPath.toString());
+        storedFileRepository.save(storedFile);
+        int resumes = resumeRepository.updateFilePathByContentHash(contentHash, shardedPath.toString());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    fileUploadService.deleteStoredFile(currentPath.toString());
+                } else if (linked) {
+                    fileUploadService.deleteStoredFile(shardedPath.toString());
+                }
+            }
+        });
+        logger.debug("Moved stored file {} to {} ({} resume(s))", contentHash, shardedPath, resumes);
+        return true;
+    }
+
+    /**
+     * Brings the file of a resume stored before content addressing into the store:
+     * the file is hashed into a blob, the resume takes a reference on it, and the old
+     * file is removed once the transaction commits
+     *
+     * @return true if the resume was moved into the store
+     */
+    public boolean adoptLegacyFile(Long resumeId) throws IOException {
+        Optional<Resume> found = resumeRepository.findById(resumeId);
+        if (found.isEmpty() || found.get().getContentHash() != null) {
+            return false;
+        }
+
+        Resume resume = found.get();
+        Path legacyPath = Paths.get(resume.getFilePath());
+        if (!Files.exists(legacyPath)) {
+            logger.warn("File of resume {} is missing at {}", resumeId, legacyPath);
+            return false;
+        }
+
+        FileUploadService.FileUploadResult staged =
+                fileUploadService.stageExistingFile(legacyPath, legacyPath.getFileName().toString());
+        StoredFile storedFile = acquire(staged);
+        resume.setContentHash(storedFile.getContentHash());
+        resume.setFilePath(storedFile.getFilePath());
+        resumeRepository.save(resume);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fileUploadService.deleteStoredFile(legacyPath.toString());
+            }
+        });
+        return true;
+    }
+
+    private boolean setAside(Path from, Path to) {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (NoSuchFileException e) {
+            logger.warn("Stored file is missing at {}", from);
+            return false;
+        } catch (IOException e) {
+            logger.error("Could not move stored file '{}' to '{}': {}", from, to, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+-- Progress of admin backfill jobs, one row per job, updated after every chunk
+CREATE TABLE backfill_checkpoints (
+    job_name VARCHAR(64) PRIMARY KEY,
+    source VARCHAR(20) NOT NULL CHECK (source IN ('TEXT', 'FILE')),
+    status VARCHAR(20) NOT NULL CHECK (status IN ('RUNNING', 'COMPLETED', 'CANCELLED', 'FAILED')),
+    last_id BIGINT NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    skipped_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create trigger for backfill_checkpoints table
+CREATE TRIGGER update_backfill_checkpoints_updated_at 
+    BEFORE UPDATE ON backfill_checkpoints 
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON COLUMN backfill_checkpoints.last_id IS 'Highest resume id already reprocessed; a restarted job continues after it';
@@ -0,0 +1,32 @@
+-- Stored tsvector columns for database-side full-text search (resume.search.engine=database).
+-- The expression indexes from V3/V4 were never used: the queries matched with LIKE '%kw%',
+-- and an expression index only helps a query that repeats the same to_tsvector call.
+-- Generated columns keep the vectors in step with the text without triggers.
+
+DROP INDEX IF EXISTS idx_resumes_extracted_text_gin;
+DROP INDEX IF EXISTS idx_screening_results_ai_feedback_gin;
+DROP INDEX IF EXISTS idx_screening_results_strengths_gin;
+DROP INDEX IF EXISTS idx_screening_results_weaknesses_gin;
+
+ALTER TABLE resumes
+ADD COLUMN extracted_text_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(extracted_text, ''))) STORED;
+
+ALTER TABLE screening_results
+ADD COLUMN ai_feedback_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(ai_feedback, ''))) STORED;
+
+ALTER TABLE screening_results
+ADD COLUMN strengths_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(strengths, ''))) STORED;
+
+ALTER TABLE screening_results
+ADD COLUMN weaknesses_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(weaknesses, ''))) STORED;
+
+CREATE INDEX idx_resumes_extracted_text_tsv ON resumes USING gin(extracted_text_tsv);
+CREATE INDEX idx_screening_results_ai_feedback_tsv ON screening_results USING gin(ai_feedback_tsv);
+CREATE INDEX idx_screening_results_strengths_tsv ON screening_results USING gin(strengths_tsv);
+CREATE INDEX idx_screening_results_weaknesses_tsv ON screening_results USING gin(weaknesses_tsv);
+
+COMMENT ON COLUMN resumes.extracted_text_tsv IS 'Searched with websearch_to_tsquery and ranked with ts_rank; not mapped by the entity';
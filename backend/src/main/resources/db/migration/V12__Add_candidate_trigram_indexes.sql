@@ -0,0 +1,6 @@
+-- Trigram indexes for typo-tolerant candidate lookup by name or email (word_similarity / <% from pg_trgm).
+-- LIKE '%name%' over candidate_name could not use any index; these serve both the fuzzy lookup and such substring matches.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_resumes_candidate_name_trgm ON resumes USING gin(candidate_name gin_trgm_ops);
+CREATE INDEX idx_resumes_candidate_email_trgm ON resumes USING gin(candidate_email gin_trgm_ops);
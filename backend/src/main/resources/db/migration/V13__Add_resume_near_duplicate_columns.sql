@@ -0,0 +1,7 @@
+-- MinHash signatures of resume text and near-duplicate flags, for catching the same resume sent
+-- twice to a job posting under another email or with small edits (see NearDuplicateIndex).
+-- Signatures are written at ingest; rows from before this migration get theirs when the index is first built.
+ALTER TABLE resumes ADD COLUMN minhash_signature BYTEA;
+ALTER TABLE resumes ADD COLUMN near_duplicate_of BIGINT;
+
+CREATE INDEX idx_resumes_near_duplicate_of ON resumes(near_duplicate_of);
@@ -0,0 +1,10 @@
+-- Allow the asynchronous extraction pipeline states on resumes
+ALTER TABLE resumes DROP CONSTRAINT IF EXISTS resumes_status_check;
+
+ALTER TABLE resumes
+ADD CONSTRAINT resumes_status_check CHECK (status IN ('PROCESSING', 'EXTRACTION_FAILED', 'SUBMITTED', 'UNDER_REVIEW', 'SCREENED', 'SHORTLISTED', 'REJECTED', 'INTERVIEW_SCHEDULED', 'HIRED', 'WITHDRAWN'));
+
+-- Uploads waiting for the extraction workers are polled by ID and swept by status
+CREATE INDEX idx_processing_resumes ON resumes(id) WHERE status = 'PROCESSING';
+
+COMMENT ON COLUMN resumes.status IS 'PROCESSING while text extraction runs in the background, EXTRACTION_FAILED if it could not complete';
@@ -0,0 +1,22 @@
+-- Content-addressed file store: one row per distinct file (SHA-256 of its bytes)
+CREATE TABLE stored_files (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    file_path VARCHAR(500) NOT NULL,
+    file_size BIGINT,
+    reference_count INTEGER NOT NULL DEFAULT 0 CHECK (reference_count >= 0),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Resumes point at their stored file by content hash (NULL for files stored before content addressing)
+ALTER TABLE resumes ADD COLUMN content_hash VARCHAR(64);
+
+CREATE INDEX idx_resumes_content_hash ON resumes(content_hash);
+
+-- Create trigger for stored_files table
+CREATE TRIGGER update_stored_files_updated_at 
+    BEFORE UPDATE ON stored_files 
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON TABLE stored_files IS 'Physical resume files shared by all resumes with identical content';
+COMMENT ON COLUMN stored_files.reference_count IS 'Number of resumes referencing this file; the file is deleted when it drops to zero';
@@ -0,0 +1,12 @@
+-- Normalized dictionary skills found in each resume's extracted text
+CREATE TABLE resume_skills (
+    resume_id BIGINT NOT NULL,
+    skill_id VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_resume_skills PRIMARY KEY (resume_id, skill_id),
+    CONSTRAINT fk_resume_skills_resume FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE
+);
+
+-- Skill searches are equality lookups on the skill id
+CREATE INDEX idx_resume_skills_skill_id ON resume_skills(skill_id);
+
+COMMENT ON TABLE resume_skills IS 'Skill ids from the skill dictionary matched in a resume; replaces LIKE scans over the skills text';
@@ -0,0 +1,52 @@
+package com.airesume.resumescreeningtool.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AdminSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser
+    public void testAdminEndpointsRefuseOtherUsers() throws Exception {
+        mockMvc.perform(get("/api/admin/resumes/backfill")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser
+    public void testMetricsRefuseOtherUsers() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testHealthIsOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void testMetricsAllowAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void testAdminEndpointsAllowAdmins() throws Exception {
+        // No backfill has run yet, so the status itself is not found
+        mockMvc.perform(get("/api/admin/resumes/backfill"))
+                .andExpect(result -> assertThat(result.getResponse().getStatus()).isIn(200, 404));
+    }
+}
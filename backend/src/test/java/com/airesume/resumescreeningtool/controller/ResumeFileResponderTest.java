@@ -0,0 +1,132 @@
+package com.airesume.resumescreeningtool.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+public class ResumeFileResponderTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final String CONTENT_HASH = "6f0a3c1e" + "0".repeat(56);
+    private static final String ETAG = "\"" + CONTENT_HASH + "\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private String url;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("cv.txt"), CONTENT, StandardCharsets.US_ASCII);
+        String name = "responder" + System.nanoTime();
+        User user = userRepository.save(User.builder().username(name).email(name + "@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        JobPosting jobPosting = jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+
+        Resume resume = new Resume("Jane Doe", name + "@example.com", "cv.txt", file.toString(), jobPosting);
+        resume.setContentHash(CONTENT_HASH);
+        resume.setContentType("text/plain");
+        resumeBatchRepository.insertAll(List.of(resume), 1);
+        url = "/api/resumes/" + resume.getId() + "/file";
+    }
+
+    @Test
+    public void testFullFile() throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    public void testLeadingRange() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/" + CONTENT.length()))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    public void testSuffixRange() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-6"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 30-35/" + CONTENT.length()))
+                .andExpect(content().string("uvwxyz"));
+
+        // A suffix longer than the file covers all of it
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-1000"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-35/" + CONTENT.length()))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    public void testUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length()));
+    }
+
+    @Test
+    public void testMatchingIfNoneMatch() throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testIfRange() throws Exception {
+        // A stale validator gets the whole file instead of the range
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(CONTENT));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=10-15").header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("abcdef"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.airesume.resumescreeningtool.controller;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.RecommendationStatus;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.ScreeningResult;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.ScreeningResultRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+public class ScreeningResultControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ScreeningResultRepository screeningResultRepository;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private String marker;
+
+    @BeforeEach
+    public void setUp() {
+        marker = "marker" + System.nanoTime();
+        User user = userRepository.save(User.builder().username(marker).email(marker + "@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        JobPosting jobPosting = jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+        Resume first = new Resume("Jane Doe", "jane@example.com", "jane.txt", "jane.txt", jobPosting);
+        Resume second = new Resume("John Roe", "john@example.com", "john.txt", "john.txt", jobPosting);
+        resumeBatchRepository.insertAll(List.of(first, second), 2);
+
+        screeningResultRepository.save(screeningResult(jobPosting, first, user,
+                "Strong Kafka background " + marker, "Distributed systems", "Little frontend work"));
+        screeningResultRepository.save(screeningResult(jobPosting, second, user,
+                "Mostly frontend experience", "React " + marker, "No Kafka"));
+    }
+
+    @Test
+    public void testSubstringFallbackSearchesTheRequestedField() throws Exception {
+        mockMvc.perform(get("/api/screening-results/search").param("q", marker.toUpperCase()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].aiFeedback", contains("Strong Kafka background " + marker)));
+
+        mockMvc.perform(get("/api/screening-results/search").param("q", marker).param("field", "strengths"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].strengths", contains("React " + marker)));
+
+        mockMvc.perform(get("/api/screening-results/search").param("q", marker).param("field", "weaknesses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    public void testRejectsUnknownFieldsAndBlankQueries() throws Exception {
+        mockMvc.perform(get("/api/screening-results/search").param("q", marker).param("field", "recommendation"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/screening-results/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ScreeningResult screeningResult(JobPosting jobPosting, Resume resume, User user,
+                                            String feedback, String strengths, String weaknesses) {
+        ScreeningResult result = new ScreeningResult(jobPosting, resumeRepository.getReferenceById(resume.getId()), user);
+        result.setOverallScore(new BigDecimal("72.50"));
+        result.setRecommendationStatus(RecommendationStatus.CONSIDER);
+        result.setAiFeedback(feedback);
+        result.setStrengths(strengths);
+        result.setWeaknesses(weaknesses);
+        return result;
+    }
+}
@@ -0,0 +1,169 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes a synthetic corpus to disk for offline load testing: job postings in
+ * {@code jobs.json} and, per posting, a directory of resumes with the CSV manifest
+ * the bulk upload endpoint expects.
+ * <p>
+ * Run from the backend directory with
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.airesume.resumescreeningtool.corpus.CorpusGenerator \
+ *     -Dexec.args="--out target/corpus --jobs 3 --resumes-per-job 200 --seed 7"
+ * </pre>
+ * Options:
+ * <pre>
+ * --out DIR                 output directory (required)
+ * --seed N                  random seed; the same seed gives the same corpus (default 42)
+ * --jobs N                  number of job postings (default 1)
+ * --resumes-per-job N       resumes generated per posting (default 10)
+ * --formats LIST            formats used in rotation, from pdf,docx,doc,txt (default all)
+ * --sections LIST           section order, from summary,skills,experience,education,certifications,projects
+ * --shuffle-sections        random section order per resume
+ * --positions MIN-MAX       number of positions held (default 2-6)
+ * --skills N                distinct skills per resume (default 10)
+ * --job-skill-share X       share of a resume's skills taken from its posting (default 0.6)
+ * --table-rows N            rows of an appended skills matrix table (default 0)
+ * --filler-pages N          extra pages of project history (default 0)
+ * --text-encoding NAME      utf-8, utf-8-bom, utf-16le-bom, utf-16be-bom or windows-1252 (default utf-8)
+ * --international-text      accented and non-Latin names, companies and duties
+ * --pdf-font FILE           TrueType font to embed in PDFs
+ * </pre>
+ */
+public class CorpusGenerator {
+
+    private final CorpusProfile profile;
+    private final long seed;
+    private final List<String> formats;
+
+    public CorpusGenerator(CorpusProfile profile, long seed, List<String> formats) {
+        for (String format : formats) {
+            if (!ResumeDocumentWriter.FORMATS.contains(format)) {
+                throw new IllegalArgumentException("Unsupported corpus format: " + format);
+            }
+        }
+        this.profile = profile;
+        this.seed = seed;
+        this.formats = List.copyOf(formats);
+    }
+
+    /**
+     * Generates the corpus into a directory
+     *
+     * @return the generated job postings
+     */
+    public List<GeneratedJobPosting> writeCorpus(Path outputDir, int jobs, int resumesPerJob) throws IOException {
+        JobPostingGenerator jobPostingGenerator = new JobPostingGenerator(profile, seed);
+        ResumeGenerator resumeGenerator = new ResumeGenerator(profile, seed);
+        ResumeDocumentWriter writer = new ResumeDocumentWriter(profile);
+        Files.createDirectories(outputDir);
+
+        List<GeneratedJobPosting> postings = new ArrayList<>(jobs);
+        for (int job = 0; job < jobs; job++) {
+            GeneratedJobPosting posting = jobPostingGenerator.generate(job);
+            postings.add(posting);
+            Path jobDir = Files.createDirectories(outputDir.resolve(posting.key()));
+
+            try (BufferedWriter manifest = Files.newBufferedWriter(jobDir.resolve("manifest.csv"), StandardCharsets.UTF_8)) {
+                manifest.write("fileName,candidateName,candidateEmail,candidatePhone\n");
+                for (int i = 0; i < resumesPerJob; i++) {
+                    int index = job * resumesPerJob + i;
+                    String format = formats.get(index % formats.size());
+                    GeneratedResume resume = resumeGenerator.generate(index, posting);
+                    String fileName = String.format("resume-%06d.%s", index + 1, format);
+                    writer.write(resume, format, jobDir.resolve(fileName));
+                    manifest.write(csv(fileName) + "," + csv(resume.candidateName()) + ","
+                            + csv(resume.candidateEmail()) + "," + csv(resume.candidatePhone()) + "\n");
+                }
+            }
+        }
+
+        JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build()
+                .writeValue(outputDir.resolve("jobs.json").toFile(), postings);
+        return postings;
+    }
+
+    public static void main(String[] args) throws IOException {
+        CorpusProfile profile = new CorpusProfile();
+        Path outputDir = null;
+        long seed = 42;
+        int jobs = 1;
+        int resumesPerJob = 10;
+        List<String> formats = ResumeDocumentWriter.FORMATS;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            switch (option) {
+                case "--shuffle-sections" -> profile.setShuffleSections(true);
+                case "--international-text" -> profile.setInternationalText(true);
+                default -> {
+                    if (i + 1 >= args.length) {
+                        throw new IllegalArgumentException("Missing value for " + option);
+                    }
+                    String value = args[++i];
+                    switch (option) {
+                        case "--out" -> outputDir = Paths.get(value);
+                        case "--seed" -> seed = Long.parseLong(value);
+                        case "--jobs" -> jobs = Integer.parseInt(value);
+                        case "--resumes-per-job" -> resumesPerJob = Integer.parseInt(value);
+                        case "--formats" -> formats = list(value);
+                        case "--sections" -> profile.setSections(list(value).stream()
+                                .map(section -> CorpusProfile.Section.valueOf(section.toUpperCase(Locale.ROOT)))
+                                .toList());
+                        case "--positions" -> {
+                            String[] range = value.split("-", 2);
+                            profile.setMinPositions(Integer.parseInt(range[0]));
+                            profile.setMaxPositions(Integer.parseInt(range.length > 1 ? range[1] : range[0]));
+                        }
+                        case "--skills" -> profile.setSkillCount(Integer.parseInt(value));
+                        case "--job-skill-share" -> profile.setJobSkillShare(Double.parseDouble(value));
+                        case "--table-rows" -> profile.setTableRows(Integer.parseInt(value));
+                        case "--filler-pages" -> profile.setFillerPages(Integer.parseInt(value));
+                        case "--text-encoding" -> profile.setTextEncoding(CorpusProfile.TextEncoding.valueOf(
+                                value.toUpperCase(Locale.ROOT).replace('-', '_')));
+                        case "--pdf-font" -> profile.setPdfFont(Paths.get(value));
+                        default -> throw new IllegalArgumentException("Unknown option: " + option);
+                    }
+                }
+            }
+        }
+        if (outputDir == null) {
+            throw new IllegalArgumentException("--out is required");
+        }
+
+        long start = System.nanoTime();
+        new CorpusGenerator(profile, seed, formats).writeCorpus(outputDir, jobs, resumesPerJob);
+        System.out.printf("Wrote %d job postings and %d resumes to %s in %d ms%n", jobs, jobs * resumesPerJob,
+                outputDir.toAbsolutePath(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static List<String> list(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty())
+                .map(item -> item.toLowerCase(Locale.ROOT)).toList();
+    }
+
+    private static String csv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
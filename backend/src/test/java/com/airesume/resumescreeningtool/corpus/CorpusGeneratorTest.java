@@ -0,0 +1,92 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import com.airesume.resumescreeningtool.extraction.DocxStreamingTextExtractor;
+import com.airesume.resumescreeningtool.extraction.HwpfTextExtractor;
+import com.airesume.resumescreeningtool.extraction.PdfTextExtractor;
+import com.airesume.resumescreeningtool.extraction.PlainTextExtractor;
+import com.airesume.resumescreeningtool.extraction.TextExtractorRegistry;
+import com.airesume.resumescreeningtool.extraction.XwpfTextExtractor;
+import com.airesume.resumescreeningtool.parsing.ResumeSectionSegmenter;
+import com.airesume.resumescreeningtool.parsing.SkillDictionary;
+import com.airesume.resumescreeningtool.service.ResumeManifest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CorpusGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSameSeedWritesSameBytes() throws Exception {
+        CorpusProfile profile = CorpusProfile.builder().tableRows(5).shuffleSections(true).build();
+        ResumeDocumentWriter writer = new ResumeDocumentWriter(profile);
+        GeneratedResume resume = new ResumeGenerator(profile, 7).generate(3);
+
+        assertThat(new ResumeGenerator(profile, 7).generate(3)).isEqualTo(resume);
+        assertThat(new ResumeGenerator(profile, 8).generate(3)).isNotEqualTo(resume);
+        for (String format : ResumeDocumentWriter.FORMATS) {
+            assertThat(writer.toBytes(new ResumeGenerator(profile, 7).generate(3), format))
+                    .as(format).isEqualTo(writer.toBytes(resume, format));
+        }
+    }
+
+    @Test
+    public void testGeneratedDocumentsExtractBack() throws Exception {
+        TextExtractorRegistry registry = new TextExtractorRegistry(List.of(
+                new PdfTextExtractor(16777216, 24, 8, 200, 1), new DocxStreamingTextExtractor(),
+                new XwpfTextExtractor(), new HwpfTextExtractor(), new PlainTextExtractor()),
+                new SimpleMeterRegistry(), "", "");
+        SkillDictionary dictionary = new SkillDictionary(new ClassPathResource("skills/skills.csv"));
+        ResumeSectionSegmenter segmenter = new ResumeSectionSegmenter();
+
+        List<GeneratedJobPosting> postings = new CorpusGenerator(CorpusProfile.builder().tableRows(3).build(), 11,
+                ResumeDocumentWriter.FORMATS).writeCorpus(tempDir, 2, 4);
+
+        assertThat(postings).extracting(GeneratedJobPosting::key).containsExactly("job-001", "job-002");
+        assertThat(tempDir.resolve("jobs.json")).exists();
+        ResumeManifest manifest = ResumeManifest.parse(Files.newInputStream(tempDir.resolve("job-002/manifest.csv")));
+        assertThat(manifest.size()).isEqualTo(4);
+
+        ResumeGenerator generator = new ResumeGenerator(CorpusProfile.builder().tableRows(3).build(), 11);
+        for (ResumeManifest.Entry entry : manifest.entries()) {
+            int index = Integer.parseInt(entry.fileName().substring(7, 13)) - 1;
+            GeneratedResume resume = generator.generate(index, postings.get(1));
+            String extension = entry.fileName().substring(entry.fileName().lastIndexOf('.') + 1);
+            String text = registry.extract(tempDir.resolve("job-002").resolve(entry.fileName()), extension);
+
+            assertThat(entry.candidateEmail()).isEqualTo(resume.candidateEmail());
+            assertThat(text).as(entry.fileName()).contains(resume.candidateName(), "Professional Experience");
+            assertThat(segmenter.segment(text).getYearsOfExperience()).as(entry.fileName()).isEqualTo(resume.yearsOfExperience());
+            assertThat(dictionary.match(text)).as(entry.fileName())
+                    .containsAll(resume.skills().stream().map(skill -> dictionary.resolve(skill).orElseThrow()).toList());
+        }
+    }
+
+    @Test
+    public void testPathologicalSettings() throws Exception {
+        CorpusProfile profile = CorpusProfile.builder()
+                .fillerPages(100)
+                .textEncoding(CorpusProfile.TextEncoding.UTF_16LE_BOM)
+                .internationalText(true)
+                .build();
+        GeneratedResume resume = new ResumeGenerator(profile, 1).generate(0);
+        byte[] text = new ResumeDocumentWriter(profile).toBytes(resume, "txt");
+
+        assertThat(resume.lines().size()).isGreaterThan(5000);
+        assertThat(text[0]).isEqualTo((byte) 0xFF);
+        assertThat(text[1]).isEqualTo((byte) 0xFE);
+        assertThat(new String(text, 2, text.length - 2, StandardCharsets.UTF_16LE)).isEqualTo(resume.text());
+    }
+}
@@ -0,0 +1,75 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings for the synthetic resume corpus. The defaults describe an ordinary one or
+ * two page resume; the pathological settings (huge tables, filler pages, odd text
+ * encodings, non-Latin names) are all off by default.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CorpusProfile {
+
+    /**
+     * Sections in the order they appear; sections left out are not written
+     */
+    @Builder.Default
+    private List<Section> sections = List.of(Section.SUMMARY, Section.SKILLS, Section.EXPERIENCE,
+            Section.EDUCATION, Section.CERTIFICATIONS);
+
+    // Shuffles the section order per resume instead of using the order above
+    private boolean shuffleSections;
+
+    @Builder.Default
+    private int minPositions = 2;
+
+    @Builder.Default
+    private int maxPositions = 6;
+
+    @Builder.Default
+    private int dutiesPerPosition = 3;
+
+    // Number of distinct skills a resume mentions
+    @Builder.Default
+    private int skillCount = 10;
+
+    // Skill names to draw from; null uses every skill in the skill dictionary
+    private List<String> skillPool;
+
+    // Share of a resume's skills taken from the job posting it is written for
+    @Builder.Default
+    private double jobSkillShare = 0.6;
+
+    // Rows of a skills matrix table appended to the resume
+    private int tableRows;
+
+    // Extra pages of project history, about fifty lines each
+    private int fillerPages;
+
+    // Character encoding of .txt resumes
+    @Builder.Default
+    private TextEncoding textEncoding = TextEncoding.UTF_8;
+
+    // Candidate names, companies and duties with accents and non-Latin scripts
+    private boolean internationalText;
+
+    // TrueType font embedded in PDFs; without it, characters Helvetica cannot show become '?'
+    private Path pdfFont;
+
+    public enum Section {
+        SUMMARY, SKILLS, EXPERIENCE, EDUCATION, CERTIFICATIONS, PROJECTS
+    }
+
+    public enum TextEncoding {
+        UTF_8, UTF_8_BOM, UTF_16LE_BOM, UTF_16BE_BOM, WINDOWS_1252
+    }
+}
@@ -0,0 +1,117 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Word lists the generators draw from
+ */
+final class CorpusVocabulary {
+
+    static final List<String> FIRST_NAMES = List.of(
+            "Alex", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery", "Quinn", "Cameron",
+            "Sam", "Robin", "Drew", "Harper", "Rowan", "Skyler", "Emerson", "Parker", "Reese", "Hayden");
+    static final List<String> LAST_NAMES = List.of(
+            "Smith", "Johnson", "Brown", "Garcia", "Miller", "Davis", "Martinez", "Wilson", "Anderson", "Thomas",
+            "Moore", "Jackson", "Martin", "Lee", "Thompson", "White", "Harris", "Clark", "Lewis", "Walker");
+    static final List<String> INTERNATIONAL_FIRST_NAMES = List.of(
+            "José", "Zoë", "Łukasz", "Søren", "Ngọc", "Björn", "Çağla", "Đorđe", "Иван", "Σοφία",
+            "محمد", "יעל", "さくら", "伟", "민준", "Ōta", "Nuñez", "François", "Åsa", "Þór");
+    static final List<String> INTERNATIONAL_LAST_NAMES = List.of(
+            "Müller", "Øvergård", "Nguyễn", "Kowalczyk", "Şahin", "Đặng", "Петров", "Παπαδόπουλος", "الحسن",
+            "כהן", "田中", "王", "김", "García-Peña", "Dvořák", "Ålund", "Ó Briain", "Žukauskas", "Lévesque", "Þórsson");
+    static final List<String> TITLES = List.of(
+            "Software Engineer", "Senior Software Engineer", "Backend Developer", "Full Stack Developer",
+            "Platform Engineer", "Data Engineer", "Team Lead", "DevOps Engineer", "Site Reliability Engineer",
+            "Machine Learning Engineer", "Frontend Developer", "Solutions Architect");
+    static final List<String> COMPANIES = List.of(
+            "Acme Corp", "Globex", "Initech", "Umbrella Systems", "Stark Industries", "Wayne Enterprises",
+            "Hooli", "Vandelay Industries", "Soylent Labs", "Cyberdyne", "Tyrell Corporation", "Massive Dynamic");
+    static final List<String> INTERNATIONAL_COMPANIES = List.of(
+            "Société Générale de Logiciel", "Nordisk Dataværk", "Ümit Yazılım", "Пример Софт", "株式会社サンプル");
+    static final List<String> DEPARTMENTS = List.of(
+            "Engineering", "Platform", "Data", "Infrastructure", "Product", "Research");
+    static final List<String> LOCATIONS = List.of(
+            "Remote", "Berlin", "London", "New York", "Toronto", "Bangalore", "Singapore", "Austin", "Lisbon");
+    static final List<String> DUTIES = List.of(
+            "Designed and built services handling millions of requests per day",
+            "Migrated the monolith to independently deployable services",
+            "Reduced p99 latency of the checkout API by forty percent",
+            "Mentored junior developers and ran weekly code reviews",
+            "Introduced contract tests between the frontend and backend teams",
+            "Automated infrastructure provisioning and blue-green deployments",
+            "Owned the on-call rotation and the incident review process",
+            "Built reporting pipelines over the event stream",
+            "Led the rewrite of the billing engine without downtime",
+            "Cut cloud spend by a third through right-sizing and caching",
+            "Shipped the public API and its client libraries",
+            "Hardened authentication and ran the yearly penetration test");
+    static final List<String> INTERNATIONAL_DUTIES = List.of(
+            "Développé la plateforme de paiement «temps réel»",
+            "Entwickelte Dienste für Größen über 10⁶ Anfragen/Tag",
+            "Разработал систему мониторинга",
+            "リアルタイム分析基盤を構築した");
+    static final List<String> DEGREES = List.of(
+            "BSc Computer Science", "MSc Software Engineering", "BEng Electrical Engineering",
+            "BA Mathematics", "MSc Data Science", "PhD Computer Science");
+    static final List<String> UNIVERSITIES = List.of(
+            "State University", "Institute of Technology", "City College", "Polytechnic University");
+    static final List<String> CERTIFICATIONS = List.of(
+            "AWS Certified Solutions Architect - Associate", "Certified Kubernetes Application Developer",
+            "Oracle Certified Professional, Java SE Developer", "Google Professional Cloud Architect",
+            "Microsoft Certified: Azure Developer Associate", "HashiCorp Certified: Terraform Associate");
+    static final List<String> PROFICIENCY = List.of("Beginner", "Intermediate", "Advanced", "Expert");
+
+    private static volatile List<String> dictionarySkills;
+
+    private CorpusVocabulary() {
+    }
+
+    /**
+     * Display names of the skills in the skill dictionary, leaving out the
+     * single-letter ones that the dictionary never matches
+     */
+    static List<String> dictionarySkills() {
+        List<String> skills = dictionarySkills;
+        if (skills == null) {
+            skills = readDictionarySkills();
+            dictionarySkills = skills;
+        }
+        return skills;
+    }
+
+    static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<String> readDictionarySkills() {
+        List<String> skills = new ArrayList<>();
+        ClassPathResource resource = new ClassPathResource("skills/skills.csv");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                if (fields.length > 3 && "synonyms-only".equals(fields[3].trim())) {
+                    // Written the way the dictionary matches it
+                    skills.add(fields[2].split("\\|")[0].trim());
+                } else if (fields.length > 1 && fields[1].trim().length() > 1) {
+                    skills.add(fields[1].trim());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the skill dictionary", e);
+        }
+        return List.copyOf(skills);
+    }
+}
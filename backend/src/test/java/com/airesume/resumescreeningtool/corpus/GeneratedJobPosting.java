@@ -0,0 +1,34 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.JobStatus;
+import com.airesume.resumescreeningtool.entity.User;
+
+/**
+ * A synthetic job posting and the skills and experience it asks for
+ */
+public record GeneratedJobPosting(String key, String title, String description, String requirements,
+                                  String experienceLevel, int minYearsOfExperience, String jobType,
+                                  String salaryRange, String location, String companyName, String department,
+                                  LocalDateTime applicationDeadline, List<String> requiredSkills) {
+
+    /**
+     * An active, unsaved job posting entity with these details
+     */
+    public JobPosting toEntity(User createdBy) {
+        JobPosting jobPosting = new JobPosting(title, description, createdBy);
+        jobPosting.setRequirements(requirements);
+        jobPosting.setExperienceLevel(experienceLevel);
+        jobPosting.setJobType(jobType);
+        jobPosting.setSalaryRange(salaryRange);
+        jobPosting.setLocation(location);
+        jobPosting.setCompanyName(companyName);
+        jobPosting.setDepartment(department);
+        jobPosting.setApplicationDeadline(applicationDeadline);
+        jobPosting.setStatus(JobStatus.ACTIVE);
+        return jobPosting;
+    }
+}
@@ -0,0 +1,45 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A synthetic resume: candidate details, the facts it was generated from, and its
+ * content line by line, ready to be written in any format
+ */
+public record GeneratedResume(String candidateName, String candidateEmail, String candidatePhone,
+                              int yearsOfExperience, List<String> skills, List<Line> lines) {
+
+    /**
+     * Plain text of the resume, one line per line and table rows separated by " | "
+     */
+    public String text() {
+        return lines.stream().map(Line::plain).collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    public List<String> plainLines() {
+        return lines.stream().map(Line::plain).toList();
+    }
+
+    /**
+     * A line of text, or a table row when it has cells
+     */
+    public record Line(String text, List<String> cells) {
+
+        static Line text(String text) {
+            return new Line(text, null);
+        }
+
+        static Line row(List<String> cells) {
+            return new Line(null, List.copyOf(cells));
+        }
+
+        public boolean isTableRow() {
+            return cells != null;
+        }
+
+        public String plain() {
+            return isTableRow() ? String.join(" | ", cells) : text;
+        }
+    }
+}
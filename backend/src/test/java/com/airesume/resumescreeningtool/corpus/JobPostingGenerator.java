@@ -0,0 +1,70 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static com.airesume.resumescreeningtool.corpus.CorpusVocabulary.pick;
+
+/**
+ * Generates job postings whose required skills come from the same skill pool as the
+ * resumes, so resumes generated for a posting overlap with it the way real applicants do.
+ * Posting {@code index} under a given seed is always the same posting.
+ */
+public class JobPostingGenerator {
+
+    // Deadlines are relative to a fixed date so output does not depend on the clock
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 17, 0);
+
+    private static final List<String> LEVELS = List.of("Junior", "Mid", "Senior", "Lead");
+    private static final int[] LEVEL_MIN_YEARS = {0, 2, 5, 8};
+    private static final List<String> JOB_TYPES = List.of("Full-time", "Full-time", "Contract", "Part-time");
+
+    private final CorpusProfile profile;
+    private final long seed;
+
+    public JobPostingGenerator(CorpusProfile profile, long seed) {
+        this.profile = profile;
+        this.seed = seed;
+    }
+
+    public GeneratedJobPosting generate(int index) {
+        Random random = new Random(ResumeGenerator.mix(seed, 0x4A4F42L, index));
+        int level = random.nextInt(LEVELS.size());
+        String title = LEVELS.get(level) + " " + pick(random, CorpusVocabulary.TITLES);
+        String companyName = pick(random, CorpusVocabulary.COMPANIES);
+
+        List<String> pool = new ArrayList<>(skillPool());
+        Collections.shuffle(pool, random);
+        List<String> requiredSkills = List.copyOf(pool.subList(0, Math.min(pool.size(), 4 + random.nextInt(5))));
+        int minYears = LEVEL_MIN_YEARS[level];
+
+        String description = companyName + " is hiring a " + title + " to join the "
+                + pick(random, CorpusVocabulary.DEPARTMENTS) + " team. Recent work of the team: "
+                + pick(random, CorpusVocabulary.DUTIES).toLowerCase() + ".";
+        String requirements = (minYears > 0 ? minYears + "+ years of experience" : "No prior experience required")
+                + "; " + String.join(", ", requiredSkills);
+        int salaryFloor = 40 + 20 * level + random.nextInt(20);
+
+        return new GeneratedJobPosting(
+                String.format("job-%03d", index + 1),
+                title,
+                description,
+                requirements,
+                LEVELS.get(level),
+                minYears,
+                pick(random, JOB_TYPES),
+                "$" + salaryFloor + "k - $" + (salaryFloor + 30) + "k",
+                pick(random, CorpusVocabulary.LOCATIONS),
+                companyName,
+                pick(random, CorpusVocabulary.DEPARTMENTS),
+                BASE_DATE.plusDays(14 + random.nextInt(60)),
+                requiredSkills);
+    }
+
+    private List<String> skillPool() {
+        return profile.getSkillPool() != null ? profile.getSkillPool() : CorpusVocabulary.dictionarySkills();
+    }
+}
@@ -0,0 +1,213 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableRow;
+
+import com.airesume.resumescreeningtool.corpus.GeneratedResume.Line;
+
+/**
+ * Writes generated resumes as PDF, DOCX, DOC or TXT. Documents carry no timestamps or
+ * random identifiers, so the same resume always produces the same bytes.
+ */
+public class ResumeDocumentWriter {
+
+    public static final List<String> FORMATS = List.of("pdf", "docx", "doc", "txt");
+
+    private static final int PDF_LINES_PER_PAGE = 50;
+    private static final int PDF_LINE_WIDTH = 100;
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final LocalDateTime ZIP_ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+    private final CorpusProfile profile;
+
+    public ResumeDocumentWriter(CorpusProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Writes a resume to a file in one of the {@link #FORMATS}
+     */
+    public void write(GeneratedResume resume, String format, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(resume, format, out);
+        }
+    }
+
+    public void write(GeneratedResume resume, String format, OutputStream out) throws IOException {
+        switch (format) {
+            case "pdf" -> writePdf(resume, out);
+            case "docx" -> writeDocx(resume, out);
+            case "doc" -> WordBinaryWriter.write(resume.plainLines(), out);
+            case "txt" -> writeText(resume, out);
+            default -> throw new IllegalArgumentException("Unsupported corpus format: " + format);
+        }
+    }
+
+    public byte[] toBytes(GeneratedResume resume, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(resume, format, out);
+        return out.toByteArray();
+    }
+
+    private void writePdf(GeneratedResume resume, OutputStream out) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            // A fixed document id instead of one derived from the current time
+            document.setDocumentId((long) resume.candidateEmail().hashCode());
+            PDFont font = profile.getPdfFont() != null
+                    ? PDType0Font.load(document, profile.getPdfFont().toFile())
+                    : new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+
+            List<String> lines = new ArrayList<>();
+            for (Line line : resume.lines()) {
+                lines.addAll(wrap(showable(font, line.plain()), PDF_LINE_WIDTH));
+            }
+            for (int first = 0; first < lines.size(); first += PDF_LINES_PER_PAGE) {
+                PDPage page = new PDPage(PDRectangle.LETTER);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 740);
+                    for (String line : lines.subList(first, Math.min(first + PDF_LINES_PER_PAGE, lines.size()))) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+        }
+    }
+
+    private void writeDocx(GeneratedResume resume, OutputStream out) throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            Date epoch = new Date(0);
+            document.getProperties().getCoreProperties().setCreated(Optional.of(epoch));
+            document.getProperties().getCoreProperties().setModified(Optional.of(epoch));
+
+            List<Line> lines = resume.lines();
+            for (int i = 0; i < lines.size(); i++) {
+                if (!lines.get(i).isTableRow()) {
+                    document.createParagraph().createRun().setText(lines.get(i).text());
+                    continue;
+                }
+                int end = i;
+                while (end < lines.size() && lines.get(end).isTableRow()) {
+                    end++;
+                }
+                XWPFTable table = document.createTable(end - i, lines.get(i).cells().size());
+                for (int row = i; row < end; row++) {
+                    XWPFTableRow tableRow = table.getRow(row - i);
+                    List<String> cells = lines.get(row).cells();
+                    for (int cell = 0; cell < cells.size(); cell++) {
+                        tableRow.getCell(cell).setText(cells.get(cell));
+                    }
+                }
+                i = end - 1;
+            }
+            // POI stamps zip entries with the current time; rewrite them with a fixed one
+            ByteArrayOutputStream written = new ByteArrayOutputStream();
+            document.write(written);
+            try (ZipInputStream zipIn = new ZipInputStream(new ByteArrayInputStream(written.toByteArray()));
+                 ZipOutputStream zipOut = new ZipOutputStream(new FilterOutputStream(out) {
+                     @Override
+                     public void close() throws IOException {
+                         flush();
+                     }
+                 })) {
+                ZipEntry entry;
+                while ((entry = zipIn.getNextEntry()) != null) {
+                    ZipEntry copy = new ZipEntry(entry.getName());
+                    copy.setTimeLocal(ZIP_ENTRY_TIME);
+                    zipOut.putNextEntry(copy);
+                    zipIn.transferTo(zipOut);
+                    zipOut.closeEntry();
+                }
+            }
+        }
+    }
+
+    private void writeText(GeneratedResume resume, OutputStream out) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (Line line : resume.lines()) {
+            text.append(line.isTableRow() ? String.join("\t", line.cells()) : line.text()).append('\n');
+        }
+        String content = text.toString();
+        switch (profile.getTextEncoding()) {
+            case UTF_8 -> out.write(content.getBytes(StandardCharsets.UTF_8));
+            case UTF_8_BOM -> out.write((BYTE_ORDER_MARK + content).getBytes(StandardCharsets.UTF_8));
+            case UTF_16LE_BOM -> out.write((BYTE_ORDER_MARK + content).getBytes(StandardCharsets.UTF_16LE));
+            case UTF_16BE_BOM -> out.write((BYTE_ORDER_MARK + content).getBytes(StandardCharsets.UTF_16BE));
+            // Characters outside the code page become '?'
+            case WINDOWS_1252 -> out.write(content.getBytes(Charset.forName("windows-1252")));
+        }
+    }
+
+    /**
+     * Replaces characters the font cannot show with '?'
+     */
+    private static String showable(PDFont font, String text) {
+        try {
+            font.encode(text);
+            return text;
+        } catch (IllegalArgumentException | IOException e) {
+            StringBuilder result = new StringBuilder(text.length());
+            text.codePoints().forEach(codePoint -> {
+                String character = new String(Character.toChars(codePoint));
+                try {
+                    font.encode(character);
+                    result.append(character);
+                } catch (IllegalArgumentException | IOException unsupported) {
+                    result.append('?');
+                }
+            });
+            return result.toString();
+        }
+    }
+
+    private static List<String> wrap(String line, int width) {
+        if (line.length() <= width) {
+            return List.of(line);
+        }
+        List<String> wrapped = new ArrayList<>();
+        int start = 0;
+        while (line.length() - start > width) {
+            int end = line.lastIndexOf(' ', start + width);
+            if (end <= start) {
+                end = start + width;
+            }
+            wrapped.add(line.substring(start, end));
+            start = end == line.length() || line.charAt(end) != ' ' ? end : end + 1;
+        }
+        wrapped.add(line.substring(start));
+        return wrapped;
+    }
+}
@@ -0,0 +1,198 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import com.airesume.resumescreeningtool.corpus.GeneratedResume.Line;
+
+import static com.airesume.resumescreeningtool.corpus.CorpusVocabulary.pick;
+
+/**
+ * Generates synthetic resumes from a {@link CorpusProfile}.
+ * <p>
+ * Every resume is generated from its own random stream derived from the seed and the
+ * resume's index, so resume {@code index} is the same whatever else is generated and
+ * corpora can be produced in parallel or in part.
+ */
+public class ResumeGenerator {
+
+    private static final int LATEST_YEAR = 2024;
+    private static final int FILLER_LINES_PER_PAGE = 50;
+    private static final int SKILLS_PER_LINE = 4;
+
+    private final CorpusProfile profile;
+    private final long seed;
+
+    public ResumeGenerator(CorpusProfile profile, long seed) {
+        if (profile.getMinPositions() < 0 || profile.getMaxPositions() < profile.getMinPositions()) {
+            throw new IllegalArgumentException("Invalid position range: " + profile.getMinPositions() + "-" + profile.getMaxPositions());
+        }
+        this.profile = profile;
+        this.seed = seed;
+    }
+
+    public GeneratedResume generate(int index) {
+        return generate(index, null);
+    }
+
+    /**
+     * Generates a resume, drawing part of its skills from the posting it applies to
+     */
+    public GeneratedResume generate(int index, GeneratedJobPosting jobPosting) {
+        Random random = new Random(mix(seed, jobPosting != null ? jobPosting.key().hashCode() : 0, index));
+        boolean international = profile.isInternationalText() && random.nextBoolean();
+
+        String firstName = pick(random, international ? CorpusVocabulary.INTERNATIONAL_FIRST_NAMES : CorpusVocabulary.FIRST_NAMES);
+        String lastName = pick(random, international ? CorpusVocabulary.INTERNATIONAL_LAST_NAMES : CorpusVocabulary.LAST_NAMES);
+        String candidateName = firstName + " " + lastName;
+        String candidateEmail = emailLocalPart(firstName) + "." + emailLocalPart(lastName) + "." + (index + 1) + "@example.com";
+        String candidatePhone = String.format("+1 555 %04d", random.nextInt(10000));
+
+        List<String> skills = pickSkills(random, jobPosting);
+        List<Position> positions = positions(random, international);
+        int yearsOfExperience = positions.stream().mapToInt(position -> position.end - position.start).sum();
+
+        List<Line> lines = new ArrayList<>();
+        lines.add(Line.text(candidateName));
+        lines.add(Line.text(candidateEmail + " | " + candidatePhone + " | " + pick(random, CorpusVocabulary.LOCATIONS)));
+
+        List<CorpusProfile.Section> sections = new ArrayList<>(profile.getSections());
+        if (profile.isShuffleSections()) {
+            Collections.shuffle(sections, random);
+        }
+        for (CorpusProfile.Section section : sections) {
+            lines.add(Line.text(""));
+            switch (section) {
+                case SUMMARY -> {
+                    lines.add(Line.text("Summary"));
+                    lines.add(Line.text(pick(random, CorpusVocabulary.TITLES) + " with " + yearsOfExperience
+                            + "+ years of experience building and running production systems."));
+                }
+                case SKILLS -> {
+                    lines.add(Line.text("Technical Skills:"));
+                    for (int i = 0; i < skills.size(); i += SKILLS_PER_LINE) {
+                        lines.add(Line.text(String.join(", ", skills.subList(i, Math.min(i + SKILLS_PER_LINE, skills.size())))));
+                    }
+                }
+                case EXPERIENCE -> {
+                    lines.add(Line.text("Professional Experience"));
+                    for (Position position : positions) {
+                        lines.add(Line.text(position.title + " - " + position.company + " (" + position.start + " - " + position.end + ")"));
+                        for (int d = 0; d < profile.getDutiesPerPosition(); d++) {
+                            lines.add(Line.text("- " + duty(random, international, skills)));
+                        }
+                    }
+                }
+                case EDUCATION -> {
+                    int graduated = positions.isEmpty() ? LATEST_YEAR : positions.get(positions.size() - 1).start;
+                    lines.add(Line.text("Education"));
+                    lines.add(Line.text(pick(random, CorpusVocabulary.DEGREES) + ", " + pick(random, CorpusVocabulary.UNIVERSITIES)
+                            + " (" + (graduated - 4) + " - " + graduated + ")"));
+                }
+                case CERTIFICATIONS -> {
+                    lines.add(Line.text("Certifications"));
+                    List<String> certifications = new ArrayList<>(CorpusVocabulary.CERTIFICATIONS);
+                    Collections.shuffle(certifications, random);
+                    certifications.subList(0, 1 + random.nextInt(3)).forEach(certification -> lines.add(Line.text(certification)));
+                }
+                case PROJECTS -> {
+                    lines.add(Line.text("Projects"));
+                    for (int p = 0; p < 2 + random.nextInt(3); p++) {
+                        lines.add(Line.text("- " + pick(random, skills) + " " + pick(random, List.of("toolkit", "service", "dashboard", "library"))
+                                + ": " + duty(random, international, skills)));
+                    }
+                }
+            }
+        }
+
+        if (profile.getTableRows() > 0) {
+            lines.add(Line.text(""));
+            lines.add(Line.text("Skills Matrix"));
+            lines.add(Line.row(List.of("Skill", "Proficiency", "Years", "Last used")));
+            for (int row = 0; row < profile.getTableRows(); row++) {
+                lines.add(Line.row(List.of(skills.get(row % skills.size()), pick(random, CorpusVocabulary.PROFICIENCY),
+                        String.valueOf(1 + random.nextInt(Math.max(1, yearsOfExperience))),
+                        String.valueOf(LATEST_YEAR - random.nextInt(5)))));
+            }
+        }
+
+        if (profile.getFillerPages() > 0) {
+            lines.add(Line.text(""));
+            lines.add(Line.text("Project History"));
+            for (int line = 0; line < profile.getFillerPages() * FILLER_LINES_PER_PAGE; line++) {
+                lines.add(Line.text("- " + duty(random, international, skills)));
+            }
+        }
+
+        return new GeneratedResume(candidateName, candidateEmail, candidatePhone, yearsOfExperience,
+                List.copyOf(skills), List.copyOf(lines));
+    }
+
+    private List<String> pickSkills(Random random, GeneratedJobPosting jobPosting) {
+        List<String> pool = profile.getSkillPool() != null ? profile.getSkillPool() : CorpusVocabulary.dictionarySkills();
+        int count = Math.max(1, Math.min(profile.getSkillCount(), pool.size()));
+        Set<String> skills = new LinkedHashSet<>();
+        if (jobPosting != null) {
+            List<String> required = new ArrayList<>(jobPosting.requiredSkills());
+            Collections.shuffle(required, random);
+            int fromPosting = (int) Math.round(count * profile.getJobSkillShare());
+            skills.addAll(required.subList(0, Math.min(fromPosting, required.size())));
+        }
+        List<String> shuffled = new ArrayList<>(pool);
+        Collections.shuffle(shuffled, random);
+        for (String skill : shuffled) {
+            if (skills.size() >= count) {
+                break;
+            }
+            skills.add(skill);
+        }
+        return new ArrayList<>(skills);
+    }
+
+    private List<Position> positions(Random random, boolean international) {
+        int count = profile.getMinPositions() + random.nextInt(profile.getMaxPositions() - profile.getMinPositions() + 1);
+        List<Position> positions = new ArrayList<>(count);
+        int end = LATEST_YEAR;
+        for (int i = 0; i < count; i++) {
+            int start = end - 1 - random.nextInt(4);
+            String company = international && random.nextInt(3) == 0
+                    ? pick(random, CorpusVocabulary.INTERNATIONAL_COMPANIES)
+                    : pick(random, CorpusVocabulary.COMPANIES);
+            positions.add(new Position(pick(random, CorpusVocabulary.TITLES), company, start, end));
+            end = start;
+        }
+        return positions;
+    }
+
+    private static String duty(Random random, boolean international, List<String> skills) {
+        if (international && random.nextInt(4) == 0) {
+            return pick(random, CorpusVocabulary.INTERNATIONAL_DUTIES);
+        }
+        return pick(random, CorpusVocabulary.DUTIES) + " using " + pick(random, skills) + " and " + pick(random, skills) + ".";
+    }
+
+    private static String emailLocalPart(String name) {
+        String ascii = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+        return ascii.isEmpty() ? "candidate" : ascii;
+    }
+
+    /**
+     * Seed of one item's random stream; a SplitMix64 finalizer so neighbouring
+     * indexes get unrelated streams
+     */
+    static long mix(long seed, long stream, int index) {
+        long z = seed + 0x9E3779B97F4A7C15L * (stream * 31 + index + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Position(String title, String company, int start, int end) {
+    }
+}
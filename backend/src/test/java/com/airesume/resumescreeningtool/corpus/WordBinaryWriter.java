@@ -0,0 +1,176 @@
+package com.airesume.resumescreeningtool.corpus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.hpsf.DocumentSummaryInformation;
+import org.apache.poi.hpsf.PropertySetFactory;
+import org.apache.poi.hpsf.SummaryInformation;
+import org.apache.poi.hpsf.WritingNotSupportedException;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.util.CodePageUtil;
+
+/**
+ * Writes plain paragraphs as a minimal Word 97 (.doc) file.
+ * <p>
+ * POI can only modify existing binary Word documents, so the structures HWPF needs to
+ * read one back are written by hand: the FIB, the text as a single UTF-16 piece, one
+ * character run with default formatting, paragraph runs that all share the default
+ * style, an empty style sheet and font table, a blank DOP, one section and empty
+ * summary information.
+ */
+public final class WordBinaryWriter {
+
+    private static final int PAGE_SIZE = 512;
+    private static final int TEXT_OFFSET = 1024;
+    // Word 97 FIB: 32 byte base, 14 shorts, 22 ints and 93 fc/lcb pairs
+    private static final int FC_LCB_OFFSET = 154;
+    private static final int FC_LCB_COUNT = 0x5D;
+    private static final int STSHF = 1;
+    private static final int PLCF_SED = 6;
+    private static final int PLCF_BTE_CHPX = 12;
+    private static final int PLCF_BTE_PAPX = 13;
+    private static final int STTBF_FFN = 15;
+    private static final int DOP = 31;
+    private static final int CLX = 33;
+    private static final int DOP_SIZE = 544;
+    // Paragraph runs per PAPX page: fc (4) and BX (13) each, sharing one PAPX
+    private static final int PARAGRAPHS_PER_PAGE = 29;
+
+    private WordBinaryWriter() {
+    }
+
+    public static void write(List<String> paragraphs, OutputStream out) throws IOException {
+        StringBuilder text = new StringBuilder();
+        List<Integer> paragraphEnds = new ArrayList<>();
+        for (String paragraph : paragraphs) {
+            text.append(paragraph.replace('\r', ' ').replace('\n', ' ')).append('\r');
+            paragraphEnds.add(TEXT_OFFSET + text.length() * 2);
+        }
+        if (paragraphs.isEmpty()) {
+            text.append('\r');
+            paragraphEnds.add(TEXT_OFFSET + 2);
+        }
+        byte[] chars = text.toString().getBytes(StandardCharsets.UTF_16LE);
+        int textEnd = TEXT_OFFSET + chars.length;
+
+        int chpxPage = (textEnd + PAGE_SIZE - 1) / PAGE_SIZE;
+        int papxPages = (paragraphEnds.size() + PARAGRAPHS_PER_PAGE - 1) / PARAGRAPHS_PER_PAGE;
+        ByteBuffer main = ByteBuffer.allocate((chpxPage + 1 + papxPages) * PAGE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer table = ByteBuffer.allocate(1024 + papxPages * 8).order(ByteOrder.LITTLE_ENDIAN);
+
+        main.put(TEXT_OFFSET, chars);
+
+        // Character runs: one run with no properties
+        int chpx = chpxPage * PAGE_SIZE;
+        main.putInt(chpx, TEXT_OFFSET).putInt(chpx + 4, textEnd);
+        main.put(chpx + PAGE_SIZE - 1, (byte) 1);
+
+        // Paragraph runs: every paragraph points at the same PAPX holding style 0
+        int[] pageStarts = new int[papxPages + 1];
+        for (int page = 0; page < papxPages; page++) {
+            int base = (chpxPage + 1 + page) * PAGE_SIZE;
+            int first = page * PARAGRAPHS_PER_PAGE;
+            int count = Math.min(PARAGRAPHS_PER_PAGE, paragraphEnds.size() - first);
+            int start = first == 0 ? TEXT_OFFSET : paragraphEnds.get(first - 1);
+            pageStarts[page] = start;
+            main.putInt(base, start);
+            for (int i = 0; i < count; i++) {
+                main.putInt(base + 4 * (i + 1), paragraphEnds.get(first + i));
+            }
+            int papx = PAGE_SIZE - 6;
+            int bx = base + 4 * (count + 1);
+            for (int i = 0; i < count; i++) {
+                main.put(bx + 13 * i, (byte) (papx / 2));
+            }
+            main.put(base + papx + 1, (byte) 1);
+            main.put(base + PAGE_SIZE - 1, (byte) count);
+        }
+        pageStarts[papxPages] = textEnd;
+
+        int clx = table.position();
+        table.put((byte) 2).putInt(16).putInt(0).putInt(text.length())
+                .putShort((short) 0).putInt(TEXT_OFFSET).putShort((short) 0);
+        int clxEnd = table.position();
+
+        int stsh = table.position();
+        table.putShort((short) 18).putShort((short) 0).putShort((short) 10).putShort((short) 0)
+                .putShort((short) 0x5B).putShort((short) 0x0F).putShort((short) 0)
+                .putShort((short) 0).putShort((short) 0).putShort((short) 0);
+        int stshEnd = table.position();
+
+        int dop = table.position();
+        table.position(dop + DOP_SIZE);
+
+        int fonts = table.position();
+        table.putShort((short) 0).putShort((short) 0);
+        int fontsEnd = table.position();
+
+        int bteChpx = table.position();
+        table.putInt(TEXT_OFFSET).putInt(textEnd).putInt(chpxPage);
+        int bteChpxEnd = table.position();
+
+        int btePapx = table.position();
+        for (int pageStart : pageStarts) {
+            table.putInt(pageStart);
+        }
+        for (int page = 0; page < papxPages; page++) {
+            table.putInt(chpxPage + 1 + page);
+        }
+        int btePapxEnd = table.position();
+
+        // One section with default properties (no SEPX)
+        int sed = table.position();
+        table.putInt(0).putInt(text.length()).putShort((short) 0).putInt(-1).putShort((short) 0).putInt(0);
+        int sedEnd = table.position();
+
+        main.putShort(0, (short) 0xA5EC);
+        main.putShort(2, (short) 0x00C1);
+        main.putShort(6, (short) 0x0409);
+        // fWhichTblStm: the table stream is named 1Table
+        main.putShort(10, (short) 0x0200);
+        main.putShort(12, (short) 0x00BF);
+        main.putInt(24, TEXT_OFFSET);
+        main.putInt(28, textEnd);
+        main.putShort(32, (short) 14);
+        main.putShort(62, (short) 22);
+        main.putInt(64, main.capacity());
+        main.putInt(76, text.length());
+        main.putShort(152, (short) FC_LCB_COUNT);
+        fcLcb(main, STSHF, stsh, stshEnd);
+        fcLcb(main, PLCF_SED, sed, sedEnd);
+        fcLcb(main, PLCF_BTE_CHPX, bteChpx, bteChpxEnd);
+        fcLcb(main, PLCF_BTE_PAPX, btePapx, btePapxEnd);
+        fcLcb(main, STTBF_FFN, fonts, fontsEnd);
+        fcLcb(main, DOP, dop, dop + DOP_SIZE);
+        fcLcb(main, CLX, clx, clxEnd);
+
+        byte[] tableStream = new byte[table.position()];
+        table.get(0, tableStream);
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem()) {
+            fileSystem.createDocument(new ByteArrayInputStream(main.array()), "WordDocument");
+            fileSystem.createDocument(new ByteArrayInputStream(tableStream), "1Table");
+            try {
+                SummaryInformation summary = PropertySetFactory.newSummaryInformation();
+                summary.getFirstSection().setCodepage(CodePageUtil.CP_UNICODE);
+                summary.write(fileSystem.getRoot(), SummaryInformation.DEFAULT_STREAM_NAME);
+                DocumentSummaryInformation documentSummary = PropertySetFactory.newDocumentSummaryInformation();
+                documentSummary.getFirstSection().setCodepage(CodePageUtil.CP_UNICODE);
+                documentSummary.write(fileSystem.getRoot(), DocumentSummaryInformation.DEFAULT_STREAM_NAME);
+            } catch (WritingNotSupportedException e) {
+                throw new IOException("Could not write document properties", e);
+            }
+            fileSystem.writeFilesystem(out);
+        }
+    }
+
+    private static void fcLcb(ByteBuffer fib, int index, int start, int end) {
+        fib.putInt(FC_LCB_OFFSET + index * 8, start).putInt(FC_LCB_OFFSET + index * 8 + 4, end - start);
+    }
+}
@@ -0,0 +1,92 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.poi.wp.usermodel.HeaderFooterType;
+import org.apache.poi.xwpf.usermodel.BreakType;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableCell;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.airesume.resumescreeningtool.corpus.CorpusProfile;
+import com.airesume.resumescreeningtool.corpus.ResumeDocumentWriter;
+import com.airesume.resumescreeningtool.corpus.ResumeGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Golden test: the streaming reader must produce exactly the text of POI's XWPF extractor
+ */
+public class DocxStreamingTextExtractorTest {
+
+    private final DocxStreamingTextExtractor streaming = new DocxStreamingTextExtractor();
+    private final XwpfTextExtractor xwpf = new XwpfTextExtractor();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGeneratedCorpusMatchesXwpf() throws IOException {
+        CorpusProfile profile = CorpusProfile.builder().tableRows(4).shuffleSections(true).internationalText(true).build();
+        ResumeGenerator generator = new ResumeGenerator(profile, 20240611L);
+        ResumeDocumentWriter writer = new ResumeDocumentWriter(profile);
+        for (int i = 0; i < 25; i++) {
+            Path file = tempDir.resolve("resume-" + i + ".docx");
+            writer.write(generator.generate(i), "docx", file);
+            assertThat(streaming.extract(file)).as(file.getFileName().toString()).isEqualTo(xwpf.extract(file));
+        }
+    }
+
+    @Test
+    public void testBreaksTabsTablesAndHeadersMatchXwpf() throws IOException {
+        Path file = tempDir.resolve("layout.docx");
+        try (XWPFDocument document = new XWPFDocument()) {
+            document.createHeader(HeaderFooterType.DEFAULT).createParagraph().createRun().setText("Jane Doe - Resume");
+            document.createFooter(HeaderFooterType.DEFAULT).createParagraph().createRun().setText("Page footer");
+
+            XWPFRun contact = document.createParagraph().createRun();
+            contact.setText("Email:");
+            contact.addTab();
+            contact.setText("jane@example.com");
+            contact.addBreak();
+            contact.setText("Phone:");
+            contact.addTab();
+            contact.setText("555-0100");
+            contact.addCarriageReturn();
+            contact.setText("London");
+
+            XWPFParagraph split = document.createParagraph();
+            split.createRun().setText("Summary ");
+            split.createRun().setText("in two runs");
+            split.createRun().addBreak(BreakType.PAGE);
+            document.createParagraph();
+
+            XWPFTable table = document.createTable(2, 2);
+            table.getRow(0).getCell(0).setText("Skill");
+            table.getRow(0).getCell(1).setText("Years");
+            XWPFTableCell cell = table.getRow(1).getCell(0);
+            cell.setText("Java");
+            XWPFRun cellRun = cell.addParagraph().createRun();
+            cellRun.setText("Kotlin");
+            cellRun.addTab();
+            cellRun.setText("Scala");
+            table.getRow(1).getCell(1).setText("8");
+
+            document.createParagraph().createRun().setText("Experience");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                document.write(out);
+            }
+        }
+
+        String text = streaming.extract(file);
+        assertThat(text).contains("Email:\tjane@example.com\nPhone:\t555-0100\nLondon").contains("Kotlin\tScala");
+        assertThat(text).isEqualTo(xwpf.extract(file));
+    }
+}
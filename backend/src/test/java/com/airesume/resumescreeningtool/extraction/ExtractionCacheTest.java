@@ -0,0 +1,118 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExtractionCacheTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    public void testHitsMissesAndDiskTierAcrossRestarts() {
+        AtomicInteger loads = new AtomicInteger();
+        ExtractionCache cache = new ExtractionCache(uploadDir.toString(), 1000, true, 1 << 20, new SimpleMeterRegistry());
+
+        assertThat(cache.get("abc", "1", () -> "text " + loads.incrementAndGet())).isEqualTo("text 1");
+        assertThat(cache.get("abc", "1", () -> "text " + loads.incrementAndGet())).isEqualTo("text 1");
+        assertThat(cache.get("abc", "2", () -> "text " + loads.incrementAndGet())).isEqualTo("text 2");
+
+        // A new instance finds the text on disk; an evicted hash is extracted again
+        ExtractionCache restarted = new ExtractionCache(uploadDir.toString(), 1000, true, 1 << 20, new SimpleMeterRegistry());
+        assertThat(restarted.get("abc", "1", () -> "text " + loads.incrementAndGet())).isEqualTo("text 1");
+        restarted.evict("abc");
+        assertThat(restarted.get("abc", "1", () -> "text " + loads.incrementAndGet())).isEqualTo("text 3");
+        assertThat(loads).hasValue(3);
+
+        // Text put by a reparse replaces the cached entry in both tiers
+        restarted.put("abc", "1", "fresh text");
+        assertThat(restarted.get("abc", "1", () -> "text " + loads.incrementAndGet())).isEqualTo("fresh text");
+        ExtractionCache again = new ExtractionCache(uploadDir.toString(), 1000, true, 1 << 20, new SimpleMeterRegistry());
+        assertThat(again.get("abc", "1", () -> "text " + loads.incrementAndGet())).isEqualTo("fresh text");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    public void testDiskTierEvictsLeastRecentlyUsedEntries() throws Exception {
+        // Random text barely compresses, so each entry takes about 2 KB on disk
+        ExtractionCache cache = new ExtractionCache(uploadDir.toString(), 0, true, 10_000, new SimpleMeterRegistry());
+        Path cacheDir = uploadDir.resolve(".extraction-cache");
+        for (int i = 0; i < 4; i++) {
+            cache.get("hash" + i, "1", () -> randomText(2000));
+            Files.setLastModifiedTime(cacheDir.resolve("hash" + i + "-v1.txt.gz"), FileTime.fromMillis(1_000_000L * (i + 1)));
+        }
+        // Reading the oldest entry makes it the most recently used
+        cache.get("hash0", "1", () -> "reloaded");
+
+        cache.get("hash4", "1", () -> randomText(2000));
+        cache.get("hash5", "1", () -> randomText(2000));
+
+        assertThat(cacheDir.resolve("hash0-v1.txt.gz")).exists();
+        assertThat(cacheDir.resolve("hash1-v1.txt.gz")).doesNotExist();
+        assertThat(cacheDir.resolve("hash5-v1.txt.gz")).exists();
+        long total = 0;
+        try (var entries = Files.list(cacheDir)) {
+            for (Path entry : entries.toList()) {
+                total += Files.size(entry);
+            }
+        }
+        assertThat(total).isLessThanOrEqualTo(10_000);
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneExtraction() throws Exception {
+        ExtractionCache cache = new ExtractionCache(uploadDir.toString(), 1000, false, 0, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("abc", "1", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "shared";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("abc", "1", () -> {
+            loads.incrementAndGet();
+            return "duplicate";
+        }));
+        // Gives the second lookup time to find the first one in flight
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("shared");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("shared");
+        assertThat(loads).hasValue(1);
+    }
+
+    private static String randomText(int length) {
+        Random random = new Random(length * 31L + System.nanoTime());
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('!' + random.nextInt(90)));
+        }
+        return text.toString();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
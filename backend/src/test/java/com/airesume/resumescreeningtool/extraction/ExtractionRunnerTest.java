@@ -0,0 +1,124 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ExtractionRunnerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExtractionRunner runner;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        if (runner != null) {
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunawayDocumentsHoldTheirSlotsUntilTheyFinish() throws Exception {
+        runner = runner(2, 200);
+        Path stuck = Files.writeString(tempDir.resolve("stuck.hang"), "never finishes");
+        Path normal = Files.writeString(tempDir.resolve("cv.hang"), "plain resume");
+
+        // Two documents run past the budget and ignore the interrupt
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> runner.extract(stuck, "hang")).isInstanceOf(ExtractionLimitExceededException.class);
+        }
+        assertThat(meterRegistry.get("resume.extraction.runaway").gauge().value()).isEqualTo(2.0);
+
+        // With both slots held, new work is refused at once instead of starting another thread
+        long startTime = System.currentTimeMillis();
+        assertThatThrownBy(() -> runner.extract(normal, "hang")).isInstanceOf(ExtractionCapacityExceededException.class);
+        assertThat(System.currentTimeMillis() - startTime).isLessThan(200);
+
+        release.countDown();
+        for (int wait = 0; wait < 100 && meterRegistry.get("resume.extraction.runaway").gauge().value() > 0; wait++) {
+            Thread.sleep(20);
+        }
+        assertThat(meterRegistry.get("resume.extraction.runaway").gauge().value()).isEqualTo(0.0);
+        assertThat(runner.extract(normal, "hang")).isEqualTo("plain resume");
+    }
+
+    @Test
+    public void testRejectsUnknownMode() {
+        assertThatThrownBy(() -> new ExtractionRunner(registry(), meterRegistry, "threads", 1000, 1, 64, 10,
+                1 << 20, 24, 8, 200, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ExtractionRunner runner(int workers, long timeoutMs) {
+        return new ExtractionRunner(registry(), meterRegistry, "in-process", timeoutMs, workers, 64, 10,
+                1 << 20, 24, 8, 200, 1);
+    }
+
+    private TextExtractorRegistry registry() {
+        return new TextExtractorRegistry(List.of(new HangingExtractor()), meterRegistry, "", "");
+    }
+
+    /**
+     * Like a parser stuck in a loop: documents named stuck.* only finish when released, whatever the interrupts
+     */
+    private class HangingExtractor implements TextExtractor {
+
+        @Override
+        public String name() {
+            return "hanging";
+        }
+
+        @Override
+        public Set<String> extensions() {
+            return Set.of("hang");
+        }
+
+        @Override
+        public boolean matchesSignature(byte[] header, int length) {
+            return false;
+        }
+
+        @Override
+        public boolean supportsStreaming() {
+            return true;
+        }
+
+        @Override
+        public double relativeCost() {
+            return 1.0;
+        }
+
+        @Override
+        public String extract(Path file) throws IOException {
+            if (file.getFileName().toString().startsWith("stuck")) {
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // Ignored, as PDFBox and POI do
+                    }
+                }
+            }
+            return Files.readString(file);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PdfTextExtractorTest {
+
+    private static final int PAGES = 30;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testParallelRangesMatchSequentialText() throws IOException {
+        Path file = writePdf(tempDir.resolve("long.pdf"));
+        PdfTextExtractor sequential = new PdfTextExtractor(1 << 20, 1000, 4, 0, 1);
+        PdfTextExtractor parallel = new PdfTextExtractor(1 << 20, 2, 4, 0, 3);
+        try {
+            String text = sequential.extract(file);
+            assertThat(text).contains("Page 1 line 1").contains("Page " + PAGES + " line 20");
+            assertThat(parallel.extract(file)).isEqualTo(text);
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    public void testInterruptedExtractionStopsBetweenPages() throws IOException {
+        Path file = writePdf(tempDir.resolve("long.pdf"));
+        PdfTextExtractor parallel = new PdfTextExtractor(1 << 20, 2, 4, 0, 3);
+        try {
+            Thread.currentThread().interrupt();
+            assertThatThrownBy(() -> parallel.extract(file)).isInstanceOf(IOException.class);
+        } finally {
+            Thread.interrupted();
+            parallel.shutdown();
+        }
+
+        // The extractor is still usable afterwards
+        PdfTextExtractor next = new PdfTextExtractor(1 << 20, 2, 4, 0, 3);
+        try {
+            assertThat(next.extract(file)).contains("Page " + PAGES + " line 20");
+        } finally {
+            next.shutdown();
+        }
+    }
+
+    private static Path writePdf(Path file) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int page = 1; page <= PAGES; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 1; line <= 20; line++) {
+                        content.showText("Page " + page + " line " + line);
+                        content.newLineAtOffset(0, -14);
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file.toFile());
+        }
+        return file;
+    }
+}
@@ -0,0 +1,131 @@
+package com.airesume.resumescreeningtool.extraction;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TextExtractorRegistryTest {
+
+    private static final String ZIP = "PK\u0003\u0004";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRoutesByContentWhenTheExtensionDoesNotMatch() throws IOException {
+        TextExtractorRegistry registry = registry("", "");
+        Path pdf = Files.writeString(tempDir.resolve("exported.docx"), "%PDF-1.7 Senior Engineer", StandardCharsets.ISO_8859_1);
+        Path docx = Files.writeString(tempDir.resolve("resume.docx"), ZIP + "word/document.xml", StandardCharsets.ISO_8859_1);
+
+        assertThat(names(registry.plan(pdf, "docx"))).containsExactly("pdfbox");
+        assertThat(registry.extract(pdf, "DOCX")).isEqualTo("pdfbox");
+        assertThat(meterRegistry.get("resume.extraction.duration")
+                .tags("extractor", "pdfbox", "format", "docx", "outcome", "success").timer().count()).isEqualTo(1);
+
+        // Content the extension's own extractors recognise is left alone
+        assertThat(names(registry.plan(docx, "docx"))).containsExactly("docx-sax", "xwpf");
+    }
+
+    @Test
+    public void testPreferredExtractorGoesFirstAndCostOrdersTheRest() throws IOException {
+        Path docx = Files.writeString(tempDir.resolve("resume.docx"), ZIP + "word/document.xml", StandardCharsets.ISO_8859_1);
+
+        assertThat(names(registry("", "").plan(docx, "docx"))).containsExactly("docx-sax", "xwpf");
+        assertThat(names(registry("DOCX = xwpf", "").plan(docx, "docx"))).containsExactly("xwpf", "docx-sax");
+    }
+
+    @Test
+    public void testTrialPercentageDecidesWhetherTheChallengerGoesFirst() throws IOException {
+        Path docx = Files.writeString(tempDir.resolve("resume.docx"), ZIP + "word/document.xml", StandardCharsets.ISO_8859_1);
+        TextExtractorRegistry never = registry("", "docx=xwpf:0");
+        TextExtractorRegistry always = registry("", "docx=xwpf:100");
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(names(never.plan(docx, "docx"))).containsExactly("docx-sax", "xwpf");
+            assertThat(names(always.plan(docx, "docx"))).containsExactly("xwpf", "docx-sax");
+        }
+    }
+
+    @Test
+    public void testFallsBackToTheNextExtractorWhenOneFails() throws IOException {
+        TextExtractorRegistry registry = registry("", "");
+        Path docx = Files.writeString(tempDir.resolve("broken.docx"), ZIP + "fail:docx-sax", StandardCharsets.ISO_8859_1);
+
+        assertThat(registry.extract(docx, "docx")).isEqualTo("xwpf");
+        assertThat(meterRegistry.get("resume.extraction.duration")
+                .tags("extractor", "docx-sax", "format", "docx", "outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRejectsInvalidPreferredAndTrialSettings() {
+        assertThatThrownBy(() -> registry("docx", "")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry("docx=pdfbox", "")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry("docx=tika", "")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry("", "docx=xwpf")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry("", "docx=xwpf:many")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry("", "docx=xwpf:101")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry("", "pdf=xwpf:10")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TextExtractorRegistry(List.of(pdf(), pdf()), meterRegistry, "", ""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private TextExtractorRegistry registry(String preferred, String trials) {
+        List<TextExtractor> extractors = List.of(
+                pdf(),
+                new StubExtractor("xwpf", "docx", ZIP, false, 8.0),
+                new StubExtractor("docx-sax", "docx", ZIP, true, 2.0),
+                new StubExtractor("plain-text", "txt", null, true, 1.0));
+        return new TextExtractorRegistry(extractors, meterRegistry, preferred, trials);
+    }
+
+    private static TextExtractor pdf() {
+        return new StubExtractor("pdfbox", "pdf", "%PDF-", false, 10.0);
+    }
+
+    private static List<String> names(List<TextExtractor> extractors) {
+        return extractors.stream().map(TextExtractor::name).toList();
+    }
+
+    /**
+     * Returns its own name as the text, failing on files that contain fail:&lt;name&gt;
+     */
+    private record StubExtractor(String name, String extension, String signature, boolean supportsStreaming,
+                                 double relativeCost) implements TextExtractor {
+
+        @Override
+        public Set<String> extensions() {
+            return Set.of(extension);
+        }
+
+        @Override
+        public boolean matchesSignature(byte[] header, int length) {
+            if (signature == null) {
+                return false;
+            }
+            byte[] expected = signature.getBytes(StandardCharsets.ISO_8859_1);
+            return length >= expected.length && Arrays.equals(header, 0, expected.length, expected, 0, expected.length);
+        }
+
+        @Override
+        public String extract(Path file) throws IOException {
+            if (Files.readString(file, StandardCharsets.ISO_8859_1).contains("fail:" + name)) {
+                throw new IOException(name + " cannot read " + file.getFileName());
+            }
+            return name;
+        }
+    }
+}
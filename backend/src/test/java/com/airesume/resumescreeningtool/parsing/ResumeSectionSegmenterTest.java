@@ -0,0 +1,124 @@
+package com.airesume.resumescreeningtool.parsing;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResumeSectionSegmenterTest {
+
+    private final ResumeSectionSegmenter segmenter = new ResumeSectionSegmenter();
+
+    @Test
+    public void testFindsSectionsAndYears() {
+        String text = "Jane Doe\n"
+                + "Senior engineer with 7+ years of experience and 3 years exp in Go\n"
+                + "Technical Skills: Java,  Spring\n  Kubernetes\n"
+                + "EDUCATION\n\nBSc Computer Science\n"
+                + "Certifications:\tAWS Solutions Architect\n";
+
+        ResumeSections sections = segmenter.segment(text);
+
+        assertThat(sections.getYearsOfExperience()).isEqualTo(7);
+        assertThat(sections.value(ResumeSection.SKILLS)).startsWith("Java, Spring Kubernetes EDUCATION BSc");
+        assertThat(sections.value(ResumeSection.EDUCATION)).isEqualTo("BSc Computer Science Certifications: AWS Solutions Architect");
+        assertThat(sections.value(ResumeSection.CERTIFICATIONS)).isEqualTo("AWS Solutions Architect");
+        // The first "experience" anywhere in the text starts the section, as with the original patterns
+        assertThat(sections.value(ResumeSection.WORK_EXPERIENCE)).startsWith("and 3 years exp in Go");
+        assertThat(text.substring(sections.start(ResumeSection.CERTIFICATIONS), sections.end(ResumeSection.CERTIFICATIONS)))
+                .isEqualTo("AWS Solutions Architect\n");
+    }
+
+    @Test
+    public void testMissingSectionsAndOverflowingYears() {
+        ResumeSections sections = segmenter.segment("99999999999 years experience\n2 years experience");
+
+        assertThat(sections.getYearsOfExperience()).isNull();
+        assertThat(sections.contains(ResumeSection.SKILLS)).isFalse();
+        assertThat(sections.start(ResumeSection.SKILLS)).isEqualTo(-1);
+        assertThat(sections.value(ResumeSection.SKILLS)).isNull();
+    }
+
+    @Test
+    public void testBudgetStopsScanning() {
+        String line = "Skills: Java " + "x".repeat(2_000_000) + " 9 years experience";
+        ResumeSections unlimited = segmenter.segment(line);
+        ResumeSections limited = new ResumeSectionSegmenter(100_000, 0).segment(line + "\nEducation: BSc");
+
+        assertThat(unlimited.isTruncated()).isFalse();
+        assertThat(unlimited.getYearsOfExperience()).isEqualTo(9);
+        assertThat(unlimited.value(ResumeSection.SKILLS)).hasSize(503).startsWith("Java xxx").endsWith("...");
+        assertThat(limited.getTruncation()).isEqualTo(ResumeSections.Truncation.SIZE);
+        assertThat(limited.getScannedLength()).isEqualTo(100_000);
+        assertThat(limited.getYearsOfExperience()).isNull();
+        assertThat(limited.contains(ResumeSection.EDUCATION)).isFalse();
+        assertThat(limited.value(ResumeSection.SKILLS)).isEqualTo(unlimited.value(ResumeSection.SKILLS));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(segmenter.segment(line).getTruncation()).isEqualTo(ResumeSections.Truncation.INTERRUPTED);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testMatchesPatternBasedExtraction() {
+        String[] tokens = {
+                "skills", "Skills:", "TECHNICAL SKILLS", "technical  skills", "Core Competencies", "technologies",
+                "education", "Academic", "qualifications", "experience", "Work Experience", "employment",
+                "professional experience", "certification", "Certifications", "certificate", "LICENSES", "license",
+                "5", "12", "0", "007", "3+", "+", "year", "years", "YEARS", "of", "exp", "expert", "yearsof",
+                ":", "::", " ", "  ", "\t", "\n", "\n", "\n\n", "\r\n", "\r", "\u000B", "\f", "\u0001", " ",
+                "java", "spring boot", "Ünïcödé", "İ", "K", "ſ", "a", "-", "1234567890123"
+        };
+        Random random = new Random(42);
+        for (int run = 0; run < 20000; run++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(80);
+            for (int i = 0; i < length; i++) {
+                text.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertMatchesPatterns(text.toString());
+        }
+    }
+
+    private void assertMatchesPatterns(String text) {
+        ResumeSections sections = segmenter.segment(text);
+        assertThat(sections.getYearsOfExperience()).as("years in %s", text).isEqualTo(patternYears(text.toLowerCase()));
+        assertThat(sections.value(ResumeSection.SKILLS)).as("skills in %s", text).isEqualTo(patternSection(text,
+                "(?:skills|technical skills|core competencies|technologies)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,10})", 500));
+        assertThat(sections.value(ResumeSection.EDUCATION)).as("education in %s", text).isEqualTo(patternSection(text,
+                "(?:education|academic|qualification)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,5})", 300));
+        assertThat(sections.value(ResumeSection.WORK_EXPERIENCE)).as("experience in %s", text).isEqualTo(patternSection(text,
+                "(?:experience|work experience|employment|professional experience)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,15})", 1000));
+        assertThat(sections.value(ResumeSection.CERTIFICATIONS)).as("certifications in %s", text).isEqualTo(patternSection(text,
+                "(?:certification[s]?|certificate[s]?|license[s]?)[:\\s]*([^\\n\\r]*(?:\\n[^\\n\\r]*){0,8})", 500));
+    }
+
+    private static Integer patternYears(String text) {
+        try {
+            Matcher matcher = Pattern.compile("(\\d+)\\s*\\+?\\s*year[s]?\\s*(of\\s*)?(experience|exp)", Pattern.CASE_INSENSITIVE)
+                    .matcher(text);
+            int maxYears = 0;
+            while (matcher.find()) {
+                maxYears = Math.max(maxYears, Integer.parseInt(matcher.group(1)));
+            }
+            return maxYears > 0 ? maxYears : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String patternSection(String text, String regex, int maxLength) {
+        Matcher matcher = Pattern.compile(regex, Pattern.CASE_INSENSITIVE).matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+        String section = matcher.group(1).replaceAll("\\s+", " ").trim();
+        return section.length() > maxLength ? section.substring(0, maxLength) + "..." : section;
+    }
+}
@@ -0,0 +1,56 @@
+package com.airesume.resumescreeningtool.parsing;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SkillDictionaryTest {
+
+    private final SkillDictionary dictionary = new SkillDictionary(List.of(
+            new SkillDictionary.Skill("java", "Java", List.of()),
+            new SkillDictionary.Skill("javascript", "JavaScript", List.of("js")),
+            new SkillDictionary.Skill("kubernetes", "Kubernetes", List.of("k8s")),
+            new SkillDictionary.Skill("spring-boot", "Spring Boot", List.of()),
+            new SkillDictionary.Skill("cpp", "C++", List.of()),
+            new SkillDictionary.Skill("c", "C", List.of("ansi c"))));
+
+    @Test
+    public void testMatchesWholeWordsAndSynonyms() {
+        assertThat(dictionary.match("Deployed to K8S with Spring \n  Boot; wrote C++ and JS"))
+                .containsExactly("kubernetes", "spring-boot", "cpp", "javascript");
+        assertThat(dictionary.match("JavaScript developer")).containsExactly("javascript");
+        assertThat(dictionary.match("Javanese, jsx, ack8s")).isEmpty();
+        // Single-letter terms are not matched on their own
+        assertThat(dictionary.match("Plan C, ANSI C")).containsExactly("c");
+    }
+
+    @Test
+    public void testResolvesIdsNamesAndSynonyms() {
+        assertThat(dictionary.resolve("k8s")).contains("kubernetes");
+        assertThat(dictionary.resolve(" Spring  Boot ")).contains("spring-boot");
+        assertThat(dictionary.resolve("cpp")).contains("cpp");
+        assertThat(dictionary.resolve("cobol")).isEmpty();
+    }
+
+    @Test
+    public void testSynonymsOnlyDisplayNamesAreNotMatchedAsWords() {
+        SkillDictionary shipped = new SkillDictionary(new ClassPathResource("skills/skills.csv"));
+        assertThat(shipped.match("Ready to go live")).isEmpty();
+        assertThat(shipped.match("Spring 2021 internship; added a node to the cluster; 5 ml")).isEmpty();
+        assertThat(shipped.match("Services in Golang, tooling in go lang")).containsExactly("golang");
+        assertThat(shipped.match("Spring Framework and NodeJS")).containsExactly("spring", "nodejs");
+        assertThat(shipped.resolve("Go")).contains("golang");
+    }
+
+    @Test
+    public void testRejectsTermsListedForTwoSkills() {
+        assertThatThrownBy(() -> new SkillDictionary(List.of(
+                new SkillDictionary.Skill("kubernetes", "Kubernetes", List.of("kube")),
+                new SkillDictionary.Skill("kubeflow", "Kubeflow", List.of("kube")))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
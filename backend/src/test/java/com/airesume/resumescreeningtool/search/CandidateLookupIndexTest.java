@@ -0,0 +1,71 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airesume.resumescreeningtool.repository.CandidateContactView;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CandidateLookupIndexTest {
+
+    @Test
+    public void testResumeRemovedDuringBuildStaysRemoved() {
+        CandidateLookupIndex lookupIndex = new CandidateLookupIndex();
+        List<CandidateContactView> contacts = List.of(contact(1L, "Jane Doe"), contact(2L, "Jane Dow"));
+
+        // Resume 2 is deleted after the build read it but before it reaches the index
+        ResumeRepository repository = (ResumeRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {ResumeRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findCandidateContactsAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if ((Long) args[0] > 0) {
+                        return List.of();
+                    }
+                    lookupIndex.remove(2L);
+                    return contacts;
+                });
+        DatabaseTextSearch databaseTextSearch = new DatabaseTextSearch();
+        ReflectionTestUtils.setField(databaseTextSearch, "datasourceUrl", "jdbc:h2:mem:testdb");
+        ReflectionTestUtils.setField(databaseTextSearch, "engine", DatabaseTextSearch.ENGINE_INDEX);
+        databaseTextSearch.init();
+        ReflectionTestUtils.setField(lookupIndex, "resumeRepository", repository);
+        ReflectionTestUtils.setField(lookupIndex, "databaseTextSearch", databaseTextSearch);
+        ReflectionTestUtils.setField(lookupIndex, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(lookupIndex, "buildChunkSize", 100);
+        lookupIndex.init();
+
+        // As buildFromDatabase does before starting the build thread
+        ReflectionTestUtils.setField(lookupIndex, "building", true);
+        ReflectionTestUtils.invokeMethod(lookupIndex, "build");
+
+        assertThat(lookupIndex.search("Jane Doe", 0.3f, 10)).extracting(TrigramIndex.Match::resumeId).containsExactly(1L);
+        assertThat(lookupIndex.isBuilding()).isFalse();
+    }
+
+    private static CandidateContactView contact(long id, String name) {
+        return new CandidateContactView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getCandidateName() {
+                return name;
+            }
+
+            @Override
+            public String getCandidateEmail() {
+                return null;
+            }
+        };
+    }
+}
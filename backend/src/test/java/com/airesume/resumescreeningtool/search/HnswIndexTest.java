@@ -0,0 +1,120 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @Test
+    public void testFindsTrueNeighbours() {
+        Random random = new Random(42);
+        float[][] vectors = new float[3000][];
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100, 7);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomUnitVector(random);
+            index.add(i, vectors[i]);
+        }
+
+        int found = 0;
+        for (int q = 0; q < 50; q++) {
+            float[] query = randomUnitVector(random);
+            Set<Long> exact = IntStream.range(0, vectors.length).boxed()
+                    .sorted(Comparator.comparingDouble(i -> -dot(query, vectors[i])))
+                    .limit(10).map(Long::valueOf).collect(Collectors.toSet());
+            found += (int) index.search(query, 10, 64, -1).stream()
+                    .filter(neighbor -> exact.contains(neighbor.resumeId())).count();
+        }
+        assertThat(found / 500.0).isGreaterThan(0.9);
+
+        // The resume itself is the closest match unless excluded
+        assertThat(index.search(vectors[5], 1, 64, -1).get(0).resumeId()).isEqualTo(5L);
+        assertThat(index.search(vectors[5], 10, 64, 5)).extracting(HnswIndex.Neighbor::resumeId).doesNotContain(5L);
+    }
+
+    @Test
+    public void testRemoveReplaceAndCompact() {
+        Random random = new Random(1);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50, 3);
+        float[] first = randomUnitVector(random);
+        for (int i = 0; i < 200; i++) {
+            index.add(i, randomUnitVector(random));
+        }
+        index.add(1000, first);
+        assertThat(index.search(first, 1, 32, -1).get(0).resumeId()).isEqualTo(1000L);
+
+        assertThat(index.remove(1000)).isTrue();
+        assertThat(index.remove(1000)).isFalse();
+        assertThat(index.search(first, 200, 300, -1)).extracting(HnswIndex.Neighbor::resumeId).doesNotContain(1000L);
+
+        float[] replacement = randomUnitVector(random);
+        index.add(7, replacement);
+        assertThat(index.search(replacement, 1, 32, -1).get(0).resumeId()).isEqualTo(7L);
+        assertThat(index.size()).isEqualTo(200);
+        assertThat(index.deletedCount()).isEqualTo(2);
+
+        HnswIndex compacted = index.withoutDeleted();
+        assertThat(compacted.size()).isEqualTo(200);
+        assertThat(compacted.deletedCount()).isZero();
+        assertThat(compacted.getVector(7)).containsExactly(replacement);
+    }
+
+    @Test
+    public void testSnapshotRoundTripAndCorruption() throws IOException {
+        Random random = new Random(9);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50, 3);
+        for (int i = 0; i < 300; i++) {
+            index.add(i, randomUnitVector(random));
+        }
+        index.remove(17);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeTo(out);
+        byte[] snapshot = out.toByteArray();
+
+        HnswIndex loaded = HnswIndex.read(new ByteArrayInputStream(snapshot), 3);
+        assertThat(loaded.size()).isEqualTo(299);
+        assertThat(loaded.contains(17)).isFalse();
+        float[] query = randomUnitVector(random);
+        List<HnswIndex.Neighbor> expected = index.search(query, 10, 64, -1);
+        assertThat(loaded.search(query, 10, 64, -1)).isEqualTo(expected);
+
+        snapshot[snapshot.length / 2] ^= 0x10;
+        assertThatThrownBy(() -> HnswIndex.read(new ByteArrayInputStream(snapshot), 3)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> HnswIndex.read(new ByteArrayInputStream(snapshot, 0, snapshot.length / 3), 3))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        double norm = 0;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            vector[d] = (float) random.nextGaussian();
+            norm += vector[d] * vector[d];
+        }
+        for (int d = 0; d < DIMENSIONS; d++) {
+            vector[d] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int d = 0; d < a.length; d++) {
+            sum += a[d] * b[d];
+        }
+        return sum;
+    }
+}
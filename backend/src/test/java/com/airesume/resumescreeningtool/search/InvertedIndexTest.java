@@ -0,0 +1,94 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InvertedIndexTest {
+
+    @Test
+    public void testAnalyzer() {
+        assertThat(TextAnalyzer.analyze("Managed the managing of C++ and C# services"))
+                .containsExactly(
+                        new TextAnalyzer.Token("manag", 0),
+                        new TextAnalyzer.Token("manag", 2),
+                        new TextAnalyzer.Token("c++", 4),
+                        new TextAnalyzer.Token("c#", 6),
+                        new TextAnalyzer.Token("servic", 7));
+        assertThat(TextAnalyzer.stem("manages")).isEqualTo("manag");
+        assertThat(TextAnalyzer.stem("optimization")).isEqualTo(TextAnalyzer.stem("optimize"));
+        assertThat(TextAnalyzer.stem("kubernetes")).isEqualTo(TextAnalyzer.stem("Kubernetes".toLowerCase()));
+        assertThat(TextAnalyzer.stem("k8s")).isEqualTo("k8s");
+    }
+
+    @Test
+    public void testRanksAndFilters() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(document(1, 10, "Java developer. Built Java services and Java tooling."));
+        index.add(document(2, 10, "Python developer who also knows some Java."));
+        index.add(document(3, 20, "Java architect with distributed systems experience."));
+        index.add(document(4, 20, "Go and Rust engineer."));
+
+        InvertedIndex.SearchResult result = index.search(SearchQuery.parse("java"), null, 0, 10);
+        assertThat(result.totalHits()).isEqualTo(3);
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::resumeId).startsWith(1L).doesNotContain(4L);
+
+        assertThat(index.search(SearchQuery.parse("java"), 20L, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::resumeId).containsExactly(3L);
+        assertThat(index.search(SearchQuery.parse("java"), null, 1, 1).hits()).hasSize(1);
+        assertThat(index.search(SearchQuery.parse("java"), null, 5, 10).hits()).isEmpty();
+
+        // Phrases must match adjacent words in order
+        assertThat(index.search(SearchQuery.parse("\"java developer\""), null, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::resumeId).containsExactly(1L);
+        assertThat(index.search(SearchQuery.parse("\"developer java\""), null, 0, 10).totalHits()).isZero();
+
+        index.remove(1);
+        index.add(document(2, 10, "Rust developer."));
+        assertThat(index.search(SearchQuery.parse("java"), null, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::resumeId).containsExactly(3L);
+        index.purgeDeleted();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search(SearchQuery.parse("rust"), null, 0, 10).totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    public void testSegmentsRoundTrip() throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        InvertedIndex.writeSegment(first, List.of(), List.of(
+                document(1, 10, "Led the data platform team"), document(2, 10, "Data analyst")));
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        InvertedIndex.writeSegment(second, List.of(1L, 2L), List.of(document(2, 11, "Data platform engineer")));
+
+        index.load(new ByteArrayInputStream(first.toByteArray()));
+        index.load(new ByteArrayInputStream(second.toByteArray()));
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(SearchQuery.parse("\"data platform\""), 11L, 0, 10).hits())
+                .extracting(InvertedIndex.Hit::resumeId).containsExactly(2L);
+
+        // Scores only agree once deleted documents no longer count towards term frequencies
+        index.purgeDeleted();
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        index.writeSnapshot(snapshot);
+        InvertedIndex reloaded = new InvertedIndex();
+        reloaded.load(new ByteArrayInputStream(snapshot.toByteArray()));
+        assertThat(reloaded.search(SearchQuery.parse("platform engineer"), null, 0, 10).hits())
+                .isEqualTo(index.search(SearchQuery.parse("platform engineer"), null, 0, 10).hits());
+
+        byte[] corrupt = snapshot.toByteArray();
+        corrupt[corrupt.length / 2] ^= 0x55;
+        assertThatThrownBy(() -> new InvertedIndex().load(new ByteArrayInputStream(corrupt)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static InvertedIndex.Document document(long resumeId, long jobPostingId, String text) {
+        return new InvertedIndex.Document(resumeId, jobPostingId, TextAnalyzer.analyze(text));
+    }
+}
@@ -0,0 +1,80 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MinHashLshIndexTest {
+
+    private static final String RESUME = "Jane Doe jane.doe@example.com. Senior software engineer with eight years "
+            + "of experience building payment platforms in Java and Kotlin. Led the migration of a monolith to "
+            + "Spring Boot services on Kubernetes, cutting deployment time from hours to minutes. Mentored six "
+            + "engineers and ran the on-call rotation. Acme Payments, 2019 to present: designed the settlement "
+            + "service that reconciles card transactions nightly, introduced contract tests between teams, moved "
+            + "reporting from cron jobs to Kafka streams and reduced cloud spend by a third through right-sizing. "
+            + "Globex Retail, 2015 to 2019: built the order pipeline for the web shop, wrote the first "
+            + "integration test suite, maintained PostgreSQL schemas and tuned slow queries for the busy season. "
+            + "Education: BSc Computer Science, University of Leeds. "
+            + "Certifications: AWS Solutions Architect Associate, Certified Kubernetes Administrator.";
+
+    private static final String EDITED = RESUME.replace("jane.doe@example.com", "j.doe@mail.example.org")
+            .replace("Mentored six", "Mentored");
+
+    private static final String OTHER = "John Roe john.roe@example.com. Registered nurse with five years in "
+            + "intensive care and emergency departments. Coordinated patient admissions, trained new staff on "
+            + "ventilator protocols and kept medication records for a thirty bed ward. Education: BSc Nursing, "
+            + "University of Bristol. Certifications: Advanced Life Support, Paediatric Immediate Life Support.";
+
+    private final MinHasher hasher = new MinHasher(100, 3, 42);
+
+    @Test
+    public void testFindsNearDuplicatesWithinJobPosting() {
+        MinHashLshIndex index = new MinHashLshIndex(20, 5);
+        index.add(1, 10, hasher.signature(RESUME));
+        index.add(2, 10, hasher.signature(OTHER));
+        index.add(3, 20, hasher.signature(RESUME));
+
+        // Another email and one dropped word still match; a different resume and another posting do not
+        List<MinHashLshIndex.Match> matches = index.findSimilar(hasher.signature(EDITED), 10, 0.7f, 4, 10);
+        assertThat(matches).extracting(MinHashLshIndex.Match::resumeId).containsExactly(1L);
+        assertThat(matches.get(0).similarity()).isGreaterThan(0.7f).isLessThan(1.0f);
+        assertThat(index.findSimilar(hasher.signature(RESUME), 10, 0.7f, 1, 10)).isEmpty();
+        assertThat(index.findSimilar(hasher.signature(OTHER), 20, 0.7f, 4, 10)).isEmpty();
+        assertThat(hasher.signature(" ... ")).isNull();
+
+        index.add(4, 10, hasher.signature(EDITED));
+        assertThat(index.clusters(0.7f)).singleElement().satisfies(cluster -> {
+            assertThat(cluster.jobPostingId()).isEqualTo(10L);
+            assertThat(cluster.resumeIds()).containsExactly(1L, 4L);
+        });
+
+        assertThat(index.remove(1)).isTrue();
+        assertThat(index.remove(1)).isFalse();
+        assertThat(index.findSimilar(hasher.signature(EDITED), 10, 0.7f, 4, 10)).isEmpty();
+        assertThat(index.clusters(0.7f)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testSignaturesRoundTripAndSurviveCompaction() {
+        int[] signature = hasher.signature(RESUME);
+        assertThat(MinHasher.fromBytes(MinHasher.toBytes(signature))).containsExactly(signature);
+        assertThat(MinHasher.similarity(signature, hasher.signature(RESUME))).isEqualTo(1.0f);
+
+        // Replacing resumes over and over leaves tombstones that get compacted away
+        MinHashLshIndex index = new MinHashLshIndex(20, 5);
+        for (int round = 0; round < 3; round++) {
+            for (long id = 1; id <= 1000; id++) {
+                index.add(id, id, hasher.signature(OTHER + " " + id));
+            }
+        }
+        index.add(5000, 7, hasher.signature(EDITED));
+        assertThat(index.size()).isEqualTo(1001);
+        assertThat(index.findSimilar(hasher.signature(OTHER + " 7"), 7, 0.7f, -1, 10))
+                .extracting(MinHashLshIndex.Match::resumeId).containsExactly(7L);
+        assertThat(index.findSimilar(hasher.signature(RESUME), 7, 0.7f, -1, 10))
+                .extracting(MinHashLshIndex.Match::resumeId).containsExactly(5000L);
+    }
+}
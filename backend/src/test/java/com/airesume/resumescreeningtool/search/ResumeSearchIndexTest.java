@@ -0,0 +1,130 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResumeSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testResumeRemovedDuringRebuildStaysRemoved() throws IOException {
+        ResumeSearchIndex searchIndex = new ResumeSearchIndex();
+        JobPosting jobPosting = new JobPosting();
+        jobPosting.setId(10L);
+        List<Resume> resumes = List.of(resume(1L, jobPosting), resume(2L, jobPosting));
+
+        // Resume 2 is deleted after the rebuild read it but before it reaches the index
+        ResumeBatchRepository repository = new ResumeBatchRepository(null) {
+            @Override
+            public List<Resume> findChunkAfter(long afterId, int limit) {
+                if (afterId > 0) {
+                    return List.of();
+                }
+                searchIndex.remove(2L);
+                return resumes;
+            }
+        };
+        ReflectionTestUtils.setField(searchIndex, "resumeBatchRepository", repository);
+        open(searchIndex, "jdbc:h2:mem:testdb", DatabaseTextSearch.ENGINE_INDEX);
+
+        ReflectionTestUtils.invokeMethod(searchIndex, "rebuild");
+
+        InvertedIndex.SearchResult result = searchIndex.search(SearchQuery.parse("kafka"), null, 0, 10);
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::resumeId).containsExactly(1L);
+        assertThat(searchIndex.isRebuilding()).isFalse();
+    }
+
+    @Test
+    public void testIdCheckRebuildsWhenTheIndexDiffersAtTheSameCount() throws Exception {
+        ResumeSearchIndex searchIndex = new ResumeSearchIndex();
+        JobPosting jobPosting = new JobPosting();
+        jobPosting.setId(10L);
+        AtomicInteger rebuildReads = new AtomicInteger();
+        List<Long> databaseIds = new ArrayList<>(List.of(1L, 2L));
+
+        ResumeBatchRepository repository = new ResumeBatchRepository(null) {
+            @Override
+            public List<Long> findIdsWithTextAfter(long afterId, int limit) {
+                return databaseIds.stream().filter(id -> id > afterId).limit(limit).toList();
+            }
+
+            @Override
+            public List<Resume> findChunkAfter(long afterId, int limit) {
+                rebuildReads.incrementAndGet();
+                return databaseIds.stream().filter(id -> id > afterId).limit(limit)
+                        .map(id -> resume(id, jobPosting)).toList();
+            }
+        };
+        ReflectionTestUtils.setField(searchIndex, "resumeBatchRepository", repository);
+        open(searchIndex, "jdbc:h2:mem:testdb", DatabaseTextSearch.ENGINE_INDEX);
+        searchIndex.index(resume(1L, jobPosting));
+        searchIndex.index(resume(2L, jobPosting));
+
+        searchIndex.verifyIds();
+        assertThat(rebuildReads).hasValue(0);
+
+        // Resume 2 was deleted and resume 3 uploaded, and neither change reached the index
+        databaseIds.set(1, 3L);
+        searchIndex.verifyIds();
+        for (int wait = 0; wait < 100 && !searchIndex.isRebuilding() && rebuildReads.get() == 0; wait++) {
+            Thread.sleep(20);
+        }
+        for (int wait = 0; wait < 100 && searchIndex.isRebuilding(); wait++) {
+            Thread.sleep(20);
+        }
+
+        InvertedIndex.SearchResult result = searchIndex.search(SearchQuery.parse("kafka"), null, 0, 10);
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::resumeId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    public void testStaysEmptyWhenResumeSearchRunsInTheDatabase() throws IOException {
+        ResumeSearchIndex searchIndex = new ResumeSearchIndex();
+        open(searchIndex, "jdbc:postgresql://localhost/resumes", DatabaseTextSearch.ENGINE_DATABASE);
+        JobPosting jobPosting = new JobPosting();
+        jobPosting.setId(10L);
+
+        searchIndex.index(resume(1L, jobPosting));
+        searchIndex.flush();
+
+        assertThat(searchIndex.search(SearchQuery.parse("kafka"), null, 0, 10).totalHits()).isZero();
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    private void open(ResumeSearchIndex searchIndex, String datasourceUrl, String engine) throws IOException {
+        DatabaseTextSearch databaseTextSearch = new DatabaseTextSearch();
+        ReflectionTestUtils.setField(databaseTextSearch, "datasourceUrl", datasourceUrl);
+        ReflectionTestUtils.setField(databaseTextSearch, "engine", engine);
+        databaseTextSearch.init();
+        ReflectionTestUtils.setField(searchIndex, "databaseTextSearch", databaseTextSearch);
+        ReflectionTestUtils.setField(searchIndex, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(searchIndex, "indexDir", tempDir.toString());
+        ReflectionTestUtils.setField(searchIndex, "maxSegments", 4);
+        ReflectionTestUtils.setField(searchIndex, "rebuildChunkSize", 100);
+        searchIndex.open();
+    }
+
+    private static Resume resume(long id, JobPosting jobPosting) {
+        Resume resume = new Resume("Candidate " + id, "candidate" + id + "@example.com", "resume.txt", "resume.txt", jobPosting);
+        resume.setId(id);
+        resume.setExtractedText("Built Kafka pipelines and Java services");
+        return resume;
+    }
+}
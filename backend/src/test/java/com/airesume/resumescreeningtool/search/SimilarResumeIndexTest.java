@@ -0,0 +1,70 @@
+package com.airesume.resumescreeningtool.search;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.parsing.SkillDictionary;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimilarResumeIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testResumeRemovedDuringRebuildStaysRemoved() {
+        SimilarResumeIndex similarIndex = new SimilarResumeIndex();
+        JobPosting jobPosting = new JobPosting();
+        jobPosting.setId(10L);
+        List<Resume> resumes = List.of(resume(1L, jobPosting), resume(2L, jobPosting));
+
+        // Resume 2 is deleted after the rebuild read it but before it reaches the index
+        ResumeBatchRepository repository = new ResumeBatchRepository(null) {
+            @Override
+            public List<Resume> findChunkAfter(long afterId, int limit) {
+                if (afterId > 0) {
+                    return List.of();
+                }
+                similarIndex.remove(2L);
+                return resumes;
+            }
+        };
+        ReflectionTestUtils.setField(similarIndex, "resumeBatchRepository", repository);
+        ReflectionTestUtils.setField(similarIndex, "skillDictionary", new SkillDictionary(List.of(
+                new SkillDictionary.Skill("kafka", "Kafka", List.of()))));
+        ReflectionTestUtils.setField(similarIndex, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(similarIndex, "indexFile", tempDir.resolve("hnsw.bin").toString());
+        ReflectionTestUtils.setField(similarIndex, "dimensions", 64);
+        ReflectionTestUtils.setField(similarIndex, "maxConnections", 8);
+        ReflectionTestUtils.setField(similarIndex, "efConstruction", 50);
+        ReflectionTestUtils.setField(similarIndex, "efSearch", 50);
+        ReflectionTestUtils.setField(similarIndex, "maxSkillScanChars", 10_000);
+        ReflectionTestUtils.setField(similarIndex, "rebuildChunkSize", 100);
+        similarIndex.open();
+
+        // As verifyAgainstDatabase does before starting the rebuild thread
+        ReflectionTestUtils.setField(similarIndex, "rebuilding", true);
+        ReflectionTestUtils.invokeMethod(similarIndex, "rebuild");
+
+        List<HnswIndex.Neighbor> neighbors = similarIndex.search(similarIndex.vectorOf(resumes.get(0)), 10, null);
+        assertThat(neighbors).extracting(HnswIndex.Neighbor::resumeId).containsExactly(1L);
+        assertThat(similarIndex.isRebuilding()).isFalse();
+    }
+
+    private static Resume resume(long id, JobPosting jobPosting) {
+        Resume resume = new Resume("Candidate " + id, "candidate" + id + "@example.com", "resume.txt", "resume.txt", jobPosting);
+        resume.setId(id);
+        resume.setExtractedText("Built Kafka pipelines and Java services");
+        return resume;
+    }
+}
@@ -0,0 +1,47 @@
+package com.airesume.resumescreeningtool.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void testFindsTyposAndPartialEmails() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "John Smith", "john.smith@example.com");
+        index.add(2, "Jonathan Smithers", "jsmithers@example.org");
+        index.add(3, "Maria Garcia", "maria.garcia@example.com");
+        index.add(4, "Jane Smith", "jane.smith@example.com");
+
+        // A misspelled first name still finds the candidate, ahead of a different first name
+        assertThat(index.search("jon smith", 0.6f, 10)).extracting(TrigramIndex.Match::resumeId)
+                .startsWith(1L).doesNotContain(3L);
+        assertThat(index.search("Maria Garcya", 0.5f, 10)).extracting(TrigramIndex.Match::resumeId)
+                .containsExactly(3L);
+        assertThat(index.search("jsmithers", 0.6f, 10)).extracting(TrigramIndex.Match::resumeId)
+                .containsExactly(2L);
+        assertThat(index.search("john smith", 0.6f, 1).get(0).similarity()).isEqualTo(1.0f);
+
+        // The top matches only, and nothing below the threshold
+        assertThat(index.search("smith", 0.6f, 2)).hasSize(2);
+        assertThat(index.search("zhang wei", 0.6f, 10)).isEmpty();
+        assertThat(index.search("  ", 0.6f, 10)).isEmpty();
+    }
+
+    @Test
+    public void testRemoveAndReplace() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "John Smith", "john.smith@example.com");
+        index.add(2, "Maria Garcia", "maria.garcia@example.com");
+
+        assertThat(index.remove(1)).isTrue();
+        assertThat(index.remove(1)).isFalse();
+        assertThat(index.search("john smith", 0.6f, 10)).isEmpty();
+
+        index.add(2, "Maria Lopez", "maria.lopez@example.com");
+        assertThat(index.search("garcia", 0.6f, 10)).isEmpty();
+        assertThat(index.search("lopez", 0.6f, 10)).extracting(TrigramIndex.Match::resumeId).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
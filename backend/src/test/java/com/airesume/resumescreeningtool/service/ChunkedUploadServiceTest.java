@@ -0,0 +1,125 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.airesume.resumescreeningtool.dto.ChunkedUploadStatusDto;
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class ChunkedUploadServiceTest {
+
+    private static final byte[] CONTENT = ("Jane Doe\nSkills: Java, Kotlin, PostgreSQL\n"
+            + "8 years of experience building payment services\n").getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Test
+    public void testOutOfOrderAndDuplicateChunks() throws Exception {
+        ChunkedUploadStatusDto status = start("unordered");
+        String uploadId = status.getUploadId();
+
+        write(uploadId, 40, CONTENT.length);
+        status = write(uploadId, 10, 25);
+        assertThat(status.getReceivedBytes()).isEqualTo(15 + CONTENT.length - 40);
+        assertThat(status.getNextOffset()).isEqualTo(0);
+        assertThatThrownBy(() -> chunkedUploadService.completeUpload(uploadId)).isInstanceOf(IllegalStateException.class);
+
+        // Resending an overlapping chunk does not count its bytes twice
+        write(uploadId, 0, 20);
+        status = write(uploadId, 0, 20);
+        assertThat(status.getReceivedBytes()).isEqualTo(25 + CONTENT.length - 40);
+        assertThat(status.getNextOffset()).isEqualTo(25);
+
+        status = write(uploadId, 20, 40);
+        assertThat(status.isComplete()).isTrue();
+        Resume resume = chunkedUploadService.completeUpload(uploadId);
+        assertThat(Files.readAllBytes(fileUploadService.resolveStoredPath(resume.getFilePath()))).isEqualTo(CONTENT);
+        assertThat(partialDir().resolve(uploadId + ".session")).doesNotExist();
+    }
+
+    @Test
+    public void testSessionsSurviveRestart() throws Exception {
+        String uploadId = start("restart").getUploadId();
+        write(uploadId, 0, 30);
+
+        // A restart loses the in-memory sessions and reads them back from disk
+        sessions().clear();
+        chunkedUploadService.restoreSessions();
+
+        ChunkedUploadStatusDto status = chunkedUploadService.getStatus(uploadId);
+        assertThat(status.getReceivedBytes()).isEqualTo(30);
+        assertThat(status.getNextOffset()).isEqualTo(30);
+        write(uploadId, 30, CONTENT.length);
+        Resume resume = chunkedUploadService.completeUpload(uploadId);
+        assertThat(resume.getCandidateEmail()).isEqualTo("restart@example.com");
+        assertThat(Files.readAllBytes(fileUploadService.resolveStoredPath(resume.getFilePath()))).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void testInactiveSessionsExpire() throws Exception {
+        String uploadId = start("expiry").getUploadId();
+        write(uploadId, 0, 10);
+        assertThat(partialDir().resolve(uploadId + ".part")).exists();
+
+        long expiryMs = (long) ReflectionTestUtils.getField(chunkedUploadService, "expiryMs");
+        ReflectionTestUtils.setField(chunkedUploadService, "expiryMs", -1L);
+        try {
+            chunkedUploadService.expireStaleUploads();
+        } finally {
+            ReflectionTestUtils.setField(chunkedUploadService, "expiryMs", expiryMs);
+        }
+
+        assertThatThrownBy(() -> chunkedUploadService.getStatus(uploadId)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> write(uploadId, 10, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(partialDir().resolve(uploadId + ".part")).doesNotExist();
+        assertThat(partialDir().resolve(uploadId + ".session")).doesNotExist();
+    }
+
+    private ChunkedUploadStatusDto start(String name) throws Exception {
+        User user = userRepository.save(User.builder().username("chunked-" + name).email("chunked-" + name + "@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        JobPosting jobPosting = jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+        return chunkedUploadService.startUpload(jobPosting.getId(), "Jane Doe", name + "@example.com", null,
+                name + ".txt", CONTENT.length);
+    }
+
+    private ChunkedUploadStatusDto write(String uploadId, int from, int to) throws Exception {
+        return chunkedUploadService.writeChunk(uploadId, from, new ByteArrayInputStream(CONTENT, from, to - from));
+    }
+
+    private Path partialDir() {
+        return Path.of(fileUploadService.getUploadDir()).resolve(".partial");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> sessions() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(chunkedUploadService, "sessions");
+    }
+}
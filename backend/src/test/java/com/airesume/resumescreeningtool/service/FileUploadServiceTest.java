@@ -0,0 +1,130 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class FileUploadServiceTest {
+
+    private static final String CONTENT = "José Müller – Senior Engineer\nSkills: Java, Spring Boot\n";
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Test
+    public void testTextInSingleByteAndByteOrderMarkedEncodingsIsAccepted() throws IOException {
+        List<byte[]> encodings = List.of(
+                CONTENT.getBytes(StandardCharsets.UTF_8),
+                ("\uFEFF" + CONTENT).getBytes(StandardCharsets.UTF_8),
+                ("\uFEFF" + CONTENT).getBytes(StandardCharsets.UTF_16LE),
+                ("\uFEFF" + CONTENT).getBytes(StandardCharsets.UTF_16BE),
+                CONTENT.getBytes(Charset.forName("windows-1252")));
+
+        for (byte[] bytes : encodings) {
+            FileUploadService.FileUploadResult result =
+                    fileUploadService.storeStream(new ByteArrayInputStream(bytes), "resume.txt");
+            try {
+                assertThat(result.getStoredFilename()).endsWith(".txt");
+                String text = fileUploadService.extractTextFromFile(result.getStagedPath(), "txt");
+                assertThat(text).startsWith("José Müller – Senior Engineer").contains("Spring Boot");
+            } finally {
+                fileUploadService.discardStagedFile(result);
+            }
+        }
+    }
+
+    @Test
+    public void testSingleByteTextPastAnAsciiStartIsDecoded() throws IOException {
+        String content = "Skills: Java\n".repeat(500) + "Location: Zürich\n";
+        byte[] bytes = content.getBytes(Charset.forName("windows-1252"));
+
+        FileUploadService.FileUploadResult result =
+                fileUploadService.storeStream(new ByteArrayInputStream(bytes), "resume.txt");
+        try {
+            assertThat(fileUploadService.extractTextFromFile(result.getStagedPath(), "txt")).contains("Zürich");
+        } finally {
+            fileUploadService.discardStagedFile(result);
+        }
+    }
+
+    @Test
+    public void testUnknownContentIsRejectedFromTheHeadOfTheStream() {
+        byte[] head = new byte[4096];
+        Arrays.fill(head, (byte) 0x01);
+        CountingInputStream inputStream = new CountingInputStream(head, 1 << 20);
+
+        assertThatThrownBy(() -> fileUploadService.storeStream(inputStream, "resume.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(inputStream.bytesRead).isLessThanOrEqualTo(head.length);
+    }
+
+    @Test
+    public void testExtractionCacheVersionFollowsExtractionSettings() {
+        String version = fileUploadService.getExtractionCacheVersion();
+        assertThat(version).startsWith(FileUploadService.EXTRACTOR_VERSION + "-")
+                .isEqualTo(extractionCacheVersion(200, "", ""));
+        assertThat(extractionCacheVersion(50, "", "")).isNotEqualTo(version);
+        assertThat(extractionCacheVersion(200, "docx=xwpf", "")).isNotEqualTo(version);
+        assertThat(extractionCacheVersion(200, "", "docx=xwpf:10")).isNotEqualTo(version);
+    }
+
+    private static String extractionCacheVersion(int pdfMaxPages, String preferred, String trials) {
+        FileUploadService service = new FileUploadService(null, null, null);
+        ReflectionTestUtils.setField(service, "pdfMaxPages", pdfMaxPages);
+        ReflectionTestUtils.setField(service, "preferredExtractors", preferred);
+        ReflectionTestUtils.setField(service, "extractorTrials", trials);
+        return service.getExtractionCacheVersion();
+    }
+
+    /**
+     * Serves the head followed by zeros up to the total length, counting what is read
+     */
+    private static class CountingInputStream extends InputStream {
+
+        private final byte[] head;
+
+        private final long length;
+
+        private long bytesRead;
+
+        CountingInputStream(byte[] head, long length) {
+            this.head = head;
+            this.length = length;
+        }
+
+        @Override
+        public int read() {
+            if (bytesRead >= length) {
+                return -1;
+            }
+            int b = bytesRead < head.length ? head[(int) bytesRead] & 0xFF : 0;
+            bytesRead++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) {
+            if (bytesRead >= length) {
+                return -1;
+            }
+            int n = (int) Math.min(count, length - bytesRead);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = (byte) read();
+            }
+            return n;
+        }
+    }
+}
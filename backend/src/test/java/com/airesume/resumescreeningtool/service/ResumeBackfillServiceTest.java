@@ -0,0 +1,103 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.airesume.resumescreeningtool.dto.ResumeBackfillStatusDto;
+import com.airesume.resumescreeningtool.entity.BackfillSource;
+import com.airesume.resumescreeningtool.entity.BackfillStatus;
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"resume.backfill.chunk-size=2", "resume.backfill.chunk-delay-ms=0"})
+public class ResumeBackfillServiceTest {
+
+    @Autowired
+    private ResumeBackfillService resumeBackfillService;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Test
+    public void testReparsesStoredTextInChunks() throws Exception {
+        User user = userRepository.save(User.builder().username("backfill").email("backfill@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        JobPosting jobPosting = jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+
+        List<Resume> resumes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Resume resume = new Resume("Candidate " + i, "candidate" + i + "@example.com", "cv.txt",
+                    "legacy/cv" + i + ".txt", jobPosting);
+            resume.setStatus(ResumeStatus.SUBMITTED);
+            resume.setSkills("stale");
+            resume.setExtractedText(i == 3 ? null
+                    : "Skills: Java, Kotlin\nEducation: BSc Computer Science\n" + (i + 2) + " years of experience");
+            resumes.add(resume);
+        }
+        resumeBatchRepository.insertAll(resumes, 100);
+
+        resumeBackfillService.start(BackfillSource.TEXT, true);
+        for (int wait = 0; wait < 100 && resumeBackfillService.isRunning(); wait++) {
+            Thread.sleep(50);
+        }
+
+        ResumeBackfillStatusDto status = resumeBackfillService.getStatus();
+        assertThat(status.getSource()).isEqualTo(BackfillSource.TEXT);
+        assertThat(status.getStatus()).isEqualTo(BackfillStatus.COMPLETED);
+        assertThat(status.getProcessedCount()).isEqualTo(4);
+        assertThat(status.getSkippedCount()).isEqualTo(1);
+        assertThat(status.getLastId()).isEqualTo(resumes.get(4).getId());
+
+        Resume reparsed = resumeRepository.findById(resumes.get(4).getId()).orElseThrow();
+        assertThat(reparsed.getSkills()).startsWith("Java, Kotlin");
+        assertThat(reparsed.getEducation()).startsWith("BSc Computer Science");
+        assertThat(reparsed.getYearsOfExperience()).isEqualTo(6);
+        assertThat(resumeRepository.findBySkillId("kotlin")).hasSize(4);
+        assertThat(resumeRepository.findById(resumes.get(3).getId()).orElseThrow().getSkills()).isEqualTo("stale");
+    }
+
+    @Test
+    public void testResumesDeletedAfterTheChunkWasReadAreNotWrittenBack() {
+        User user = userRepository.save(User.builder().username("backfill-deleted").email("backfill-deleted@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        JobPosting jobPosting = jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+        Resume kept = new Resume("Kept", "kept@example.com", "cv.txt", "legacy/kept.txt", jobPosting);
+        resumeBatchRepository.insertAll(List.of(kept), 100);
+
+        // A resume that was deleted in between: its skill rows would violate the foreign key
+        Resume deleted = new Resume("Deleted", "deleted@example.com", "cv.txt", "legacy/deleted.txt", jobPosting);
+        deleted.setId(kept.getId() + 1000);
+        for (Resume resume : List.of(kept, deleted)) {
+            resume.setSkills("Scala");
+            resume.setSkillIds(Set.of("scala"));
+        }
+
+        List<Resume> updated = resumeBatchRepository.updateParsedFields(List.of(kept, deleted), true, 100);
+
+        assertThat(updated).containsExactly(kept);
+        assertThat(resumeRepository.findBySkillId("scala")).extracting(Resume::getId).containsExactly(kept.getId());
+    }
+}
@@ -0,0 +1,69 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.airesume.resumescreeningtool.corpus.CorpusGenerator;
+import com.airesume.resumescreeningtool.corpus.CorpusProfile;
+import com.airesume.resumescreeningtool.corpus.ResumeDocumentWriter;
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"resume.import.threads-per-stage=2", "resume.import.queue-capacity=2",
+        "resume.bulk.batch-size=7"})
+public class ResumeImportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private ResumeImportService resumeImportService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Test
+    public void testImportsManifestThroughPipeline() throws Exception {
+        User user = userRepository.save(User.builder().username("importer").email("importer@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        JobPosting jobPosting = jobPostingRepository.save(new JobPosting("Data Engineer", "Builds pipelines", user));
+        new CorpusGenerator(new CorpusProfile(), 5, ResumeDocumentWriter.FORMATS).writeCorpus(tempDir, 1, 20);
+        Path directory = tempDir.resolve("job-001");
+
+        ResumeImportService.ImportReport report = resumeImportService.importResumes(
+                jobPosting.getId(), directory, directory.resolve("manifest.csv"));
+
+        assertThat(report.total()).isEqualTo(20);
+        assertThat(report.inserted()).isEqualTo(20);
+        assertThat(report.failed()).isZero();
+        assertThat(resumeRepository.findByJobPosting(jobPosting)).hasSize(20)
+                .allSatisfy(resume -> assertThat(resume.getExtractedText()).isNotBlank());
+        ResumeService.SearchResults found = resumeService.searchResumes("\"professional experience\"", jobPosting.getId(), 0, 5);
+        assertThat(found.totalHits()).isEqualTo(20);
+        assertThat(found.hits()).hasSize(5);
+
+        ResumeImportService.ImportReport again = resumeImportService.importResumes(
+                jobPosting.getId(), directory, directory.resolve("manifest.csv"));
+        assertThat(again.skipped()).isEqualTo(20);
+        assertThat(again.inserted()).isZero();
+    }
+}
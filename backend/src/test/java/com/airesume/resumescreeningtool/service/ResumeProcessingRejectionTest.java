@@ -0,0 +1,56 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"resume.processing.core-pool-size=1", "resume.processing.max-pool-size=1",
+        "resume.processing.queue-capacity=1"})
+public class ResumeProcessingRejectionTest {
+
+    @Autowired
+    private ResumeProcessingService resumeProcessingService;
+
+    @Autowired
+    @Qualifier("resumeProcessingExecutor")
+    private Executor processingExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testFullPoolRejectsInsteadOfRunningOnCaller() {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // One task holds the only worker and another fills the queue
+            processingExecutor.execute(() -> await(release));
+            processingExecutor.execute(() -> await(release));
+
+            double rejectedBefore = meterRegistry.counter("resume.processing.rejected").count();
+            long startTime = System.currentTimeMillis();
+            resumeProcessingService.submit(Long.MAX_VALUE);
+
+            // Returns at once instead of blocking the caller on the work
+            assertThat(System.currentTimeMillis() - startTime).isLessThan(5000);
+            assertThat(meterRegistry.counter("resume.processing.rejected").count()).isEqualTo(rejectedBefore + 1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
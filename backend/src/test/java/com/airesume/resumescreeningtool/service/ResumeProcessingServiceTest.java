@@ -0,0 +1,80 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ResumeProcessingServiceTest {
+
+    @Autowired
+    private ResumeProcessingService resumeProcessingService;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRecoversResumesLeftProcessing() throws Exception {
+        User user = userRepository.save(User.builder().username("recovery").email("recovery@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        JobPosting jobPosting = jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+        Path file = Files.writeString(tempDir.resolve("cv.txt"), "Skills: Java, Kotlin\n5 years of experience");
+
+        // Left over from before a restart, from a moment ago, and from long ago
+        Resume stalled = processing("stalled", file, jobPosting, LocalDateTime.now().minusMinutes(10));
+        Resume recent = processing("recent", file, jobPosting, LocalDateTime.now());
+        Resume abandoned = processing("abandoned", file, jobPosting, LocalDateTime.now().minusHours(2));
+        resumeBatchRepository.insertAll(List.of(stalled, recent, abandoned), 100);
+
+        resumeProcessingService.recoverStalledResumes();
+        for (int wait = 0; wait < 100 && status(stalled) == ResumeStatus.PROCESSING; wait++) {
+            Thread.sleep(50);
+        }
+
+        assertThat(status(stalled)).isEqualTo(ResumeStatus.SUBMITTED);
+        assertThat(resumeRepository.findById(stalled.getId()).orElseThrow().getExtractedText()).contains("Kotlin");
+        assertThat(status(recent)).isEqualTo(ResumeStatus.PROCESSING);
+        assertThat(status(abandoned)).isEqualTo(ResumeStatus.EXTRACTION_FAILED);
+    }
+
+    private static Resume processing(String name, Path file, JobPosting jobPosting, LocalDateTime updatedAt) {
+        Resume resume = new Resume(name, name + "@example.com", "cv.txt", file.toString(), jobPosting);
+        resume.setStatus(ResumeStatus.PROCESSING);
+        resume.setUpdatedAt(updatedAt);
+        return resume;
+    }
+
+    private ResumeStatus status(Resume resume) {
+        return resumeRepository.findById(resume.getId()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,140 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.ResumeStatus;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.StoredFileRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class ResumeServiceTest {
+
+    private static final String RESUME = "Jane Doe. Senior software engineer with eight years of experience "
+            + "building payment platforms in Java and Kotlin. Led the migration of a monolith to Spring Boot "
+            + "services on Kubernetes, cutting deployment time from hours to minutes. Mentored six engineers and "
+            + "ran the on-call rotation. Acme Payments, 2019 to present: designed the settlement service that "
+            + "reconciles card transactions nightly, introduced contract tests between teams and moved reporting "
+            + "from cron jobs to Kafka streams. Education: BSc Computer Science, University of Leeds.";
+
+    private static final String EDITED = RESUME.replace("Mentored six", "Mentored");
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSaveExtractedResumesRollsBackWhenAFileCannotBeStored() throws Exception {
+        JobPosting jobPosting = jobPosting("rollback");
+        FileUploadService.FileUploadResult stored = stage("stored.txt");
+        FileUploadService.FileUploadResult lost = stage("lost.txt");
+        Files.delete(lost.getStagedPath());
+
+        List<Resume> resumes = List.of(resume("stored", stored, jobPosting), resume("lost", lost, jobPosting));
+        assertThatThrownBy(() -> resumeService.saveExtractedResumes(resumes, List.of(stored, lost)))
+                .isInstanceOf(IOException.class);
+
+        // The reference taken for the first file is rolled back with the failed batch
+        assertThat(storedFileRepository.findById(stored.getContentHash())).isEmpty();
+        assertThat(resumeRepository.findByJobPosting(jobPosting)).isEmpty();
+    }
+
+    @Test
+    public void testNearDuplicatesProcessedBackToBackFindEachOther() throws Exception {
+        JobPosting jobPosting = jobPosting("dedup" + System.nanoTime());
+        Resume first = new Resume("Jane Doe", "jane@example.com", "jane.txt", "jane.txt", jobPosting);
+        Resume second = new Resume("Jane Doe", "j.doe@example.org", "jane-2.txt", "jane-2.txt", jobPosting);
+        first.setStatus(ResumeStatus.PROCESSING);
+        second.setStatus(ResumeStatus.PROCESSING);
+        resumeBatchRepository.insertAll(List.of(first, second), 2);
+
+        // The second resume completes on another thread while the first has not committed yet
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            resumeService.completeProcessing(first.getId(), RESUME);
+            CompletableFuture.runAsync(() -> resumeService.completeProcessing(second.getId(), EDITED)).join();
+        });
+
+        assertThat(resumeRepository.findById(first.getId()).orElseThrow().getNearDuplicateOf()).isNull();
+        assertThat(resumeRepository.findById(second.getId()).orElseThrow().getNearDuplicateOf()).isEqualTo(first.getId());
+    }
+
+    @Test
+    public void testRolledBackResumeIsNotLeftInTheNearDuplicateIndex() {
+        JobPosting jobPosting = jobPosting("rollback-dedup" + System.nanoTime());
+        Resume first = new Resume("Jane Doe", "jane@example.com", "jane.txt", "jane.txt", jobPosting);
+        Resume second = new Resume("Jane Doe", "j.doe@example.org", "jane-2.txt", "jane-2.txt", jobPosting);
+        first.setStatus(ResumeStatus.PROCESSING);
+        second.setStatus(ResumeStatus.PROCESSING);
+        resumeBatchRepository.insertAll(List.of(first, second), 2);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            resumeService.completeProcessing(first.getId(), RESUME);
+            status.setRollbackOnly();
+        });
+        resumeService.completeProcessing(second.getId(), EDITED);
+
+        assertThat(resumeRepository.findById(second.getId()).orElseThrow().getNearDuplicateOf()).isNull();
+    }
+
+    private JobPosting jobPosting(String name) {
+        User user = userRepository.save(User.builder().username(name).email(name + "@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        return jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+    }
+
+    private FileUploadService.FileUploadResult stage(String name) throws IOException {
+        Path file = Files.writeString(tempDir.resolve(name), "Resume " + name + " " + UUID.randomUUID());
+        return fileUploadService.stageExistingFile(file, name);
+    }
+
+    private static Resume resume(String name, FileUploadService.FileUploadResult upload, JobPosting jobPosting) {
+        Resume resume = new Resume(name, name + "@example.com", upload.getOriginalFilename(), upload.getFilePath(), jobPosting);
+        resume.setContentHash(upload.getContentHash());
+        resume.setExtractedText("Resume " + name);
+        return resume;
+    }
+}
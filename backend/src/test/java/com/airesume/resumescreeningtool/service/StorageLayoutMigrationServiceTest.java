@@ -0,0 +1,161 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.airesume.resumescreeningtool.entity.JobPosting;
+import com.airesume.resumescreeningtool.entity.Resume;
+import com.airesume.resumescreeningtool.entity.StoredFile;
+import com.airesume.resumescreeningtool.entity.User;
+import com.airesume.resumescreeningtool.entity.UserRole;
+import com.airesume.resumescreeningtool.repository.JobPostingRepository;
+import com.airesume.resumescreeningtool.repository.ResumeBatchRepository;
+import com.airesume.resumescreeningtool.repository.ResumeRepository;
+import com.airesume.resumescreeningtool.repository.StoredFileRepository;
+import com.airesume.resumescreeningtool.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The scheduled runs are pushed out so only the test drives the migration
+@SpringBootTest(properties = "file.upload.migration.initial-delay-ms=3600000")
+public class StorageLayoutMigrationServiceTest {
+
+    @Autowired
+    private StorageLayoutMigrationService storageLayoutMigrationService;
+
+    @Autowired
+    private StoredFileService storedFileService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testMovesFlatBlobsAndAdoptsLegacyFiles() throws Exception {
+        JobPosting jobPosting = jobPosting("migration" + System.nanoTime());
+        String content = "Flat blob " + UUID.randomUUID();
+        String contentHash = sha256(content);
+        Path flatBlob = writeFlatFile(contentHash + ".txt", content);
+        storedFileRepository.save(storedFile(contentHash, flatBlob, content));
+        Resume hashed = new Resume("Jane Doe", "jane@example.com", "jane.txt", flatBlob.toString(), jobPosting);
+        hashed.setContentHash(contentHash);
+
+        String legacyContent = "Legacy file " + UUID.randomUUID();
+        Path legacyFile = writeFlatFile("legacy-" + UUID.randomUUID() + ".txt", legacyContent);
+        Resume legacy = new Resume("John Roe", "john@example.com", "john.txt", legacyFile.toString(), jobPosting);
+        resumeBatchRepository.insertAll(List.of(hashed, legacy), 2);
+
+        while (!storageLayoutMigrationService.isComplete()) {
+            storageLayoutMigrationService.migrateNextBatch();
+        }
+
+        Path shardedBlob = fileUploadService.blobPath(contentHash + ".txt");
+        assertThat(storedFileRepository.findById(contentHash).orElseThrow().getFilePath()).isEqualTo(shardedBlob.toString());
+        assertThat(resumeRepository.findById(hashed.getId()).orElseThrow().getFilePath()).isEqualTo(shardedBlob.toString());
+        assertThat(Files.readString(shardedBlob)).isEqualTo(content);
+        assertThat(flatBlob).doesNotExist();
+
+        Resume adopted = resumeRepository.findById(legacy.getId()).orElseThrow();
+        String legacyHash = sha256(legacyContent);
+        assertThat(adopted.getContentHash()).isEqualTo(legacyHash);
+        assertThat(adopted.getFilePath()).isEqualTo(fileUploadService.blobPath(legacyHash + ".txt").toString());
+        assertThat(storedFileRepository.findById(legacyHash).orElseThrow().getReferenceCount()).isEqualTo(1);
+        assertThat(Files.readString(Paths.get(adopted.getFilePath()))).isEqualTo(legacyContent);
+        assertThat(legacyFile).doesNotExist();
+    }
+
+    @Test
+    public void testUploadOfTheSameBytesWaitsForTheMoveAndSharesTheBlob() throws Exception {
+        String content = "Relocated blob " + UUID.randomUUID();
+        String contentHash = sha256(content);
+        Path flatBlob = writeFlatFile(contentHash + ".txt", content);
+        storedFileRepository.save(storedFile(contentHash, flatBlob, content));
+        FileUploadService.FileUploadResult upload =
+                fileUploadService.stageExistingFile(Files.writeString(tempDir.resolve("cv.txt"), content), "cv.txt");
+
+        CompletableFuture<StoredFile> acquired = transactionTemplate.execute(status -> {
+            try {
+                assertThat(storedFileService.relocate(contentHash)).isTrue();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // The upload blocks on the stored file row until the move commits
+            CompletableFuture<StoredFile> future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return storedFileService.acquire(upload);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            assertThatThrownBy(() -> future.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            return future;
+        });
+
+        Path shardedBlob = fileUploadService.blobPath(contentHash + ".txt");
+        StoredFile storedFile = acquired.get(10, TimeUnit.SECONDS);
+        assertThat(storedFile.getFilePath()).isEqualTo(shardedBlob.toString());
+        assertThat(storedFile.getReferenceCount()).isEqualTo(2);
+        assertThat(Files.readString(shardedBlob)).isEqualTo(content);
+        assertThat(flatBlob).doesNotExist();
+        assertThat(upload.getStagedPath()).isNull();
+    }
+
+    private Path writeFlatFile(String name, String content) throws Exception {
+        Path directory = Files.createDirectories(Paths.get(fileUploadService.getUploadDir()));
+        return Files.writeString(directory.resolve(name), content);
+    }
+
+    private static StoredFile storedFile(String contentHash, Path path, String content) {
+        StoredFile storedFile = new StoredFile(contentHash, path.toString(), (long) content.length());
+        storedFile.setReferenceCount(1);
+        return storedFile;
+    }
+
+    private JobPosting jobPosting(String name) {
+        User user = userRepository.save(User.builder().username(name).email(name + "@example.com")
+                .password("password123").role(UserRole.ADMIN).isActive(true).build());
+        return jobPostingRepository.save(new JobPosting("Backend Engineer", "Builds services", user));
+    }
+
+    private static String sha256(String content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.airesume.resumescreeningtool.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.airesume.resumescreeningtool.entity.StoredFile;
+import com.airesume.resumescreeningtool.repository.StoredFileRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class StoredFileServiceTest {
+
+    private static final int UPLOADS = 4;
+
+    @Autowired
+    private StoredFileService storedFileService;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testConcurrentFirstUploadsShareOneBlob() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("cv.txt"), "Concurrent upload " + UUID.randomUUID());
+        List<FileUploadService.FileUploadResult> staged = new ArrayList<>();
+        for (int i = 0; i < UPLOADS; i++) {
+            staged.add(fileUploadService.stageExistingFile(file, "cv.txt"));
+        }
+
+        // All uploads find no record and insert one at the same moment
+        CyclicBarrier start = new CyclicBarrier(UPLOADS);
+        ExecutorService pool = Executors.newFixedThreadPool(UPLOADS);
+        try {
+            List<Future<StoredFile>> acquired = new ArrayList<>();
+            for (FileUploadService.FileUploadResult upload : staged) {
+                acquired.add(pool.submit(() -> {
+                    start.await();
+                    return storedFileService.acquire(upload);
+                }));
+            }
+            for (Future<StoredFile> future : acquired) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        String contentHash = staged.get(0).getContentHash();
+        StoredFile storedFile = storedFileRepository.findById(contentHash).orElseThrow();
+        assertThat(storedFile.getReferenceCount()).isEqualTo(UPLOADS);
+        assertThat(Files.exists(Path.of(storedFile.getFilePath()))).isTrue();
+
+        for (int i = 0; i < UPLOADS; i++) {
+            assertThat(storedFileService.release(contentHash)).isEqualTo(i == UPLOADS - 1);
+        }
+        assertThat(storedFileRepository.findById(contentHash)).isEmpty();
+        assertThat(Files.exists(Path.of(storedFile.getFilePath()))).isFalse();
+    }
+
+    @Test
+    public void testReleaseRemovesBlobOnlyAfterCommit() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("cv.txt"), "Released upload " + UUID.randomUUID());
+        StoredFile storedFile = storedFileService.acquire(fileUploadService.stageExistingFile(file, "cv.txt"));
+        Path blob = Path.of(storedFile.getFilePath());
+
+        // A rolled back release leaves the record and its blob in place
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(storedFileService.release(storedFile.getContentHash())).isTrue();
+            status.setRollbackOnly();
+        });
+        assertThat(storedFileRepository.findById(storedFile.getContentHash())).isPresent();
+        assertThat(Files.exists(blob)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(storedFileService.release(storedFile.getContentHash())).isTrue();
+            assertThat(Files.exists(blob.resolveSibling(blob.getFileName() + ".removed"))).isTrue();
+        });
+        assertThat(storedFileRepository.findById(storedFile.getContentHash())).isEmpty();
+        assertThat(Files.exists(blob)).isFalse();
+        assertThat(Files.exists(blob.resolveSibling(blob.getFileName() + ".removed"))).isFalse();
+    }
+}